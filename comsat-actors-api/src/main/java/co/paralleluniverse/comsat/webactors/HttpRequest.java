@@ -256,6 +256,17 @@ public abstract class HttpRequest extends HttpMessage {
     @Override
     public abstract ActorRef<WebMessage> getFrom();
 
+    /**
+     * Whether the body of this request isn't included in it but sent to the receiving actor, after the request, as a
+     * sequence of {@link HttpRequestChunk}s. If so, {@link #getStringBody()} and {@link #getByteBufferBody()} return
+     * {@code null}.
+     * <p/>
+     * This implementation returns {@code false}.
+     */
+    public boolean isBodyStreamed() {
+        return false;
+    }
+
     @Override
     protected String contentString() {
         StringBuilder sb = new StringBuilder();
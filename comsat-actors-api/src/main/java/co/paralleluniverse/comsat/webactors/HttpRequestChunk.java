@@ -0,0 +1,89 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.comsat.webactors;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A piece of the body of an {@link HttpRequest} whose body is {@link HttpRequest#isBodyStreamed() streamed}.
+ * <p/>
+ * The chunks of a request's body are sent, in order, to the actor that has received the request, after it; the last
+ * one is marked as such and may be empty. Chunks are always binary, and have no sender: responses must still be sent
+ * to the request's {@link HttpRequest#getFrom() sender}.
+ * <p/>
+ * Backends stop reading a request body off the network while too many of its chunks are waiting to be processed, so
+ * the receiving actor must call {@link #consumed()} on every chunk once it's done with it. Chunks that arrive after the
+ * request has been replied to are discarded.
+ * <p/>
+ * If the body can't be read to its end, e.g. because the connection is closed before all of it has arrived, the last
+ * chunk is empty and carries the {@link #getError() error}.
+ */
+public abstract class HttpRequestChunk extends WebDataMessage {
+    private static final long serialVersionUID = 1L;
+
+    private final HttpRequest request;
+    private final boolean last;
+    private final Throwable error;
+
+    protected HttpRequestChunk(HttpRequest request, ByteBuffer body, boolean last) {
+        super(null, body);
+        this.request = request;
+        this.last = last;
+        this.error = null;
+    }
+
+    /**
+     * Constructs the empty last chunk of a request body that has failed to be read.
+     */
+    protected HttpRequestChunk(HttpRequest request, Throwable error) {
+        super(null, ByteBuffer.allocate(0));
+        if (error == null)
+            throw new NullPointerException("error");
+        this.request = request;
+        this.last = true;
+        this.error = error;
+    }
+
+    /**
+     * The request whose body this chunk is part of.
+     */
+    public HttpRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * Whether this is the last chunk of the request body.
+     */
+    public boolean isLast() {
+        return last;
+    }
+
+    /**
+     * The reason the rest of the request body couldn't be read, or {@code null} if the body has been read in full
+     * (or this is not the last chunk).
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * Signals that this chunk has been processed, so that more of the request body can be read; idempotent.
+     */
+    public abstract void consumed();
+
+    @Override
+    protected String contentString() {
+        return super.contentString() + " last: " + last + (error != null ? " error: " + error : "");
+    }
+}
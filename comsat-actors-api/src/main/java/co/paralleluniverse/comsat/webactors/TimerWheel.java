@@ -0,0 +1,186 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.comsat.webactors;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A hashed timer wheel for large numbers of coarse timeouts that are mostly cancelled before they expire, such as
+ * reply and session timeouts in web actor backends.
+ * <p>
+ * Scheduling and cancelling are O(1) and allocate a single small object; a single daemon thread, started upon first
+ * use, advances the wheel every tick and runs the expired tasks, which should therefore be short and non-blocking.
+ * Timeouts fire up to one tick late.
+ */
+public final class TimerWheel {
+    /**
+     * A scheduled task.
+     */
+    public interface Timeout {
+        /**
+         * Cancels the task.
+         *
+         * @return {@code true} if the task won't run; {@code false} if it has already run or been cancelled.
+         */
+        boolean cancel();
+    }
+
+    private final String name;
+    private final long tickNanos;
+    private final Queue<Entry>[] wheel;
+    private final Queue<Entry> incoming = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile Thread thread;
+    private long tick; // accessed only by the wheel thread
+
+    /**
+     * @param name          The name of the wheel's thread.
+     * @param tickDuration  The resolution of the wheel.
+     * @param unit          The unit of {@code tickDuration}.
+     * @param ticksPerWheel The number of slots; timeouts longer than {@code ticksPerWheel} ticks take more than one
+     *                      turn of the wheel.
+     */
+    public TimerWheel(String name, long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        if (tickDuration <= 0)
+            throw new IllegalArgumentException("tickDuration must be positive: " + tickDuration);
+        if (ticksPerWheel <= 0)
+            throw new IllegalArgumentException("ticksPerWheel must be positive: " + ticksPerWheel);
+        this.name = name;
+        this.tickNanos = unit.toNanos(tickDuration);
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        final Queue<Entry>[] w = new Queue[ticksPerWheel];
+        this.wheel = w;
+        for (int i = 0; i < ticksPerWheel; i++)
+            wheel[i] = new ArrayDeque<>(); // accessed only by the wheel thread
+    }
+
+    /**
+     * Schedules a task to run after the given delay.
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (task == null)
+            throw new NullPointerException("task");
+        start();
+        final Entry e = new Entry(task, Math.max(1, (unit.toNanos(delay) + tickNanos - 1) / tickNanos));
+        incoming.add(e);
+        return e;
+    }
+
+    /**
+     * Stops the wheel's thread; pending tasks won't run.
+     */
+    public void stop() {
+        final Thread t = thread;
+        if (t != null)
+            t.interrupt();
+    }
+
+    private void start() {
+        if (!started.get() && started.compareAndSet(false, true)) {
+            final Thread t = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    work();
+                }
+            }, name);
+            t.setDaemon(true);
+            thread = t;
+            t.start();
+        }
+    }
+
+    private void work() {
+        long deadline = System.nanoTime();
+        try {
+            for (;;) {
+                deadline += tickNanos;
+                long sleep;
+                while ((sleep = deadline - System.nanoTime()) > 0)
+                    TimeUnit.NANOSECONDS.sleep(sleep);
+                place();
+                expire(wheel[(int) (tick % wheel.length)]);
+                tick++;
+            }
+        } catch (InterruptedException e) {
+            // stopped
+        }
+    }
+
+    private void place() {
+        for (Entry e; (e = incoming.poll()) != null; ) {
+            if (e.isCancelled())
+                continue;
+            final long ticks = e.remaining;
+            e.rounds = (ticks - 1) / wheel.length;
+            wheel[(int) ((tick + ticks - 1) % wheel.length)].add(e);
+        }
+    }
+
+    private static void expire(Queue<Entry> slot) {
+        for (final Iterator<Entry> it = slot.iterator(); it.hasNext(); ) {
+            final Entry e = it.next();
+            if (e.isCancelled())
+                it.remove();
+            else if (e.rounds > 0)
+                e.rounds--;
+            else {
+                it.remove();
+                e.expire();
+            }
+        }
+    }
+
+    private static final class Entry extends AtomicBoolean implements Timeout {
+        private static final long serialVersionUID = 1L;
+
+        private volatile Runnable task; // cleared once cancelled or run, as the entry stays on the wheel until its tick
+        private final long remaining;
+        private long rounds; // accessed only by the wheel thread
+
+        Entry(Runnable task, long ticks) {
+            this.task = task;
+            this.remaining = ticks;
+        }
+
+        boolean isCancelled() {
+            return get();
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!compareAndSet(false, true))
+                return false;
+            task = null;
+            return true;
+        }
+
+        void expire() {
+            if (compareAndSet(false, true)) {
+                final Runnable t = task;
+                task = null;
+                try {
+                    t.run();
+                } catch (Throwable e) {
+                    final Thread current = Thread.currentThread();
+                    current.getUncaughtExceptionHandler().uncaughtException(current, e);
+                }
+            }
+        }
+    }
+}
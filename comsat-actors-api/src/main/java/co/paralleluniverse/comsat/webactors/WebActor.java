@@ -61,4 +61,11 @@ public @interface WebActor {
      * @see #httpUrlPatterns()
      */
     String[] value() default {};
+
+    /**
+     * If positive, HTTP requests that carry no session are served by a pool of up to this many instances of this
+     * WebActor, each handling one request at a time, rather than by a new instance each; the WebActor must then keep
+     * no per-client state. Honored by the {@code AutoWebActorHandler}s.
+     */
+    int statelessPoolSize() default 0;
 }
@@ -0,0 +1,242 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.comsat.webactors;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves request URIs to the {@link WebActor} class, and the kind of connection, that handles them.
+ * <p>
+ * The URL patterns of all the given classes are compiled once, when the router is built, into hash tables of exact
+ * paths, path prefixes and extensions, so that resolving a URI costs a handful of hash lookups no matter how many
+ * web actors are registered. Patterns are matched as per the servlet specification: an exact match wins over the
+ * longest matching {@code /path/*} prefix, which wins over an {@code *.ext} extension match, which wins over the
+ * default {@code /} pattern. The query string, if any, is ignored. When several classes declare the same pattern,
+ * the first one wins. When a class declares the same exact path for both HTTP and WebSocket, the WebSocket route wins
+ * (so that upgrades to it keep working); for any other pattern declared both ways the HTTP route wins.
+ * <p>
+ * Routers are immutable and thread-safe.
+ */
+public final class WebActorRouter {
+    /**
+     * The result of a successful lookup.
+     */
+    public static final class Route {
+        private final Class<?> actorClass;
+        private final boolean webSocket;
+
+        Route(Class<?> actorClass, boolean webSocket) {
+            this.actorClass = actorClass;
+            this.webSocket = webSocket;
+        }
+
+        /**
+         * The web actor class that handles the URI.
+         */
+        public Class<?> getActorClass() {
+            return actorClass;
+        }
+
+        /**
+         * Whether the URI is handled as a WebSocket rather than plain HTTP.
+         */
+        public boolean isWebSocket() {
+            return webSocket;
+        }
+
+        @Override
+        public String toString() {
+            return "Route{" + actorClass.getName() + ", " + (webSocket ? "ws" : "http") + '}';
+        }
+    }
+
+    private static final ClassValue<WebActorRouter> classRouters = new ClassValue<WebActorRouter>() {
+        @Override
+        protected WebActorRouter computeValue(Class<?> type) {
+            return new WebActorRouter(Collections.<Class<?>>singletonList(type));
+        }
+    };
+
+    /**
+     * Returns a router for the URL patterns of all the given {@link WebActor}-annotated classes.
+     * Classes without the annotation are ignored.
+     */
+    public static WebActorRouter forClasses(Iterable<? extends Class<?>> actorClasses) {
+        return new WebActorRouter(actorClasses);
+    }
+
+    /**
+     * Returns the (cached) router for the URL patterns of a single {@link WebActor}-annotated class.
+     */
+    public static WebActorRouter forClass(Class<?> actorClass) {
+        return classRouters.get(actorClass);
+    }
+
+    private final Map<String, Route> exact = new HashMap<>();
+    private final Map<String, Route> prefixes = new HashMap<>(); // "/a/*" is stored as "/a"; "/*" as ""
+    private final Map<String, Route> extensions = new HashMap<>(); // "*.ext" is stored as "ext"
+    private final List<Map.Entry<String, Route>> rawPrefixes = new ArrayList<>(); // "/a*", longest first
+    private Route defaultRoute;
+
+    private WebActorRouter(Iterable<? extends Class<?>> actorClasses) {
+        for (final Class<?> c : actorClasses) {
+            final WebActor wa = c != null ? c.getAnnotation(WebActor.class) : null;
+            if (wa == null)
+                continue;
+            final Route http = new Route(c, false);
+            final Route ws = new Route(c, true);
+            for (final String p : wa.webSocketUrlPatterns()) {
+                if (isExact(p))
+                    add(p, ws);
+            }
+            for (final String p : wa.httpUrlPatterns())
+                add(p, http);
+            for (final String p : wa.value())
+                add(p, http);
+            for (final String p : wa.webSocketUrlPatterns()) {
+                if (!isExact(p))
+                    add(p, ws);
+            }
+        }
+        Collections.sort(rawPrefixes, new Comparator<Map.Entry<String, Route>>() {
+            @Override
+            public int compare(Map.Entry<String, Route> o1, Map.Entry<String, Route> o2) {
+                return o2.getKey().length() - o1.getKey().length();
+            }
+        });
+    }
+
+    private static boolean isExact(String pattern) {
+        return pattern != null && !pattern.equals("/") && !pattern.startsWith("*.") && !pattern.endsWith("*");
+    }
+
+    private void add(String pattern, Route r) {
+        if (pattern == null)
+            return;
+        if (pattern.isEmpty())
+            putIfAbsent(exact, "/", r);
+        else if (pattern.equals("/")) {
+            if (defaultRoute == null)
+                defaultRoute = r;
+        } else if (pattern.startsWith("*."))
+            putIfAbsent(extensions, pattern.substring(2), r);
+        else if (pattern.endsWith("/*"))
+            putIfAbsent(prefixes, pattern.substring(0, pattern.length() - 2), r);
+        else if (pattern.endsWith("*")) {
+            final String prefix = pattern.substring(0, pattern.length() - 1);
+            for (final Map.Entry<String, Route> e : rawPrefixes) {
+                if (e.getKey().equals(prefix))
+                    return;
+            }
+            rawPrefixes.add(new AbstractMap.SimpleImmutableEntry<>(prefix, r));
+        } else
+            putIfAbsent(exact, pattern, r);
+    }
+
+    private static void putIfAbsent(Map<String, Route> m, String k, Route r) {
+        if (!m.containsKey(k))
+            m.put(k, r);
+    }
+
+    /**
+     * Returns the route for the given request URI, or {@code null} if no pattern matches it.
+     */
+    public Route route(String uri) {
+        if (uri == null)
+            return null;
+        final String path = path(uri);
+
+        Route r = exact.get(path);
+        if (r != null)
+            return r;
+
+        // Longest path prefix; every '/' boundary is a candidate, as is the path itself ("/a/*" matches "/a")
+        Route best = null;
+        int bestLength = -1;
+        if (!prefixes.isEmpty()) {
+            for (int end = path.length(); end >= 0; end = path.lastIndexOf('/', end - 1)) {
+                r = prefixes.get(path.substring(0, end));
+                if (r != null) {
+                    best = r;
+                    bestLength = end;
+                    break;
+                }
+                if (end == 0)
+                    break;
+            }
+        }
+        for (final Map.Entry<String, Route> e : rawPrefixes) {
+            final String p = e.getKey();
+            if (p.length() <= bestLength)
+                break;
+            if (path.startsWith(p)) {
+                best = e.getValue();
+                break;
+            }
+        }
+        if (best != null)
+            return best;
+
+        if (!extensions.isEmpty()) {
+            final int slash = path.lastIndexOf('/');
+            final int dot = path.lastIndexOf('.');
+            if (dot > slash) {
+                r = extensions.get(path.substring(dot + 1));
+                if (r != null)
+                    return r;
+            }
+        }
+
+        return defaultRoute;
+    }
+
+    /**
+     * Whether the given URI is handled with plain HTTP.
+     */
+    public boolean handlesWithHttp(String uri) {
+        final Route r = route(uri);
+        return r != null && !r.webSocket;
+    }
+
+    /**
+     * Whether the given URI is handled with WebSocket.
+     */
+    public boolean handlesWithWebSocket(String uri) {
+        final Route r = route(uri);
+        return r != null && r.webSocket;
+    }
+
+    private static String path(String uri) {
+        int end = uri.length();
+        final int q = uri.indexOf('?');
+        if (q >= 0)
+            end = q;
+        final int h = uri.indexOf('#');
+        if (h >= 0 && h < end)
+            end = h;
+        return end == uri.length() ? uri : uri.substring(0, end);
+    }
+
+    @Override
+    public String toString() {
+        return "WebActorRouter{exact: " + exact.keySet() + ", prefixes: " + prefixes.keySet()
+            + ", extensions: " + extensions.keySet() + ", default: " + defaultRoute + '}';
+    }
+}
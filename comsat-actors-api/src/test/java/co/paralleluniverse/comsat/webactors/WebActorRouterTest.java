@@ -0,0 +1,116 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.comsat.webactors;
+
+import java.util.Arrays;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class WebActorRouterTest {
+    @WebActor(httpUrlPatterns = {"/exact", "/app/*", "/app/admin/*", "*.jsp", "/raw*"}, webSocketUrlPatterns = {"/app/ws"})
+    static class Patterns {
+    }
+
+    @WebActor(httpUrlPatterns = {"/both", "/mixed/*"}, webSocketUrlPatterns = {"/both", "/mixed/*"})
+    static class Both {
+    }
+
+    @WebActor(httpUrlPatterns = {"/"})
+    static class Default {
+    }
+
+    @WebActor(httpUrlPatterns = {"/exact", "/other"})
+    static class Second {
+    }
+
+    static class NotAnnotated {
+    }
+
+    @Test
+    public void testExact() {
+        final WebActorRouter r = WebActorRouter.forClass(Patterns.class);
+        assertRoute(r, "/exact", Patterns.class, false);
+        assertRoute(r, "/exact?a=1#frag", Patterns.class, false);
+        assertRoute(r, "/app/ws", Patterns.class, true);
+        assertNull(r.route("/exact/more"));
+        assertNull(r.route("/exac"));
+    }
+
+    @Test
+    public void testPrefix() {
+        final WebActorRouter r = WebActorRouter.forClass(Patterns.class);
+        assertRoute(r, "/app", Patterns.class, false);
+        assertRoute(r, "/app/", Patterns.class, false);
+        assertRoute(r, "/app/x/y", Patterns.class, false);
+        assertRoute(r, "/app/admin/users", Patterns.class, false);
+        assertNull(r.route("/application"));
+    }
+
+    @Test
+    public void testExtension() {
+        final WebActorRouter r = WebActorRouter.forClass(Patterns.class);
+        assertRoute(r, "/x/index.jsp", Patterns.class, false);
+        assertRoute(r, "/index.jsp?x=y", Patterns.class, false);
+        assertNull(r.route("/x.jsp/index"));
+        assertNull(r.route("/index.html"));
+    }
+
+    @Test
+    public void testRawPrefix() {
+        final WebActorRouter r = WebActorRouter.forClass(Patterns.class);
+        assertRoute(r, "/raw", Patterns.class, false);
+        assertRoute(r, "/rawdata", Patterns.class, false);
+        assertRoute(r, "/raw/x.jsp", Patterns.class, false);
+        assertNull(r.route("/ra"));
+    }
+
+    @Test
+    public void testDefault() {
+        final WebActorRouter r = WebActorRouter.forClasses(Arrays.<Class<?>>asList(Patterns.class, Default.class));
+        assertRoute(r, "/anything", Default.class, false);
+        assertRoute(r, "/", Default.class, false);
+        assertRoute(r, "/exact", Patterns.class, false);
+        assertNull(WebActorRouter.forClass(Patterns.class).route("/anything"));
+    }
+
+    @Test
+    public void testHttpAndWebSocketPrecedence() {
+        final WebActorRouter r = WebActorRouter.forClass(Both.class);
+        assertTrue(r.handlesWithWebSocket("/both"));
+        assertFalse(r.handlesWithHttp("/both"));
+        assertTrue(r.handlesWithHttp("/mixed/x"));
+        assertFalse(r.handlesWithWebSocket("/mixed/x"));
+    }
+
+    @Test
+    public void testClassPrecedence() {
+        final WebActorRouter r = WebActorRouter.forClasses(Arrays.<Class<?>>asList(NotAnnotated.class, Second.class, Patterns.class));
+        assertRoute(r, "/exact", Second.class, false);
+        assertRoute(r, "/other", Second.class, false);
+        assertRoute(r, "/app/x", Patterns.class, false);
+        assertNull(r.route(null));
+        assertSame(WebActorRouter.forClass(Second.class), WebActorRouter.forClass(Second.class));
+    }
+
+    private static void assertRoute(WebActorRouter r, String uri, Class<?> c, boolean ws) {
+        final WebActorRouter.Route route = r.route(uri);
+        assertEquals(uri, c, route != null ? route.getActorClass() : null);
+        assertEquals(uri, ws, route.isWebSocket());
+    }
+}
@@ -21,8 +21,10 @@ import co.paralleluniverse.common.reflection.AnnotationUtil;
 import co.paralleluniverse.common.reflection.ClassLoaderUtil;
 import co.paralleluniverse.common.util.Pair;
 import co.paralleluniverse.comsat.webactors.WebActor;
+import co.paralleluniverse.comsat.webactors.WebActorRouter;
 import co.paralleluniverse.comsat.webactors.WebMessage;
 import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.cookie.Cookie;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
@@ -32,6 +34,10 @@ import java.io.InputStream;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * @author circlespainter
@@ -39,6 +45,9 @@ import java.util.*;
 public class AutoWebActorHandler extends WebActorHandler {
     private static final InternalLogger log = InternalLoggerFactory.getInstance(AutoWebActorHandler.class);
     private static final List<Class<?>> actorClasses = new ArrayList<>(32);
+    private static volatile WebActorRouter router;
+    private static boolean statelessActorClasses; // Whether any has a stateless pool; written before `router`
+    private static final ConcurrentMap<Class<?>, StatelessPool> pools = new ConcurrentHashMap<>(); // shared, as handlers are per-channel
     private static final Object[] EMPTY_OBJECT_ARRAY = new Object[0];
 
     public AutoWebActorHandler() {
@@ -107,6 +116,7 @@ public class AutoWebActorHandler extends WebActorHandler {
         public final Context get(final FullHttpRequest req) {
             final String sessionId = getSessionId(req);
             if (sessionId != null && sessionsEnabled()) {
+                final SessionStore sessions = getSessionStore();
                 final Context actorContext = sessions.get(sessionId);
                 if (actorContext != null) {
                     if (actorContext.renew())
@@ -115,6 +125,9 @@ public class AutoWebActorHandler extends WebActorHandler {
                         sessions.remove(sessionId); // Evict session
                 }
             }
+            final Context pooled = pooledActorContext(req);
+            if (pooled != null)
+                return pooled;
             return newActorContext(req);
         }
 
@@ -125,7 +138,31 @@ public class AutoWebActorHandler extends WebActorHandler {
             return c;
         }
 
+        private Context pooledActorContext(FullHttpRequest req) {
+            final WebActorRouter rt = router(userClassLoader, packagePrefixes);
+            if (!statelessActorClasses)
+                return null;
+            final WebActorRouter.Route r = rt.route(req.getUri());
+            if (r == null || r.isWebSocket()) // WebSocket adapters are bound to a connection, can't be shared
+                return null;
+            final Class<?> c = r.getActorClass();
+            StatelessPool p = pools.get(c);
+            if (p == null) {
+                final int size = statelessPoolSize(c);
+                if (size <= 0)
+                    return null;
+                p = new StatelessPool(c, actorParams != null ? actorParams.get(c) : EMPTY_OBJECT_ARRAY, size, defaultContextValidityMS);
+                final StatelessPool prev = pools.putIfAbsent(c, p);
+                if (prev != null)
+                    p = prev;
+            }
+            return p.get();
+        }
+
         private String getSessionId(FullHttpRequest req) {
+            final String head = req.headers().get(HttpHeaders.Names.COOKIE);
+            if (head == null || !head.contains(SESSION_COOKIE_KEY))
+                return null; // Don't decode all the cookies just to find out
             final Set<Cookie> cookies = NettyHttpRequest.getNettyCookies(req);
             if (cookies != null) {
                 for (final Cookie c : cookies) {
@@ -137,12 +174,73 @@ public class AutoWebActorHandler extends WebActorHandler {
         }
     }
 
+    /**
+     * The contexts of the actors serving a single {@link WebActor} class in {@link WebActor#statelessPoolSize() stateless
+     * mode}. Members are spawned lazily: a request goes to the first idle member starting from a round-robin position,
+     * and a new member is spawned only if they're all busy, up to the maximum size. After that a request that finds no
+     * idle member gets a context of its own, as if the class weren't pooled. Expired members are replaced. Pooled
+     * contexts serve any client, so they're never bound to a session.
+     */
+    private static final class StatelessPool {
+        private final Class<?> actorClass;
+        private final Object[] actorParams;
+        private final Long contextValidityMS;
+        private final AtomicReferenceArray<AutoContext> members;
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicInteger next = new AtomicInteger();
+
+        StatelessPool(Class<?> actorClass, Object[] actorParams, int maxSize, Long contextValidityMS) {
+            this.actorClass = actorClass;
+            this.actorParams = actorParams;
+            this.contextValidityMS = contextValidityMS;
+            this.members = new AtomicReferenceArray<>(maxSize);
+        }
+
+        AutoContext get() {
+            final int n = size.get();
+            final int start = n > 0 ? (next.getAndIncrement() & Integer.MAX_VALUE) % n : 0;
+            for (int i = 0; i < n; i++) {
+                final AutoContext c = live((start + i) % n);
+                if (c != null && !isBusy(c))
+                    return c;
+            }
+            for (int s; (s = size.get()) < members.length(); ) {
+                if (size.compareAndSet(s, s + 1)) {
+                    final AutoContext c = newMember();
+                    members.set(s, c);
+                    return c;
+                }
+            }
+            return null; // All busy or still being spawned: serve the request without the pool
+        }
+
+        private AutoContext live(int i) {
+            final AutoContext c = members.get(i);
+            if (c == null || c.renew())
+                return c;
+            if (!members.compareAndSet(i, c, null))
+                return members.get(i); // Being replaced by another request
+            final AutoContext replacement = newMember();
+            members.set(i, replacement);
+            return replacement;
+        }
+
+        private AutoContext newMember() {
+            final AutoContext c = new AutoContext(actorClass, actorParams);
+            if (contextValidityMS != null)
+                c.setValidityMS(contextValidityMS);
+            return c;
+        }
+    }
+
     private static class AutoContext extends DefaultContextImpl {
         private String id;
 
         private final List<String> packagePrefixes;
         private final Map<Class<?>, Object[]> actorParams;
         private final ClassLoader userClassLoader;
+        private final Class<?> pooledClass;
+        private final Object[] pooledParams;
         private Class<? extends ActorImpl<? extends WebMessage>> actorClass;
         private ActorRef<? extends WebMessage> actorRef;
 
@@ -150,11 +248,24 @@ public class AutoWebActorHandler extends WebActorHandler {
             this.packagePrefixes = packagePrefixes;
             this.actorParams = actorParams;
             this.userClassLoader = userClassLoader;
+            this.pooledClass = null;
+            this.pooledParams = null;
             fillActor(req);
         }
 
+        public AutoContext(Class<?> pooledClass, Object[] pooledParams) {
+            this.packagePrefixes = null;
+            this.actorParams = null;
+            this.userClassLoader = null;
+            this.pooledClass = pooledClass;
+            this.pooledParams = pooledParams;
+            fillActor(null);
+        }
+
+        @SuppressWarnings("unchecked")
         private void fillActor(FullHttpRequest req) {
-            final Pair<ActorRef<? extends WebMessage>, Class<? extends ActorImpl<? extends WebMessage>>> p = autoCreateActor(req);
+            final Pair<ActorRef<? extends WebMessage>, Class<? extends ActorImpl<? extends WebMessage>>> p =
+                pooledClass != null ? spawn(pooledClass, pooledParams) : autoCreateActor(req);
             if (p != null) {
                 actorRef = p.getFirst();
                 actorClass = p.getSecond();
@@ -166,6 +277,11 @@ public class AutoWebActorHandler extends WebActorHandler {
             return id != null ? id : (id = UUID.randomUUID().toString());
         }
 
+        @Override
+        final boolean isShared() {
+            return pooledClass != null;
+        }
+
         @Override
         public final void restart(FullHttpRequest req) {
             renewed = new Date().getTime();
@@ -192,59 +308,83 @@ public class AutoWebActorHandler extends WebActorHandler {
             return WatchPolicy.DIE_IF_EXCEPTION_ELSE_RESTART;
         }
 
-        @SuppressWarnings("unchecked")
         private Pair<ActorRef<? extends WebMessage>, Class<? extends ActorImpl<? extends WebMessage>>> autoCreateActor(FullHttpRequest req) {
-            registerActorClasses();
-            final String uri = req.getUri();
-            for (final Class<?> c : actorClasses) {
-                if (WebActorHandler.handlesWithHttp(uri, c) || WebActorHandler.handlesWithWebSocket(uri, c))
-                    return new Pair<ActorRef<? extends WebMessage>, Class<? extends ActorImpl<? extends WebMessage>>>(
-                        Actor.newActor (
-                            new ActorSpec(c, actorParams != null ? actorParams.get(c) : EMPTY_OBJECT_ARRAY)
-                        ).spawn(),
-                        (Class<? extends ActorImpl<? extends WebMessage>>) c
-                    );
+            final WebActorRouter.Route r = router(userClassLoader, packagePrefixes).route(req.getUri());
+            if (r != null) {
+                final Class<?> c = r.getActorClass();
+                return spawn(c, actorParams != null ? actorParams.get(c) : EMPTY_OBJECT_ARRAY);
             }
             return null;
         }
 
-        private synchronized void registerActorClasses() {
-            if (actorClasses.isEmpty()) {
-                try {
-                    final ClassLoader classLoader = userClassLoader != null ? userClassLoader : this.getClass().getClassLoader();
-                    ClassLoaderUtil.accept((URLClassLoader) classLoader, new ClassLoaderUtil.Visitor() {
-                        @Override
-                        public final void visit(String resource, URL url, ClassLoader cl) {
-                            if (packagePrefixes != null) {
-                                boolean found = false;
-                                for (final String packagePrefix : packagePrefixes) {
-                                    if (packagePrefix != null && resource.startsWith(packagePrefix.replace('.', '/'))) {
-                                        found = true;
-                                        break;
-                                    }
+        @SuppressWarnings("unchecked")
+        private static Pair<ActorRef<? extends WebMessage>, Class<? extends ActorImpl<? extends WebMessage>>> spawn(Class<?> c, Object[] params) {
+            return new Pair<ActorRef<? extends WebMessage>, Class<? extends ActorImpl<? extends WebMessage>>>(
+                Actor.newActor (
+                    new ActorSpec(c, params)
+                ).spawn(),
+                (Class<? extends ActorImpl<? extends WebMessage>>) c
+            );
+        }
+    }
+
+    private static WebActorRouter router(ClassLoader userClassLoader, List<String> packagePrefixes) {
+        WebActorRouter r = router;
+        if (r == null) {
+            synchronized (actorClasses) {
+                r = router;
+                if (r == null) {
+                    registerActorClasses(userClassLoader, packagePrefixes);
+                    for (final Class<?> c : actorClasses)
+                        statelessActorClasses |= statelessPoolSize(c) > 0;
+                    router = r = WebActorRouter.forClasses(actorClasses);
+                }
+            }
+        }
+        return r;
+    }
+
+    private static int statelessPoolSize(Class<?> actorClass) {
+        final WebActor a = actorClass.getAnnotation(WebActor.class);
+        return a != null ? a.statelessPoolSize() : 0;
+    }
+
+    private static void registerActorClasses(ClassLoader userClassLoader, final List<String> packagePrefixes) {
+        if (actorClasses.isEmpty()) {
+            try {
+                final ClassLoader classLoader = userClassLoader != null ? userClassLoader : AutoWebActorHandler.class.getClassLoader();
+                ClassLoaderUtil.accept((URLClassLoader) classLoader, new ClassLoaderUtil.Visitor() {
+                    @Override
+                    public final void visit(String resource, URL url, ClassLoader cl) {
+                        if (packagePrefixes != null) {
+                            boolean found = false;
+                            for (final String packagePrefix : packagePrefixes) {
+                                if (packagePrefix != null && resource.startsWith(packagePrefix.replace('.', '/'))) {
+                                    found = true;
+                                    break;
                                 }
-                                if (!found)
-                                    return;
                             }
-                            if (!ClassLoaderUtil.isClassFile(resource))
+                            if (!found)
                                 return;
-                            final String className = ClassLoaderUtil.resourceToClass(resource);
-                            try (final InputStream is = cl.getResourceAsStream(resource)) {
-                                if (AnnotationUtil.hasClassAnnotation(WebActor.class, is))
-                                    registerWebActor(cl.loadClass(className));
-                            } catch (final IOException | ClassNotFoundException e) {
-                                log.error("Exception while scanning class " + className + " for WebActor annotation", e);
-                                throw new RuntimeException(e);
-                            }
                         }
-
-                        private void registerWebActor(Class<?> c) {
-                            actorClasses.add(c);
+                        if (!ClassLoaderUtil.isClassFile(resource))
+                            return;
+                        final String className = ClassLoaderUtil.resourceToClass(resource);
+                        try (final InputStream is = cl.getResourceAsStream(resource)) {
+                            if (AnnotationUtil.hasClassAnnotation(WebActor.class, is))
+                                registerWebActor(cl.loadClass(className));
+                        } catch (final IOException | ClassNotFoundException e) {
+                            log.error("Exception while scanning class " + className + " for WebActor annotation", e);
+                            throw new RuntimeException(e);
                         }
-                    });
-                } catch (final IOException e) {
-                    log.error("IOException while scanning classes for WebActor annotation", e);
-                }
+                    }
+
+                    private void registerWebActor(Class<?> c) {
+                        actorClasses.add(c);
+                    }
+                });
+            } catch (final IOException e) {
+                log.error("IOException while scanning classes for WebActor annotation", e);
             }
         }
     }
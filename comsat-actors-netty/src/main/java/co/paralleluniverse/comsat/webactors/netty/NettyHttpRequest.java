@@ -17,6 +17,7 @@ import co.paralleluniverse.actors.ActorRef;
 import co.paralleluniverse.comsat.webactors.Cookie;
 import co.paralleluniverse.comsat.webactors.HttpRequest;
 import co.paralleluniverse.comsat.webactors.HttpResponse;
+import co.paralleluniverse.comsat.webactors.TimerWheel;
 import co.paralleluniverse.comsat.webactors.WebMessage;
 import com.google.common.collect.*;
 import io.netty.buffer.ByteBuf;
@@ -37,6 +38,8 @@ import java.nio.charset.Charset;
 import java.nio.charset.CodingErrorAction;
 import java.nio.charset.UnsupportedCharsetException;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static io.netty.handler.codec.http.HttpHeaders.Names.*;
 
@@ -50,13 +53,23 @@ public final class NettyHttpRequest extends HttpRequest {
     final FullHttpRequest req;
     final ChannelHandlerContext ctx;
     final String sessionId;
-
+    final long correlationId = correlationIds.incrementAndGet();
+    volatile TimerWheel.Timeout replyTimeout;
+    WebActorHandler.RequestBodyStream bodyStream;
+    WebActorHandler.ResponseOrder responseOrder; // set, like the rest, before the request is sent to the actor
+    long responseSeq;
+
+    private static final AtomicLong correlationIds = new AtomicLong();
+    private static final AtomicIntegerFieldUpdater<NettyHttpRequest> releasedUpdater = AtomicIntegerFieldUpdater.newUpdater(NettyHttpRequest.class, "released");
     private static final Set<io.netty.handler.codec.http.cookie.Cookie> EMPTY_SET = new HashSet<>();
 
     private final ByteBuf reqContent;
+    private final boolean retainedContent;
+    private volatile int released;
 
     private InetSocketAddress sourceAddress;
-    private ImmutableMultimap<String, String> params;
+    private Map<String, List<String>> decodedParams;
+    private ImmutableListMultimap<String, String> params;
     private URI uri;
     private Collection<Cookie> cookies;
     private ListMultimap<String, String> heads;
@@ -66,12 +79,41 @@ public final class NettyHttpRequest extends HttpRequest {
     private String contentType;
 
     public NettyHttpRequest(ActorRef<? super HttpResponse> actorRef, ChannelHandlerContext ctx, FullHttpRequest req, String sessionId) {
+        this(actorRef, ctx, req, sessionId, false);
+    }
+
+    /**
+     * @param retainContent If {@code true}, the body isn't copied out of {@code req}'s (possibly pooled) content buffer,
+     *                      which is retained instead until {@link #release()} is called; else it is copied.
+     */
+    public NettyHttpRequest(ActorRef<? super HttpResponse> actorRef, ChannelHandlerContext ctx, FullHttpRequest req, String sessionId, boolean retainContent) {
         this.actorRef = actorRef;
         this.ctx = ctx;
         this.req = req;
         this.sessionId = sessionId;
+        this.retainedContent = retainContent;
 
-        reqContent = Unpooled.copiedBuffer(req.content());
+        reqContent = retainContent ? req.content().retain() : Unpooled.copiedBuffer(req.content());
+    }
+
+    /**
+     * Releases the request's retained content buffer, if any, and stops streaming its body; idempotent. The body must
+     * not be accessed afterwards.
+     */
+    final void release() {
+        if (releasedUpdater.compareAndSet(this, 0, 1)) {
+            if (retainedContent)
+                reqContent.release();
+            if (bodyStream != null)
+                bodyStream.abandon();
+        }
+    }
+
+    /**
+     * The identifier the web actor backend uses to match this request with its response; unique within the JVM.
+     */
+    public final long getCorrelationId() {
+        return correlationId;
     }
 
     @Override
@@ -95,18 +137,33 @@ public final class NettyHttpRequest extends HttpRequest {
 
     @Override
     public final Multimap<String, String> getParameters() {
-        QueryStringDecoder queryStringDecoder;
         if (params == null) {
-            queryStringDecoder = new QueryStringDecoder(req.getUri());
-            final ImmutableMultimap.Builder<String, String> builder = ImmutableMultimap.builder();
-            final Map<String, List<String>> parameters = queryStringDecoder.parameters();
-            for (final String k : parameters.keySet())
-                builder.putAll(k, parameters.get(k));
+            final ImmutableListMultimap.Builder<String, String> builder = ImmutableListMultimap.builder();
+            for (final Map.Entry<String, List<String>> e : decodedParameters().entrySet())
+                builder.putAll(e.getKey(), e.getValue());
             params = builder.build();
         }
         return params;
     }
 
+    @Override
+    public final Collection<String> getParametersValues(String name) {
+        final List<String> values = decodedParameters().get(name);
+        return values != null ? Collections.unmodifiableList(values) : Collections.<String>emptyList();
+    }
+
+    @Override
+    public final String getParameter(String name) {
+        final List<String> values = decodedParameters().get(name);
+        return values != null && !values.isEmpty() ? values.get(0) : null;
+    }
+
+    private Map<String, List<String>> decodedParameters() {
+        if (decodedParams == null)
+            decodedParams = new QueryStringDecoder(req.getUri()).parameters();
+        return decodedParams;
+    }
+
     @Override
     public final Map<String, Object> getAttributes() {
         return ImmutableMap.of(); // No attributes in Netty; Guava's impl. will return a pre-built instance
@@ -173,14 +230,22 @@ public final class NettyHttpRequest extends HttpRequest {
         return (ActorRef<WebMessage>) actorRef;
     }
 
+    /**
+     * Returns a view of the request's headers: looking up a single header goes straight to Netty's (case-insensitive)
+     * headers, while bulk operations work on a lower-cased copy made upon first use.
+     */
     @Override
     public final ListMultimap<String, String> getHeaders() {
-        if (heads == null) {
-            heads = extractHeaders(req.headers());
-        }
+        if (heads == null)
+            heads = new HeadersView(req.headers());
         return heads;
     }
 
+    @Override
+    public final String getHeader(String name) {
+        return req.headers().get(name);
+    }
+
     @Override
     public final Collection<Cookie> getCookies() {
         if (cookies == null) {
@@ -210,8 +275,17 @@ public final class NettyHttpRequest extends HttpRequest {
             return EMPTY_SET;
     }
 
+    @Override
+    public final boolean isBodyStreamed() {
+        return bodyStream != null;
+    }
+
     @Override
     public final int getContentLength() {
+        if (bodyStream != null) {
+            final long l = HttpHeaders.getContentLength(req, -1L);
+            return l <= Integer.MAX_VALUE ? (int) l : -1;
+        }
         final String stringBody = getStringBody();
         if (stringBody != null)
             return stringBody.length();
@@ -224,25 +298,21 @@ public final class NettyHttpRequest extends HttpRequest {
     @Override
     public final Charset getCharacterEncoding() {
         if (encoding == null)
-            encoding = extractCharacterEncoding(getHeaders());
+            encoding = extractCharacterEncoding(getContentType());
         return encoding;
     }
 
     @Override
     public final String getContentType() {
-        if (contentType == null) {
-            getHeaders();
-            if (heads != null) {
-                final List<String> cts = heads.get(CONTENT_TYPE);
-                if (cts != null && cts.size() > 0)
-                    contentType = cts.get(0);
-            }
-        }
-        return null;
+        if (contentType == null)
+            contentType = req.headers().get(CONTENT_TYPE);
+        return contentType;
     }
 
     @Override
     public final String getStringBody() {
+        if (bodyStream != null)
+            return null;
         if (stringBody == null) {
             if (byteBufferBody != null)
                 return null;
@@ -253,6 +323,8 @@ public final class NettyHttpRequest extends HttpRequest {
 
     @Override
     public final ByteBuffer getByteBufferBody() {
+        if (bodyStream != null)
+            return null;
         if (byteBufferBody == null) {
             if (stringBody != null)
                 return null;
@@ -295,19 +367,16 @@ public final class NettyHttpRequest extends HttpRequest {
     }
 
     static Charset extractCharacterEncodingOrDefault(HttpHeaders headers) {
-        return getCharacterEncodingOrDefault(extractCharacterEncoding(extractHeaders(headers)));
-    }
-
-    static Charset extractCharacterEncoding(ListMultimap<String, String> heads) {
-        if (heads != null) {
-            final List<String> cts = heads.get(CONTENT_TYPE);
-            if (cts != null && cts.size() > 0) {
-                final String ct = cts.get(0).trim().toLowerCase();
-                if (ct.contains(CHARSET_MARKER_STRING)) {
-                    try {
-                        return Charset.forName(ct.substring(ct.indexOf(CHARSET_MARKER_STRING) + CHARSET_MARKER_STRING.length()).trim());
-                    } catch (UnsupportedCharsetException ignored) {
-                    }
+        return getCharacterEncodingOrDefault(extractCharacterEncoding(headers != null ? headers.get(CONTENT_TYPE) : null));
+    }
+
+    static Charset extractCharacterEncoding(String contentType) {
+        if (contentType != null) {
+            final String ct = contentType.trim().toLowerCase();
+            if (ct.contains(CHARSET_MARKER_STRING)) {
+                try {
+                    return Charset.forName(ct.substring(ct.indexOf(CHARSET_MARKER_STRING) + CHARSET_MARKER_STRING.length()).trim());
+                } catch (UnsupportedCharsetException ignored) {
                 }
             }
         }
@@ -317,9 +386,9 @@ public final class NettyHttpRequest extends HttpRequest {
     static ImmutableListMultimap<String, String> extractHeaders(HttpHeaders headers) {
         if (headers != null) {
             final ImmutableListMultimap.Builder<String, String> builder = ImmutableListMultimap.builder();
-            for (final String n : headers.names())
+            for (final Map.Entry<String, String> h : headers)
                 // Normalize header names by their conversion to lower case
-                builder.putAll(n.toLowerCase(Locale.ENGLISH), headers.getAll(n));
+                builder.put(h.getKey().toLowerCase(Locale.ENGLISH), h.getValue());
             return builder.build();
         }
         return null;
@@ -330,4 +399,35 @@ public final class NettyHttpRequest extends HttpRequest {
             return Charset.defaultCharset();
         return characterEncoding;
     }
+
+    private static final class HeadersView extends ForwardingListMultimap<String, String> {
+        private final HttpHeaders headers;
+        private ListMultimap<String, String> copy;
+
+        HeadersView(HttpHeaders headers) {
+            this.headers = headers;
+        }
+
+        @Override
+        protected ListMultimap<String, String> delegate() {
+            if (copy == null)
+                copy = extractHeaders(headers);
+            return copy;
+        }
+
+        @Override
+        public List<String> get(String name) {
+            return name != null ? Collections.unmodifiableList(headers.getAll(name)) : Collections.<String>emptyList();
+        }
+
+        @Override
+        public boolean containsKey(Object name) {
+            return name instanceof String && headers.contains((String) name);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return headers.isEmpty();
+        }
+    }
 }
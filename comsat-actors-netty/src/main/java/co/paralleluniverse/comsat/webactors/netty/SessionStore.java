@@ -0,0 +1,52 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.comsat.webactors.netty;
+
+/**
+ * Keeps the {@link WebActorHandler.Context contexts} of client sessions, keyed by session ID, for all the
+ * {@link WebActorHandler}s in the JVM (see {@link WebActorHandler#setSessionStore(SessionStore)}).
+ * <p>
+ * Implementations must be thread-safe and must evict and {@link WebActorHandler.Context#invalidate() invalidate}
+ * expired contexts on their own, even if they're never looked up again: abandoned sessions would otherwise keep
+ * their web actors alive forever.
+ */
+public interface SessionStore {
+    /**
+     * Returns the context of the given session, or {@code null} if there's none.
+     */
+    WebActorHandler.Context get(String sessionId);
+
+    /**
+     * Stores the context of a session, replacing any previous context with the same ID. Storing the context that's
+     * already stored does nothing, as it's called again for every reply in a session.
+     */
+    void put(String sessionId, WebActorHandler.Context context);
+
+    /**
+     * Removes the context of the given session, without invalidating it.
+     *
+     * @return The removed context, or {@code null} if there was none.
+     */
+    WebActorHandler.Context remove(String sessionId);
+
+    /**
+     * Removes all the sessions, without invalidating them.
+     */
+    void clear();
+
+    /**
+     * The number of stored sessions.
+     */
+    int size();
+}
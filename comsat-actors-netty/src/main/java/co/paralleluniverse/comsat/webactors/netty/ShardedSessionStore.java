@@ -0,0 +1,289 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.comsat.webactors.netty;
+
+import co.paralleluniverse.comsat.webactors.TimerWheel;
+import co.paralleluniverse.fibers.SuspendExecution;
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The default, in-memory {@link SessionStore}.
+ * <p>
+ * Sessions are spread over a power-of-two number of independently locked shards, so that concurrent requests seldom
+ * contend. Every session gets a {@link TimerWheel} timeout for the end of its validity; when it fires, a session that
+ * has been renewed meanwhile is simply rescheduled, while an expired one is evicted and then invalidated (which
+ * kills its web actor) on another thread, so that the wheel's thread never blocks. Sessions hence expire at most
+ * about a second late whether or not they're looked up again.
+ * <p>
+ * The store counts the sessions it has stored, expired and had removed, e.g. for monitoring.
+ */
+public class ShardedSessionStore implements SessionStore {
+    private static final TimerWheel expiries = new TimerWheel("comsat-netty-session-expiry", 1, TimeUnit.SECONDS, 512);
+
+    private static final Executor defaultInvalidator = Executors.newCachedThreadPool(new ThreadFactory() {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            final Thread t = new Thread(r, "comsat-netty-session-invalidator-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
+    });
+
+    private static final InternalLogger log = InternalLoggerFactory.getInstance(ShardedSessionStore.class);
+
+    private final Shard[] shards;
+    private final int mask;
+    private final Executor invalidator;
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong expired = new AtomicLong();
+    private final AtomicLong removed = new AtomicLong();
+
+    /**
+     * @param shards The number of shards, rounded up to a power of two.
+     */
+    public ShardedSessionStore(int shards) {
+        this(shards, defaultInvalidator);
+    }
+
+    /**
+     * @param shards      The number of shards, rounded up to a power of two.
+     * @param invalidator Runs the invalidation of expired sessions.
+     */
+    public ShardedSessionStore(int shards, Executor invalidator) {
+        if (shards <= 0)
+            throw new IllegalArgumentException("shards must be positive: " + shards);
+        if (invalidator == null)
+            throw new NullPointerException("invalidator");
+        int n = 1;
+        while (n < shards)
+            n <<= 1;
+        this.shards = new Shard[n];
+        for (int i = 0; i < n; i++)
+            this.shards[i] = new Shard();
+        this.mask = n - 1;
+        this.invalidator = invalidator;
+    }
+
+    @Override
+    public final WebActorHandler.Context get(String sessionId) {
+        final Shard s = shard(sessionId);
+        final Entry e;
+        synchronized (s) {
+            e = s.entries.get(sessionId);
+        }
+        return e != null ? e.context : null;
+    }
+
+    @Override
+    public final void put(String sessionId, WebActorHandler.Context context) {
+        final Shard s = shard(sessionId);
+        final Entry e = new Entry(s, sessionId, context);
+        final Entry old;
+        synchronized (s) {
+            old = s.entries.get(sessionId);
+            if (old != null && old.context == context)
+                return; // Already stored; its timeout will see any renewal
+            s.entries.put(sessionId, e);
+        }
+        created.incrementAndGet();
+        if (old != null)
+            old.cancel();
+        e.schedule(checkDelayMS(context));
+    }
+
+    @Override
+    public final WebActorHandler.Context remove(String sessionId) {
+        final Shard s = shard(sessionId);
+        final Entry e;
+        synchronized (s) {
+            e = s.entries.remove(sessionId);
+        }
+        if (e == null)
+            return null;
+        e.cancel();
+        removed.incrementAndGet();
+        return e.context;
+    }
+
+    @Override
+    public final void clear() {
+        for (final Shard s : shards) {
+            final Entry[] es;
+            synchronized (s) {
+                es = s.entries.values().toArray(new Entry[s.entries.size()]);
+                s.entries.clear();
+            }
+            for (final Entry e : es)
+                e.cancel();
+            removed.addAndGet(es.length);
+        }
+    }
+
+    @Override
+    public final int size() {
+        int size = 0;
+        for (final Shard s : shards) {
+            synchronized (s) {
+                size += s.entries.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * The number of sessions stored so far; storing the same context again doesn't count.
+     */
+    public final long getCreatedCount() {
+        return created.get();
+    }
+
+    /**
+     * The number of sessions evicted so far because they had expired.
+     */
+    public final long getExpiredCount() {
+        return expired.get();
+    }
+
+    /**
+     * The number of sessions {@link #remove(String) removed} or {@link #clear() cleared} so far.
+     */
+    public final long getRemovedCount() {
+        return removed.get();
+    }
+
+    private Shard shard(String sessionId) {
+        final int h = sessionId.hashCode();
+        return shards[(h ^ (h >>> 16)) & mask];
+    }
+
+    /**
+     * How long until the context expires, or {@code -1} if it can't be known without calling
+     * {@link WebActorHandler.Context#isValid()}.
+     */
+    private static long remainingMS(WebActorHandler.Context context) {
+        if (context instanceof WebActorHandler.DefaultContextImpl)
+            return Math.max(0, ((WebActorHandler.DefaultContextImpl) context).expiresAt() - System.currentTimeMillis());
+        return -1;
+    }
+
+    private static long checkDelayMS(WebActorHandler.Context context) {
+        final long remaining = remainingMS(context);
+        return remaining >= 0 ? remaining : WebActorHandler.DefaultContextImpl.DURATION;
+    }
+
+    private static final class Shard {
+        final Map<String, Entry> entries = new HashMap<>();
+    }
+
+    private final class Entry implements Runnable {
+        final Shard shard;
+        final String sessionId;
+        final WebActorHandler.Context context;
+        private volatile boolean gone;
+        private volatile TimerWheel.Timeout timeout;
+
+        Entry(Shard shard, String sessionId, WebActorHandler.Context context) {
+            this.shard = shard;
+            this.sessionId = sessionId;
+            this.context = context;
+        }
+
+        void schedule(long delayMS) {
+            if (!gone)
+                timeout = expiries.schedule(this, delayMS, TimeUnit.MILLISECONDS);
+        }
+
+        void cancel() {
+            gone = true;
+            final TimerWheel.Timeout t = timeout;
+            if (t != null)
+                t.cancel();
+        }
+
+        boolean evict() {
+            synchronized (shard) {
+                if (shard.entries.get(sessionId) != this)
+                    return false;
+                shard.entries.remove(sessionId);
+            }
+            gone = true;
+            expired.incrementAndGet();
+            return true;
+        }
+
+        @Override
+        public void run() { // On the wheel's thread
+            if (gone)
+                return;
+            final long remaining = remainingMS(context);
+            if (remaining > 0)
+                schedule(remaining);
+            else if (remaining == 0) {
+                if (evict())
+                    invalidator.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            invalidate();
+                        }
+                    });
+            } else {
+                invalidator.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        check();
+                    }
+                });
+            }
+        }
+
+        private void invalidate() {
+            try {
+                context.invalidate();
+            } catch (SuspendExecution e) {
+                throw new AssertionError(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Throwable t) {
+                log.warn("Exception while invalidating expired session " + sessionId, t);
+            }
+        }
+
+        private void check() {
+            try {
+                if (context.isValid())
+                    schedule(WebActorHandler.DefaultContextImpl.DURATION);
+                else
+                    evict(); // Already invalidated by isValid()
+            } catch (SuspendExecution e) {
+                throw new AssertionError(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Throwable t) {
+                log.warn("Exception while checking session " + sessionId, t);
+            }
+        }
+    }
+}
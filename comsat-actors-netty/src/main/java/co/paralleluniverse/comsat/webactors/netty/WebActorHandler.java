@@ -15,7 +15,6 @@
 package co.paralleluniverse.comsat.webactors.netty;
 
 import co.paralleluniverse.actors.*;
-import co.paralleluniverse.common.util.Pair;
 import co.paralleluniverse.common.util.SystemProperties;
 import co.paralleluniverse.comsat.webactors.*;
 import co.paralleluniverse.comsat.webactors.Cookie;
@@ -28,6 +27,8 @@ import co.paralleluniverse.strands.channels.SendPort;
 import co.paralleluniverse.strands.concurrent.CountDownLatch;
 import co.paralleluniverse.strands.concurrent.ReentrantLock;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.*;
 import io.netty.handler.codec.http.*;
@@ -42,9 +43,14 @@ import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
 
 import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -80,16 +86,16 @@ public class WebActorHandler extends SimpleChannelInboundHandler<Object> {
 
     public static abstract class DefaultContextImpl implements Context {
         private final static String durationProp = System.getProperty(DefaultContextImpl.class.getName() + ".durationMillis");
-        private final static long DURATION = durationProp != null ? Long.parseLong(durationProp) : 60_000L;
+        final static long DURATION = durationProp != null ? Long.parseLong(durationProp) : 60_000L;
         private final ReentrantLock lock = new ReentrantLock();
         @SuppressWarnings("unused")
         private final long created;
         private final Map<String, Object> attachments = new HashMap<>();
 
-        protected long renewed;
+        protected volatile long renewed;
         private Long validityMS;
 
-        private boolean valid = true;
+        private volatile boolean valid = true;
 
         public DefaultContextImpl() {
             renewed = created = new Date().getTime();
@@ -138,6 +144,17 @@ public class WebActorHandler extends SimpleChannelInboundHandler<Object> {
         public long getValidityMS() {
             return validityMS != null ? validityMS : DURATION;
         }
+
+        final long expiresAt() {
+            return valid ? renewed + getValidityMS() : 0;
+        }
+
+        /**
+         * Whether the context serves requests from any client, in which case it must never be bound to a session.
+         */
+        boolean isShared() {
+            return false;
+        }
     }
 
     public WebActorHandler(WebActorContextProvider contextProvider) {
@@ -154,6 +171,32 @@ public class WebActorHandler extends SimpleChannelInboundHandler<Object> {
         ctx.flush();
     }
 
+    @Override
+    public final void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        wakeUpWebSocketSenders(ctx);
+        super.channelWritabilityChanged(ctx);
+    }
+
+    @Override
+    public final void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        wakeUpWebSocketSenders(ctx);
+        final RequestBodyStream s = bodyStream;
+        if (s != null) {
+            bodyStream = null;
+            s.onError(new ClosedChannelException()); // Closed before the last of the body
+        }
+        super.channelInactive(ctx);
+    }
+
+    private void wakeUpWebSocketSenders(ChannelHandlerContext ctx) {
+        final WebSocketActorAdapter a = webSocketActor;
+        if (a != null) {
+            final WebSocketChannelAdapter wsc = (WebSocketChannelAdapter) (SendPort) a.getMailbox();
+            if (wsc.ctx.channel() == ctx.channel())
+                wsc.wakeUp();
+        }
+    }
+
     @Override
     public final void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
         if (ctx.channel().isOpen())
@@ -164,7 +207,11 @@ public class WebActorHandler extends SimpleChannelInboundHandler<Object> {
     @Override
     protected final void channelRead0(ChannelHandlerContext ctx, Object msg) throws Exception {
         if (msg instanceof FullHttpRequest) {
-            handleHttpRequest(ctx, (FullHttpRequest) msg);
+            handleHttpRequest(ctx, (FullHttpRequest) msg, false);
+        } else if (msg instanceof io.netty.handler.codec.http.HttpRequest) {
+            handleHttpRequestHead(ctx, (io.netty.handler.codec.http.HttpRequest) msg);
+        } else if (msg instanceof HttpContent) {
+            handleHttpContent((HttpContent) msg);
         } else if (msg instanceof WebSocketFrame) {
             handleWebSocketFrame(ctx, (WebSocketFrame) msg);
         } else {
@@ -183,19 +230,47 @@ public class WebActorHandler extends SimpleChannelInboundHandler<Object> {
     protected final static String OMIT_DATE_HEADER_PROP = HttpChannelAdapter.class.getName() + ".omitDateHeader";
     protected final static Boolean omitDateHeader = SystemProperties.isEmptyOrTrue(OMIT_DATE_HEADER_PROP);
 
-    protected final static ConcurrentHashMap<String, Context> sessions = new ConcurrentHashMap<>();
-    protected final static ReentrantLock sessionsLock = new ReentrantLock();
+    protected final static String PIPELINE_REQUESTS_PROP = WebActorHandler.class.getName() + ".pipelineRequests";
+    protected final static boolean pipelineRequests = SystemProperties.isEmptyOrTrue(PIPELINE_REQUESTS_PROP);
+
+    protected final static String ZERO_COPY_REQUEST_BODIES_PROP = WebActorHandler.class.getName() + ".zeroCopyRequestBodies";
+    protected final static boolean zeroCopyRequestBodies = SystemProperties.isEmptyOrTrue(ZERO_COPY_REQUEST_BODIES_PROP);
+
+    protected final static String REQUEST_BODY_CHUNKS_WINDOW_PROP = WebActorHandler.class.getName() + ".requestBodyChunksWindow";
+    protected final static int requestBodyChunksWindow = Integer.getInteger(REQUEST_BODY_CHUNKS_WINDOW_PROP, 16);
+
+    protected final static String SESSION_STORE_SHARDS_PROP = WebActorHandler.class.getName() + ".sessionStoreShards";
+    protected final static int sessionStoreShards = Integer.getInteger(SESSION_STORE_SHARDS_PROP, 4 * Runtime.getRuntime().availableProcessors());
+
+    private static volatile SessionStore sessions = new ShardedSessionStore(sessionStoreShards);
+
+    /**
+     * Replaces the {@link SessionStore} shared by all handlers; it should be called before any session is started.
+     */
+    public static void setSessionStore(SessionStore store) {
+        if (store == null)
+            throw new NullPointerException("store");
+        sessions = store;
+    }
+
+    /**
+     * The {@link SessionStore} shared by all handlers, by default a {@link ShardedSessionStore}.
+     */
+    public static SessionStore getSessionStore() {
+        return sessions;
+    }
 
     protected WebActorContextProvider contextProvider;
     protected String httpResponseEncoderName;
 
     private static final String ACTOR_KEY = "co.paralleluniverse.comsat.webactors.sessionActor";
 
-    private static final WeakHashMap<Class<?>, List<Pair<String, String>>> classToUrlPatterns = new WeakHashMap<>();
     private static final InternalLogger log = InternalLoggerFactory.getInstance(AutoWebActorHandler.class);
 
     private WebSocketServerHandshaker handshaker;
     private WebSocketActorAdapter webSocketActor;
+    private RequestBodyStream bodyStream; // The body being streamed on this channel, if any
+    private final ResponseOrder responseOrder = new ResponseOrder();
 
     private void handleWebSocketFrame(ChannelHandlerContext ctx, WebSocketFrame frame) {
         // Check for closing frame
@@ -218,10 +293,28 @@ public class WebActorHandler extends SimpleChannelInboundHandler<Object> {
             webSocketActor.onMessage(frame.content().nioBuffer());
     }
 
-    private void handleHttpRequest(ChannelHandlerContext ctx, FullHttpRequest req) throws SuspendExecution, InterruptedException {
+    private void handleHttpRequestHead(ChannelHandlerContext ctx, io.netty.handler.codec.http.HttpRequest head) throws SuspendExecution, InterruptedException {
+        // No aggregation in the pipeline: the body, if any, follows in `HttpContent` messages and is streamed
+        final FullHttpRequest req = new DefaultFullHttpRequest(head.getProtocolVersion(), head.getMethod(), head.getUri(), Unpooled.EMPTY_BUFFER);
+        req.headers().set(head.headers());
+        req.setDecoderResult(head.getDecoderResult());
+        handleHttpRequest(ctx, req, HttpHeaders.getContentLength(head, 0L) > 0 || HttpHeaders.isTransferEncodingChunked(head));
+    }
+
+    private void handleHttpContent(HttpContent content) throws SuspendExecution {
+        final RequestBodyStream s = bodyStream;
+        if (s == null)
+            return; // Not streaming, e.g. the body of a rejected request
+        final boolean last = content instanceof LastHttpContent;
+        if (last)
+            bodyStream = null;
+        s.onContent(content.content(), last);
+    }
+
+    private void handleHttpRequest(ChannelHandlerContext ctx, FullHttpRequest req, boolean streamBody) throws SuspendExecution, InterruptedException {
         // Handle a bad request.
         if (!req.getDecoderResult().isSuccess()) {
-            sendHttpError(ctx, req, new DefaultFullHttpResponse(req.getProtocolVersion(), BAD_REQUEST));
+            sendHttpErrorInOrder(responseOrder.next(), ctx, req, BAD_REQUEST);
             return;
         }
 
@@ -229,8 +322,7 @@ public class WebActorHandler extends SimpleChannelInboundHandler<Object> {
 
         final Context actorCtx = contextProvider.get(req);
         assert actorCtx != null;
-        final String sessionId = actorCtx.getId();
-        assert sessionId != null;
+        final String sessionId = isShared(actorCtx) ? null : actorCtx.getId();
 
         final ReentrantLock lock = actorCtx.getLock();
         assert lock != null;
@@ -270,8 +362,24 @@ public class WebActorHandler extends SimpleChannelInboundHandler<Object> {
                         internalActor = new HttpActorAdapter((ActorRef<HttpRequest>) userActorRef, actorCtx, httpResponseEncoderName);
                         addActorToContextAndUnlock(actorCtx, internalActor, lock);
                     }
-                    //noinspection unchecked
-                    ((HttpActorAdapter) internalActor).handleRequest(new NettyHttpRequest(internalActor.ref(), ctx, req, sessionId));
+                    final long seq = responseOrder.next();
+                    final NettyHttpRequest nettyRequest = new NettyHttpRequest(internalActor.ref(), ctx, req, sessionId, zeroCopyRequestBodies);
+                    nettyRequest.responseOrder = responseOrder;
+                    nettyRequest.responseSeq = seq;
+                    if (streamBody)
+                        bodyStream = nettyRequest.bodyStream = new RequestBodyStream(ctx, nettyRequest);
+                    boolean handled = false;
+                    try {
+                        //noinspection unchecked
+                        handled = ((HttpActorAdapter) internalActor).handleRequest(nettyRequest);
+                    } finally {
+                        if (!handled) {
+                            bodyStream = null;
+                            nettyRequest.release();
+                        }
+                    }
+                    if (!handled)
+                        sendHttpErrorInOrder(seq, ctx, req, SERVICE_UNAVAILABLE);
                     return;
                 }
             }
@@ -280,7 +388,61 @@ public class WebActorHandler extends SimpleChannelInboundHandler<Object> {
                 lock.unlock();
         }
 
-        sendHttpError(ctx, req, new DefaultFullHttpResponse(req.getProtocolVersion(), NOT_FOUND));
+        sendHttpErrorInOrder(responseOrder.next(), ctx, req, NOT_FOUND);
+    }
+
+    private void sendHttpErrorInOrder(long seq, final ChannelHandlerContext ctx, final FullHttpRequest req, final HttpResponseStatus status) {
+        responseOrder.write(seq, new Runnable() {
+            @Override
+            public void run() {
+                sendHttpError(ctx, req, new DefaultFullHttpResponse(req.getProtocolVersion(), status));
+            }
+        });
+    }
+
+    /**
+     * Writes the responses to the HTTP requests received on a channel in the order the requests were received, as
+     * HTTP/1.1 requires of pipelined requests, even if they're replied to out of order.
+     */
+    static final class ResponseOrder {
+        private long received; // accessed only by the channel's event loop
+        private long written;
+        private final Map<Long, Runnable> ready = new HashMap<>();
+
+        /**
+         * Returns the sequence number of the next request's response.
+         */
+        final long next() {
+            return received++;
+        }
+
+        /**
+         * Performs the write of the given response now if all the previous ones have been written, else as soon as
+         * they have; every sequence number must be written exactly once.
+         */
+        final synchronized void write(long seq, Runnable write) {
+            if (seq != written) {
+                ready.put(seq, write);
+                return;
+            }
+            for (Runnable w = write; w != null; w = ready.remove(written)) {
+                try {
+                    w.run();
+                } catch (final RuntimeException e) {
+                    log.error("Exception while writing HTTP response", e);
+                } finally {
+                    written++;
+                }
+            }
+        }
+    }
+
+    private static void writeInOrder(NettyHttpRequest s, Runnable write) {
+        final ResponseOrder o = s.responseOrder;
+        if (o != null)
+            o.write(s.responseSeq, write);
+        else
+            write.run();
     }
 
     static void addActorToContextAndUnlock(Context actorContext, ActorImpl actor, ReentrantLock lock) {
@@ -292,6 +454,18 @@ public class WebActorHandler extends SimpleChannelInboundHandler<Object> {
         }
     }
 
+    static boolean isShared(Context actorContext) {
+        return actorContext instanceof DefaultContextImpl && ((DefaultContextImpl) actorContext).isShared();
+    }
+
+    /**
+     * Whether the context's actor is currently serving an HTTP request.
+     */
+    static boolean isBusy(Context actorContext) {
+        final Object a = actorContext.getAttachments().get(ACTOR_KEY);
+        return a instanceof HttpActorAdapter && ((HttpActorAdapter) a).isRequestInProgress();
+    }
+
     private static final class WebSocketActorAdapter extends FakeActor<WebDataMessage> {
         ActorRef<? super WebMessage> userActor;
 
@@ -358,8 +532,22 @@ public class WebActorHandler extends SimpleChannelInboundHandler<Object> {
         }
     }
 
+    /**
+     * Sending strands block while the channel isn't writable, i.e. while too much outbound data is queued, and frames
+     * sent in a row are flushed together.
+     */
     private static final class WebSocketChannelAdapter implements SendPort<WebDataMessage> {
         private final ChannelHandlerContext ctx;
+        private final AtomicReference<CountDownLatch> writable = new AtomicReference<>();
+        private final AtomicInteger unflushed = new AtomicInteger();
+        private final Runnable flush = new Runnable() {
+            @Override
+            public void run() {
+                // Every write is followed by one of these on the event loop, so the last one flushes all of them
+                if (unflushed.decrementAndGet() == 0)
+                    ctx.flush();
+            }
+        };
 
         WebSocketActorAdapter actor;
 
@@ -368,29 +556,68 @@ public class WebActorHandler extends SimpleChannelInboundHandler<Object> {
         }
 
         @Override
+        @Suspendable
         public final void send(WebDataMessage message) throws SuspendExecution, InterruptedException {
-            trySend(message);
+            awaitWritable(Long.MAX_VALUE);
+            write(message);
         }
 
         @Override
+        @Suspendable
         public final boolean send(WebDataMessage message, long timeout, TimeUnit unit) throws SuspendExecution, InterruptedException {
-            return trySend(message);
+            if (!awaitWritable(unit.toNanos(timeout)))
+                return false;
+            write(message);
+            return true;
         }
 
         @Override
+        @Suspendable
         public final boolean send(WebDataMessage message, Timeout timeout) throws SuspendExecution, InterruptedException {
             return send(message, timeout.nanosLeft(), TimeUnit.NANOSECONDS);
         }
 
         @Override
         public final boolean trySend(WebDataMessage message) {
+            if (!ctx.channel().isWritable() && ctx.channel().isActive())
+                return false;
+            write(message);
+            return true;
+        }
+
+        private void write(WebDataMessage message) {
+            unflushed.incrementAndGet();
             if (!message.isBinary())
-                ctx.writeAndFlush(new TextWebSocketFrame(message.getStringBody()));
+                ctx.write(new TextWebSocketFrame(message.getStringBody()));
             else
-                ctx.writeAndFlush(new BinaryWebSocketFrame(Unpooled.wrappedBuffer(message.getByteBufferBody())));
+                ctx.write(new BinaryWebSocketFrame(Unpooled.wrappedBuffer(message.getByteBufferBody())));
+            ctx.executor().execute(flush);
+        }
+
+        @Suspendable
+        private boolean awaitWritable(long nanos) throws InterruptedException {
+            final Channel ch = ctx.channel();
+            final long deadline = nanos == Long.MAX_VALUE ? Long.MAX_VALUE : System.nanoTime() + nanos;
+            while (!ch.isWritable() && ch.isActive()) {
+                CountDownLatch l = writable.get();
+                if (l == null && !writable.compareAndSet(null, l = new CountDownLatch(1)))
+                    continue;
+                if (ch.isWritable() || !ch.isActive()) // Changed before the latch was published
+                    break;
+                if (deadline == Long.MAX_VALUE)
+                    l.await();
+                else if (!l.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS))
+                    return false;
+            }
             return true;
         }
 
+        final void wakeUp() {
+            final CountDownLatch l = writable.getAndSet(null);
+            if (l != null)
+                l.countDown();
+        }
+
         @Override
         public final void close() {
             if (ctx.channel().isOpen())
@@ -408,23 +635,22 @@ public class WebActorHandler extends SimpleChannelInboundHandler<Object> {
     private static final class HttpActorAdapter extends FakeActor<HttpResponse> {
         private final static String replyTimeoutProp = System.getProperty(HttpActorAdapter.class.getName() + ".replyTimeout");
         private static final long REPLY_TIMEOUT = replyTimeoutProp != null ? Long.parseLong(replyTimeoutProp) : 120_000L;
+        private static final TimerWheel replyTimeouts = new TimerWheel("comsat-netty-reply-timeouts", 100, TimeUnit.MILLISECONDS, 512);
 
-        private final AtomicReference<CountDownLatch> gate = new AtomicReference<>();
+        private final AtomicReference<CountDownLatch> gate = new AtomicReference<>(); // unless pipelining
+        private final ConcurrentMap<Long, NettyHttpRequest> inFlight = new ConcurrentHashMap<>();
 
         private final String httpResponseEncoderName;
+        private final boolean shared;
 
         private volatile ActorRef<? super HttpRequest> userActor;
         private volatile Context context;
 
-        private volatile ChannelHandlerContext ctx;
-        private volatile FullHttpRequest req;
         private volatile boolean needsRestart;
 
         private volatile Object watchToken;
         private volatile boolean dead;
 
-        private volatile ScheduledFuture<?> cancelTask;
-
         HttpActorAdapter(ActorRef<? super HttpRequest> userActor, Context actorContext, String httpResponseEncoderName) {
             super("HttpActorAdapter", new HttpChannelAdapter());
 
@@ -437,6 +663,7 @@ public class WebActorHandler extends SimpleChannelInboundHandler<Object> {
             this.userActor = userActor;
             this.context = actorContext;
             this.httpResponseEncoderName = httpResponseEncoderName;
+            this.shared = isShared(actorContext);
         }
 
         @Override
@@ -489,116 +716,234 @@ public class WebActorHandler extends SimpleChannelInboundHandler<Object> {
             return false;
         }
 
-        final void handleRequest(NettyHttpRequest s) throws SuspendExecution, InterruptedException {
-            blockSessionRequests();
+        /**
+         * @return {@code false} if the request has been refused because the context is shared and busy with another
+         *         request, as the event loop mustn't wait for another client.
+         */
+        final boolean handleRequest(NettyHttpRequest s) throws SuspendExecution, InterruptedException {
+            if (!pipelineRequests) {
+                if (!shared)
+                    blockSessionRequests();
+                else if (!gate.compareAndSet(null, new CountDownLatch(1)))
+                    return false;
+            }
 
-            ctx = s.ctx;
-            req = s.req;
             if (needsRestart) {
-                context.restart(req);
-                context.getLock().lock();
-                addActorToContextAndUnlock(context, HttpActorAdapter.this, context.getLock());
-                needsRestart = false;
+                final ReentrantLock lock = context.getLock();
+                lock.lock();
+                try {
+                    if (needsRestart) {
+                        context.restart(s.req);
+                        restarted();
+                        context.getAttachments().put(ACTOR_KEY, HttpActorAdapter.this);
+                        needsRestart = false;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+            track(s);
+            if (s.bodyStream != null) {
+                @SuppressWarnings("unchecked") final ActorRef<? super HttpRequestChunk> target = (ActorRef<? super HttpRequestChunk>) (ActorRef) userActor;
+                s.bodyStream.target = target;
             }
             userActor.send(s);
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void restarted() {
+            final ActorRef<? super HttpRequest> prev = userActor;
+            if (prev != null && watchToken != null)
+                unwatch(prev, watchToken);
+            userActor = (ActorRef<? super HttpRequest>) context.getWebActor();
+            if (context.watch() != Context.WatchPolicy.DONT_WATCH && userActor != null)
+                watchToken = watch(userActor);
+        }
+
+        private void track(final NettyHttpRequest s) {
+            inFlight.put(s.getCorrelationId(), s);
+            s.replyTimeout = replyTimeouts.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    if (inFlight.remove(s.getCorrelationId(), s)) {
+                        try {
+                            sendHttpErrorInOrder(s, "Timeout while waiting for user actor to reply.");
+                        } finally {
+                            if (!pipelineRequests)
+                                unblockSessionRequests();
+                        }
+                    }
+                }
+            }, REPLY_TIMEOUT, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * @return {@code false} if the request has already been replied to or has timed out.
+         */
+        private boolean complete(NettyHttpRequest s) {
+            if (!inFlight.remove(s.getCorrelationId(), s))
+                return false;
+            final TimerWheel.Timeout t = s.replyTimeout;
+            if (t != null)
+                t.cancel();
+            return true;
         }
 
         @Suspendable
-        final void handleReply(HttpResponse message) throws SuspendExecution, InterruptedException {
+        final void handleReply(final HttpResponse message) throws SuspendExecution, InterruptedException {
+            final NettyHttpRequest nettyRequest = (NettyHttpRequest) message.getRequest();
+            if (!complete(nettyRequest))
+                return; // Timed out or already replied to
             try {
-                final NettyHttpRequest nettyRequest = (NettyHttpRequest) message.getRequest();
-                final FullHttpRequest req = nettyRequest.req;
-                final ChannelHandlerContext ctx = nettyRequest.ctx;
-                final String sessionId = nettyRequest.getSessionId();
+                writeInOrder(nettyRequest, reply(nettyRequest, message));
+            } catch (final RuntimeException e) {
+                sendHttpErrorInOrder(nettyRequest, "Exception while replying: " + e.getMessage()); // Don't hold up the next responses
+                throw e;
+            } finally {
+                if (!pipelineRequests)
+                    unblockSessionRequests();
+            }
+        }
 
-                final HttpResponseStatus status = HttpResponseStatus.valueOf(message.getStatus());
+        /**
+         * Prepares the response to a request, returning the write of it to be performed in order.
+         */
+        private Runnable reply(final NettyHttpRequest nettyRequest, final HttpResponse message) {
+            final FullHttpRequest req = nettyRequest.req;
+            final ChannelHandlerContext ctx = nettyRequest.ctx;
+            final String sessionId = nettyRequest.getSessionId();
+
+            final HttpResponseStatus status = HttpResponseStatus.valueOf(message.getStatus());
+
+            if (message.getStatus() >= 400 && message.getStatus() < 600) {
+                return new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            sendHttpError(ctx, req, new DefaultFullHttpResponse(req.getProtocolVersion(), status));
+                        } finally {
+                            nettyRequest.release();
+                        }
+                    }
+                };
+            }
 
-                if (message.getStatus() >= 400 && message.getStatus() < 600) {
-                    sendHttpError(ctx, req, new DefaultFullHttpResponse(req.getProtocolVersion(), status));
-                    return;
-                }
+            if (message.getRedirectPath() != null) {
+                return new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            sendHttpRedirect(ctx, req, message.getRedirectPath());
+                        } finally {
+                            nettyRequest.release();
+                        }
+                    }
+                };
+            }
 
-                if (message.getRedirectPath() != null) {
-                    sendHttpRedirect(ctx, req, message.getRedirectPath());
-                    return;
-                }
+            final FullHttpResponse res;
+            if (message.getStringBody() != null)
+                res = new DefaultFullHttpResponse(req.getProtocolVersion(), status, encode(ctx.alloc(), message.getStringBody(), message.getCharacterEncoding()));
+            else if (message.getByteBufferBody() != null)
+                res = new DefaultFullHttpResponse(req.getProtocolVersion(), status, Unpooled.wrappedBuffer(message.getByteBufferBody()));
+            else
+                res = new DefaultFullHttpResponse(req.getProtocolVersion(), status);
 
-                final FullHttpResponse res;
-                if (message.getStringBody() != null)
-                    res = new DefaultFullHttpResponse(req.getProtocolVersion(), status, Unpooled.wrappedBuffer(message.getStringBody().getBytes()));
-                else if (message.getByteBufferBody() != null)
-                    res = new DefaultFullHttpResponse(req.getProtocolVersion(), status, Unpooled.wrappedBuffer(message.getByteBufferBody()));
-                else
-                    res = new DefaultFullHttpResponse(req.getProtocolVersion(), status);
-
-                if (message.getCookies() != null) {
-                    final ServerCookieEncoder enc = ServerCookieEncoder.STRICT;
-                    for (final Cookie c : message.getCookies())
-                        HttpHeaders.setHeader(res, COOKIE, enc.encode(getNettyCookie(c)));
-                }
-                if (message.getHeaders() != null) {
-                    for (final Map.Entry<String, String> h : message.getHeaders().entries())
-                        HttpHeaders.setHeader(res, h.getKey(), h.getValue());
-                }
+            if (message.getCookies() != null) {
+                final ServerCookieEncoder enc = ServerCookieEncoder.STRICT;
+                for (final Cookie c : message.getCookies())
+                    HttpHeaders.setHeader(res, COOKIE, enc.encode(getNettyCookie(c)));
+            }
+            if (message.getHeaders() != null) {
+                for (final Map.Entry<String, String> h : message.getHeaders().entries())
+                    HttpHeaders.setHeader(res, h.getKey(), h.getValue());
+            }
 
-                if (message.getContentType() != null) {
-                    String ct = message.getContentType();
-                    if (message.getCharacterEncoding() != null)
-                        ct = ct + "; charset=" + message.getCharacterEncoding().name();
-                    HttpHeaders.setHeader(res, CONTENT_TYPE, ct);
-                }
+            if (message.getContentType() != null) {
+                String ct = message.getContentType();
+                if (message.getCharacterEncoding() != null)
+                    ct = ct + "; charset=" + message.getCharacterEncoding().name();
+                HttpHeaders.setHeader(res, CONTENT_TYPE, ct);
+            }
 
-                final boolean sseStarted = message.shouldStartActor();
-                if (trackSession(sseStarted)) {
-                    res.headers().add(SET_COOKIE, ServerCookieEncoder.STRICT.encode(SESSION_COOKIE_KEY, sessionId));
-                    startSession(sessionId, context);
-                }
-                if (!sseStarted) {
-                    final String stringBody = message.getStringBody();
-                    long contentLength = 0L;
-                    if (stringBody != null)
-                        contentLength = stringBody.getBytes().length;
-                    else {
-                        final ByteBuffer byteBufferBody = message.getByteBufferBody();
-                        if (byteBufferBody != null)
-                            contentLength = byteBufferBody.remaining();
+            final boolean sseStarted = message.shouldStartActor();
+            if (sessionId != null && trackSession(sseStarted)) {
+                res.headers().add(SET_COOKIE, ServerCookieEncoder.STRICT.encode(SESSION_COOKIE_KEY, sessionId));
+                startSession(sessionId, context);
+            }
+            if (!sseStarted)
+                res.headers().add(CONTENT_LENGTH, res.content().readableBytes());
+
+            final HttpStreamActorAdapter httpStreamActorAdapter;
+            if (sseStarted)
+                // This will copy the request content, which must still be referenceable, doing before the request handler
+                // unallocates it (unfortunately it is explicitly reference-counted in Netty)
+                httpStreamActorAdapter = new HttpStreamActorAdapter(ctx, req);
+            else
+                httpStreamActorAdapter = null;
+
+            return new Runnable() {
+                @Override
+                public void run() {
+                    ChannelFuture written = null;
+                    try {
+                        written = sendHttpResponse(ctx, req, res);
+                        if (sseStarted)
+                            startStream(ctx, message, httpStreamActorAdapter);
+                    } finally {
+                        releaseWhenWritten(nettyRequest, written);
                     }
-                    res.headers().add(CONTENT_LENGTH, contentLength);
                 }
+            };
+        }
 
-                final HttpStreamActorAdapter httpStreamActorAdapter;
-                if (sseStarted)
-                    // This will copy the request content, which must still be referenceable, doing before the request handler
-                    // unallocates it (unfortunately it is explicitly reference-counted in Netty)
-                    httpStreamActorAdapter = new HttpStreamActorAdapter(ctx, req);
-                else
-                    httpStreamActorAdapter = null;
+        private void startStream(ChannelHandlerContext ctx, HttpResponse message, HttpStreamActorAdapter httpStreamActorAdapter) {
+            if (httpResponseEncoderName != null) {
+                ctx.pipeline().remove(httpResponseEncoderName);
+            } else {
+                final ChannelPipeline pl = ctx.pipeline();
+                final List<String> handlerKeysToBeRemoved = new ArrayList<>();
+                for (final Map.Entry<String, ChannelHandler> e : pl) {
+                    if (e.getValue() instanceof HttpResponseEncoder)
+                        handlerKeysToBeRemoved.add(e.getKey());
+                }
+                for (final String k : handlerKeysToBeRemoved)
+                    pl.remove(k);
+            }
 
-                sendHttpResponse(ctx, req, res);
+            try {
+                message.getFrom().send(new HttpStreamOpened(httpStreamActorAdapter.ref(), message));
+            } catch (final SuspendExecution e) {
+                throw new AssertionError(e);
+            }
+        }
 
-                if (sseStarted) {
-                    if (httpResponseEncoderName != null) {
-                        ctx.pipeline().remove(httpResponseEncoderName);
-                    } else {
-                        final ChannelPipeline pl = ctx.pipeline();
-                        final List<String> handlerKeysToBeRemoved = new ArrayList<>();
-                        for (final Map.Entry<String, ChannelHandler> e : pl) {
-                            if (e.getValue() instanceof HttpResponseEncoder)
-                                handlerKeysToBeRemoved.add(e.getKey());
-                        }
-                        for (final String k : handlerKeysToBeRemoved)
-                            pl.remove(k);
+        private static void releaseWhenWritten(final NettyHttpRequest s, ChannelFuture written) {
+            // The response body may be a view of the request's retained body, so wait for the write to complete
+            if (written == null)
+                s.release();
+            else {
+                written.addListener(new ChannelFutureListener() {
+                    @Override
+                    public void operationComplete(ChannelFuture future) {
+                        s.release();
                     }
+                });
+            }
+        }
 
+        private static void sendHttpErrorInOrder(final NettyHttpRequest s, final String msg) {
+            writeInOrder(s, new Runnable() {
+                @Override
+                public void run() {
                     try {
-                        message.getFrom().send(new HttpStreamOpened(httpStreamActorAdapter.ref(), message));
-                    } catch (final SuspendExecution e) {
-                        throw new AssertionError(e);
+                        sendHttpError(s.ctx, s.req, new DefaultFullHttpResponse(s.req.getProtocolVersion(), INTERNAL_SERVER_ERROR, Unpooled.wrappedBuffer(msg.getBytes())));
+                    } finally {
+                        s.release();
                     }
                 }
-            } finally {
-                unblockSessionRequests();
-            }
+            });
         }
 
         @Suspendable
@@ -621,21 +966,21 @@ public class WebActorHandler extends SimpleChannelInboundHandler<Object> {
             userActor = null;
             watchToken = null;
             context = null;
-            ctx = null;
-            req = null;
         }
 
         private void possiblyReplyDeadAndUnblock(Throwable cause) {
-            if (isRequestInProgress()) { // Req replied
-                try {
-                    if (cause != null) {
-                        sendHttpError(ctx, req, new DefaultFullHttpResponse(req.getProtocolVersion(), INTERNAL_SERVER_ERROR, Unpooled.wrappedBuffer(("Actor is dead because of " + cause.getMessage()).getBytes())));
-                    } else {
-                        sendHttpError(ctx, req, new DefaultFullHttpResponse(req.getProtocolVersion(), INTERNAL_SERVER_ERROR, Unpooled.wrappedBuffer(("Actor has terminated.").getBytes())));
+            boolean completed = false;
+            try {
+                for (final NettyHttpRequest s : inFlight.values()) {
+                    if (complete(s)) {
+                        completed = true;
+                        sendHttpErrorInOrder(s, cause != null ? "Actor is dead because of " + cause.getMessage() : "Actor has terminated.");
                     }
-                } finally {
-                    unblockSessionRequests();
                 }
+            } finally {
+                // Only the gate of a request that has just been completed, as it may have been taken by another one since
+                if (completed && !pipelineRequests)
+                    unblockSessionRequests();
             }
         }
 
@@ -646,31 +991,99 @@ public class WebActorHandler extends SimpleChannelInboundHandler<Object> {
                 if (l != null)
                     l.await();
             }
-            final ChannelHandlerContext ctx1 = ctx;
-            final FullHttpRequest req1 = req;
-            cancelTask = ts.schedule(new Runnable() {
-                @Override
-                public void run() {
-                    try {
-                        sendHttpError(ctx1, req1, new DefaultFullHttpResponse(req1.getProtocolVersion(), INTERNAL_SERVER_ERROR, Unpooled.wrappedBuffer(("Timeout while waiting for user actor to reply.").getBytes())));
-                    } finally {
-                        unblockSessionRequests();
-                    }
-                }
-            }, REPLY_TIMEOUT, TimeUnit.MILLISECONDS);
         }
 
         @Suspendable
         private void unblockSessionRequests() {
-            if (cancelTask != null)
-                cancelTask.cancel(true);
             final CountDownLatch l = gate.getAndSet(null);
             if (l != null)
                 l.countDown();
         }
 
         private boolean isRequestInProgress() {
-            return gate.get() != null;
+            return !inFlight.isEmpty();
+        }
+    }
+
+    /**
+     * Sends the body of a request, as it's read, to the actor that has received the request; stops reading from the
+     * channel while {@link #requestBodyChunksWindow} chunks are waiting to be consumed.
+     */
+    static final class RequestBodyStream {
+        private final ChannelHandlerContext ctx;
+        private final NettyHttpRequest request;
+        private final AtomicInteger pending = new AtomicInteger();
+        private final Runnable updateAutoRead = new Runnable() {
+            @Override
+            public void run() {
+                final boolean autoRead = abandoned || pending.get() < requestBodyChunksWindow;
+                final ChannelConfig config = ctx.channel().config();
+                if (config.isAutoRead() != autoRead)
+                    config.setAutoRead(autoRead);
+            }
+        };
+        ActorRef<? super HttpRequestChunk> target; // accessed only by the channel's event loop
+        private volatile boolean abandoned;
+
+        RequestBodyStream(ChannelHandlerContext ctx, NettyHttpRequest request) {
+            this.ctx = ctx;
+            this.request = request;
+        }
+
+        final void onContent(ByteBuf content, boolean last) throws SuspendExecution {
+            if (abandoned || target == null)
+                return;
+            final ByteBuffer body = ByteBuffer.allocate(content.readableBytes());
+            content.getBytes(content.readerIndex(), body);
+            body.flip();
+            if (pending.incrementAndGet() >= requestBodyChunksWindow)
+                ctx.channel().config().setAutoRead(false);
+            target.send(new Chunk(body, last));
+        }
+
+        final void onError(Throwable error) {
+            if (abandoned || target == null)
+                return;
+            pending.incrementAndGet();
+            try {
+                target.send(new Chunk(error));
+            } catch (final SuspendExecution e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        private void onConsumed() {
+            // Autoread is only ever toggled on the event loop, so that it can't be turned off after the last consumption
+            if (pending.decrementAndGet() == requestBodyChunksWindow - 1)
+                ctx.executor().execute(updateAutoRead);
+        }
+
+        /**
+         * Discards the rest of the body, e.g. because the request has been replied to.
+         */
+        final void abandon() {
+            abandoned = true;
+            ctx.executor().execute(updateAutoRead);
+        }
+
+        private final class Chunk extends HttpRequestChunk {
+            private static final long serialVersionUID = 1L;
+
+            private final AtomicBoolean consumed = new AtomicBoolean();
+
+            Chunk(ByteBuffer body, boolean last) {
+                super(request, body, last);
+            }
+
+            Chunk(Throwable error) {
+                super(request, error);
+            }
+
+            @Override
+            public void consumed() {
+                if (consumed.compareAndSet(false, true))
+                    onConsumed();
+            }
         }
     }
 
@@ -732,11 +1145,11 @@ public class WebActorHandler extends SimpleChannelInboundHandler<Object> {
     }
 
     protected static boolean handlesWithHttp(String uri, Class<?> actorClass) {
-        return match(uri, actorClass).equals("websocket");
+        return actorClass != null && WebActorRouter.forClass(actorClass).handlesWithHttp(uri);
     }
 
     protected static boolean handlesWithWebSocket(String uri, Class<?> actorClass) {
-        return match(uri, actorClass).equals("ws");
+        return actorClass != null && WebActorRouter.forClass(actorClass).handlesWithWebSocket(uri);
     }
 
     private static final class HttpStreamActorAdapter extends FakeActor<WebDataMessage> {
@@ -812,8 +1225,7 @@ public class WebActorHandler extends SimpleChannelInboundHandler<Object> {
             final ByteBuf buf;
             final String stringBody = res.getStringBody();
             if (stringBody != null) {
-                byte[] bs = stringBody.getBytes(encoding);
-                buf = Unpooled.wrappedBuffer(bs);
+                buf = encode(ctx.alloc(), stringBody, encoding);
             } else {
                 buf = Unpooled.wrappedBuffer(res.getByteBufferBody());
             }
@@ -835,25 +1247,8 @@ public class WebActorHandler extends SimpleChannelInboundHandler<Object> {
         }
     }
 
-    static void startSession(String sessionId, Context actorContext) throws SuspendExecution, InterruptedException {
-        sessionsLock.lock();
-        try {
-            cleanSessions();
-            sessions.put(sessionId, actorContext);
-        } finally {
-            sessionsLock.unlock();
-        }
-    }
-
-    private static void cleanSessions() throws SuspendExecution, InterruptedException {
-        // TODO less often
-        final Collection<String> toBeRemoved = new ArrayList<>(1024);
-        for (final Map.Entry<String, Context> e : sessions.entrySet()) {
-            if (!e.getValue().isValid())
-                toBeRemoved.add(e.getKey());
-        }
-        for (final String s : toBeRemoved)
-            sessions.remove(s);
+    static void startSession(String sessionId, Context actorContext) {
+        sessions.put(sessionId, actorContext);
     }
 
     static io.netty.handler.codec.http.cookie.Cookie getNettyCookie(Cookie c) {
@@ -876,25 +1271,36 @@ public class WebActorHandler extends SimpleChannelInboundHandler<Object> {
         sendHttpResponse(ctx, req, res, true);
     }
 
-    static void sendHttpResponse(ChannelHandlerContext ctx, FullHttpRequest req, FullHttpResponse res) {
-        sendHttpResponse(ctx, req, res, false);
+    /**
+     * Encodes a string body, once, straight into a buffer from the channel's allocator.
+     */
+    static ByteBuf encode(ByteBufAllocator alloc, String body, Charset charset) {
+        if (charset == null)
+            charset = Charset.defaultCharset();
+        if (charset.equals(StandardCharsets.UTF_8))
+            return ByteBufUtil.writeUtf8(alloc, body);
+        return ByteBufUtil.encodeString(alloc, CharBuffer.wrap(body), charset);
     }
 
-    private static void sendHttpResponse(ChannelHandlerContext ctx, FullHttpRequest req, FullHttpResponse res, boolean close) {
-        writeHttpResponse(ctx, req, res, close);
+    static ChannelFuture sendHttpResponse(ChannelHandlerContext ctx, FullHttpRequest req, FullHttpResponse res) {
+        return sendHttpResponse(ctx, req, res, false);
     }
 
-    private static void writeHttpResponse(ChannelHandlerContext ctx, FullHttpRequest req, FullHttpResponse res, boolean close) {
+    private static ChannelFuture sendHttpResponse(ChannelHandlerContext ctx, FullHttpRequest req, FullHttpResponse res, boolean close) {
+        return writeHttpResponse(ctx, req, res, close);
+    }
+
+    private static ChannelFuture writeHttpResponse(ChannelHandlerContext ctx, FullHttpRequest req, FullHttpResponse res, boolean close) {
         if (!omitDateHeader && !res.headers().contains(DefaultHttpHeaders.Names.DATE))
             DefaultHttpHeaders.addDateHeader(res, DefaultHttpHeaders.Names.DATE, new Date());
 
         // Reply the response and close the connection if necessary.
         if (!HttpHeaders.isKeepAlive(req) || close) {
             res.headers().set(CONNECTION, HttpHeaders.Values.CLOSE);
-            ctx.writeAndFlush(res).addListener(ChannelFutureListener.CLOSE);
+            return ctx.writeAndFlush(res).addListener(ChannelFutureListener.CLOSE);
         } else {
             res.headers().set(CONNECTION, HttpHeaders.Values.KEEP_ALIVE);
-            write(ctx, res);
+            return write(ctx, res);
         }
     }
 
@@ -902,62 +1308,4 @@ public class WebActorHandler extends SimpleChannelInboundHandler<Object> {
         return ctx.writeAndFlush(res);
         // : ctx.write(res);
     }
-
-    private static String match(String uri, Class<?> actorClass) {
-        if (uri != null && actorClass != null) {
-            for (final Pair<String, String> e : lookupOrInsert(actorClass)) {
-                if (servletMatch(e.getFirst(), uri))
-                    return e.getSecond();
-            }
-        }
-        return "";
-    }
-
-    private static List<Pair<String, String>> lookupOrInsert(Class<?> actorClass) {
-        if (actorClass != null) {
-            final List<Pair<String, String>> lookup = classToUrlPatterns.get(actorClass);
-            if (lookup != null)
-                return lookup;
-            return insert(actorClass);
-        }
-        return null;
-    }
-
-    private static List<Pair<String, String>> insert(Class<?> actorClass) {
-        if (actorClass != null) {
-            final WebActor wa = actorClass.getAnnotation(WebActor.class);
-            final List<Pair<String, String>> ret = new ArrayList<>(4);
-            for (String httpP : wa.httpUrlPatterns())
-                addPattern(ret, httpP, "websocket");
-            for (String wsP : wa.webSocketUrlPatterns())
-                addPattern(ret, wsP, "ws");
-            classToUrlPatterns.put(actorClass, ret);
-            return ret;
-        }
-        return null;
-    }
-
-    private static void addPattern(List<Pair<String, String>> ret, String p, String type) {
-        if (p != null) {
-            @SuppressWarnings("MismatchedQueryAndUpdateOfCollection") final Pair<String, String> entry = new Pair<>(p, type);
-            if (p.endsWith("*") || p.startsWith("*.") || p.equals("/")) // Wildcard -> end
-                ret.add(entry);
-            else // Exact -> beginning
-                ret.add(0, entry);
-        }
-    }
-
-    private static boolean servletMatch(String pattern, String uri) {
-        // As per servlet spec
-        if (pattern != null && uri != null) {
-            if (pattern.startsWith("/") && pattern.endsWith("*"))
-                return uri.startsWith(pattern.substring(0, pattern.length() - 1));
-            if (pattern.startsWith("*."))
-                return uri.endsWith(pattern.substring(2));
-            if (pattern.isEmpty())
-                return uri.equals("/");
-            return pattern.equals("/") || pattern.equals(uri);
-        }
-        return false;
-    }
 }
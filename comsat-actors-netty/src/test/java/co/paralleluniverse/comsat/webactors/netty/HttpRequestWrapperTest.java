@@ -1,13 +1,21 @@
 package co.paralleluniverse.comsat.webactors.netty;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.EmptyByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpVersion;
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author rodedb
@@ -23,4 +31,63 @@ public class HttpRequestWrapperTest {
         NettyHttpRequest requestWrapper = new NettyHttpRequest(null, null, httpRequest, "sessionId");
         assertEquals(headerValue, requestWrapper.getHeader("content-type"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void httpHeadersViewCaseInsensitivity() {
+        DefaultFullHttpRequest httpRequest =
+                new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "uri", new EmptyByteBuf(UnpooledByteBufAllocator.DEFAULT));
+        httpRequest.headers().add("Content-Type", "text/plain; charset=ISO-8859-1");
+        httpRequest.headers().add("X-Multi", "a");
+        httpRequest.headers().add("x-multi", "b");
+        NettyHttpRequest requestWrapper = new NettyHttpRequest(null, null, httpRequest, "sessionId");
+        assertEquals(Arrays.asList("a", "b"), requestWrapper.getHeaders().get("X-MULTI"));
+        assertTrue(requestWrapper.getHeaders().containsKey("content-type"));
+        assertTrue(requestWrapper.getHeaders().keySet().contains("x-multi"));
+        assertEquals(3, requestWrapper.getHeaders().size());
+        assertEquals("text/plain; charset=ISO-8859-1", requestWrapper.getContentType());
+        assertEquals(StandardCharsets.ISO_8859_1, requestWrapper.getCharacterEncoding());
+    }
+
+    @Test
+    public void httpParameters() {
+        DefaultFullHttpRequest httpRequest =
+                new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/path?a=1&b=2&a=3", new EmptyByteBuf(UnpooledByteBufAllocator.DEFAULT));
+        NettyHttpRequest requestWrapper = new NettyHttpRequest(null, null, httpRequest, "sessionId");
+        assertEquals("1", requestWrapper.getParameter("a"));
+        assertEquals(Arrays.asList("1", "3"), requestWrapper.getParametersValues("a"));
+        assertTrue(requestWrapper.getParametersValues("c").isEmpty());
+        assertNull(requestWrapper.getParameter("c"));
+        assertEquals(3, requestWrapper.getParameters().size());
+    }
+
+    @Test
+    public void zeroCopyBodyIsRetainedUntilReleased() {
+        final ByteBuf content = PooledByteBufAllocator.DEFAULT.directBuffer().writeBytes(new byte[]{1, 2, 3, 4});
+        DefaultFullHttpRequest httpRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/path", content);
+        NettyHttpRequest requestWrapper = new NettyHttpRequest(null, null, httpRequest, "sessionId", true);
+        assertEquals(2, content.refCnt());
+        httpRequest.release(); // As the handler does once the request has been dispatched
+        assertEquals(1, content.refCnt());
+        final ByteBuffer body = requestWrapper.getByteBufferBody();
+        assertEquals(4, body.remaining());
+        assertEquals(3, body.get(2));
+        requestWrapper.release();
+        assertEquals(0, content.refCnt());
+        requestWrapper.release(); // Idempotent
+        assertEquals(0, content.refCnt());
+    }
+
+    @Test
+    public void copiedBodyOutlivesRequest() {
+        final ByteBuf content = PooledByteBufAllocator.DEFAULT.directBuffer().writeBytes(new byte[]{1, 2, 3, 4});
+        DefaultFullHttpRequest httpRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/path", content);
+        NettyHttpRequest requestWrapper = new NettyHttpRequest(null, null, httpRequest, "sessionId", false);
+        assertEquals(1, content.refCnt());
+        httpRequest.release();
+        assertEquals(0, content.refCnt());
+        final ByteBuffer body = requestWrapper.getByteBufferBody();
+        assertEquals(4, body.remaining());
+        assertEquals(3, body.get(2));
+        requestWrapper.release();
+    }
+}
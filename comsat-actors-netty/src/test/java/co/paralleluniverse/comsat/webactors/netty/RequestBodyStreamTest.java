@@ -0,0 +1,243 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.comsat.webactors.netty;
+
+import co.paralleluniverse.actors.ActorRef;
+import co.paralleluniverse.actors.BasicActor;
+import co.paralleluniverse.comsat.webactors.HttpRequest;
+import co.paralleluniverse.comsat.webactors.HttpRequestChunk;
+import co.paralleluniverse.comsat.webactors.HttpResponse;
+import co.paralleluniverse.comsat.webactors.WebMessage;
+import co.paralleluniverse.fibers.SuspendExecution;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Streaming of request bodies in chunks, and its flow control, through embedded channels without aggregation.
+ */
+public class RequestBodyStreamTest {
+    private static final long TIMEOUT_MS = 10_000;
+    private static final String REPLY = "reply";
+
+    /**
+     * Receives the whole body without consuming it, then consumes it and waits for {@link #REPLY} before replying with
+     * a checksum of the body.
+     */
+    static final class StreamingActor extends BasicActor<Object, Void> {
+        @Override
+        protected Void doRun() throws InterruptedException, SuspendExecution {
+            for (;;) {
+                final HttpRequest req = (HttpRequest) receive();
+                final List<HttpRequestChunk> chunks = new ArrayList<>();
+                long sum = 0;
+                int length = 0;
+                if (req.isBodyStreamed()) {
+                    HttpRequestChunk c;
+                    do {
+                        c = (HttpRequestChunk) receive();
+                        chunks.add(c);
+                        final ByteBuffer b = c.getByteBufferBody();
+                        length += b.remaining();
+                        while (b.hasRemaining())
+                            sum = sum * 31 + b.get();
+                    } while (!c.isLast());
+                }
+                for (final HttpRequestChunk c : chunks) {
+                    c.consumed();
+                    c.consumed(); // Idempotent
+                }
+                while (!REPLY.equals(receive())) {
+                }
+                req.getFrom().send(HttpResponse.ok(self(), req, length + "," + chunks.size() + "," + sum).build());
+            }
+        }
+    }
+
+    @Test
+    public void testChunkedBodyWithFlowControl() throws Exception {
+        final ActorRef<Object> actor = new StreamingActor().spawn();
+        final EmbeddedChannel ch = newChannel(actor);
+
+        final DefaultHttpRequest head = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/upload");
+        HttpHeaders.setTransferEncodingChunked(head);
+        ch.writeInbound(head);
+
+        long sum = 0;
+        for (int i = 0; i < WebActorHandler.requestBodyChunksWindow; i++) {
+            final byte[] data = chunk(i, 100);
+            for (final byte b : data)
+                sum = sum * 31 + b;
+            ch.writeInbound(new DefaultHttpContent(Unpooled.wrappedBuffer(data)));
+        }
+        assertFalse("Reading should stop while a window of chunks awaits consumption", ch.config().isAutoRead());
+
+        final byte[] last = chunk(WebActorHandler.requestBodyChunksWindow, 50);
+        for (final byte b : last)
+            sum = sum * 31 + b;
+        ch.writeInbound(new DefaultLastHttpContent(Unpooled.wrappedBuffer(last)));
+
+        // Reading resumes once the chunks have been consumed, even before the reply
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!ch.config().isAutoRead() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+            ch.runPendingTasks();
+        }
+        assertTrue(ch.config().isAutoRead());
+
+        actor.send(REPLY);
+        final int n = WebActorHandler.requestBodyChunksWindow;
+        assertEquals((n * 100 + 50) + "," + (n + 1) + "," + sum, body(awaitResponse(ch)));
+    }
+
+    @Test
+    public void testChunksAfterReplyAreDiscarded() throws Exception {
+        final ActorRef<Object> actor = new BasicActor<Object, Void>() {
+            @Override
+            protected Void doRun() throws InterruptedException, SuspendExecution {
+                for (;;) {
+                    final HttpRequest req = (HttpRequest) receive();
+                    req.getFrom().send(HttpResponse.ok(self(), req, "early").build());
+                    Object m;
+                    while ((m = receive()) instanceof HttpRequestChunk) {
+                    }
+                }
+            }
+        }.spawn();
+        final EmbeddedChannel ch = newChannel(actor);
+
+        final DefaultHttpRequest head = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/upload");
+        HttpHeaders.setTransferEncodingChunked(head);
+        ch.writeInbound(head);
+        assertEquals("early", body(awaitResponse(ch)));
+        for (int i = 0; i < 2 * WebActorHandler.requestBodyChunksWindow; i++)
+            ch.writeInbound(new DefaultHttpContent(Unpooled.wrappedBuffer(chunk(i, 10))));
+        ch.writeInbound(new DefaultLastHttpContent());
+        ch.runPendingTasks();
+        assertTrue("An abandoned body mustn't stop reading", ch.config().isAutoRead());
+    }
+
+    @Test
+    public void testBodyCutShortEndsWithError() throws Exception {
+        final BlockingQueue<HttpRequestChunk> last = new LinkedBlockingQueue<>();
+        final ActorRef<Object> actor = new BasicActor<Object, Void>() {
+            @Override
+            protected Void doRun() throws InterruptedException, SuspendExecution {
+                for (;;) {
+                    final HttpRequest req = (HttpRequest) receive();
+                    HttpRequestChunk c;
+                    do {
+                        c = (HttpRequestChunk) receive();
+                        c.consumed();
+                    } while (!c.isLast());
+                    last.add(c);
+                }
+            }
+        }.spawn();
+        final EmbeddedChannel ch = newChannel(actor);
+
+        final DefaultHttpRequest head = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/upload");
+        HttpHeaders.setTransferEncodingChunked(head);
+        ch.writeInbound(head);
+        ch.writeInbound(new DefaultHttpContent(Unpooled.wrappedBuffer(chunk(0, 10))));
+        ch.close();
+
+        final HttpRequestChunk c = last.poll(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        assertNotNull("The body hasn't ended", c);
+        assertEquals(0, c.getByteBufferBody().remaining());
+        assertTrue(String.valueOf(c.getError()), c.getError() instanceof ClosedChannelException);
+    }
+
+    private static EmbeddedChannel newChannel(final ActorRef<Object> actor) {
+        final WebActorHandler.Context ctx = new WebActorHandler.DefaultContextImpl() {
+            @Override
+            public String getId() {
+                return "CONSTANT";
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public ActorRef<? extends WebMessage> getWebActor() {
+                return (ActorRef<? extends WebMessage>) (ActorRef) actor;
+            }
+
+            @Override
+            public void restart(FullHttpRequest r) {
+            }
+
+            @Override
+            public boolean handlesWithWebSocket(String uri) {
+                return false;
+            }
+
+            @Override
+            public boolean handlesWithHttp(String uri) {
+                return true;
+            }
+
+            @Override
+            public WatchPolicy watch() {
+                return WatchPolicy.DIE;
+            }
+        };
+        return new EmbeddedChannel(new WebActorHandler(new WebActorHandler.WebActorContextProvider() {
+            @Override
+            public WebActorHandler.Context get(FullHttpRequest req) {
+                return ctx;
+            }
+        }));
+    }
+
+    private static byte[] chunk(int i, int size) {
+        final byte[] bs = new byte[size];
+        for (int j = 0; j < size; j++)
+            bs[j] = (byte) (i * 7 + j);
+        return bs;
+    }
+
+    private static FullHttpResponse awaitResponse(EmbeddedChannel ch) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        Object o;
+        while ((o = ch.readOutbound()) == null && System.currentTimeMillis() < deadline)
+            Thread.sleep(5);
+        assertNotNull("No response", o);
+        return (FullHttpResponse) o;
+    }
+
+    private static String body(FullHttpResponse r) {
+        return r.content().toString(StandardCharsets.UTF_8);
+    }
+}
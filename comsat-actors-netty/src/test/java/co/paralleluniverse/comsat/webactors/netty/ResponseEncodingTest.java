@@ -0,0 +1,131 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.comsat.webactors.netty;
+
+import co.paralleluniverse.actors.ActorRef;
+import co.paralleluniverse.actors.BasicActor;
+import co.paralleluniverse.comsat.webactors.HttpRequest;
+import co.paralleluniverse.comsat.webactors.HttpResponse;
+import co.paralleluniverse.comsat.webactors.WebMessage;
+import co.paralleluniverse.fibers.SuspendExecution;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import org.junit.Test;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Encoding of string response bodies.
+ */
+public class ResponseEncodingTest {
+    private static final String BODY = "caf\u00e9 \u2713 \ud83d\ude00";
+
+    @Test
+    public void testEncode() {
+        for (final Charset cs : new Charset[]{StandardCharsets.UTF_8, StandardCharsets.US_ASCII, StandardCharsets.ISO_8859_1, StandardCharsets.UTF_16})
+            assertEncoded(BODY, cs, cs);
+        assertEncoded(BODY, null, Charset.defaultCharset());
+        assertEncoded("", StandardCharsets.UTF_8, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testResponseCharsetAndLength() throws Exception {
+        final ActorRef<WebMessage> actor = new BasicActor<WebMessage, Void>() {
+            @Override
+            protected Void doRun() throws InterruptedException, SuspendExecution {
+                for (;;) {
+                    final HttpRequest req = (HttpRequest) receive();
+                    req.getFrom().send(HttpResponse.ok(self(), req, BODY).setContentType("text/plain").setCharacterEncoding(StandardCharsets.UTF_16BE).build());
+                }
+            }
+        }.spawn();
+        final EmbeddedChannel ch = new EmbeddedChannel(new WebActorHandler(new WebActorHandler.WebActorContextProvider() {
+            private final WebActorHandler.Context ctx = new WebActorHandler.DefaultContextImpl() {
+                @Override
+                public String getId() {
+                    return "CONSTANT";
+                }
+
+                @Override
+                public ActorRef<? extends WebMessage> getWebActor() {
+                    return actor;
+                }
+
+                @Override
+                public void restart(FullHttpRequest r) {
+                }
+
+                @Override
+                public boolean handlesWithWebSocket(String uri) {
+                    return false;
+                }
+
+                @Override
+                public boolean handlesWithHttp(String uri) {
+                    return true;
+                }
+
+                @Override
+                public WatchPolicy watch() {
+                    return WatchPolicy.DIE;
+                }
+            };
+
+            @Override
+            public WebActorHandler.Context get(FullHttpRequest req) {
+                return ctx;
+            }
+        }));
+        ch.writeInbound(new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/"));
+
+        final long deadline = System.currentTimeMillis() + 10_000;
+        Object o;
+        while ((o = ch.readOutbound()) == null && System.currentTimeMillis() < deadline)
+            Thread.sleep(5);
+        assertNotNull("No response", o);
+        final FullHttpResponse res = (FullHttpResponse) o;
+        final byte[] expected = BODY.getBytes(StandardCharsets.UTF_16BE);
+        assertEquals("text/plain; charset=UTF-16BE", res.headers().get(HttpHeaders.Names.CONTENT_TYPE));
+        assertEquals(Integer.toString(expected.length), res.headers().get(HttpHeaders.Names.CONTENT_LENGTH));
+        assertArrayEquals(expected, bytes(res.content()));
+        res.release();
+    }
+
+    private static void assertEncoded(String s, Charset requested, Charset expected) {
+        final ByteBuf buf = WebActorHandler.encode(PooledByteBufAllocator.DEFAULT, s, requested);
+        try {
+            assertArrayEquals(String.valueOf(requested), s.getBytes(expected), bytes(buf));
+        } finally {
+            buf.release();
+        }
+    }
+
+    private static byte[] bytes(ByteBuf buf) {
+        final byte[] bs = new byte[buf.readableBytes()];
+        buf.getBytes(buf.readerIndex(), bs);
+        return bs;
+    }
+}
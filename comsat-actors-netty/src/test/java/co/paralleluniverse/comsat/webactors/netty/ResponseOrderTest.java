@@ -0,0 +1,216 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.comsat.webactors.netty;
+
+import co.paralleluniverse.actors.ActorRef;
+import co.paralleluniverse.actors.BasicActor;
+import co.paralleluniverse.comsat.webactors.HttpRequest;
+import co.paralleluniverse.comsat.webactors.HttpResponse;
+import co.paralleluniverse.comsat.webactors.WebMessage;
+import co.paralleluniverse.fibers.SuspendExecution;
+import co.paralleluniverse.strands.concurrent.CountDownLatch;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The order of the responses written to a channel, and the gating of the requests of a session, through embedded
+ * channels.
+ */
+public class ResponseOrderTest {
+    private static final long TIMEOUT_MS = 10_000;
+
+    /**
+     * Replies with the request's path; "/hold" waits for {@link #release}, "/dup" replies twice, the second time
+     * after it has received the next request.
+     */
+    static final class TestActor extends BasicActor<WebMessage, Void> {
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        protected Void doRun() throws InterruptedException, SuspendExecution {
+            HttpRequest next = null;
+            for (;;) {
+                final HttpRequest req = next != null ? next : (HttpRequest) receive();
+                next = null;
+                final String path = req.getRequestURI();
+                if (path.equals("/hold"))
+                    release.await();
+                reply(req);
+                if (path.equals("/dup")) {
+                    next = (HttpRequest) receive(); // Only delivered once the first reply has opened the gate
+                    reply(req);
+                }
+            }
+        }
+
+        private void reply(HttpRequest req) throws SuspendExecution {
+            req.getFrom().send(HttpResponse.ok(self(), req, req.getRequestURI()).build());
+        }
+    }
+
+    @Test
+    public void testWriteOrder() {
+        final WebActorHandler.ResponseOrder order = new WebActorHandler.ResponseOrder();
+        final List<Long> written = new ArrayList<>();
+        final long s0 = order.next(), s1 = order.next(), s2 = order.next();
+        order.write(s2, add(written, s2));
+        order.write(s1, new Runnable() {
+            @Override
+            public void run() {
+                throw new RuntimeException("test"); // Must not hold up the next ones
+            }
+        });
+        assertTrue(written.isEmpty());
+        order.write(s0, add(written, s0));
+        assertEquals(Arrays.asList(s0, s2), written);
+        final long s3 = order.next();
+        order.write(s3, add(written, s3));
+        assertEquals(Arrays.asList(s0, s2, s3), written);
+    }
+
+    @Test
+    public void testResponsesFollowRequestOrderOnAChannel() throws Exception {
+        final TestActor slow = new TestActor();
+        final TestActor fast = new TestActor();
+        final ActorRef<WebMessage> slowRef = slow.spawn();
+        final ActorRef<WebMessage> fastRef = fast.spawn();
+        final WebActorHandler.Context slowCtx = context(slowRef), fastCtx = context(fastRef);
+        final EmbeddedChannel ch = new EmbeddedChannel(new WebActorHandler(new WebActorHandler.WebActorContextProvider() {
+            @Override
+            public WebActorHandler.Context get(FullHttpRequest req) {
+                return req.getUri().equals("/hold") ? slowCtx : fastCtx;
+            }
+        }));
+
+        ch.writeInbound(get("/hold"));
+        ch.writeInbound(get("/fast"));
+        Thread.sleep(200);
+        assertNull(ch.readOutbound()); // The reply to "/fast" waits for the one to "/hold"
+        slow.release.countDown();
+        assertEquals("/hold", body(awaitResponse(ch)));
+        assertEquals("/fast", body(awaitResponse(ch)));
+    }
+
+    @Test
+    public void testLateReplyDoesNotOpenTheGate() throws Exception {
+        final TestActor actor = new TestActor();
+        final WebActorHandler.Context ctx = context(actor.spawn());
+        final WebActorHandler.WebActorContextProvider provider = new WebActorHandler.WebActorContextProvider() {
+            @Override
+            public WebActorHandler.Context get(FullHttpRequest req) {
+                return ctx;
+            }
+        };
+        final EmbeddedChannel ch1 = new EmbeddedChannel(new WebActorHandler(provider));
+        final EmbeddedChannel ch2 = new EmbeddedChannel(new WebActorHandler(provider));
+        final EmbeddedChannel ch3 = new EmbeddedChannel(new WebActorHandler(provider));
+
+        assertEquals("/dup", body(request(ch1, "/dup")));
+        ch2.writeInbound(get("/hold")); // Received by the actor before it sends the duplicate reply to "/dup"
+
+        final Thread third = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                ch3.writeInbound(get("/next")); // Blocks until "/hold" has been replied to
+            }
+        });
+        third.start();
+        third.join(300);
+        assertTrue("The duplicate reply has let a request through while another one was in progress", third.isAlive());
+
+        actor.release.countDown();
+        assertEquals("/hold", body(awaitResponse(ch2)));
+        third.join(TIMEOUT_MS);
+        assertEquals("/next", body(awaitResponse(ch3)));
+    }
+
+    private static Runnable add(final List<Long> l, final long seq) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                l.add(seq);
+            }
+        };
+    }
+
+    private static WebActorHandler.Context context(final ActorRef<WebMessage> actor) {
+        return new WebActorHandler.DefaultContextImpl() {
+            @Override
+            public String getId() {
+                return "CONSTANT";
+            }
+
+            @Override
+            public ActorRef<? extends WebMessage> getWebActor() {
+                return actor;
+            }
+
+            @Override
+            public void restart(FullHttpRequest r) {
+            }
+
+            @Override
+            public boolean handlesWithWebSocket(String uri) {
+                return false;
+            }
+
+            @Override
+            public boolean handlesWithHttp(String uri) {
+                return true;
+            }
+
+            @Override
+            public WatchPolicy watch() {
+                return WatchPolicy.DIE;
+            }
+        };
+    }
+
+    private static DefaultFullHttpRequest get(String uri) {
+        return new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri);
+    }
+
+    private static FullHttpResponse request(EmbeddedChannel ch, String uri) throws InterruptedException {
+        ch.writeInbound(get(uri));
+        return awaitResponse(ch);
+    }
+
+    private static FullHttpResponse awaitResponse(EmbeddedChannel ch) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        Object o;
+        while ((o = ch.readOutbound()) == null && System.currentTimeMillis() < deadline)
+            Thread.sleep(5);
+        assertNotNull("No response", o);
+        return (FullHttpResponse) o;
+    }
+
+    private static String body(FullHttpResponse r) {
+        return r.content().toString(StandardCharsets.UTF_8);
+    }
+}
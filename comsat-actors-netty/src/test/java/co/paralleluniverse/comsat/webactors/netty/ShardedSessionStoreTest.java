@@ -0,0 +1,162 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.comsat.webactors.netty;
+
+import co.paralleluniverse.actors.ActorRef;
+import co.paralleluniverse.comsat.webactors.WebMessage;
+import co.paralleluniverse.fibers.SuspendExecution;
+import io.netty.handler.codec.http.FullHttpRequest;
+import org.junit.Test;
+
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Storage, expiry and eviction of sessions.
+ */
+public class ShardedSessionStoreTest {
+    private static final long TIMEOUT_MS = 10_000;
+
+    private static final Executor SAME_THREAD = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
+    static final class TestContext extends WebActorHandler.DefaultContextImpl {
+        volatile boolean invalidated;
+
+        TestContext(long validityMS) {
+            setValidityMS(validityMS);
+        }
+
+        @Override
+        public void invalidate() throws SuspendExecution, InterruptedException {
+            invalidated = true;
+            super.invalidate();
+        }
+
+        @Override
+        public String getId() {
+            return "CONSTANT";
+        }
+
+        @Override
+        public ActorRef<? extends WebMessage> getWebActor() {
+            return null;
+        }
+
+        @Override
+        public void restart(FullHttpRequest r) {
+        }
+
+        @Override
+        public boolean handlesWithWebSocket(String uri) {
+            return false;
+        }
+
+        @Override
+        public boolean handlesWithHttp(String uri) {
+            return true;
+        }
+
+        @Override
+        public WatchPolicy watch() {
+            return WatchPolicy.DIE;
+        }
+    }
+
+    @Test
+    public void testStoringTheSameContextAgainIsNotCounted() {
+        final ShardedSessionStore store = new ShardedSessionStore(4, SAME_THREAD);
+        final TestContext ctx = new TestContext(60_000);
+        for (int i = 0; i < 100; i++)
+            store.put("s", ctx); // As on every reply with trackSession=always
+        assertEquals(1, store.getCreatedCount());
+        assertEquals(1, store.size());
+        assertSame(ctx, store.get("s"));
+
+        final TestContext other = new TestContext(60_000);
+        store.put("s", other);
+        assertEquals(2, store.getCreatedCount());
+        assertEquals(1, store.size());
+        assertSame(other, store.get("s"));
+    }
+
+    @Test
+    public void testExpiredSessionIsEvictedAndInvalidated() throws InterruptedException {
+        final ShardedSessionStore store = new ShardedSessionStore(4, SAME_THREAD);
+        final TestContext ctx = new TestContext(500);
+        store.put("s", ctx);
+        store.put("s", ctx);
+        awaitEviction(store, "s", ctx);
+        assertEquals(1, store.getExpiredCount());
+        assertEquals(0, store.getRemovedCount());
+    }
+
+    @Test
+    public void testRenewedSessionIsKept() throws InterruptedException {
+        final ShardedSessionStore store = new ShardedSessionStore(4, SAME_THREAD);
+        final TestContext ctx = new TestContext(1_000);
+        store.put("s", ctx);
+        for (int i = 0; i < 12; i++) {
+            Thread.sleep(250);
+            assertTrue(ctx.renew());
+            store.put("s", ctx);
+        }
+        assertSame("A session renewed within its validity has been evicted", ctx, store.get("s"));
+        assertFalse(ctx.invalidated);
+
+        awaitEviction(store, "s", ctx);
+        assertEquals(1, store.getCreatedCount());
+        assertEquals(1, store.getExpiredCount());
+    }
+
+    @Test
+    public void testRemovedAndClearedSessionsAreNotInvalidated() throws InterruptedException {
+        final ShardedSessionStore store = new ShardedSessionStore(2, SAME_THREAD);
+        final TestContext removed = new TestContext(500);
+        final TestContext[] cleared = new TestContext[10];
+        store.put("removed", removed);
+        for (int i = 0; i < cleared.length; i++)
+            store.put("cleared-" + i, cleared[i] = new TestContext(500));
+
+        assertSame(removed, store.remove("removed"));
+        assertNull(store.remove("removed"));
+        store.clear();
+        assertEquals(0, store.size());
+        assertEquals(1 + cleared.length, store.getRemovedCount());
+
+        Thread.sleep(2_500); // Past the expiry of all of them
+        assertEquals(0, store.getExpiredCount());
+        assertFalse(removed.invalidated);
+        for (final TestContext c : cleared)
+            assertFalse(c.invalidated);
+    }
+
+    private static void awaitEviction(ShardedSessionStore store, String sessionId, TestContext ctx) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while ((store.get(sessionId) != null || !ctx.invalidated) && System.currentTimeMillis() < deadline)
+            Thread.sleep(50);
+        assertNull("The session hasn't been evicted", store.get(sessionId));
+        assertEquals(0, store.size());
+        assertTrue("The evicted session hasn't been invalidated", ctx.invalidated);
+    }
+}
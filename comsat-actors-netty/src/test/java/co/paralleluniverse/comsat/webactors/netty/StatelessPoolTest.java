@@ -0,0 +1,128 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.comsat.webactors.netty;
+
+import co.paralleluniverse.actors.BasicActor;
+import co.paralleluniverse.comsat.webactors.HttpRequest;
+import co.paralleluniverse.comsat.webactors.HttpResponse;
+import co.paralleluniverse.comsat.webactors.WebActor;
+import co.paralleluniverse.comsat.webactors.WebMessage;
+import co.paralleluniverse.fibers.SuspendExecution;
+import co.paralleluniverse.strands.concurrent.CountDownLatch;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Session-less requests served by {@link AutoWebActorHandler}'s stateless pools, through embedded channels.
+ */
+public class StatelessPoolTest {
+    private static final long TIMEOUT_MS = 10_000;
+
+    @WebActor(httpUrlPatterns = {"/stateless-pool"}, statelessPoolSize = 1)
+    public static final class PooledActor extends BasicActor<WebMessage, Void> {
+        static volatile CountDownLatch hold;
+
+        @Override
+        protected Void doRun() throws InterruptedException, SuspendExecution {
+            for (;;) {
+                final HttpRequest req = (HttpRequest) receive();
+                final CountDownLatch l = hold;
+                if (req.getParameter("hold") != null && l != null)
+                    l.await();
+                req.getFrom().send(HttpResponse.ok(self(), req, System.identityHashCode(this) + "," + ((NettyHttpRequest) req).getSessionId()).build());
+            }
+        }
+    }
+
+    @Test
+    public void testPooledActorIsReusedWithoutSession() throws Exception {
+        final EmbeddedChannel ch1 = newChannel();
+        final EmbeddedChannel ch2 = newChannel();
+
+        final FullHttpResponse r1 = request(ch1, "/stateless-pool");
+        final FullHttpResponse r2 = request(ch2, "/stateless-pool?x=1");
+        assertEquals(HttpResponseStatus.OK, r1.getStatus());
+        assertEquals(HttpResponseStatus.OK, r2.getStatus());
+        final String[] b1 = body(r1).split(",");
+        final String[] b2 = body(r2).split(",");
+        assertEquals(b1[0], b2[0]); // Same pooled actor for different channels
+        assertEquals("null", b1[1]); // No session
+        assertEquals("null", b2[1]);
+        assertFalse(r1.headers().contains(HttpHeaders.Names.SET_COOKIE));
+        assertFalse(r2.headers().contains(HttpHeaders.Names.SET_COOKIE));
+        assertEquals(0, WebActorHandler.getSessionStore().size());
+    }
+
+    @Test
+    public void testBusyPooledActorFallsBackToNewActor() throws Exception {
+        final EmbeddedChannel ch1 = newChannel();
+        final EmbeddedChannel ch2 = newChannel();
+        final String pooled = body(request(newChannel(), "/stateless-pool")).split(",")[0];
+        PooledActor.hold = new CountDownLatch(1);
+        try {
+            ch1.writeInbound(get("/stateless-pool?hold=1"));
+            // The member is busy and the pool is full: the second client gets an actor of its own
+            final FullHttpResponse r2 = request(ch2, "/stateless-pool");
+            assertEquals(HttpResponseStatus.OK, r2.getStatus());
+            assertNotEquals(pooled, body(r2).split(",")[0]);
+            assertNull(ch1.readOutbound());
+        } finally {
+            PooledActor.hold.countDown();
+        }
+        final FullHttpResponse r1 = awaitResponse(ch1);
+        assertEquals(HttpResponseStatus.OK, r1.getStatus());
+        assertEquals(pooled, body(r1).split(",")[0]);
+        assertEquals(pooled, body(request(newChannel(), "/stateless-pool")).split(",")[0]);
+    }
+
+    private static EmbeddedChannel newChannel() {
+        return new EmbeddedChannel(new AutoWebActorHandler(null, new AutoWebActorHandler.AutoContextProvider(null, null, null)));
+    }
+
+    private static DefaultFullHttpRequest get(String uri) {
+        return new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri);
+    }
+
+    private static FullHttpResponse request(EmbeddedChannel ch, String uri) throws InterruptedException {
+        ch.writeInbound(get(uri));
+        return awaitResponse(ch);
+    }
+
+    private static FullHttpResponse awaitResponse(EmbeddedChannel ch) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        Object o;
+        while ((o = ch.readOutbound()) == null && System.currentTimeMillis() < deadline)
+            Thread.sleep(5);
+        assertNotNull("No response", o);
+        return (FullHttpResponse) o;
+    }
+
+    private static String body(FullHttpResponse r) {
+        return r.content().toString(StandardCharsets.UTF_8);
+    }
+}
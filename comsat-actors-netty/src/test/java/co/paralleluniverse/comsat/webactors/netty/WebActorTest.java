@@ -124,7 +124,7 @@ public class WebActorTest extends AbstractWebActorTest {
     @Before
     public void setUp() throws InterruptedException, IOException {
         System.out.println("Clearing sessions");
-        WebActorHandler.sessions.clear();
+        WebActorHandler.getSessionStore().clear();
 
         group = new NioEventLoopGroup();
         final ServerBootstrap b = new ServerBootstrap();
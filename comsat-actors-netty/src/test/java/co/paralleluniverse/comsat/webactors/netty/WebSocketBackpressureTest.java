@@ -0,0 +1,195 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.comsat.webactors.netty;
+
+import co.paralleluniverse.actors.ActorRef;
+import co.paralleluniverse.actors.BasicActor;
+import co.paralleluniverse.comsat.webactors.WebDataMessage;
+import co.paralleluniverse.comsat.webactors.WebMessage;
+import co.paralleluniverse.comsat.webactors.WebSocketOpened;
+import co.paralleluniverse.fibers.SuspendExecution;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpServerCodec;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * WebSocket sends to a client that stops reading, over a real connection.
+ */
+public class WebSocketBackpressureTest {
+    private static final int FRAMES = 20_000;
+    private static final int FRAME_SIZE = 1024;
+
+    /**
+     * Sends {@link #FRAMES} numbered binary frames as soon as the WebSocket is open.
+     */
+    static final class FloodingActor extends BasicActor<WebMessage, Void> {
+        final AtomicInteger sent = new AtomicInteger();
+
+        @Override
+        protected Void doRun() throws InterruptedException, SuspendExecution {
+            final ActorRef<WebDataMessage> ws = ((WebSocketOpened) receive()).getFrom();
+            for (int i = 0; i < FRAMES; i++) {
+                final ByteBuffer b = ByteBuffer.allocate(FRAME_SIZE);
+                b.putInt(0, i);
+                ws.send(new WebDataMessage(self(), b));
+                sent.incrementAndGet();
+            }
+            return null;
+        }
+    }
+
+    private NioEventLoopGroup group;
+    private Channel server;
+    private FloodingActor actor;
+
+    @Before
+    public void setUp() throws InterruptedException {
+        actor = new FloodingActor();
+        final ActorRef<WebMessage> ref = actor.spawn();
+        final WebActorHandler.Context ctx = new WebActorHandler.DefaultContextImpl() {
+            @Override
+            public String getId() {
+                return "CONSTANT";
+            }
+
+            @Override
+            public ActorRef<? extends WebMessage> getWebActor() {
+                return ref;
+            }
+
+            @Override
+            public void restart(FullHttpRequest r) {
+            }
+
+            @Override
+            public boolean handlesWithWebSocket(String uri) {
+                return true;
+            }
+
+            @Override
+            public boolean handlesWithHttp(String uri) {
+                return false;
+            }
+
+            @Override
+            public WatchPolicy watch() {
+                return WatchPolicy.DIE;
+            }
+        };
+
+        group = new NioEventLoopGroup(1);
+        server = new ServerBootstrap().group(group)
+            .channel(NioServerSocketChannel.class)
+            .childOption(ChannelOption.SO_SNDBUF, 8 * 1024)
+            .childOption(ChannelOption.WRITE_BUFFER_HIGH_WATER_MARK, 32 * 1024)
+            .childOption(ChannelOption.WRITE_BUFFER_LOW_WATER_MARK, 8 * 1024)
+            .childHandler(new ChannelInitializer<SocketChannel>() {
+                @Override
+                public void initChannel(SocketChannel ch) {
+                    ch.pipeline().addLast(new HttpServerCodec());
+                    ch.pipeline().addLast(new HttpObjectAggregator(65536));
+                    ch.pipeline().addLast(new WebActorHandler(new WebActorHandler.WebActorContextProvider() {
+                        @Override
+                        public WebActorHandler.Context get(FullHttpRequest req) {
+                            return ctx;
+                        }
+                    }));
+                }
+            })
+            .bind("localhost", 0).sync().channel();
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        server.close().sync();
+        group.shutdownGracefully().sync();
+    }
+
+    @Test
+    public void testSenderBlocksWhileClientDoesNotRead() throws Exception {
+        try (final Socket s = new Socket()) {
+            s.setReceiveBufferSize(8 * 1024);
+            s.connect(new InetSocketAddress("localhost", ((InetSocketAddress) server.localAddress()).getPort()));
+            final OutputStream os = s.getOutputStream();
+            os.write(("GET /ws HTTP/1.1\r\n"
+                + "Host: localhost\r\n"
+                + "Upgrade: websocket\r\n"
+                + "Connection: Upgrade\r\n"
+                + "Sec-WebSocket-Key: dGhlIHNhbXBsZSBub25jZQ==\r\n"
+                + "Sec-WebSocket-Version: 13\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            os.flush();
+            final DataInputStream in = new DataInputStream(s.getInputStream());
+            assertTrue(readHead(in).startsWith("HTTP/1.1 101"));
+
+            // The client doesn't read: the sender must stall well short of the whole stream
+            int sent = -1;
+            for (int i = 0; i < 100 && (sent <= 0 || sent != actor.sent.get()); i++) {
+                sent = actor.sent.get();
+                Thread.sleep(200);
+            }
+            assertEquals("The sender didn't stall", sent, actor.sent.get());
+            assertTrue("Sent " + sent + " frames to a client that doesn't read", sent < FRAMES / 2);
+
+            // Once the client reads, everything arrives, in order
+            s.setSoTimeout(10_000);
+            for (int i = 0; i < FRAMES; i++)
+                assertEquals(i, readFramePayload(in).getInt(0));
+        }
+        actor.join(10, TimeUnit.SECONDS);
+        assertEquals(FRAMES, actor.sent.get());
+    }
+
+    private static String readHead(DataInputStream in) throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        while (sb.length() < 4 || !sb.substring(sb.length() - 4).equals("\r\n\r\n"))
+            sb.append((char) in.readUnsignedByte());
+        return sb.toString();
+    }
+
+    private static ByteBuffer readFramePayload(DataInputStream in) throws IOException {
+        assertEquals(0x82, in.readUnsignedByte()); // FIN, binary
+        long length = in.readUnsignedByte(); // Server frames aren't masked
+        if (length == 126)
+            length = in.readUnsignedShort();
+        else if (length == 127)
+            length = in.readLong();
+        assertEquals(FRAME_SIZE, length);
+        final byte[] payload = new byte[(int) length];
+        in.readFully(payload);
+        return ByteBuffer.wrap(payload);
+    }
+}
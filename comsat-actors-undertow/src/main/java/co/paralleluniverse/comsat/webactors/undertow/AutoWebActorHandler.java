@@ -18,6 +18,7 @@ import co.paralleluniverse.common.reflection.AnnotationUtil;
 import co.paralleluniverse.common.reflection.ClassLoaderUtil;
 import co.paralleluniverse.common.util.Pair;
 import co.paralleluniverse.comsat.webactors.WebActor;
+import co.paralleluniverse.comsat.webactors.WebActorRouter;
 import co.paralleluniverse.comsat.webactors.WebMessage;
 
 import io.undertow.UndertowLogger;
@@ -30,12 +31,19 @@ import java.io.InputStream;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * @author circlespainter
  */
 public final class AutoWebActorHandler extends WebActorHandler {
     private static final List<Class<?>> actorClasses = new ArrayList<>(4);
+    private static volatile WebActorRouter router;
+    private static boolean statelessActorClasses; // Whether any has a stateless pool; written before `router`
+    private static final ConcurrentMap<Class<?>, StatelessPool> pools = new ConcurrentHashMap<>(); // shared by all handlers
     private static final Object[] EMPTY_OBJECT_ARRAY = new Object[0];
 
     public AutoWebActorHandler() {
@@ -86,6 +94,15 @@ public final class AutoWebActorHandler extends WebActorHandler {
 
         @Override
         public final Context get(final HttpServerExchange xch) {
+            if (hasStatelessActorClasses(userClassLoader, packagePrefixes)) {
+                final Context sessionContext = existingSessionContext(xch);
+                if (sessionContext != null)
+                    return sessionContext;
+                final Context pooled = pooledContext(xch);
+                if (pooled != null)
+                    return pooled;
+            }
+
             Session session = null;
             Context actorContext = newContext(xch);
             if (actorContext != null) {
@@ -116,6 +133,97 @@ public final class AutoWebActorHandler extends WebActorHandler {
                 c.setValidityMS(defaultContextValidityMS);
             return c;
         }
+
+        private Context existingSessionContext(final HttpServerExchange xch) {
+            try {
+                final Session session = Sessions.getSession(xch);
+                if (session != null) {
+                    final Context sessionContext = (Context) session.getAttribute(ACTOR_KEY);
+                    if (sessionContext != null && sessionContext.renew())
+                        return sessionContext;
+                }
+            } catch (final IllegalStateException ignored) {
+            } // No session handler
+            return null;
+        }
+
+        private Context pooledContext(final HttpServerExchange xch) {
+            final WebActorRouter.Route r = router(userClassLoader, packagePrefixes).route(xch.getRequestURI());
+            if (r == null || r.isWebSocket()) // WebSocket adapters are bound to a connection, can't be shared
+                return null;
+            final Class<?> c = r.getActorClass();
+            StatelessPool p = pools.get(c);
+            if (p == null) {
+                final int size = statelessPoolSize(c);
+                if (size <= 0)
+                    return null;
+                p = new StatelessPool(c, actorParams != null ? actorParams.get(c) : EMPTY_OBJECT_ARRAY, size, defaultContextValidityMS);
+                final StatelessPool prev = pools.putIfAbsent(c, p);
+                if (prev != null)
+                    p = prev;
+            }
+            return p.get();
+        }
+    }
+
+    /**
+     * The contexts of the actors serving a single {@link WebActor} class in {@link WebActor#statelessPoolSize() stateless
+     * mode}. Members are spawned lazily: a request goes to the first idle member starting from a round-robin position,
+     * and a new member is spawned only if they're all busy, up to the maximum size. After that a request that finds no
+     * idle member gets a context of its own, as if the class weren't pooled. Expired members are replaced. Pooled
+     * contexts serve any client, so they're never bound to a session.
+     */
+    private static final class StatelessPool {
+        private final Class<?> actorClass;
+        private final Object[] actorParams;
+        private final Long contextValidityMS;
+        private final AtomicReferenceArray<AutoActorContext> members;
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicInteger next = new AtomicInteger();
+
+        StatelessPool(Class<?> actorClass, Object[] actorParams, int maxSize, Long contextValidityMS) {
+            this.actorClass = actorClass;
+            this.actorParams = actorParams;
+            this.contextValidityMS = contextValidityMS;
+            this.members = new AtomicReferenceArray<>(maxSize);
+        }
+
+        AutoActorContext get() {
+            final int n = size.get();
+            final int start = n > 0 ? (next.getAndIncrement() & Integer.MAX_VALUE) % n : 0;
+            for (int i = 0; i < n; i++) {
+                final AutoActorContext c = live((start + i) % n);
+                if (c != null && !isBusy(c))
+                    return c;
+            }
+            for (int s; (s = size.get()) < members.length(); ) {
+                if (size.compareAndSet(s, s + 1)) {
+                    final AutoActorContext c = newMember();
+                    members.set(s, c);
+                    return c;
+                }
+            }
+            return null; // All busy or still being spawned: serve the request without the pool
+        }
+
+        private AutoActorContext live(int i) {
+            final AutoActorContext c = members.get(i);
+            if (c == null || c.renew())
+                return c;
+            if (!members.compareAndSet(i, c, null))
+                return members.get(i); // Being replaced by another request
+            final AutoActorContext replacement = newMember();
+            members.set(i, replacement);
+            return replacement;
+        }
+
+        private AutoActorContext newMember() {
+            final AutoActorContext c = new AutoActorContext(actorClass, actorParams);
+            c.fillActor(null);
+            if (contextValidityMS != null)
+                c.setValidityMS(contextValidityMS);
+            return c;
+        }
     }
 
     private static final class AutoActorContext extends DefaultContextImpl {
@@ -124,6 +232,8 @@ public final class AutoWebActorHandler extends WebActorHandler {
         private final List<String> packagePrefixes;
         private final Map<Class<?>, Object[]> actorParams;
         private final ClassLoader userClassLoader;
+        private final Class<?> pooledClass;
+        private final Object[] pooledParams;
         private Class<? extends ActorImpl<? extends WebMessage>> actorClass;
         private ActorRef<? extends WebMessage> actorRef;
 
@@ -131,6 +241,16 @@ public final class AutoWebActorHandler extends WebActorHandler {
             this.packagePrefixes = packagePrefixes;
             this.actorParams = actorParams;
             this.userClassLoader = userClassLoader;
+            this.pooledClass = null;
+            this.pooledParams = null;
+        }
+
+        public AutoActorContext(Class<?> pooledClass, Object[] pooledParams) {
+            this.packagePrefixes = null;
+            this.actorParams = null;
+            this.userClassLoader = null;
+            this.pooledClass = pooledClass;
+            this.pooledParams = pooledParams;
         }
 
         /**
@@ -139,7 +259,8 @@ public final class AutoWebActorHandler extends WebActorHandler {
          * @return Whether or not an actor has been associated
          */
         private boolean fillActor(HttpServerExchange xch) {
-            final Pair<ActorRef<? extends WebMessage>, Class<? extends ActorImpl<? extends WebMessage>>> p = autoCreateActor(xch);
+            final Pair<ActorRef<? extends WebMessage>, Class<? extends ActorImpl<? extends WebMessage>>> p =
+                pooledClass != null ? spawn(pooledClass, pooledParams) : autoCreateActor(xch);
             if (p != null) {
                 actorRef = p.getFirst();
                 actorClass = p.getSecond();
@@ -153,6 +274,11 @@ public final class AutoWebActorHandler extends WebActorHandler {
             return id != null ? id : (id = UUID.randomUUID().toString());
         }
 
+        @Override
+        final boolean isShared() {
+            return pooledClass != null;
+        }
+
         @Override
         public final void restart(HttpServerExchange xch) {
             renewed = new Date().getTime();
@@ -179,60 +305,88 @@ public final class AutoWebActorHandler extends WebActorHandler {
             return WatchPolicy.DIE_IF_EXCEPTION_ELSE_RESTART;
         }
 
-        @SuppressWarnings("unchecked")
         private Pair<ActorRef<? extends WebMessage>, Class<? extends ActorImpl<? extends WebMessage>>> autoCreateActor(HttpServerExchange xch) {
-            registerActorClasses();
-            final String uri = xch.getRequestURI();
-            for (final Class<?> c : actorClasses) {
-                if (WebActorHandler.handlesWithHttp(uri, c) || WebActorHandler.handlesWithWebSocket(uri, c))
-                    return new Pair<ActorRef<? extends WebMessage>, Class<? extends ActorImpl<? extends WebMessage>>> (
-                        Actor.newActor (
-                            new ActorSpec(c, actorParams != null ? actorParams.get(c) : EMPTY_OBJECT_ARRAY)
-                        ).spawn(),
-                        (Class<? extends ActorImpl<? extends WebMessage>>) c
-                    );
+            final WebActorRouter.Route r = router(userClassLoader, packagePrefixes).route(xch.getRequestURI());
+            if (r != null) {
+                final Class<?> c = r.getActorClass();
+                return spawn(c, actorParams != null ? actorParams.get(c) : EMPTY_OBJECT_ARRAY);
             }
-
             return null;
         }
 
-        private synchronized void registerActorClasses() {
-            if (actorClasses.isEmpty()) {
-                try {
-                    final ClassLoader classLoader = userClassLoader != null ? userClassLoader : this.getClass().getClassLoader();
-                    ClassLoaderUtil.accept((URLClassLoader) classLoader, new ClassLoaderUtil.Visitor() {
-                        @Override
-                        public final void visit(String resource, URL url, ClassLoader cl) {
-                            if (packagePrefixes != null) {
-                                boolean found = false;
-                                for (final String packagePrefix : packagePrefixes) {
-                                    if (packagePrefix != null && resource.startsWith(packagePrefix.replace('.', '/'))) {
-                                        found = true;
-                                        break;
-                                    }
+        @SuppressWarnings("unchecked")
+        private static Pair<ActorRef<? extends WebMessage>, Class<? extends ActorImpl<? extends WebMessage>>> spawn(Class<?> c, Object[] params) {
+            return new Pair<ActorRef<? extends WebMessage>, Class<? extends ActorImpl<? extends WebMessage>>>(
+                Actor.newActor (
+                    new ActorSpec(c, params)
+                ).spawn(),
+                (Class<? extends ActorImpl<? extends WebMessage>>) c
+            );
+        }
+    }
+
+    private static WebActorRouter router(ClassLoader userClassLoader, List<String> packagePrefixes) {
+        WebActorRouter r = router;
+        if (r == null) {
+            synchronized (actorClasses) {
+                r = router;
+                if (r == null) {
+                    registerActorClasses(userClassLoader, packagePrefixes);
+                    for (final Class<?> c : actorClasses)
+                        statelessActorClasses |= statelessPoolSize(c) > 0;
+                    router = r = WebActorRouter.forClasses(actorClasses);
+                }
+            }
+        }
+        return r;
+    }
+
+    private static boolean hasStatelessActorClasses(ClassLoader userClassLoader, List<String> packagePrefixes) {
+        router(userClassLoader, packagePrefixes); // Scans the classes
+        return statelessActorClasses;
+    }
+
+    private static int statelessPoolSize(Class<?> actorClass) {
+        final WebActor a = actorClass.getAnnotation(WebActor.class);
+        return a != null ? a.statelessPoolSize() : 0;
+    }
+
+    private static void registerActorClasses(ClassLoader userClassLoader, final List<String> packagePrefixes) {
+        if (actorClasses.isEmpty()) {
+            try {
+                final ClassLoader classLoader = userClassLoader != null ? userClassLoader : AutoWebActorHandler.class.getClassLoader();
+                ClassLoaderUtil.accept((URLClassLoader) classLoader, new ClassLoaderUtil.Visitor() {
+                    @Override
+                    public final void visit(String resource, URL url, ClassLoader cl) {
+                        if (packagePrefixes != null) {
+                            boolean found = false;
+                            for (final String packagePrefix : packagePrefixes) {
+                                if (packagePrefix != null && resource.startsWith(packagePrefix.replace('.', '/'))) {
+                                    found = true;
+                                    break;
                                 }
-                                if (!found)
-                                    return;
                             }
-                            if (!ClassLoaderUtil.isClassFile(resource))
+                            if (!found)
                                 return;
-                            final String className = ClassLoaderUtil.resourceToClass(resource);
-                            try (final InputStream is = cl.getResourceAsStream(resource)) {
-                                if (AnnotationUtil.hasClassAnnotation(WebActor.class, is))
-                                    registerWebActor(cl.loadClass(className));
-                            } catch (final IOException | ClassNotFoundException e) {
-                                UndertowLogger.ROOT_LOGGER.error("Exception while scanning class " + className + " for WebActor annotation", e);
-                                throw new RuntimeException(e);
-                            }
                         }
-
-                        private void registerWebActor(Class<?> c) {
-                            actorClasses.add(c);
+                        if (!ClassLoaderUtil.isClassFile(resource))
+                            return;
+                        final String className = ClassLoaderUtil.resourceToClass(resource);
+                        try (final InputStream is = cl.getResourceAsStream(resource)) {
+                            if (AnnotationUtil.hasClassAnnotation(WebActor.class, is))
+                                registerWebActor(cl.loadClass(className));
+                        } catch (final IOException | ClassNotFoundException e) {
+                            UndertowLogger.ROOT_LOGGER.error("Exception while scanning class " + className + " for WebActor annotation", e);
+                            throw new RuntimeException(e);
                         }
-                    });
-                } catch (final IOException e) {
-                    UndertowLogger.ROOT_LOGGER.error("IOException while scanning classes for WebActor annotation", e);
-                }
+                    }
+
+                    private void registerWebActor(Class<?> c) {
+                        actorClasses.add(c);
+                    }
+                });
+            } catch (final IOException e) {
+                UndertowLogger.ROOT_LOGGER.error("IOException while scanning classes for WebActor annotation", e);
             }
         }
     }
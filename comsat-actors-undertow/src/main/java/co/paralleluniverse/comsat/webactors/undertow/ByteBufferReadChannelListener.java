@@ -0,0 +1,133 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+/*
+ * Adapted from Undertow's `io.undertow.util.StringReadChannelListener` class.
+ * JBoss, Home of Professional Open Source. Copyright (C) 2014 Red Hat, Inc., and individual contributors as indicated by the @author tags.
+ * Distributed under the Apache License Version 2.0.
+ */
+package co.paralleluniverse.comsat.webactors.undertow;
+
+import io.undertow.UndertowLogger;
+import io.undertow.connector.ByteBufferPool;
+import io.undertow.connector.PooledByteBuffer;
+import org.xnio.ChannelListener;
+import org.xnio.IoUtils;
+import org.xnio.channels.StreamSourceChannel;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * @author Stuart Douglas
+ * @author circlespainter
+ */
+public abstract class ByteBufferReadChannelListener implements ChannelListener<StreamSourceChannel> {
+    private static final int INITIAL_SIZE = 8192;
+    private static final int MAX_PRESIZE = 8 * 1024 * 1024; // Don't trust huge content lengths before seeing the bytes
+
+    private ByteBuffer body;
+    private ByteBufferPool bufferPool;
+
+    public ByteBufferReadChannelListener(final ByteBufferPool bufferPool) {
+        this(bufferPool, -1L);
+    }
+
+    /**
+     * @param contentLength The expected length of the body, if known, or {@code -1}; the body is read straight into a
+     *                      buffer of this size.
+     */
+    public ByteBufferReadChannelListener(final ByteBufferPool bufferPool, final long contentLength) {
+        this.bufferPool = bufferPool;
+        this.body = ByteBuffer.allocate(contentLength >= 0 ? (int) Math.min(contentLength, MAX_PRESIZE) : INITIAL_SIZE);
+    }
+
+    public final void setup(final StreamSourceChannel c) {
+        partialRead(c, true);
+    }
+
+    @Override
+    public final void handleEvent(final StreamSourceChannel c) {
+        partialRead(c, false);
+    }
+
+    /**
+     * Called with the whole body, a heap buffer ready to be read.
+     */
+    protected abstract void byteBufferDone(ByteBuffer body);
+
+    protected abstract void error(IOException e);
+
+    private void partialRead(StreamSourceChannel c, boolean setup) {
+        if (body == null || bufferPool == null) // Already dead by exception
+            return;
+
+        PooledByteBuffer r = null;
+        try {
+            int readCount;
+            do {
+                // Read straight into the body while it has room, else into a pooled buffer to find out if there's more
+                final ByteBuffer b;
+                if (body.hasRemaining())
+                    b = body;
+                else {
+                    if (r == null)
+                        r = bufferPool.allocate();
+                    b = r.getBuffer();
+                    b.clear();
+                }
+                readCount = c.read(b);
+                if (readCount == 0) {
+                    if (!setup)
+                        return;
+
+                    c.getReadSetter().set(this);
+                    c.resumeReads();
+                } else if (readCount == -1) {
+                    final ByteBuffer result = body;
+                    cleanup(c);
+                    result.flip();
+                    byteBufferDone(result);
+                } else if (b != body) {
+                    b.flip();
+                    grow(b.remaining());
+                    body.put(b);
+                }
+            } while (readCount > 0);
+        } catch (final IOException e) {
+            cleanup(c);
+            error(e);
+        } catch (final Throwable t) {
+            cleanup(c);
+            UndertowLogger.REQUEST_IO_LOGGER.error("Error in partial read", t);
+            throw new RuntimeException(t);
+        } finally {
+            if (r != null)
+                r.close();
+        }
+    }
+
+    private void grow(int needed) {
+        final ByteBuffer bigger = ByteBuffer.allocate(Math.max(body.capacity() * 2, body.position() + needed));
+        body.flip();
+        bigger.put(body);
+        body = bigger;
+    }
+
+    private void cleanup(StreamSourceChannel c) {
+        this.body = null;
+        this.bufferPool = null;
+        c.getReadSetter().set(null);
+        IoUtils.safeClose(c);
+    }
+}
@@ -17,6 +17,7 @@ import co.paralleluniverse.actors.ActorRef;
 import co.paralleluniverse.comsat.webactors.Cookie;
 import co.paralleluniverse.comsat.webactors.HttpRequest;
 import co.paralleluniverse.comsat.webactors.HttpResponse;
+import co.paralleluniverse.comsat.webactors.TimerWheel;
 import co.paralleluniverse.comsat.webactors.WebMessage;
 import com.google.common.collect.*;
 import io.undertow.server.HttpServerExchange;
@@ -33,6 +34,7 @@ import java.nio.charset.Charset;
 import java.nio.charset.CodingErrorAction;
 import java.nio.charset.UnsupportedCharsetException;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @author circlespainter
@@ -40,6 +42,9 @@ import java.util.*;
 public final class UndertowHttpRequest extends HttpRequest {
     final ActorRef<? super HttpResponse> actorRef;
     final HttpServerExchange xch;
+    final long correlationId = correlationIds.incrementAndGet();
+    volatile TimerWheel.Timeout replyTimeout;
+    WebActorHandler.RequestBodyStream bodyStream;
     private final ByteBuffer reqContent;
     private InetSocketAddress sourceAddress;
     private ImmutableMultimap<String, String> params;
@@ -51,12 +56,21 @@ public final class UndertowHttpRequest extends HttpRequest {
     private String contentType;
     private Charset encoding;
 
+    private static final AtomicLong correlationIds = new AtomicLong();
+
     public UndertowHttpRequest(ActorRef<? super HttpResponse> actorRef, HttpServerExchange xch, ByteBuffer reqContent) {
         this.actorRef = actorRef;
         this.xch = xch;
         this.reqContent = reqContent;
     }
 
+    /**
+     * The identifier the web actor backend uses to match this request with its response; unique within the JVM.
+     */
+    public final long getCorrelationId() {
+        return correlationId;
+    }
+
     public HttpServerExchange getServerExchange() {
         return xch;
     }
@@ -195,6 +209,11 @@ public final class UndertowHttpRequest extends HttpRequest {
         return cookies;
     }
 
+    @Override
+    public final boolean isBodyStreamed() {
+        return bodyStream != null;
+    }
+
     @Override
     public int getContentLength() {
         return (int) xch.getRequestContentLength();
@@ -14,7 +14,7 @@
 package co.paralleluniverse.comsat.webactors.undertow;
 
 import co.paralleluniverse.actors.*;
-import co.paralleluniverse.common.util.Pair;
+import co.paralleluniverse.common.util.SystemProperties;
 import co.paralleluniverse.comsat.webactors.*;
 import co.paralleluniverse.fibers.FiberUtil;
 import co.paralleluniverse.fibers.SuspendExecution;
@@ -26,6 +26,8 @@ import co.paralleluniverse.strands.concurrent.CountDownLatch;
 import co.paralleluniverse.strands.concurrent.ReentrantLock;
 import io.undertow.Handlers;
 import io.undertow.UndertowLogger;
+import io.undertow.connector.ByteBufferPool;
+import io.undertow.connector.PooledByteBuffer;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
 import io.undertow.server.handlers.CookieImpl;
@@ -36,13 +38,17 @@ import io.undertow.websockets.spi.WebSocketHttpExchange;
 import org.xnio.Buffers;
 import org.xnio.ChannelListener;
 import org.xnio.ChannelListeners;
+import org.xnio.IoUtils;
 import org.xnio.channels.StreamSinkChannel;
+import org.xnio.channels.StreamSourceChannel;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -55,6 +61,15 @@ public class WebActorHandler implements HttpHandler {
 
     protected static final ScheduledExecutorService ts = Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors());
 
+    protected static final String PIPELINE_REQUESTS_PROP = WebActorHandler.class.getName() + ".pipelineRequests";
+    protected static final boolean pipelineRequests = SystemProperties.isEmptyOrTrue(PIPELINE_REQUESTS_PROP);
+
+    protected static final String STREAM_REQUEST_BODIES_PROP = WebActorHandler.class.getName() + ".streamRequestBodies";
+    protected static final boolean streamRequestBodies = SystemProperties.isEmptyOrTrue(STREAM_REQUEST_BODIES_PROP);
+
+    protected static final String REQUEST_BODY_CHUNKS_WINDOW_PROP = WebActorHandler.class.getName() + ".requestBodyChunksWindow";
+    protected static final int requestBodyChunksWindow = Integer.getInteger(REQUEST_BODY_CHUNKS_WINDOW_PROP, 16);
+
     // @FunctionalInterface
     public interface ContextProvider {
         Context get(HttpServerExchange xch);
@@ -141,9 +156,15 @@ public class WebActorHandler implements HttpHandler {
         public final long getValidityMS() {
             return validityMS != null ? validityMS : DURATION;
         }
+
+        /**
+         * Whether the context serves requests from any client, in which case it must never be bound to a session.
+         */
+        boolean isShared() {
+            return false;
+        }
     }
 
-    static final WeakHashMap<Class<?>, List<Pair<String, String>>> classToUrlPatterns = new WeakHashMap<>();
 
     protected ContextProvider contextProvider;
     private HttpHandler fallbackHttpHandler = null;
@@ -230,7 +251,7 @@ public class WebActorHandler implements HttpHandler {
                     if (internalActor == null || !(internalActor instanceof HttpActorAdapter)) {
                         //noinspection unchecked
                         adapter = new HttpActorAdapter((ActorRef<? super HttpRequest>) userActorRef, context);
-                        addActorToContextAndUnlock(context, internalActor, lock);
+                        addActorToContextAndUnlock(context, adapter, lock);
                     } else {
                         adapter = (HttpActorAdapter) internalActor;
                     }
@@ -246,13 +267,30 @@ public class WebActorHandler implements HttpHandler {
 //                            new Fiber(new SuspendableRunnable() {
 //                                @Override
 //                                public void run() throws SuspendExecution, InterruptedException {
-                                    new ByteArrayReadChannelListener(xch.getConnection().getByteBufferPool()) {
+                                    if (streamRequestBodies && hasBody(xch)) {
+                                        final UndertowHttpRequest req = new UndertowHttpRequest(adapter.ref(), xch, null);
+                                        final RequestBodyStream body = req.bodyStream = new RequestBodyStream(xch.getRequestChannel(), req, xch.getConnection().getByteBufferPool());
+                                        try {
+                                            if (!adapter.handleRequest(req)) {
+                                                sendHttpResponse(xch, StatusCodes.SERVICE_UNAVAILABLE);
+                                                return;
+                                            }
+                                        } catch (final SuspendExecution e) {
+                                            throw new AssertionError(e);
+                                        } catch (final InterruptedException e) {
+                                            throw new RuntimeException(e);
+                                        }
+                                        body.start();
+                                        return;
+                                    }
+                                    new ByteBufferReadChannelListener(xch.getConnection().getByteBufferPool(), xch.getRequestContentLength()) {
                                         @Override
                                         @Suspendable
-                                        protected final void byteArrayDone(final byte[] ba) {
+                                        protected final void byteBufferDone(final ByteBuffer body) {
                                             try {
-                                                // adapter.ch.send(new HttpRequestWrapper(adapter.ref(), xch, ByteBuffer.wrap(ba)));
-                                                adapter.handleRequest(new UndertowHttpRequest(adapter.ref(), xch, ByteBuffer.wrap(ba)));
+                                                // adapter.ch.send(new HttpRequestWrapper(adapter.ref(), xch, body));
+                                                if (!adapter.handleRequest(new UndertowHttpRequest(adapter.ref(), xch, body)))
+                                                    sendHttpResponse(xch, StatusCodes.SERVICE_UNAVAILABLE);
                                             } catch (final SuspendExecution e) {
                                                 throw new AssertionError(e);
                                             } catch (final InterruptedException e) {
@@ -282,6 +320,10 @@ public class WebActorHandler implements HttpHandler {
         }
     }
 
+    private static boolean hasBody(HttpServerExchange xch) {
+        return xch.getRequestContentLength() > 0 || xch.getRequestHeaders().contains(Headers.TRANSFER_ENCODING);
+    }
+
     private void handlingComplete(HttpServerExchange xch) throws Exception {
         if (fallbackHttpHandler != null)
             fallbackHttpHandler.handleRequest(xch);
@@ -294,6 +336,18 @@ public class WebActorHandler implements HttpHandler {
         lock.unlock();
     }
 
+    static boolean isShared(Context context) {
+        return context instanceof DefaultContextImpl && ((DefaultContextImpl) context).isShared();
+    }
+
+    /**
+     * Whether the context's actor is currently serving an HTTP request.
+     */
+    static boolean isBusy(Context context) {
+        final Object a = context.getAttachments().get(ACTOR_KEY);
+        return a instanceof HttpActorAdapter && ((HttpActorAdapter) a).isRequestInProgress();
+    }
+
     private static final class WebSocketActorAdapter extends FakeActor<WebDataMessage> {
         ActorRef<? super WebMessage> userActor;
 
@@ -427,19 +481,20 @@ public class WebActorHandler implements HttpHandler {
         private final static String replyTimeoutProp = System.getProperty(HttpActorAdapter.class.getName() + ".replyTimeout");
         private static final long REPLY_TIMEOUT = replyTimeoutProp != null ? Long.parseLong(replyTimeoutProp) : 120_000L;
 
-        private final AtomicReference<CountDownLatch> gate = new AtomicReference<>();
+        private static final TimerWheel replyTimeouts = new TimerWheel("comsat-undertow-reply-timeouts", 100, TimeUnit.MILLISECONDS, 512);
+
+        private final AtomicReference<CountDownLatch> gate = new AtomicReference<>(); // unless pipelining
+        private final ConcurrentMap<Long, UndertowHttpRequest> inFlight = new ConcurrentHashMap<>();
+        private final boolean shared;
 
         private volatile ActorRef<? super HttpRequest> userActor;
         private volatile Context context;
 
-        private volatile HttpServerExchange xch;
         private volatile boolean needsRestart;
 
         private volatile boolean dead;
         private volatile Object watchToken;
 
-        private volatile ScheduledFuture<?> cancelTask;
-
         HttpActorAdapter(ActorRef<? super HttpRequest> userActor, Context actorContext) {
             super("HttpActorAdapter", new HttpChannelAdapter());
 
@@ -451,6 +506,7 @@ public class WebActorHandler implements HttpHandler {
 
             this.userActor = userActor;
             this.context = actorContext;
+            this.shared = isShared(actorContext);
         }
 
         @Override
@@ -484,22 +540,92 @@ public class WebActorHandler implements HttpHandler {
             die(new InterruptedException());
         }
 
+        /**
+         * @return {@code false} if the request has been refused because the context is shared and busy with another
+         *         request, as the worker thread mustn't wait for another client.
+         */
         @Suspendable
-        final void handleRequest(UndertowHttpRequest s) throws SuspendExecution, InterruptedException {
-            blockSessionRequests();
-            xch = s.xch;
+        final boolean handleRequest(UndertowHttpRequest s) throws SuspendExecution, InterruptedException {
+            if (!pipelineRequests) {
+                if (!shared)
+                    blockSessionRequests();
+                else if (!gate.compareAndSet(null, new CountDownLatch(1)))
+                    return false;
+            }
+
             if (needsRestart) {
-                context.restart(xch);
-                context.getLock().lock();
-                addActorToContextAndUnlock(context, HttpActorAdapter.this, context.getLock());
-                needsRestart = false;
+                final ReentrantLock lock = context.getLock();
+                lock.lock();
+                try {
+                    if (needsRestart) {
+                        context.restart(s.xch);
+                        restarted();
+                        context.getAttachments().put(ACTOR_KEY, HttpActorAdapter.this);
+                        needsRestart = false;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+            track(s);
+            if (s.bodyStream != null) {
+                @SuppressWarnings("unchecked") final ActorRef<? super HttpRequestChunk> target = (ActorRef<? super HttpRequestChunk>) (ActorRef) userActor;
+                s.bodyStream.target = target;
             }
             userActor.send(s);
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void restarted() {
+            final ActorRef<? super HttpRequest> prev = userActor;
+            if (prev != null && watchToken != null)
+                unwatch(prev, watchToken);
+            userActor = (ActorRef<? super HttpRequest>) context.getWebActor();
+            if (context.watch() != Context.WatchPolicy.DONT_WATCH && userActor != null)
+                watchToken = watch(userActor);
+        }
+
+        private void track(final UndertowHttpRequest s) {
+            inFlight.put(s.getCorrelationId(), s);
+            s.replyTimeout = replyTimeouts.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    if (inFlight.remove(s.getCorrelationId(), s)) {
+                        if (s.bodyStream != null)
+                            s.bodyStream.abandon();
+                        es.submit(new Runnable() {
+                            @Override
+                            public void run() {
+                                sendHttpResponse(s.xch, StatusCodes.INTERNAL_SERVER_ERROR, "Timeout while waiting for user actor to reply.");
+                            }
+                        });
+                        if (!pipelineRequests)
+                            unblockSessionRequests();
+                    }
+                }
+            }, REPLY_TIMEOUT, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * @return {@code false} if the request has already been replied to or has timed out.
+         */
+        private boolean complete(UndertowHttpRequest s) {
+            if (!inFlight.remove(s.getCorrelationId(), s))
+                return false;
+            final TimerWheel.Timeout t = s.replyTimeout;
+            if (t != null)
+                t.cancel();
+            if (s.bodyStream != null)
+                s.bodyStream.abandon();
+            return true;
         }
 
         final void handleReply(final HttpResponse message) throws InterruptedException {
+            final UndertowHttpRequest undertowRequest = (UndertowHttpRequest) message.getRequest();
+            if (!complete(undertowRequest))
+                return; // Timed out or already replied to
             try {
-                final UndertowHttpRequest undertowRequest = (UndertowHttpRequest) message.getRequest();
                 final HttpServerExchange xch = undertowRequest.xch;
 
                 final int status = message.getStatus();
@@ -592,7 +718,8 @@ public class WebActorHandler implements HttpHandler {
                     });
                 }
             } finally {
-                unblockSessionRequests();
+                if (!pipelineRequests)
+                    unblockSessionRequests();
             }
         }
 
@@ -616,55 +743,52 @@ public class WebActorHandler implements HttpHandler {
 
         @Suspendable
         final void handleDie(final Throwable cause) {
-            try {
-                possiblyReplyDeadAndUnblock(cause);
-
-                if (dead)
-                    return;
-                dead = true;
-                HttpActorAdapter.super.die(cause);
-                try {
-                    context.invalidate();
-                } catch (final Exception ignored) {
-                }
+            possiblyReplyDeadAndUnblock(cause);
 
-                // Ensure to release references
-                if (userActor != null && watchToken != null)
-                    unwatch(userActor, watchToken);
-            } finally {
-                unblockSessionRequests();
+            if (dead)
+                return;
+            dead = true;
+            HttpActorAdapter.super.die(cause);
+            try {
+                context.invalidate();
+            } catch (final Exception ignored) {
             }
 
+            // Ensure to release references
+            if (userActor != null && watchToken != null)
+                unwatch(userActor, watchToken);
+
             userActor = null;
             watchToken = null;
             context = null;
-            xch = null;
 //            f = null;
 //            ch = null;
         }
 
         private void possiblyReplyDeadAndUnblock(final Throwable cause) {
-            if (isRequestInProgress()) {
-                try {
-                    final HttpServerExchange xch1 = xch;
-                    // Sending a reply directly from a fiber produces a thread-local related leak due to unfreed buffers
-                    es.submit(new Runnable() {
-                        @Override
-                        public void run() {
-                            try {
+            boolean completed = false;
+            try {
+                for (final UndertowHttpRequest s : inFlight.values()) {
+                    if (complete(s)) {
+                        completed = true;
+                        final HttpServerExchange xch1 = s.xch;
+                        // Sending a reply directly from a fiber produces a thread-local related leak due to unfreed buffers
+                        es.submit(new Runnable() {
+                            @Override
+                            public void run() {
                                 if (cause != null) {
                                     sendHttpResponse(xch1, StatusCodes.INTERNAL_SERVER_ERROR, "Actor is dead because of " + cause.getMessage());
                                 } else {
                                     sendHttpResponse(xch1, StatusCodes.INTERNAL_SERVER_ERROR, "Actor has terminated.");
                                 }
-                            } finally {
-                                unblockSessionRequests();
                             }
-                        }
-                    });
-                } finally {
-                    unblockSessionRequests();
+                        });
+                    }
                 }
+            } finally {
+                // Only the gate of a request that has just been completed, as it may have been taken by another one since
+                if (completed && !pipelineRequests)
+                    unblockSessionRequests();
             }
         }
 
@@ -680,26 +804,17 @@ public class WebActorHandler implements HttpHandler {
                 if (l != null)
                     l.await();
             }
-            final HttpServerExchange xch1 = xch;
-            cancelTask = ts.schedule(new Runnable() {
-                @Override
-                public void run() {
-                    sendHttpResponse(xch1, StatusCodes.INTERNAL_SERVER_ERROR, "Timeout while waiting for user actor to reply.");
-                }
-            }, REPLY_TIMEOUT, TimeUnit.MILLISECONDS);
         }
 
         @Suspendable
         private void unblockSessionRequests() {
-            if (cancelTask != null)
-                cancelTask.cancel(true);
             final CountDownLatch l = gate.getAndSet(null);
             if (l != null)
                 l.countDown();
         }
 
         private boolean isRequestInProgress() {
-            return gate.get() != null;
+            return !inFlight.isEmpty();
         }
 
         private io.undertow.server.handlers.Cookie newUndertowCookie(Cookie c) {
@@ -715,6 +830,131 @@ public class WebActorHandler implements HttpHandler {
         }
     }
 
+    /**
+     * Sends the body of a request, as it's read, to the actor that has received the request; suspends reads from the
+     * channel while {@link #requestBodyChunksWindow} chunks are waiting to be consumed.
+     */
+    static final class RequestBodyStream implements ChannelListener<StreamSourceChannel> {
+        private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+        private final StreamSourceChannel channel;
+        private final UndertowHttpRequest request;
+        private final ByteBufferPool bufferPool;
+        private final AtomicInteger pending = new AtomicInteger();
+        private final Runnable resume = new Runnable() {
+            @Override
+            public void run() {
+                if (!done && !abandoned && pending.get() < requestBodyChunksWindow)
+                    channel.resumeReads();
+            }
+        };
+        volatile ActorRef<? super HttpRequestChunk> target;
+        private volatile boolean abandoned;
+        private boolean done; // accessed only by the IO thread
+
+        RequestBodyStream(StreamSourceChannel channel, UndertowHttpRequest request, ByteBufferPool bufferPool) {
+            this.channel = channel;
+            this.request = request;
+            this.bufferPool = bufferPool;
+        }
+
+        final void start() {
+            channel.getReadSetter().set(this);
+            channel.resumeReads();
+        }
+
+        @Override
+        public final void handleEvent(StreamSourceChannel c) {
+            if (done)
+                return;
+            if (abandoned) {
+                c.suspendReads();
+                return;
+            }
+            final PooledByteBuffer r = bufferPool.allocate();
+            try {
+                final ByteBuffer b = r.getBuffer();
+                for (;;) {
+                    b.clear();
+                    final int n = c.read(b);
+                    if (n == 0)
+                        return;
+                    if (n == -1) {
+                        finish(c);
+                        send(EMPTY.duplicate(), true);
+                        return;
+                    }
+                    b.flip();
+                    final ByteBuffer body = ByteBuffer.allocate(n);
+                    body.put(b).flip();
+                    send(body, false);
+                    // Resumed by `onConsumed`, which runs `resume` on this thread, hence after this
+                    if (pending.get() >= requestBodyChunksWindow) {
+                        c.suspendReads();
+                        return;
+                    }
+                }
+            } catch (final IOException e) {
+                finish(c);
+                UndertowLogger.REQUEST_IO_LOGGER.debug("Exception while reading HTTP request body", e);
+                send(new Chunk(e));
+            } finally {
+                r.close();
+            }
+        }
+
+        private void send(ByteBuffer body, boolean last) {
+            send(new Chunk(body, last));
+        }
+
+        private void send(Chunk chunk) {
+            pending.incrementAndGet();
+            try {
+                target.send(chunk);
+            } catch (final SuspendExecution e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        private void finish(StreamSourceChannel c) {
+            done = true;
+            c.getReadSetter().set(null);
+            IoUtils.safeClose(c);
+        }
+
+        private void onConsumed() {
+            if (pending.decrementAndGet() == requestBodyChunksWindow - 1)
+                channel.getIoThread().execute(resume);
+        }
+
+        /**
+         * Stops sending the body, e.g. because the request has been replied to; the exchange drains the rest when it ends.
+         */
+        final void abandon() {
+            abandoned = true;
+        }
+
+        private final class Chunk extends HttpRequestChunk {
+            private static final long serialVersionUID = 1L;
+
+            private final AtomicBoolean consumed = new AtomicBoolean();
+
+            Chunk(ByteBuffer body, boolean last) {
+                super(request, body, last);
+            }
+
+            Chunk(Throwable error) {
+                super(request, error);
+            }
+
+            @Override
+            public void consumed() {
+                if (consumed.compareAndSet(false, true))
+                    onConsumed();
+            }
+        }
+    }
+
     private static final class HttpChannelAdapter implements SendPort<HttpResponse> {
         private HttpActorAdapter actor;
 
@@ -901,69 +1141,11 @@ public class WebActorHandler implements HttpHandler {
     }
 
     static boolean handlesWithHttp(String uri, Class<?> actorClass) {
-        return match(uri, actorClass).equals("http");
+        return actorClass != null && WebActorRouter.forClass(actorClass).handlesWithHttp(uri);
     }
 
     static boolean handlesWithWebSocket(String uri, Class<?> actorClass) {
-        return match(uri, actorClass).equals("ws");
-    }
-
-    private static String match(String uri, Class<?> actorClass) {
-        if (uri != null && actorClass != null) {
-            for (final Pair<String, String> e : lookupOrInsert(actorClass)) {
-                if (servletMatch(e.getFirst(), uri))
-                    return e.getSecond();
-            }
-        }
-        return "";
-    }
-
-    private static List<Pair<String, String>> lookupOrInsert(Class<?> actorClass) {
-        if (actorClass != null) {
-            final List<Pair<String, String>> lookup = classToUrlPatterns.get(actorClass);
-            if (lookup != null)
-                return lookup;
-            return insert(actorClass);
-        }
-        return null;
-    }
-
-    private static List<Pair<String, String>> insert(Class<?> actorClass) {
-        if (actorClass != null) {
-            final WebActor wa = actorClass.getAnnotation(WebActor.class);
-            final List<Pair<String, String>> ret = new ArrayList<>(4);
-            for (String httpP : wa.httpUrlPatterns())
-                addPattern(ret, httpP, "http");
-            for (String wsP : wa.webSocketUrlPatterns())
-                addPattern(ret, wsP, "ws");
-            classToUrlPatterns.put(actorClass, ret);
-            return ret;
-        }
-        return null;
-    }
-
-    private static void addPattern(List<Pair<String, String>> ret, String p, String type) {
-        if (p != null) {
-            @SuppressWarnings("MismatchedQueryAndUpdateOfCollection") final Pair<String, String> entry = new Pair<>(p, type);
-            if (p.endsWith("*") || p.startsWith("*.") || p.equals("/")) // Wildcard -> end
-                ret.add(entry);
-            else // Exact -> beginning
-                ret.add(0, entry);
-        }
-    }
-
-    private static boolean servletMatch(String pattern, String uri) {
-        // As per servlet spec
-        if (pattern != null && uri != null) {
-            if (pattern.startsWith("/") && pattern.endsWith("*"))
-                return uri.startsWith(pattern.substring(0, pattern.length() - 1));
-            if (pattern.startsWith("*."))
-                return uri.endsWith(pattern.substring(2));
-            if (pattern.isEmpty())
-                return uri.equals("/");
-            return pattern.equals("/") || pattern.equals(uri);
-        }
-        return false;
+        return actorClass != null && WebActorRouter.forClass(actorClass).handlesWithWebSocket(uri);
     }
 
     private static ByteBuffer toBuffer(ByteBuffer... payload) {
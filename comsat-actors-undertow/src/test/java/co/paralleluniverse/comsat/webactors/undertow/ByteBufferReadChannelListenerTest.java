@@ -0,0 +1,153 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.comsat.webactors.undertow;
+
+import io.undertow.Undertow;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Reading whole request bodies off a real Undertow connection.
+ */
+public class ByteBufferReadChannelListenerTest {
+    private Undertow server;
+    private int port;
+
+    @Before
+    public void setUp() throws IOException {
+        try (final ServerSocket s = new ServerSocket(0)) {
+            port = s.getLocalPort();
+        }
+        server = Undertow.builder().addHttpListener(port, "localhost").setHandler(new HttpHandler() {
+            @Override
+            public void handleRequest(final HttpServerExchange xch) throws Exception {
+                xch.dispatch(new Runnable() {
+                    @Override
+                    @SuppressWarnings("deprecation")
+                    public void run() {
+                        final boolean legacy = xch.getRequestURI().equals("/legacy");
+                        final ByteBufferReadChannelListener l = legacy
+                            ? new ByteArrayReadChannelListener(xch.getConnection().getByteBufferPool()) {
+                                @Override
+                                protected void byteArrayDone(byte[] bs) {
+                                    reply(xch, bs.length, -1, Arrays.hashCode(bs));
+                                }
+
+                                @Override
+                                protected void error(IOException e) {
+                                    throw new RuntimeException(e);
+                                }
+                            }
+                            : new ByteBufferReadChannelListener(xch.getConnection().getByteBufferPool(), xch.getRequestContentLength()) {
+                                @Override
+                                protected void byteBufferDone(ByteBuffer body) {
+                                    final byte[] bs = new byte[body.remaining()];
+                                    body.get(bs);
+                                    reply(xch, bs.length, body.capacity(), Arrays.hashCode(bs));
+                                }
+
+                                @Override
+                                protected void error(IOException e) {
+                                    throw new RuntimeException(e);
+                                }
+                            };
+                        l.setup(xch.getRequestChannel());
+                    }
+                });
+            }
+        }).build();
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void testPresizedBody() throws IOException {
+        final byte[] body = body(300_000);
+        // Read straight into a buffer of exactly the content length
+        assertEquals(body.length + "," + body.length + "," + Arrays.hashCode(body), post("/", body, false));
+    }
+
+    @Test
+    public void testEmptyBody() throws IOException {
+        assertEquals("0,0," + Arrays.hashCode(new byte[0]), post("/", new byte[0], false));
+    }
+
+    @Test
+    public void testChunkedBodyGrows() throws IOException {
+        final byte[] body = body(100_000);
+        final String[] r = post("/", body, true).split(",");
+        assertEquals(Integer.toString(body.length), r[0]);
+        assertEquals(Integer.toString(Arrays.hashCode(body)), r[2]);
+    }
+
+    @Test
+    public void testDeprecatedByteArrayDone() throws IOException {
+        final byte[] body = body(50_000);
+        assertEquals(body.length + ",-1," + Arrays.hashCode(body), post("/legacy", body, true));
+    }
+
+    private static void reply(HttpServerExchange xch, int length, int capacity, int hash) {
+        xch.getResponseSender().send(length + "," + capacity + "," + hash);
+    }
+
+    private static byte[] body(int size) {
+        final byte[] bs = new byte[size];
+        for (int i = 0; i < size; i++)
+            bs[i] = (byte) (i * 31 + (i >> 8));
+        return bs;
+    }
+
+    private String post(String path, byte[] body, boolean chunked) throws IOException {
+        final HttpURLConnection c = (HttpURLConnection) new URL("http", "localhost", port, path).openConnection();
+        c.setDoOutput(true);
+        c.setRequestMethod("POST");
+        if (chunked)
+            c.setChunkedStreamingMode(4096);
+        else
+            c.setFixedLengthStreamingMode(body.length);
+        try (final OutputStream os = c.getOutputStream()) {
+            os.write(body);
+        }
+        assertEquals(200, c.getResponseCode());
+        try (final InputStream is = c.getInputStream()) {
+            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            final byte[] buf = new byte[1024];
+            for (int n; (n = is.read(buf)) >= 0; )
+                baos.write(buf, 0, n);
+            return new String(baos.toByteArray(), StandardCharsets.UTF_8);
+        } finally {
+            c.disconnect();
+        }
+    }
+}
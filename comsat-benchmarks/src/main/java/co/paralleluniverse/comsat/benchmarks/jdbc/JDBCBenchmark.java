@@ -0,0 +1,218 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.comsat.benchmarks.jdbc;
+
+import co.paralleluniverse.fibers.Fiber;
+import co.paralleluniverse.fibers.SuspendExecution;
+import co.paralleluniverse.fibers.Suspendable;
+import co.paralleluniverse.fibers.jdbc.FiberConnection;
+import co.paralleluniverse.fibers.jdbc.FiberDataSource;
+import co.paralleluniverse.fibers.jdbc.RowMapper;
+import co.paralleluniverse.strands.SuspendableCallable;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of primary-key lookups against an embedded H2 database made through the
+ * {@code comsat-jdbc} wrappers from fibers, against the same lookups made with raw JDBC from threads.
+ * <p>
+ * Every invocation performs {@value #QUERIES} lookups spread evenly over {@code concurrency} fibers (or threads),
+ * each using a connection of its own, while the JDBC worker pool has {@code poolSize} threads.
+ * The difference between {@code fiberPreparedStatement} and {@code fiberCompoundQuery}, which performs the same
+ * lookup in a single worker operation, approximates the cost of the additional worker hops.
+ * <p>
+ * Run with {@code gradle :comsat-benchmarks:jmh}; add {@code -PjmhArgs='-prof gc'} to measure allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class JDBCBenchmark {
+    static final int QUERIES = 1024;
+    private static final int ROWS = 10_000;
+    private static final String LOOKUP = "select name from bench where id = ?";
+
+    @Param({"1", "16", "256"})
+    public int concurrency;
+
+    @Param({"4", "16"})
+    public int poolSize;
+
+    private JdbcDataSource rawDs;
+    private ExecutorService workers;
+    private FiberDataSource fiberDs;
+    private ExecutorService threads;
+    private Connection keepAlive;
+
+    @Setup
+    public void setup() throws SQLException {
+        rawDs = new JdbcDataSource();
+        rawDs.setURL("jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1");
+        keepAlive = rawDs.getConnection();
+        keepAlive.createStatement().execute("drop table if exists bench");
+        keepAlive.createStatement().execute("create table bench (id int primary key, name varchar(32))");
+        keepAlive.createStatement().execute("insert into bench select x, 'name' || x from system_range(1, " + ROWS + ")");
+
+        workers = Executors.newFixedThreadPool(poolSize, new ThreadFactoryBuilder().setNameFormat("jdbc-worker-%d").setDaemon(true).build());
+        fiberDs = (FiberDataSource) FiberDataSource.wrap(rawDs, workers);
+        threads = Executors.newFixedThreadPool(concurrency, new ThreadFactoryBuilder().setNameFormat("jdbc-client-%d").setDaemon(true).build());
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        threads.shutdownNow();
+        workers.shutdownNow();
+        keepAlive.close();
+    }
+
+    /**
+     * {@code FiberDataSource} &rarr; {@code FiberPreparedStatement} &rarr; {@code FiberResultSet}; six worker hops
+     * per lookup.
+     */
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public long fiberPreparedStatement() throws Exception {
+        return inFibers(new FiberLookup() {
+            @Override
+            @Suspendable
+            public long lookup(FiberConnection conn, int id) throws SQLException {
+                final PreparedStatement ps = conn.prepareStatement(LOOKUP);
+                ps.setInt(1, id);
+                final ResultSet rs = ps.executeQuery();
+                rs.next();
+                final long res = rs.getString(1).length();
+                rs.close();
+                ps.close();
+                return res;
+            }
+        });
+    }
+
+    /**
+     * {@code FiberConnection.queryFirst}; a single worker hop per lookup.
+     */
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public long fiberCompoundQuery() throws Exception {
+        return inFibers(new FiberLookup() {
+            @Override
+            @Suspendable
+            public long lookup(FiberConnection conn, int id) throws SQLException {
+                return conn.queryFirst(LOOKUP, NAME_LENGTH, id);
+            }
+        });
+    }
+
+    /**
+     * Raw JDBC on {@code concurrency} threads.
+     */
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public long threadRawJdbc() throws Exception {
+        final int perThread = QUERIES / concurrency;
+        final List<Future<Long>> fs = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            final int first = i * perThread;
+            fs.add(threads.submit(new Callable<Long>() {
+                @Override
+                public Long call() throws SQLException {
+                    long res = 0;
+                    try (Connection conn = rawDs.getConnection()) {
+                        for (int j = 0; j < perThread; j++) {
+                            try (PreparedStatement ps = conn.prepareStatement(LOOKUP)) {
+                                ps.setInt(1, id(first + j));
+                                try (ResultSet rs = ps.executeQuery()) {
+                                    rs.next();
+                                    res += rs.getString(1).length();
+                                }
+                            }
+                        }
+                    }
+                    return res;
+                }
+            }));
+        }
+        long res = 0;
+        for (Future<Long> f : fs)
+            res += f.get();
+        return res;
+    }
+
+    private long inFibers(final FiberLookup lookup) throws Exception {
+        final int perFiber = QUERIES / concurrency;
+        final List<Fiber<Long>> fs = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            final int first = i * perFiber;
+            fs.add(new Fiber<>(new SuspendableCallable<Long>() {
+                @Override
+                public Long run() throws SuspendExecution, InterruptedException {
+                    long res = 0;
+                    try (FiberConnection conn = fiberDs.getConnection()) {
+                        for (int j = 0; j < perFiber; j++)
+                            res += lookup.lookup(conn, id(first + j));
+                    } catch (SQLException e) {
+                        throw new RuntimeException(e);
+                    }
+                    return res;
+                }
+            }).start());
+        }
+        long res = 0;
+        for (Fiber<Long> f : fs)
+            res += f.get();
+        return res;
+    }
+
+    private static int id(final int n) {
+        return 1 + (int) ((n * 2654435761L) % ROWS); // spread lookups over the table
+    }
+
+    private static final RowMapper<Long> NAME_LENGTH = new RowMapper<Long>() {
+        @Override
+        public Long map(ResultSet rs) throws SQLException {
+            return (long) rs.getString(1).length();
+        }
+    };
+
+    private interface FiberLookup {
+        @Suspendable
+        long lookup(FiberConnection conn, int id) throws SQLException;
+    }
+}
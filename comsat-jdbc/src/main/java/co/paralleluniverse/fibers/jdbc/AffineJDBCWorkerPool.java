@@ -0,0 +1,185 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.fibers.jdbc;
+
+import com.google.common.util.concurrent.AbstractListeningExecutorService;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pool of single-threaded JDBC workers that pins every {@link FiberConnection} to one of them.
+ * <p>
+ * When a {@link FiberDataSource} wraps this pool, each connection it obtains is assigned to the worker with the
+ * fewest open connections, and the connection itself, as well as all statements, result sets and other objects
+ * created from it, execute all their JDBC operations on that worker thread until the connection is closed.
+ * This keeps each connection's state in one thread's cache and lets drivers with thread-affine state avoid
+ * synchronization, at the cost of less even load distribution than a shared pool.
+ * <p>
+ * Operations that are not tied to a connection are distributed among the workers in round-robin order.
+ */
+public class AffineJDBCWorkerPool extends AbstractListeningExecutorService {
+    private final ExecutorService[] workers;
+    private final AtomicInteger[] pinned;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Creates a new pool.
+     *
+     * @param name       The pool's name, used to name its threads.
+     * @param numThreads The number of worker threads.
+     */
+    public AffineJDBCWorkerPool(final String name, final int numThreads) {
+        if (numThreads <= 0)
+            throw new IllegalArgumentException("numThreads must be positive: " + numThreads);
+        this.workers = new ExecutorService[numThreads];
+        this.pinned = new AtomicInteger[numThreads];
+        for (int i = 0; i < numThreads; i++) {
+            workers[i] = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat(name + "-" + i).setDaemon(true).build());
+            pinned[i] = new AtomicInteger();
+        }
+    }
+
+    public int getPoolSize() {
+        return workers.length;
+    }
+
+    /**
+     * The number of open connections pinned to the given worker.
+     */
+    public int getPinnedConnections(final int worker) {
+        return pinned[worker].get();
+    }
+
+    /**
+     * Returns an executor bound to the worker with the fewest pinned connections.
+     */
+    ExecutorService pin() {
+        int best = 0;
+        for (int i = 1; i < workers.length; i++) {
+            if (pinned[i].get() < pinned[best].get())
+                best = i;
+        }
+        pinned[best].incrementAndGet();
+        return new Pinned(best);
+    }
+
+    /**
+     * Whether {@code executor} was obtained from {@link #pin()}.
+     */
+    static boolean isPinned(final ExecutorService executor) {
+        return executor instanceof Pinned;
+    }
+
+    /**
+     * Releases an executor obtained from {@link #pin()}; does nothing if {@code executor} isn't one.
+     */
+    static void unpin(final ExecutorService executor) {
+        if (executor instanceof Pinned)
+            ((Pinned) executor).release();
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        workers[(next.getAndIncrement() & Integer.MAX_VALUE) % workers.length].execute(command);
+    }
+
+    @Override
+    public void shutdown() {
+        for (ExecutorService w : workers)
+            w.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        final List<Runnable> res = new ArrayList<>();
+        for (ExecutorService w : workers)
+            res.addAll(w.shutdownNow());
+        return res;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return workers[0].isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        for (ExecutorService w : workers) {
+            if (!w.isTerminated())
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (ExecutorService w : workers) {
+            if (!w.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS))
+                return false;
+        }
+        return true;
+    }
+
+    private final class Pinned extends AbstractListeningExecutorService {
+        private final int worker;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Pinned(final int worker) {
+            this.worker = worker;
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true))
+                pinned[worker].decrementAndGet();
+        }
+
+        @Override
+        public void execute(final Runnable command) {
+            workers[worker].execute(command);
+        }
+
+        // The worker is shared with other connections, so only shutting down the pool shuts it down
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return workers[worker].isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return workers[worker].isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+            return workers[worker].awaitTermination(timeout, unit);
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.fibers.jdbc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Tells the {@code comsat-jdbc} wrappers which JDBC methods of a given driver are pure accessors &ndash; methods that
+ * only read state the driver keeps in memory, and never block on I/O or on locks held across I/O &ndash; and can
+ * therefore be called directly on the calling fiber instead of being dispatched to a JDBC worker thread.
+ * <p>
+ * Methods are named {@code Interface.method}, e.g. {@code "ResultSetMetaData.getColumnCount"}; a trailing {@code *}
+ * matches any method name with the given prefix, e.g. {@code "DatabaseMetaData.getMax*"}. Overloads share a name.
+ * Only methods of {@link java.sql.Connection}, {@link java.sql.DatabaseMetaData}, {@link java.sql.ResultSetMetaData},
+ * {@link java.sql.ParameterMetaData} and {@link java.sql.ResultSet#getMetaData() ResultSet.getMetaData} are
+ * considered.
+ * <p>
+ * Listing a method that does block is not incorrect, but it will block the fiber's carrier thread; the built-in
+ * profiles only list methods their driver answers from memory. Some {@code DatabaseMetaData.supports*} and
+ * {@code stores*} methods query the database, or its compatibility mode, so the built-in profiles name the ones they
+ * inline one by one.
+ */
+public final class DriverProfile {
+    private static final String[] COMMON = {
+        "Connection.getAutoCommit",
+        "Connection.getHoldability",
+        "Connection.getMetaData",
+        "Connection.getNetworkTimeout",
+        "Connection.isClosed",
+        "ResultSet.getMetaData",
+        "ParameterMetaData.getParameterCount",
+        "DatabaseMetaData.nullsAreSorted*",
+        "DatabaseMetaData.uses*",
+        "DatabaseMetaData.allProceduresAreCallable",
+        "DatabaseMetaData.allTablesAreSelectable",
+        "DatabaseMetaData.autoCommitFailureClosesAllResultSets",
+        "DatabaseMetaData.dataDefinitionCausesTransactionCommit",
+        "DatabaseMetaData.dataDefinitionIgnoredInTransactions",
+        "DatabaseMetaData.deletesAreDetected",
+        "DatabaseMetaData.doesMaxRowSizeIncludeBlobs",
+        "DatabaseMetaData.generatedKeyAlwaysReturned",
+        "DatabaseMetaData.insertsAreDetected",
+        "DatabaseMetaData.isCatalogAtStart",
+        "DatabaseMetaData.locatorsUpdateCopy",
+        "DatabaseMetaData.nullPlusNonNullIsNull",
+        "DatabaseMetaData.othersDeletesAreVisible",
+        "DatabaseMetaData.othersInsertsAreVisible",
+        "DatabaseMetaData.othersUpdatesAreVisible",
+        "DatabaseMetaData.ownDeletesAreVisible",
+        "DatabaseMetaData.ownInsertsAreVisible",
+        "DatabaseMetaData.ownUpdatesAreVisible",
+        "DatabaseMetaData.updatesAreDetected",
+        "DatabaseMetaData.getCatalogSeparator",
+        "DatabaseMetaData.getCatalogTerm",
+        "DatabaseMetaData.getDatabaseMajorVersion",
+        "DatabaseMetaData.getDatabaseMinorVersion",
+        "DatabaseMetaData.getDatabaseProductName",
+        "DatabaseMetaData.getDatabaseProductVersion",
+        "DatabaseMetaData.getDriver*",
+        "DatabaseMetaData.getExtraNameCharacters",
+        "DatabaseMetaData.getIdentifierQuoteString",
+        "DatabaseMetaData.getJDBCMajorVersion",
+        "DatabaseMetaData.getJDBCMinorVersion",
+        "DatabaseMetaData.getProcedureTerm",
+        "DatabaseMetaData.getResultSetHoldability",
+        "DatabaseMetaData.getRowIdLifetime",
+        "DatabaseMetaData.getSQLStateType",
+        "DatabaseMetaData.getSchemaTerm",
+        "DatabaseMetaData.getSearchStringEscape",
+        "DatabaseMetaData.getURL",};
+
+    /**
+     * Dispatches every method to a worker thread. This is the default.
+     */
+    public static final DriverProfile NONE = new DriverProfile("none");
+
+    /**
+     * The H2 driver (embedded and client/server). Its {@code supportsTransactionIsolationLevel},
+     * {@code supportsMixedCaseQuotedIdentifiers} and {@code stores*Identifiers} methods, other than
+     * {@code storesMixedCaseIdentifiers}, run queries, and so are not inlined.
+     */
+    public static final DriverProfile H2 = new DriverProfile("h2", COMMON).with(
+            "DatabaseMetaData.getDefaultTransactionIsolation",
+            "DatabaseMetaData.storesMixedCaseIdentifiers",
+            "DatabaseMetaData.supportsBatchUpdates",
+            "DatabaseMetaData.supportsCatalogsInDataManipulation",
+            "DatabaseMetaData.supportsCatalogsInTableDefinitions",
+            "DatabaseMetaData.supportsDataDefinitionAndDataManipulationTransactions",
+            "DatabaseMetaData.supportsDataManipulationTransactionsOnly",
+            "DatabaseMetaData.supportsGetGeneratedKeys",
+            "DatabaseMetaData.supportsMixedCaseIdentifiers",
+            "DatabaseMetaData.supportsMultipleOpenResults",
+            "DatabaseMetaData.supportsMultipleResultSets",
+            "DatabaseMetaData.supportsMultipleTransactions",
+            "DatabaseMetaData.supportsNamedParameters",
+            "DatabaseMetaData.supportsOpenCursorsAcrossCommit",
+            "DatabaseMetaData.supportsOpenCursorsAcrossRollback",
+            "DatabaseMetaData.supportsOpenStatementsAcrossCommit",
+            "DatabaseMetaData.supportsOpenStatementsAcrossRollback",
+            "DatabaseMetaData.supportsResultSetConcurrency",
+            "DatabaseMetaData.supportsResultSetHoldability",
+            "DatabaseMetaData.supportsResultSetType",
+            "DatabaseMetaData.supportsSavepoints",
+            "DatabaseMetaData.supportsSchemasInDataManipulation",
+            "DatabaseMetaData.supportsSchemasInTableDefinitions",
+            "DatabaseMetaData.supportsSelectForUpdate",
+            "DatabaseMetaData.supportsStatementPooling",
+            "DatabaseMetaData.supportsStoredProcedures",
+            "DatabaseMetaData.supportsTransactions",
+            "DatabaseMetaData.getMax*",
+            "DatabaseMetaData.getUserName",
+            "ResultSetMetaData.*",
+            "ParameterMetaData.*");
+
+    /**
+     * The PostgreSQL JDBC driver. Result set metadata methods other than those describing the columns' labels and
+     * sizes may query the system catalogs, as may {@code DatabaseMetaData.getDefaultTransactionIsolation} and
+     * {@code getMax*}, and so are not inlined.
+     */
+    public static final DriverProfile POSTGRESQL = new DriverProfile("postgresql", COMMON).with(
+            "Connection.getCatalog",
+            "Connection.isReadOnly",
+            "DatabaseMetaData.getUserName",
+            "ResultSetMetaData.getColumnCount",
+            "ResultSetMetaData.getColumnDisplaySize",
+            "ResultSetMetaData.getColumnLabel",
+            "ResultSetMetaData.getColumnName",
+            "ResultSetMetaData.getPrecision",
+            "ResultSetMetaData.getScale");
+
+    /**
+     * MySQL Connector/J.
+     */
+    public static final DriverProfile MYSQL = new DriverProfile("mysql", COMMON).with(
+            "Connection.getCatalog",
+            "DatabaseMetaData.getDefaultTransactionIsolation",
+            "DatabaseMetaData.getMax*",
+            "ResultSetMetaData.*");
+
+    private final String name;
+    private final Set<String> methods;
+    private final List<String> prefixes;
+    private final ConcurrentMap<String, Boolean> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a profile.
+     *
+     * @param name    The profile's name.
+     * @param methods The methods to call inline, as {@code Interface.method}, optionally ending with {@code *}.
+     */
+    public DriverProfile(final String name, final String... methods) {
+        this.name = name;
+        final Set<String> ms = new HashSet<>();
+        final List<String> ps = new ArrayList<>();
+        for (String m : methods) {
+            if (m.indexOf('.') < 0)
+                throw new IllegalArgumentException("Method must be named Interface.method: " + m);
+            if (m.endsWith("*"))
+                ps.add(m.substring(0, m.length() - 1));
+            else
+                ms.add(m);
+        }
+        this.methods = Collections.unmodifiableSet(ms);
+        this.prefixes = Collections.unmodifiableList(ps);
+    }
+
+    /**
+     * Returns a new profile that inlines the methods of this one as well as the given ones.
+     */
+    public DriverProfile with(final String... methods) {
+        final List<String> all = new ArrayList<>(this.methods);
+        for (String p : prefixes)
+            all.add(p + "*");
+        all.addAll(Arrays.asList(methods));
+        return new DriverProfile(name, all.toArray(new String[all.size()]));
+    }
+
+    /**
+     * Returns the built-in profile with the given name ({@code none}, {@code h2}, {@code postgresql} or {@code mysql}).
+     */
+    public static DriverProfile forName(final String name) {
+        switch (name.toLowerCase(Locale.ROOT)) {
+            case "none":
+                return NONE;
+            case "h2":
+                return H2;
+            case "postgresql":
+                return POSTGRESQL;
+            case "mysql":
+                return MYSQL;
+            default:
+                throw new IllegalArgumentException("Unknown driver profile: " + name);
+        }
+    }
+
+    /**
+     * Returns the built-in profile matching the given JDBC URL, or {@link #NONE} if there isn't one.
+     */
+    public static DriverProfile forURL(final String url) {
+        if (url.startsWith("jdbc:h2:"))
+            return H2;
+        if (url.startsWith("jdbc:postgresql:"))
+            return POSTGRESQL;
+        if (url.startsWith("jdbc:mysql:"))
+            return MYSQL;
+        return NONE;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Whether the given method, named {@code Interface.method}, can be called on the calling fiber.
+     */
+    public boolean isInline(final String method) {
+        if (methods.contains(method))
+            return true;
+        if (prefixes.isEmpty())
+            return false;
+        Boolean inline = cache.get(method);
+        if (inline == null) {
+            inline = false;
+            for (String p : prefixes) {
+                if (method.startsWith(p)) {
+                    inline = true;
+                    break;
+                }
+            }
+            cache.put(method, inline);
+        }
+        return inline;
+    }
+
+    @Override
+    public String toString() {
+        return "DriverProfile{" + "name=" + name + '}';
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.fibers.jdbc;
+
+import co.paralleluniverse.fibers.Suspendable;
+import co.paralleluniverse.strands.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+
+/**
+ * Coalesces single-row updates issued concurrently by many strands into JDBC batches.
+ * <p>
+ * Calls to {@link #executeUpdate(String, Object...) executeUpdate} with the same SQL that arrive within
+ * {@code maxDelay} of the first one, up to {@code maxBatchSize} of them, are executed as a single
+ * {@link PreparedStatement#executeBatch() batch} on one connection, in one JDBC worker operation, in a transaction
+ * of its own. Each caller is then resumed with its own update count. If the batch fails, its statements are retried
+ * one by one, each in its own transaction, so that only the callers whose statements fail see an exception.
+ * <p>
+ * Coalescing trades up to {@code maxDelay} of latency for far fewer worker hops and database round trips, and is only
+ * suitable for statements that are independent of one another and are not part of a caller's own transaction.
+ */
+public class FiberBatchCoalescer implements AutoCloseable {
+    private final DataSource ds;
+    private final ExecutorService executor;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final ScheduledExecutorService timer;
+    private final ConcurrentMap<String, Batch> open = new ConcurrentHashMap<>();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong statements = new AtomicLong();
+
+    private static final int ADDED = 0;
+    private static final int FILLED = 1;
+    private static final int SEALED = -1;
+
+    /**
+     * Creates a new coalescer.
+     *
+     * @param ds           The {@link DataSource} providing the connections batches run on.
+     * @param executor     The {@link ExecutorService} to use to actually execute JDBC operations.
+     * @param maxBatchSize The maximum number of statements in a batch.
+     * @param maxDelay     The maximum time a statement waits for others to join its batch.
+     * @param unit         The unit of {@code maxDelay}.
+     */
+    public FiberBatchCoalescer(final DataSource ds, final ExecutorService executor, final int maxBatchSize, final long maxDelay, final TimeUnit unit) {
+        this(ds, executor, maxBatchSize, maxDelay, unit,
+            Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("jdbc-batch-timer-%d").setDaemon(true).build()));
+    }
+
+    FiberBatchCoalescer(final DataSource ds, final ExecutorService executor, final int maxBatchSize, final long maxDelay, final TimeUnit unit, final ScheduledExecutorService timer) {
+        if (maxBatchSize <= 0)
+            throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+        this.ds = ds;
+        this.executor = executor;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = unit.toNanos(maxDelay);
+        this.timer = timer;
+    }
+
+    /**
+     * Executes an {@code INSERT}, {@code UPDATE} or {@code DELETE} statement as part of a batch.
+     *
+     * @param sql    The SQL statement.
+     * @param params The values of the statement's parameters, in order.
+     * @return The statement's update count, or {@link Statement#SUCCESS_NO_INFO} if the driver doesn't
+     *         report it.
+     */
+    @Suspendable
+    public int executeUpdate(final String sql, final Object... params) throws SQLException {
+        final SettableFuture<Integer> result = add(sql, params);
+        try {
+            return result.get();
+        } catch (final ExecutionException e) {
+            final Throwable t = e.getCause();
+            if (t instanceof SQLException)
+                throw (SQLException) t;
+            if (t instanceof RuntimeException)
+                throw (RuntimeException) t;
+            throw new SQLException(t);
+        } catch (final InterruptedException ie) {
+            throw new RuntimeException(ie);
+        }
+    }
+
+    /**
+     * The number of batches executed so far.
+     */
+    public long getExecutedBatches() {
+        return batches.get();
+    }
+
+    /**
+     * The number of statements executed so far.
+     */
+    public long getExecutedStatements() {
+        return statements.get();
+    }
+
+    /**
+     * Executes all pending batches and stops accepting new statements.
+     */
+    @Override
+    public void close() {
+        timer.shutdownNow();
+        for (Batch b : open.values()) {
+            if (b.seal())
+                submit(b);
+        }
+    }
+
+    private SettableFuture<Integer> add(final String sql, final Object[] params) throws SQLException {
+        final SettableFuture<Integer> result = new SettableFuture<>();
+        for (;;) {
+            if (timer.isShutdown())
+                throw new SQLException("FiberBatchCoalescer is closed");
+            Batch b = open.get(sql);
+            if (b == null) {
+                final Batch nb = new Batch(sql);
+                b = open.putIfAbsent(sql, nb);
+                if (b == null) {
+                    b = nb;
+                    schedule(nb);
+                }
+            }
+            final int added = b.add(params, result);
+            if (added == SEALED)
+                continue; // sealed by another strand or by close(); start a new one
+            if (added == FILLED)
+                submit(b);
+            return result;
+        }
+    }
+
+    private void schedule(final Batch b) {
+        try {
+            timer.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    if (b.seal())
+                        submit(b);
+                }
+            }, maxDelayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // closed concurrently, possibly after close() has submitted the open batches
+            if (b.seal())
+                submit(b);
+        }
+    }
+
+    private void submit(final Batch b) {
+        open.remove(b.sql, b);
+        if (b.params.isEmpty())
+            return; // sealed before its first statement was added
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    b.execute();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            b.fail(new SQLException("JDBC executor rejected the batch", e));
+        }
+    }
+
+    private final class Batch {
+        final String sql;
+        final List<Object[]> params = new ArrayList<>();
+        final List<SettableFuture<Integer>> results = new ArrayList<>();
+        boolean sealed;
+
+        Batch(final String sql) {
+            this.sql = sql;
+        }
+
+        /**
+         * @return {@code ADDED}, {@code FILLED} if the statement filled the batch, which the caller must then
+         *         submit, or {@code SEALED} if the statement wasn't added because the batch has already been sealed.
+         */
+        synchronized int add(final Object[] ps, final SettableFuture<Integer> result) {
+            if (sealed)
+                return SEALED;
+            params.add(ps);
+            results.add(result);
+            if (params.size() < maxBatchSize)
+                return ADDED;
+            sealed = true;
+            return FILLED;
+        }
+
+        /**
+         * @return {@code true} if this call sealed the batch.
+         */
+        synchronized boolean seal() {
+            if (sealed)
+                return false;
+            sealed = true;
+            return true;
+        }
+
+        /**
+         * Runs in the JDBC worker thread.
+         */
+        void execute() {
+            try (Connection conn = ds.getConnection()) {
+                conn.setAutoCommit(false);
+                try {
+                    final int[] counts;
+                    try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                        for (Object[] p : params) {
+                            FiberPreparedStatement.bind(ps, p);
+                            ps.addBatch();
+                        }
+                        counts = ps.executeBatch();
+                    }
+                    conn.commit();
+                    batches.incrementAndGet();
+                    statements.addAndGet(params.size());
+                    for (int i = 0; i < results.size(); i++)
+                        results.get(i).set(i < counts.length ? counts[i] : Statement.SUCCESS_NO_INFO);
+                } catch (SQLException e) {
+                    conn.rollback();
+                    executeEach(conn);
+                } finally {
+                    conn.setAutoCommit(true);
+                }
+            } catch (SQLException | RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        private void executeEach(final Connection conn) throws SQLException {
+            try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                for (int i = 0; i < params.size(); i++) {
+                    try {
+                        FiberPreparedStatement.bind(ps, params.get(i));
+                        final int count = ps.executeUpdate();
+                        conn.commit();
+                        statements.incrementAndGet();
+                        results.get(i).set(count);
+                    } catch (SQLException e) {
+                        conn.rollback();
+                        results.get(i).setException(e);
+                    }
+                }
+            }
+        }
+
+        void fail(final Exception e) {
+            for (SettableFuture<Integer> r : results)
+                r.setException(e); // no-op for results already set
+        }
+    }
+}
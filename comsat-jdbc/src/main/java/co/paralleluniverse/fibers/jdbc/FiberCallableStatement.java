@@ -43,6 +43,10 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
         super(cs, exec);
     }
 
+    public FiberCallableStatement(final CallableStatement cs, final ExecutorService exec, final String sql) {
+        super(cs, exec, sql);
+    }
+
     @Override
     protected CallableStatement stmt() {
         return (CallableStatement) super.stmt();
@@ -52,7 +56,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void registerOutParameter(final int parameterIndex, final int sqlType) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.registerOutParameter", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().registerOutParameter(parameterIndex, sqlType);
@@ -64,7 +68,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void registerOutParameter(final int parameterIndex, final int sqlType, final int scale) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.registerOutParameter", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().registerOutParameter(parameterIndex, sqlType, scale);
@@ -76,7 +80,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public boolean wasNull() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.wasNull", sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return stmt().wasNull();
@@ -87,7 +91,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public String getString(final int parameterIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getString", sql, new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return stmt().getString(parameterIndex);
@@ -98,7 +102,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public boolean getBoolean(final int parameterIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getBoolean", sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return stmt().getBoolean(parameterIndex);
@@ -109,7 +113,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public byte getByte(final int parameterIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Byte, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getByte", sql, new CheckedCallable<Byte, SQLException>() {
             @Override
             public Byte call() throws SQLException {
                 return stmt().getByte(parameterIndex);
@@ -120,7 +124,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public short getShort(final int parameterIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Short, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getShort", sql, new CheckedCallable<Short, SQLException>() {
             @Override
             public Short call() throws SQLException {
                 return stmt().getShort(parameterIndex);
@@ -131,7 +135,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public int getInt(final int parameterIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getInt", sql, new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return stmt().getInt(parameterIndex);
@@ -142,7 +146,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public long getLong(final int parameterIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Long, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getLong", sql, new CheckedCallable<Long, SQLException>() {
             @Override
             public Long call() throws SQLException {
                 return stmt().getLong(parameterIndex);
@@ -153,7 +157,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public float getFloat(final int parameterIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Float, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getFloat", sql, new CheckedCallable<Float, SQLException>() {
             @Override
             public Float call() throws SQLException {
                 return stmt().getFloat(parameterIndex);
@@ -164,7 +168,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public double getDouble(final int parameterIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Double, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getDouble", sql, new CheckedCallable<Double, SQLException>() {
             @Override
             public Double call() throws SQLException {
                 return stmt().getDouble(parameterIndex);
@@ -175,7 +179,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public BigDecimal getBigDecimal(final int parameterIndex, final int scale) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<BigDecimal, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getBigDecimal", sql, new CheckedCallable<BigDecimal, SQLException>() {
             @Override
             public BigDecimal call() throws SQLException {
                 return stmt().getBigDecimal(parameterIndex, scale);
@@ -186,7 +190,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public byte[] getBytes(final int parameterIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<byte[], SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getBytes", sql, new CheckedCallable<byte[], SQLException>() {
             @Override
             public byte[] call() throws SQLException {
                 return stmt().getBytes(parameterIndex);
@@ -197,7 +201,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public Date getDate(final int parameterIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Date, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getDate", sql, new CheckedCallable<Date, SQLException>() {
             @Override
             public Date call() throws SQLException {
                 return stmt().getDate(parameterIndex);
@@ -208,7 +212,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public Time getTime(final int parameterIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Time, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getTime", sql, new CheckedCallable<Time, SQLException>() {
             @Override
             public Time call() throws SQLException {
                 return stmt().getTime(parameterIndex);
@@ -219,7 +223,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public Timestamp getTimestamp(final int parameterIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Timestamp, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getTimestamp", sql, new CheckedCallable<Timestamp, SQLException>() {
             @Override
             public Timestamp call() throws SQLException {
                 return stmt().getTimestamp(parameterIndex);
@@ -230,7 +234,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public Object getObject(final int parameterIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Object, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getObject", sql, new CheckedCallable<Object, SQLException>() {
             @Override
             public Object call() throws SQLException {
                 return stmt().getObject(parameterIndex);
@@ -241,7 +245,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public BigDecimal getBigDecimal(final int parameterIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<BigDecimal, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getBigDecimal", sql, new CheckedCallable<BigDecimal, SQLException>() {
             @Override
             public BigDecimal call() throws SQLException {
                 return stmt().getBigDecimal(parameterIndex);
@@ -252,7 +256,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public Object getObject(final int parameterIndex, final Map<String, Class<?>> map) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Object, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getObject", sql, new CheckedCallable<Object, SQLException>() {
             @Override
             public Object call() throws SQLException {
                 return stmt().getObject(parameterIndex, map);
@@ -263,7 +267,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public Ref getRef(final int parameterIndex) throws SQLException {
-        final Ref ref = JDBCFiberAsync.exec(executor, new CheckedCallable<Ref, SQLException>() {
+        final Ref ref = JDBCFiberAsync.exec(executor, listener, "CallableStatement.getRef", sql, new CheckedCallable<Ref, SQLException>() {
             @Override
             public Ref call() throws SQLException {
                 return stmt().getRef(parameterIndex);
@@ -275,7 +279,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public Blob getBlob(final int parameterIndex) throws SQLException {
-        final Blob blob = JDBCFiberAsync.exec(executor, new CheckedCallable<Blob, SQLException>() {
+        final Blob blob = JDBCFiberAsync.exec(executor, listener, "CallableStatement.getBlob", sql, new CheckedCallable<Blob, SQLException>() {
             @Override
             public Blob call() throws SQLException {
                 return stmt().getBlob(parameterIndex);
@@ -287,7 +291,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public Clob getClob(final int parameterIndex) throws SQLException {
-        final Clob clob = JDBCFiberAsync.exec(executor, new CheckedCallable<Clob, SQLException>() {
+        final Clob clob = JDBCFiberAsync.exec(executor, listener, "CallableStatement.getClob", sql, new CheckedCallable<Clob, SQLException>() {
             @Override
             public Clob call() throws SQLException {
                 return stmt().getClob(parameterIndex);
@@ -299,7 +303,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public Array getArray(final int parameterIndex) throws SQLException {
-        final Array array = JDBCFiberAsync.exec(executor, new CheckedCallable<Array, SQLException>() {
+        final Array array = JDBCFiberAsync.exec(executor, listener, "CallableStatement.getArray", sql, new CheckedCallable<Array, SQLException>() {
             @Override
             public Array call() throws SQLException {
                 return stmt().getArray(parameterIndex);
@@ -311,7 +315,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public Date getDate(final int parameterIndex, final Calendar cal) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Date, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getDate", sql, new CheckedCallable<Date, SQLException>() {
             @Override
             public Date call() throws SQLException {
                 return stmt().getDate(parameterIndex, cal);
@@ -322,7 +326,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public Time getTime(final int parameterIndex, final Calendar cal) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Time, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getTime", sql, new CheckedCallable<Time, SQLException>() {
             @Override
             public Time call() throws SQLException {
                 return stmt().getTime(parameterIndex, cal);
@@ -333,7 +337,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public Timestamp getTimestamp(final int parameterIndex, final Calendar cal) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Timestamp, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getTimestamp", sql, new CheckedCallable<Timestamp, SQLException>() {
             @Override
             public Timestamp call() throws SQLException {
                 return stmt().getTimestamp(parameterIndex, cal);
@@ -344,7 +348,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void registerOutParameter(final int parameterIndex, final int sqlType, final String typeName) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.registerOutParameter", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().registerOutParameter(parameterIndex, sqlType, typeName);
@@ -356,7 +360,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void registerOutParameter(final String parameterName, final int sqlType) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.registerOutParameter", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().registerOutParameter(parameterName, sqlType);
@@ -368,7 +372,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void registerOutParameter(final String parameterName, final int sqlType, final int scale) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.registerOutParameter", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().registerOutParameter(parameterName, sqlType, scale);
@@ -380,7 +384,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void registerOutParameter(final String parameterName, final int sqlType, final String typeName) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.registerOutParameter", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().registerOutParameter(parameterName, sqlType, typeName);
@@ -392,7 +396,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public URL getURL(final int parameterIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<URL, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getURL", sql, new CheckedCallable<URL, SQLException>() {
             @Override
             public URL call() throws SQLException {
                 return stmt().getURL(parameterIndex);
@@ -403,7 +407,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setURL(final int parameterIndex, final URL x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setURL", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setURL(parameterIndex, x);
@@ -415,7 +419,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setNull(final int parameterIndex, final int sqlType) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setNull", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setNull(parameterIndex, sqlType);
@@ -427,7 +431,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setBoolean(final int parameterIndex, final boolean x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setBoolean", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setBoolean(parameterIndex, x);
@@ -439,7 +443,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setByte(final int parameterIndex, final byte x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setByte", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setByte(parameterIndex, x);
@@ -451,7 +455,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setShort(final int parameterIndex, final short x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setShort", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setShort(parameterIndex, x);
@@ -463,7 +467,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setInt(final int parameterIndex, final int x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setInt", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setInt(parameterIndex, x);
@@ -475,7 +479,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setLong(final int parameterIndex, final long x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setLong", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setLong(parameterIndex, x);
@@ -487,7 +491,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setFloat(final int parameterIndex, final float x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setFloat", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setFloat(parameterIndex, x);
@@ -499,7 +503,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setDouble(final int parameterIndex, final double x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setDouble", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setDouble(parameterIndex, x);
@@ -511,7 +515,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setBigDecimal(final int parameterIndex, final BigDecimal x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setBigDecimal", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setBigDecimal(parameterIndex, x);
@@ -523,7 +527,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setString(final int parameterIndex, final String x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setString", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setString(parameterIndex, x);
@@ -535,7 +539,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setBytes(final int parameterIndex, final byte[] x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setBytes", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setBytes(parameterIndex, x);
@@ -547,7 +551,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setDate(final int parameterIndex, final Date x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setDate", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setDate(parameterIndex, x);
@@ -559,7 +563,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setTime(final int parameterIndex, final Time x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setTime", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setTime(parameterIndex, x);
@@ -571,7 +575,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setTimestamp(final int parameterIndex, final Timestamp x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setTimestamp", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setTimestamp(parameterIndex, x);
@@ -583,7 +587,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setAsciiStream(final int parameterIndex, final InputStream x, final int length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setAsciiStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setAsciiStream(parameterIndex, x, length);
@@ -595,7 +599,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setBinaryStream(final int parameterIndex, final InputStream x, final int length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setBinaryStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setBinaryStream(parameterIndex, x, length);
@@ -607,7 +611,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setObject(final int parameterIndex, final Object x, final int targetSqlType, final int scaleOrLength) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setObject", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setObject(parameterIndex, x, targetSqlType, scaleOrLength);
@@ -619,7 +623,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setObject(final int parameterIndex, final Object x, final int targetSqlType) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setObject", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setObject(parameterIndex, x, targetSqlType);
@@ -631,7 +635,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setObject(final int parameterIndex, final Object x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setObject", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setObject(parameterIndex, x);
@@ -643,7 +647,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setCharacterStream(final int parameterIndex, final Reader reader, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setCharacterStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setCharacterStream(parameterIndex, reader, length);
@@ -655,7 +659,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setDate(final int parameterIndex, final Date x, final Calendar cal) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setDate", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setDate(parameterIndex, x, cal);
@@ -667,7 +671,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setTime(final int parameterIndex, final Time x, final Calendar cal) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setTime", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setTime(parameterIndex, x, cal);
@@ -679,7 +683,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setTimestamp(final int parameterIndex, final Timestamp x, final Calendar cal) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setTimestamp", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setTimestamp(parameterIndex, x, cal);
@@ -691,7 +695,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setNull(final int parameterIndex, final int sqlType, final String typeName) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setNull", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setNull(parameterIndex, sqlType, typeName);
@@ -703,7 +707,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public String getString(final String parameterName) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getString", sql, new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return stmt().getString(parameterName);
@@ -714,7 +718,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public boolean getBoolean(final String parameterName) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getBoolean", sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return stmt().getBoolean(parameterName);
@@ -725,7 +729,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public byte getByte(final String parameterName) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Byte, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getByte", sql, new CheckedCallable<Byte, SQLException>() {
             @Override
             public Byte call() throws SQLException {
                 return stmt().getByte(parameterName);
@@ -736,7 +740,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public short getShort(final String parameterName) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Short, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getShort", sql, new CheckedCallable<Short, SQLException>() {
             @Override
             public Short call() throws SQLException {
                 return stmt().getShort(parameterName);
@@ -747,7 +751,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public int getInt(final String parameterName) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getInt", sql, new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return stmt().getInt(parameterName);
@@ -758,7 +762,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public long getLong(final String parameterName) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Long, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getLong", sql, new CheckedCallable<Long, SQLException>() {
             @Override
             public Long call() throws SQLException {
                 return stmt().getLong(parameterName);
@@ -769,7 +773,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public float getFloat(final String parameterName) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Float, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getFloat", sql, new CheckedCallable<Float, SQLException>() {
             @Override
             public Float call() throws SQLException {
                 return stmt().getFloat(parameterName);
@@ -780,7 +784,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public double getDouble(final String parameterName) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Double, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getDouble", sql, new CheckedCallable<Double, SQLException>() {
             @Override
             public Double call() throws SQLException {
                 return stmt().getDouble(parameterName);
@@ -791,7 +795,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public byte[] getBytes(final String parameterName) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<byte[], SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getBytes", sql, new CheckedCallable<byte[], SQLException>() {
             @Override
             public byte[] call() throws SQLException {
                 return stmt().getBytes(parameterName);
@@ -802,7 +806,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public Date getDate(final String parameterName) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Date, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getDate", sql, new CheckedCallable<Date, SQLException>() {
             @Override
             public Date call() throws SQLException {
                 return stmt().getDate(parameterName);
@@ -813,7 +817,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public Time getTime(final String parameterName) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Time, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getTime", sql, new CheckedCallable<Time, SQLException>() {
             @Override
             public Time call() throws SQLException {
                 return stmt().getTime(parameterName);
@@ -824,7 +828,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public Timestamp getTimestamp(final String parameterName) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Timestamp, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getTimestamp", sql, new CheckedCallable<Timestamp, SQLException>() {
             @Override
             public Timestamp call() throws SQLException {
                 return stmt().getTimestamp(parameterName);
@@ -835,7 +839,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public Object getObject(final String parameterName) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Object, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getObject", sql, new CheckedCallable<Object, SQLException>() {
             @Override
             public Object call() throws SQLException {
                 return stmt().getObject(parameterName);
@@ -846,7 +850,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public BigDecimal getBigDecimal(final String parameterName) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<BigDecimal, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getBigDecimal", sql, new CheckedCallable<BigDecimal, SQLException>() {
             @Override
             public BigDecimal call() throws SQLException {
                 return stmt().getBigDecimal(parameterName);
@@ -857,7 +861,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public Object getObject(final String parameterName, final Map<String, Class<?>> map) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Object, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getObject", sql, new CheckedCallable<Object, SQLException>() {
             @Override
             public Object call() throws SQLException {
                 return stmt().getObject(parameterName, map);
@@ -868,7 +872,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public Ref getRef(final String parameterName) throws SQLException {
-        final Ref ref = JDBCFiberAsync.exec(executor, new CheckedCallable<Ref, SQLException>() {
+        final Ref ref = JDBCFiberAsync.exec(executor, listener, "CallableStatement.getRef", sql, new CheckedCallable<Ref, SQLException>() {
             @Override
             public Ref call() throws SQLException {
                 return stmt().getRef(parameterName);
@@ -880,7 +884,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public Blob getBlob(final String parameterName) throws SQLException {
-        final Blob blob = JDBCFiberAsync.exec(executor, new CheckedCallable<Blob, SQLException>() {
+        final Blob blob = JDBCFiberAsync.exec(executor, listener, "CallableStatement.getBlob", sql, new CheckedCallable<Blob, SQLException>() {
             @Override
             public Blob call() throws SQLException {
                 return stmt().getBlob(parameterName);
@@ -892,7 +896,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public Clob getClob(final String parameterName) throws SQLException {
-        final Clob clob = JDBCFiberAsync.exec(executor, new CheckedCallable<Clob, SQLException>() {
+        final Clob clob = JDBCFiberAsync.exec(executor, listener, "CallableStatement.getClob", sql, new CheckedCallable<Clob, SQLException>() {
             @Override
             public Clob call() throws SQLException {
                 return stmt().getClob(parameterName);
@@ -904,7 +908,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public Array getArray(final String parameterName) throws SQLException {
-        final Array array = JDBCFiberAsync.exec(executor, new CheckedCallable<Array, SQLException>() {
+        final Array array = JDBCFiberAsync.exec(executor, listener, "CallableStatement.getArray", sql, new CheckedCallable<Array, SQLException>() {
             @Override
             public Array call() throws SQLException {
                 return stmt().getArray(parameterName);
@@ -916,7 +920,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public Date getDate(final String parameterName, final Calendar cal) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Date, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getDate", sql, new CheckedCallable<Date, SQLException>() {
             @Override
             public Date call() throws SQLException {
                 return stmt().getDate(parameterName, cal);
@@ -927,7 +931,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public Time getTime(final String parameterName, final Calendar cal) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Time, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getTime", sql, new CheckedCallable<Time, SQLException>() {
             @Override
             public Time call() throws SQLException {
                 return stmt().getTime(parameterName, cal);
@@ -938,7 +942,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public Timestamp getTimestamp(final String parameterName, final Calendar cal) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Timestamp, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getTimestamp", sql, new CheckedCallable<Timestamp, SQLException>() {
             @Override
             public Timestamp call() throws SQLException {
                 return stmt().getTimestamp(parameterName, cal);
@@ -949,7 +953,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public URL getURL(final String parameterName) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<URL, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getURL", sql, new CheckedCallable<URL, SQLException>() {
             @Override
             public URL call() throws SQLException {
                 return stmt().getURL(parameterName);
@@ -960,7 +964,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public RowId getRowId(final int parameterIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<RowId, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getRowId", sql, new CheckedCallable<RowId, SQLException>() {
             @Override
             public RowId call() throws SQLException {
                 return stmt().getRowId(parameterIndex);
@@ -971,7 +975,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public RowId getRowId(final String parameterName) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<RowId, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getRowId", sql, new CheckedCallable<RowId, SQLException>() {
             @Override
             public RowId call() throws SQLException {
                 return stmt().getRowId(parameterName);
@@ -982,7 +986,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public NClob getNClob(final int parameterIndex) throws SQLException {
-        final NClob clob = JDBCFiberAsync.exec(executor, new CheckedCallable<NClob, SQLException>() {
+        final NClob clob = JDBCFiberAsync.exec(executor, listener, "CallableStatement.getNClob", sql, new CheckedCallable<NClob, SQLException>() {
             @Override
             public NClob call() throws SQLException {
                 return stmt().getNClob(parameterIndex);
@@ -994,7 +998,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public NClob getNClob(final String parameterName) throws SQLException {
-        final NClob clob = JDBCFiberAsync.exec(executor, new CheckedCallable<NClob, SQLException>() {
+        final NClob clob = JDBCFiberAsync.exec(executor, listener, "CallableStatement.getNClob", sql, new CheckedCallable<NClob, SQLException>() {
             @Override
             public NClob call() throws SQLException {
                 return stmt().getNClob(parameterName);
@@ -1006,7 +1010,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public SQLXML getSQLXML(final int parameterIndex) throws SQLException {
-        final SQLXML sqlxml = JDBCFiberAsync.exec(executor, new CheckedCallable<SQLXML, SQLException>() {
+        final SQLXML sqlxml = JDBCFiberAsync.exec(executor, listener, "CallableStatement.getSQLXML", sql, new CheckedCallable<SQLXML, SQLException>() {
             @Override
             public SQLXML call() throws SQLException {
                 return stmt().getSQLXML(parameterIndex);
@@ -1018,7 +1022,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public SQLXML getSQLXML(final String parameterName) throws SQLException {
-        final SQLXML sqlxml = JDBCFiberAsync.exec(executor, new CheckedCallable<SQLXML, SQLException>() {
+        final SQLXML sqlxml = JDBCFiberAsync.exec(executor, listener, "CallableStatement.getSQLXML", sql, new CheckedCallable<SQLXML, SQLException>() {
             @Override
             public SQLXML call() throws SQLException {
                 return stmt().getSQLXML(parameterName);
@@ -1030,7 +1034,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public String getNString(final int parameterIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getNString", sql, new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return stmt().getString(parameterIndex);
@@ -1041,7 +1045,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public String getNString(final String parameterName) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getNString", sql, new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return stmt().getString(parameterName);
@@ -1052,7 +1056,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public Reader getNCharacterStream(final int parameterIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Reader, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getNCharacterStream", sql, new CheckedCallable<Reader, SQLException>() {
             @Override
             public Reader call() throws SQLException {
                 return stmt().getNCharacterStream(parameterIndex);
@@ -1063,7 +1067,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public Reader getNCharacterStream(final String parameterName) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Reader, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getNCharacterStream", sql, new CheckedCallable<Reader, SQLException>() {
             @Override
             public Reader call() throws SQLException {
                 return stmt().getNCharacterStream(parameterName);
@@ -1074,7 +1078,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public Reader getCharacterStream(final int parameterIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Reader, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getCharacterStream", sql, new CheckedCallable<Reader, SQLException>() {
             @Override
             public Reader call() throws SQLException {
                 return stmt().getCharacterStream(parameterIndex);
@@ -1085,7 +1089,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public Reader getCharacterStream(final String parameterName) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Reader, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getCharacterStream", sql, new CheckedCallable<Reader, SQLException>() {
             @Override
             public Reader call() throws SQLException {
                 return stmt().getCharacterStream(parameterName);
@@ -1096,7 +1100,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public <T> T getObject(final int parameterIndex, final Class<T> type) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<T, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getObject", sql, new CheckedCallable<T, SQLException>() {
             @Override
             public T call() throws SQLException {
                 return stmt().getObject(parameterIndex, type);
@@ -1107,7 +1111,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public <T> T getObject(final String parameterName, final Class<T> type) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<T, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "CallableStatement.getObject", sql, new CheckedCallable<T, SQLException>() {
             @Override
             public T call() throws SQLException {
                 return stmt().getObject(parameterName, type);
@@ -1118,7 +1122,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setRowId(final int parameterIndex, final RowId x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setRowId", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setRowId(parameterIndex, x);
@@ -1130,7 +1134,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setNString(final int parameterIndex, final String value) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setNString", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setNString(parameterIndex, value);
@@ -1142,7 +1146,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setNCharacterStream(final int parameterIndex, final Reader value, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setNCharacterStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setNCharacterStream(parameterIndex, value, length);
@@ -1154,7 +1158,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setNClob(final int parameterIndex, final NClob value) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setNClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setNClob(parameterIndex, value);
@@ -1166,7 +1170,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setClob(final int parameterIndex, final Reader reader, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setClob(parameterIndex, reader, length);
@@ -1178,7 +1182,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setBlob(final int parameterIndex, final InputStream inputStream, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setBlob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setBlob(parameterIndex, inputStream, length);
@@ -1190,7 +1194,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setNClob(final int parameterIndex, final Reader reader, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setNClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setNClob(parameterIndex, reader, length);
@@ -1202,7 +1206,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setSQLXML(final int parameterIndex, final SQLXML xmlObject) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setSQLXML", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setSQLXML(parameterIndex, xmlObject);
@@ -1214,7 +1218,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setBlob(final int parameterIndex, final Blob x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setBlob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setBlob(parameterIndex, x);
@@ -1226,7 +1230,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setClob(final int parameterIndex, final Clob x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setClob(parameterIndex, x);
@@ -1238,7 +1242,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setAsciiStream(final int parameterIndex, final InputStream x, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setAsciiStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setAsciiStream(parameterIndex, x, length);
@@ -1250,7 +1254,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setBinaryStream(final int parameterIndex, final InputStream x, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setBinaryStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setBinaryStream(parameterIndex, x, length);
@@ -1262,7 +1266,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setAsciiStream(final int parameterIndex, final InputStream x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setAsciiStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setAsciiStream(parameterIndex, x);
@@ -1274,7 +1278,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setBinaryStream(final int parameterIndex, final InputStream x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setBinaryStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setBinaryStream(parameterIndex, x);
@@ -1286,7 +1290,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setCharacterStream(final int parameterIndex, final Reader reader) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setCharacterStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setCharacterStream(parameterIndex, reader);
@@ -1298,7 +1302,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setNCharacterStream(final int parameterIndex, final Reader value) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setNCharacterStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setNCharacterStream(parameterIndex, value);
@@ -1310,7 +1314,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setClob(final int parameterIndex, final Reader reader) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setClob(parameterIndex, reader);
@@ -1322,7 +1326,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setBlob(final int parameterIndex, final InputStream inputStream) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setBlob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setBlob(parameterIndex, inputStream);
@@ -1334,7 +1338,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setNClob(final int parameterIndex, final Reader reader) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setNClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setNClob(parameterIndex, reader);
@@ -1346,7 +1350,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setURL(final String parameterName, final URL val) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setURL", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setURL(parameterName, val);
@@ -1358,7 +1362,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setNull(final String parameterName, final int sqlType) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setNull", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setNull(parameterName, sqlType);
@@ -1370,7 +1374,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setBoolean(final String parameterName, final boolean x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setBoolean", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setBoolean(parameterName, x);
@@ -1382,7 +1386,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setByte(final String parameterName, final byte x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setByte", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setByte(parameterName, x);
@@ -1394,7 +1398,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setShort(final String parameterName, final short x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setShort", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setShort(parameterName, x);
@@ -1406,7 +1410,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setInt(final String parameterName, final int x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setInt", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setInt(parameterName, x);
@@ -1418,7 +1422,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setLong(final String parameterName, final long x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setLong", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setLong(parameterName, x);
@@ -1430,7 +1434,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setFloat(final String parameterName, final float x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setFloat", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setFloat(parameterName, x);
@@ -1442,7 +1446,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setDouble(final String parameterName, final double x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setDouble", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setDouble(parameterName, x);
@@ -1454,7 +1458,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setBigDecimal(final String parameterName, final BigDecimal x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setBigDecimal", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setBigDecimal(parameterName, x);
@@ -1466,7 +1470,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setString(final String parameterName, final String x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setString", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setString(parameterName, x);
@@ -1478,7 +1482,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setBytes(final String parameterName, final byte[] x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setBytes", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setBytes(parameterName, x);
@@ -1490,7 +1494,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setDate(final String parameterName, final Date x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setDate", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setDate(parameterName, x);
@@ -1502,7 +1506,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setTime(final String parameterName, final Time x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setTime", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setTime(parameterName, x);
@@ -1514,7 +1518,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setTimestamp(final String parameterName, final Timestamp x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setTimestamp", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setTimestamp(parameterName, x);
@@ -1526,7 +1530,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setAsciiStream(final String parameterName, final InputStream x, final int length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setAsciiStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setAsciiStream(parameterName, x, length);
@@ -1538,7 +1542,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setBinaryStream(final String parameterName, final InputStream x, final int length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setBinaryStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setBinaryStream(parameterName, x, length);
@@ -1550,7 +1554,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setObject(final String parameterName, final Object x, final int targetSqlType, final int scale) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setObject", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setObject(parameterName, x, targetSqlType, scale);
@@ -1562,7 +1566,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setObject(final String parameterName, final Object x, final int targetSqlType) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setObject", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setObject(parameterName, x, targetSqlType);
@@ -1574,7 +1578,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setObject(final String parameterName, final Object x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setObject", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setObject(parameterName, x);
@@ -1586,7 +1590,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setCharacterStream(final String parameterName, final Reader reader, final int length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setCharacterStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setCharacterStream(parameterName, reader, length);
@@ -1598,7 +1602,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setDate(final String parameterName, final Date x, final Calendar cal) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setDate", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setDate(parameterName, x, cal);
@@ -1610,7 +1614,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setTime(final String parameterName, final Time x, final Calendar cal) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setTime", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setTime(parameterName, x, cal);
@@ -1622,7 +1626,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setTimestamp(final String parameterName, final Timestamp x, final Calendar cal) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setTimestamp", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setTimestamp(parameterName, x, cal);
@@ -1634,7 +1638,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setNull(final String parameterName, final int sqlType, final String typeName) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setNull", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setNull(parameterName, sqlType, typeName);
@@ -1646,7 +1650,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setRowId(final String parameterName, final RowId x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setRowId", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setRowId(parameterName, x);
@@ -1658,7 +1662,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setNString(final String parameterName, final String value) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setNString", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setNString(parameterName, value);
@@ -1670,7 +1674,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setNCharacterStream(final String parameterName, final Reader value, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setNCharacterStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setNCharacterStream(parameterName, value, length);
@@ -1682,7 +1686,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setNClob(final String parameterName, final NClob value) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setNClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setNClob(parameterName, value);
@@ -1694,7 +1698,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setClob(final String parameterName, final Reader reader, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setClob(parameterName, reader, length);
@@ -1706,7 +1710,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setBlob(final String parameterName, final InputStream inputStream, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setBlob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setBlob(parameterName, inputStream, length);
@@ -1718,7 +1722,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setNClob(final String parameterName, final Reader reader, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setNClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setNClob(parameterName, reader, length);
@@ -1730,7 +1734,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setSQLXML(final String parameterName, final SQLXML xmlObject) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setSQLXML", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setSQLXML(parameterName, xmlObject);
@@ -1742,7 +1746,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setBlob(final String parameterName, final Blob x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setBlob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setBlob(parameterName, x);
@@ -1754,7 +1758,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setClob(final String parameterName, final Clob x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setClob(parameterName, x);
@@ -1766,7 +1770,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setAsciiStream(final String parameterName, final InputStream x, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setAsciiStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setAsciiStream(parameterName, x, length);
@@ -1778,7 +1782,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setBinaryStream(final String parameterName, final InputStream x, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setBinaryStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setBinaryStream(parameterName, x, length);
@@ -1790,7 +1794,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setCharacterStream(final String parameterName, final Reader reader, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setCharacterStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setCharacterStream(parameterName, reader, length);
@@ -1802,7 +1806,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setAsciiStream(final String parameterName, final InputStream x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setAsciiStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setAsciiStream(parameterName, x);
@@ -1814,7 +1818,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setBinaryStream(final String parameterName, final InputStream x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setBinaryStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setBinaryStream(parameterName, x);
@@ -1826,7 +1830,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setCharacterStream(final String parameterName, final Reader reader) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setCharacterStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setCharacterStream(parameterName, reader);
@@ -1838,7 +1842,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setNCharacterStream(final String parameterName, final Reader value) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setNCharacterStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setNCharacterStream(parameterName, value);
@@ -1850,7 +1854,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setClob(final String parameterName, final Reader reader) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setClob(parameterName, reader);
@@ -1862,7 +1866,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setBlob(final String parameterName, final InputStream inputStream) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setBlob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setBlob(parameterName, inputStream);
@@ -1874,7 +1878,7 @@ public class FiberCallableStatement extends FiberPreparedStatement implements Ca
     @Override
     @Suspendable
     public void setNClob(final String parameterName, final Reader reader) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "CallableStatement.setNClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setNClob(parameterName, reader);
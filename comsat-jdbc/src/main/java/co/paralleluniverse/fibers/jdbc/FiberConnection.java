@@ -23,13 +23,17 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.NClob;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLClientInfoException;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
 import java.sql.SQLWarning;
 import java.sql.SQLXML;
 import java.sql.Savepoint;
 import java.sql.Statement;
 import java.sql.Struct;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Executor;
@@ -41,12 +45,76 @@ import java.util.concurrent.ExecutorService;
 public class FiberConnection implements Connection {
     private final Connection conn;
     private final ExecutorService executor;
+    private volatile int prefetchSize;
+    private volatile DriverProfile profile = DriverProfile.NONE;
+    private volatile JDBCListener listener;
 
     FiberConnection(final Connection conn, final ExecutorService exec) {
         this.conn = conn;
         this.executor = exec;
     }
 
+    /**
+     * Sets the default {@link FiberStatement#setPrefetchSize(int) prefetch size} of the forward-only, read-only
+     * statements subsequently created by this connection.
+     *
+     * @param rows The number of rows to prefetch, or {@code 0} (the default) to disable prefetching.
+     */
+    public void setPrefetchSize(final int rows) {
+        if (rows < 0)
+            throw new IllegalArgumentException("rows must be non-negative: " + rows);
+        this.prefetchSize = rows;
+    }
+
+    public int getPrefetchSize() {
+        return prefetchSize;
+    }
+
+    /**
+     * Sets the {@link DriverProfile} that decides which accessors of this connection, and of the metadata objects
+     * obtained from it and from its statements, are called directly on the calling fiber rather than on a JDBC worker.
+     *
+     * @param profile The profile; {@link DriverProfile#NONE} (the default) dispatches every call to a worker.
+     */
+    public void setDriverProfile(final DriverProfile profile) {
+        if (profile == null)
+            throw new IllegalArgumentException("profile must not be null");
+        this.profile = profile;
+    }
+
+    public DriverProfile getDriverProfile() {
+        return profile;
+    }
+
+    /**
+     * Sets the {@link JDBCListener} notified of the JDBC operations of the statements subsequently created by this
+     * connection, and of this connection's compound operations.
+     *
+     * @param listener The listener, or {@code null} (the default) for none.
+     */
+    public void setListener(final JDBCListener listener) {
+        this.listener = listener;
+    }
+
+    public JDBCListener getListener() {
+        return listener;
+    }
+
+    private <S extends FiberStatement> S configured(final S s) {
+        s.setPrefetchSize(prefetchSize);
+        s.setDriverProfile(profile);
+        s.setListener(listener);
+        return s;
+    }
+
+    private <S extends FiberStatement> S configured(final S s, final int resultSetType, final int resultSetConcurrency) {
+        if (resultSetType == ResultSet.TYPE_FORWARD_ONLY && resultSetConcurrency == ResultSet.CONCUR_READ_ONLY)
+            s.setPrefetchSize(prefetchSize);
+        s.setDriverProfile(profile);
+        s.setListener(listener);
+        return s;
+    }
+
     @Override
     @Suspendable
     public FiberStatement createStatement() throws SQLException {
@@ -56,7 +124,7 @@ public class FiberConnection implements Connection {
                 return conn.createStatement();
             }
         });
-        return new FiberStatement(statement, executor);
+        return configured(new FiberStatement(statement, executor));
     }
     
     @Override
@@ -68,7 +136,87 @@ public class FiberConnection implements Connection {
                 return conn.prepareStatement(sql);
             }
         });
-        return new FiberPreparedStatement(prepareStatement, executor);
+        return configured(new FiberPreparedStatement(prepareStatement, executor, sql));
+    }
+
+    /**
+     * Prepares a query, binds its parameters, executes it, maps all resulting rows and closes the statement,
+     * all in a single JDBC operation.
+     *
+     * @param sql    The SQL query.
+     * @param mapper The row mapper, which will run in the JDBC worker thread.
+     * @param params The values of the query's parameters, in order.
+     * @return The mapped rows.
+     */
+    @Suspendable
+    public <T> List<T> query(final String sql, final RowMapper<T> mapper, final Object... params) throws SQLException {
+        return JDBCFiberAsync.exec(executor, listener, "Connection.query", sql, new CheckedCallable<List<T>, SQLException>() {
+            @Override
+            public List<T> call() throws SQLException {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    FiberPreparedStatement.bind(ps, params);
+                    return FiberPreparedStatement.map(ps.executeQuery(), mapper);
+                }
+            }
+        });
+    }
+
+    /**
+     * Like {@link #query(String, RowMapper, Object...) query}, but returns only the first mapped row.
+     *
+     * @return The first mapped row, or {@code null} if the query returned no rows.
+     */
+    @Suspendable
+    public <T> T queryFirst(final String sql, final RowMapper<T> mapper, final Object... params) throws SQLException {
+        return JDBCFiberAsync.exec(executor, listener, "Connection.queryFirst", sql, new CheckedCallable<T, SQLException>() {
+            @Override
+            public T call() throws SQLException {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setMaxRows(1);
+                    FiberPreparedStatement.bind(ps, params);
+                    try (ResultSet rs = ps.executeQuery()) {
+                        return rs.next() ? mapper.map(rs) : null;
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Executes a query in a JDBC worker thread and streams the mapped rows to the caller through a bounded channel,
+     * {@code batchSize} rows at a time. See {@link FiberRowStream}.
+     *
+     * @param sql       The SQL query.
+     * @param mapper    The row mapper, which will run in the JDBC worker thread.
+     * @param batchSize The number of rows mapped and sent to the channel at a time.
+     * @param params    The values of the query's parameters, in order.
+     * @return The stream of mapped rows, which must be closed if not read to the end.
+     * @throws SQLTransientConnectionException if no JDBC worker is available for the query.
+     * @throws SQLFeatureNotSupportedException if this connection is pinned to an {@link AffineJDBCWorkerPool} worker.
+     */
+    @Suspendable
+    public <T> FiberRowStream<T> stream(final String sql, final RowMapper<T> mapper, final int batchSize, final Object... params) throws SQLException {
+        return FiberRowStream.open(conn, executor, listener, sql, mapper, batchSize, params);
+    }
+
+    /**
+     * Prepares a statement, binds its parameters, executes it and closes it, all in a single JDBC operation.
+     *
+     * @param sql    The SQL {@code INSERT}, {@code UPDATE} or {@code DELETE} statement, or a DDL statement.
+     * @param params The values of the statement's parameters, in order.
+     * @return The update count.
+     */
+    @Suspendable
+    public int update(final String sql, final Object... params) throws SQLException {
+        return JDBCFiberAsync.exec(executor, listener, "Connection.update", sql, new CheckedCallable<Integer, SQLException>() {
+            @Override
+            public Integer call() throws SQLException {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    FiberPreparedStatement.bind(ps, params);
+                    return ps.executeUpdate();
+                }
+            }
+        });
     }
 
     @Override
@@ -80,7 +228,7 @@ public class FiberConnection implements Connection {
                 return conn.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
             }
         });
-        return new FiberPreparedStatement(prepareStatement, executor);
+        return configured(new FiberPreparedStatement(prepareStatement, executor, sql), resultSetType, resultSetConcurrency);
     }
 
     @Override
@@ -92,7 +240,7 @@ public class FiberConnection implements Connection {
                 return conn.prepareStatement(sql, autoGeneratedKeys);
             }
         });
-        return new FiberPreparedStatement(prepareStatement, executor);
+        return configured(new FiberPreparedStatement(prepareStatement, executor, sql));
     }
 
     @Override
@@ -104,7 +252,7 @@ public class FiberConnection implements Connection {
                 return conn.prepareStatement(sql, columnIndexes);
             }
         });
-        return new FiberPreparedStatement(prepareStatement, executor);
+        return configured(new FiberPreparedStatement(prepareStatement, executor, sql));
     }
 
     @Override
@@ -116,7 +264,7 @@ public class FiberConnection implements Connection {
                 return conn.prepareStatement(sql, columnNames);
             }
         });
-        return new FiberPreparedStatement(prepareStatement, executor);
+        return configured(new FiberPreparedStatement(prepareStatement, executor, sql));
     }
 
     @Override
@@ -128,7 +276,7 @@ public class FiberConnection implements Connection {
                 return conn.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
             }
         });
-        return new FiberCallableStatement(callableStatement, executor);
+        return configured(new FiberCallableStatement(callableStatement, executor, sql), resultSetType, resultSetConcurrency);
     }
 
     @Override
@@ -140,7 +288,7 @@ public class FiberConnection implements Connection {
                 return conn.prepareCall(sql);
             }
         });
-        return new FiberCallableStatement(callableStatement, executor);
+        return configured(new FiberCallableStatement(callableStatement, executor, sql));
     }
 
     @Override
@@ -152,7 +300,7 @@ public class FiberConnection implements Connection {
                 return conn.prepareCall(sql, resultSetType, resultSetConcurrency);
             }
         });
-        return new FiberCallableStatement(callableStatement, executor);
+        return configured(new FiberCallableStatement(callableStatement, executor, sql), resultSetType, resultSetConcurrency);
     }
 
     @Override
@@ -181,7 +329,7 @@ public class FiberConnection implements Connection {
     @Override
     @Suspendable
     public boolean getAutoCommit() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "Connection.getAutoCommit", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return conn.getAutoCommit();
@@ -216,19 +364,23 @@ public class FiberConnection implements Connection {
     @Override
     @Suspendable
     public void close() throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
-            @Override
-            public Void call() throws SQLException {
-                conn.close();
-                return null;
-            }
-        });
+        try {
+            JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+                @Override
+                public Void call() throws SQLException {
+                    conn.close();
+                    return null;
+                }
+            });
+        } finally {
+            AffineJDBCWorkerPool.unpin(executor);
+        }
     }
 
     @Override
     @Suspendable
     public boolean isClosed() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "Connection.isClosed", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return conn.isClosed();
@@ -239,13 +391,13 @@ public class FiberConnection implements Connection {
     @Override
     @Suspendable
     public FiberDatabaseMetaData getMetaData() throws SQLException {
-        final DatabaseMetaData dbMeta = JDBCFiberAsync.exec(executor, new CheckedCallable<DatabaseMetaData, SQLException>() {
+        final DatabaseMetaData dbMeta = JDBCFiberAsync.exec(executor, profile, "Connection.getMetaData", new CheckedCallable<DatabaseMetaData, SQLException>() {
             @Override
             public DatabaseMetaData call() throws SQLException {
                 return conn.getMetaData();
             }
         });
-        return new FiberDatabaseMetaData(dbMeta, executor);
+        return new FiberDatabaseMetaData(dbMeta, executor, profile);
     }
 
     @Override
@@ -263,7 +415,7 @@ public class FiberConnection implements Connection {
     @Override
     @Suspendable
     public boolean isReadOnly() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "Connection.isReadOnly", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return conn.isReadOnly();
@@ -286,7 +438,7 @@ public class FiberConnection implements Connection {
     @Override
     @Suspendable
     public String getCatalog() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "Connection.getCatalog", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return conn.getCatalog();
@@ -309,7 +461,7 @@ public class FiberConnection implements Connection {
     @Override
     @Suspendable
     public int getTransactionIsolation() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "Connection.getTransactionIsolation", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return conn.getTransactionIsolation();
@@ -320,7 +472,7 @@ public class FiberConnection implements Connection {
     @Override
     @Suspendable
     public SQLWarning getWarnings() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<SQLWarning, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "Connection.getWarnings", new CheckedCallable<SQLWarning, SQLException>() {
             @Override
             public SQLWarning call() throws SQLException {
                 return conn.getWarnings();
@@ -349,7 +501,7 @@ public class FiberConnection implements Connection {
                 return conn.createStatement(resultSetType, resultSetConcurrency);
             }
         });
-        return new FiberStatement(statement, executor);
+        return configured(new FiberStatement(statement, executor), resultSetType, resultSetConcurrency);
     }
 
     @Override
@@ -361,13 +513,13 @@ public class FiberConnection implements Connection {
                 return conn.prepareStatement(sql, resultSetType, resultSetConcurrency);
             }
         });
-        return new FiberPreparedStatement(stmt, executor);
+        return configured(new FiberPreparedStatement(stmt, executor, sql), resultSetType, resultSetConcurrency);
     }
 
     @Override
     @Suspendable
     public Map<String, Class<?>> getTypeMap() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable< Map<String, Class<?>>, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "Connection.getTypeMap", new CheckedCallable< Map<String, Class<?>>, SQLException>() {
             @Override
             public Map<String, Class<?>> call() throws SQLException {
                 return conn.getTypeMap();
@@ -402,7 +554,7 @@ public class FiberConnection implements Connection {
     @Override
     @Suspendable
     public int getHoldability() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "Connection.getHoldability", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return conn.getHoldability();
@@ -467,7 +619,7 @@ public class FiberConnection implements Connection {
                 return conn.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
             }
         });
-        return new FiberStatement(statement, executor);
+        return configured(new FiberStatement(statement, executor), resultSetType, resultSetConcurrency);
     }
 
     @Override
@@ -556,7 +708,7 @@ public class FiberConnection implements Connection {
     @Override
     @Suspendable
     public String getClientInfo(final String name) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "Connection.getClientInfo", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return conn.getClientInfo(name);
@@ -567,7 +719,7 @@ public class FiberConnection implements Connection {
     @Override
     @Suspendable
     public Properties getClientInfo() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Properties, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "Connection.getClientInfo", new CheckedCallable<Properties, SQLException>() {
             @Override
             public Properties call() throws SQLException {
                 return conn.getClientInfo();
@@ -614,7 +766,7 @@ public class FiberConnection implements Connection {
     @Override
     @Suspendable
     public String getSchema() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "Connection.getSchema", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return conn.getSchema();
@@ -649,7 +801,7 @@ public class FiberConnection implements Connection {
     @Override
     @Suspendable
     public int getNetworkTimeout() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "Connection.getNetworkTimeout", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return conn.getNetworkTimeout();
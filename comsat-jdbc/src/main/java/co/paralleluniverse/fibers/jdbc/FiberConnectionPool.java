@@ -0,0 +1,490 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.fibers.jdbc;
+
+import co.paralleluniverse.common.util.CheckedCallable;
+import co.paralleluniverse.fibers.Suspendable;
+import co.paralleluniverse.strands.concurrent.Semaphore;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+
+/**
+ * A fiber-aware JDBC connection pool.
+ * <p>
+ * Unlike a {@link FiberDataSource} wrapping a pooling data source, which occupies a JDBC worker thread while the
+ * underlying pool blocks waiting for a free connection, this pool makes waiting strands park (fiber-blocked, if they
+ * are fibers) in FIFO order, and only uses a worker thread to open, validate, reset and close physical connections.
+ * Pool contention is thus decoupled from the number of worker threads, and many more fibers than there are
+ * connections can share the pool without stalling unrelated JDBC operations.
+ * <p>
+ * Connections are obtained from the wrapped data source, which should not itself be pooling, and handed out most
+ * recently used first. Closing a connection obtained from the pool rolls back any pending transaction, restores
+ * auto-commit, as well as the read-only flag, transaction isolation and catalog if they were changed, and returns it
+ * to the pool; statements left open by the application, and so their result sets, are closed. Once closed, the
+ * connection handle and the statements created through it throw an {@link SQLException} from all their methods, even
+ * after the physical connection is handed out again.
+ * A connection that has been idle for longer than the validation interval is {@link Connection#isValid(int) validated}
+ * before it is handed out, and replaced if it's no longer valid.
+ */
+public class FiberConnectionPool extends FiberDataSource implements AutoCloseable {
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private final DataSource ds;
+    private final ExecutorService executor;
+    private final int maxSize;
+    private final long acquireTimeoutNanos;
+    private final Semaphore permits;
+    private final ConcurrentLinkedDeque<Idle> idle = new ConcurrentLinkedDeque<>();
+    private volatile long validationIntervalNanos = TimeUnit.SECONDS.toNanos(30);
+    private volatile boolean closed;
+
+    /**
+     * Creates a new pool.
+     *
+     * @param ds             The non-pooling {@link DataSource} providing physical connections.
+     * @param executor       The {@link ExecutorService} to use to actually execute JDBC operations.
+     * @param maxSize        The maximum number of connections.
+     * @param acquireTimeout The maximum time a strand will wait for a connection.
+     * @param unit           The unit of {@code acquireTimeout}.
+     */
+    public static FiberConnectionPool create(final DataSource ds, final ExecutorService executor, final int maxSize, final long acquireTimeout, final TimeUnit unit) {
+        return new FiberConnectionPool(ds, MoreExecutors.listeningDecorator(executor), maxSize, acquireTimeout, unit);
+    }
+
+    protected FiberConnectionPool(final DataSource ds, final ExecutorService executor, final int maxSize, final long acquireTimeout, final TimeUnit unit) {
+        super(ds, executor);
+        if (maxSize <= 0)
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        this.ds = ds;
+        this.executor = executor;
+        this.maxSize = maxSize;
+        this.acquireTimeoutNanos = unit.toNanos(acquireTimeout);
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    /**
+     * Sets how long a connection may sit idle in the pool before it is validated again.
+     */
+    public void setValidationInterval(final long interval, final TimeUnit unit) {
+        if (interval < 0)
+            throw new IllegalArgumentException("interval must be non-negative: " + interval);
+        this.validationIntervalNanos = unit.toNanos(interval);
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * The number of connections currently in use.
+     */
+    public int getActiveConnections() {
+        return maxSize - permits.availablePermits();
+    }
+
+    /**
+     * The number of open connections waiting in the pool.
+     */
+    public int getIdleConnections() {
+        return idle.size();
+    }
+
+    /**
+     * The number of strands waiting for a connection.
+     */
+    public int getWaitingStrands() {
+        return permits.getQueueLength();
+    }
+
+    @Override
+    @Suspendable
+    public FiberConnection getConnection() throws SQLException {
+        acquire();
+        final ExecutorService exec = connectionExecutor();
+        try {
+            final Idle candidate = idle.pollFirst();
+            final Physical conn;
+            if (candidate != null && System.nanoTime() - candidate.since < validationIntervalNanos)
+                conn = candidate.conn;
+            else {
+                conn = JDBCFiberAsync.exec(exec, new CheckedCallable<Physical, SQLException>() {
+                    @Override
+                    public Physical call() throws SQLException {
+                        if (candidate != null) {
+                            if (candidate.conn.conn.isValid(VALIDATION_TIMEOUT_SECONDS))
+                                return candidate.conn;
+                            closeQuietly(candidate.conn.conn);
+                        }
+                        return new Physical(ds.getConnection());
+                    }
+                });
+            }
+            return configure(new PooledConnection(new Handle(conn.conn), conn, exec));
+        } catch (SQLException | RuntimeException e) {
+            AffineJDBCWorkerPool.unpin(exec);
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Not supported: all of the pool's connections share the wrapped data source's credentials.
+     */
+    @Override
+    public FiberConnection getConnection(final String username, final String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("FiberConnectionPool does not support per-connection credentials");
+    }
+
+    /**
+     * Closes all idle connections; connections in use are closed when they are returned to the pool.
+     */
+    @Override
+    @Suspendable
+    public void close() throws SQLException {
+        closed = true;
+        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+            @Override
+            public Void call() throws SQLException {
+                drain();
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Closes a connection that couldn't be returned to the pool.
+     */
+    private void discard(final Connection conn) {
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    closeQuietly(conn);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            closeQuietly(conn);
+        }
+    }
+
+    @Suspendable
+    private void acquire() throws SQLException {
+        if (closed)
+            throw new SQLException("Connection pool is closed");
+        final boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException ie) {
+            throw new RuntimeException(ie);
+        }
+        if (!acquired)
+            throw new SQLTransientConnectionException("Timed out after "
+                    + TimeUnit.NANOSECONDS.toMillis(acquireTimeoutNanos) + "ms waiting for a connection");
+    }
+
+    /**
+     * Resets a connection and returns it to the pool; must be called in the JDBC worker thread.
+     */
+    private void release(final Physical p, final boolean stateChanged) {
+        final Connection conn = p.conn;
+        try {
+            if (!conn.getAutoCommit()) {
+                conn.rollback();
+                conn.setAutoCommit(true);
+            }
+            if (stateChanged) {
+                if (conn.isReadOnly() != p.readOnly)
+                    conn.setReadOnly(p.readOnly);
+                if (conn.getTransactionIsolation() != p.isolation)
+                    conn.setTransactionIsolation(p.isolation);
+                if (p.catalog != null && !p.catalog.equals(conn.getCatalog()))
+                    conn.setCatalog(p.catalog);
+            }
+            conn.clearWarnings();
+        } catch (SQLException e) {
+            closeQuietly(conn);
+            return;
+        }
+        idle.addFirst(new Idle(p));
+        if (closed)
+            drain();
+    }
+
+    private void drain() {
+        Idle i;
+        while ((i = idle.pollFirst()) != null)
+            closeQuietly(i.conn.conn);
+    }
+
+    private static void closeQuietly(final Connection conn) {
+        try {
+            conn.close();
+        } catch (SQLException e) {
+        }
+    }
+
+    /**
+     * A physical connection, with the state it had when it was opened.
+     */
+    private static final class Physical {
+        final Connection conn;
+        final boolean readOnly;
+        final int isolation;
+        final String catalog;
+
+        /**
+         * Must be called in the JDBC worker thread.
+         */
+        Physical(final Connection conn) throws SQLException {
+            this.conn = conn;
+            try {
+                this.readOnly = conn.isReadOnly();
+                this.isolation = conn.getTransactionIsolation();
+                this.catalog = conn.getCatalog();
+            } catch (SQLException e) {
+                closeQuietly(conn);
+                throw e;
+            }
+        }
+    }
+
+    private static final class Idle {
+        final Physical conn;
+        final long since = System.nanoTime();
+
+        Idle(final Physical conn) {
+            this.conn = conn;
+        }
+    }
+
+    private static void closeQuietly(final Statement[] statements) {
+        for (Statement s : statements) {
+            try {
+                s.close();
+            } catch (SQLException e) {
+            }
+        }
+    }
+
+    /**
+     * The connection seen by a {@link PooledConnection}, which stops delegating to the physical connection once it's
+     * returned to the pool, and keeps track of the statements created through it.
+     */
+    private static final class Handle implements InvocationHandler {
+        private volatile Connection target;
+        final Connection proxy;
+        private final Set<Statement> statements = Collections.newSetFromMap(new ConcurrentHashMap<Statement, Boolean>());
+
+        Handle(final Connection target) {
+            this.target = target;
+            this.proxy = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, this);
+        }
+
+        /**
+         * Stops delegating to the physical connection.
+         *
+         * @return The statements the application has left open, to be closed in the JDBC worker thread.
+         */
+        Statement[] invalidate() {
+            target = null;
+            final Statement[] open = statements.toArray(new Statement[0]);
+            statements.clear();
+            return open;
+        }
+
+        boolean isValid() {
+            return target != null;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            final Connection t = target;
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection@" + Integer.toHexString(System.identityHashCode(proxy)) + (t == null ? " (closed)" : "");
+                case "isClosed":
+                    if (t == null)
+                        return true;
+                    break;
+                case "close":
+                    if (t == null)
+                        return null;
+                    break;
+                case "isValid":
+                    if (t == null)
+                        return false;
+                    break;
+                default:
+                    break;
+            }
+            if (t == null)
+                throw new SQLException("connection is closed", "08003");
+            final Object result;
+            try {
+                result = method.invoke(t, args);
+            } catch (final InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                final Statement stmt = (Statement) result;
+                statements.add(stmt);
+                if (!isValid() && statements.remove(stmt)) // returned to the pool in the meantime
+                    closeQuietly(new Statement[]{stmt});
+                return new StatementHandle(this, stmt, method.getReturnType()).proxy;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * A statement created through a {@link Handle}, which stops delegating to the physical statement once the
+     * handle's connection is returned to the pool.
+     */
+    private static final class StatementHandle implements InvocationHandler {
+        private final Handle connection;
+        private final Statement target;
+        final Statement proxy;
+
+        StatementHandle(final Handle connection, final Statement target, final Class<?> type) {
+            this.connection = connection;
+            this.target = target;
+            this.proxy = (Statement) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, this);
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledStatement@" + Integer.toHexString(System.identityHashCode(proxy));
+                case "close":
+                    connection.statements.remove(target);
+                    if (!connection.isValid())
+                        return null; // closed when the connection was returned
+                    break;
+                case "isClosed":
+                    if (!connection.isValid())
+                        return true;
+                    break;
+                case "getConnection":
+                    if (connection.isValid())
+                        return connection.proxy; // not the physical connection
+                    break;
+                default:
+                    break;
+            }
+            if (!connection.isValid())
+                throw new SQLException("statement is closed", "08003");
+            try {
+                return method.invoke(target, args);
+            } catch (final InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private final class PooledConnection extends FiberConnection {
+        private final Handle handle;
+        private final Physical conn;
+        private final ExecutorService exec;
+        private final AtomicBoolean returned = new AtomicBoolean();
+        private volatile boolean stateChanged;
+
+        PooledConnection(final Handle handle, final Physical conn, final ExecutorService exec) {
+            super(handle.proxy, exec);
+            this.handle = handle;
+            this.conn = conn;
+            this.exec = exec;
+        }
+
+        @Override
+        @Suspendable
+        public void close() throws SQLException {
+            if (!returned.compareAndSet(false, true))
+                return;
+            final Statement[] open = handle.invalidate();
+            final AtomicBoolean released = new AtomicBoolean();
+            try {
+                JDBCFiberAsync.exec(exec, new CheckedCallable<Void, SQLException>() {
+                    @Override
+                    public Void call() throws SQLException {
+                        closeQuietly(open);
+                        release(conn, stateChanged);
+                        released.set(true);
+                        return null;
+                    }
+                });
+            } catch (SQLException | RuntimeException e) {
+                // e.g. not admitted to a JDBCWorkerPool: the connection was neither reset nor returned
+                if (!released.get())
+                    discard(conn.conn);
+                throw e;
+            } finally {
+                AffineJDBCWorkerPool.unpin(exec);
+                permits.release();
+            }
+        }
+
+        @Override
+        @Suspendable
+        public void setReadOnly(final boolean readOnly) throws SQLException {
+            stateChanged = true;
+            super.setReadOnly(readOnly);
+        }
+
+        @Override
+        @Suspendable
+        public void setTransactionIsolation(final int level) throws SQLException {
+            stateChanged = true;
+            super.setTransactionIsolation(level);
+        }
+
+        @Override
+        @Suspendable
+        public void setCatalog(final String catalog) throws SQLException {
+            stateChanged = true;
+            super.setCatalog(catalog);
+        }
+
+        @Override
+        @Suspendable
+        public boolean isClosed() throws SQLException {
+            return returned.get() || super.isClosed();
+        }
+    }
+}
@@ -35,6 +35,9 @@ import javax.sql.DataSource;
 public class FiberDataSource implements DataSource {
     private final DataSource ds;
     private final ExecutorService executor;
+    private volatile int prefetchSize;
+    private volatile DriverProfile profile = DriverProfile.NONE;
+    private volatile JDBCListener listener;
 
     /**
      * Wraps a JDBC {@link DataSource}.
@@ -70,26 +73,106 @@ public class FiberDataSource implements DataSource {
         this.executor = exec;
     }
 
+    /**
+     * Sets the default {@link FiberConnection#setPrefetchSize(int) prefetch size} of the connections
+     * subsequently obtained from this data source.
+     *
+     * @param rows The number of rows to prefetch, or {@code 0} (the default) to disable prefetching.
+     */
+    public void setPrefetchSize(final int rows) {
+        if (rows < 0)
+            throw new IllegalArgumentException("rows must be non-negative: " + rows);
+        this.prefetchSize = rows;
+    }
+
+    public int getPrefetchSize() {
+        return prefetchSize;
+    }
+
+    /**
+     * Sets the default {@link FiberConnection#setDriverProfile(DriverProfile) driver profile} of the connections
+     * subsequently obtained from this data source.
+     *
+     * @param profile The profile; {@link DriverProfile#NONE} (the default) dispatches every call to a worker.
+     */
+    public void setDriverProfile(final DriverProfile profile) {
+        if (profile == null)
+            throw new IllegalArgumentException("profile must not be null");
+        this.profile = profile;
+    }
+
+    public DriverProfile getDriverProfile() {
+        return profile;
+    }
+
+    /**
+     * Sets the default {@link FiberConnection#setListener(JDBCListener) listener} of the connections subsequently
+     * obtained from this data source.
+     *
+     * @param listener The listener, or {@code null} (the default) for none.
+     */
+    public void setListener(final JDBCListener listener) {
+        this.listener = listener;
+    }
+
+    public JDBCListener getListener() {
+        return listener;
+    }
+
+    private FiberConnection newConnection(final Connection conn, final ExecutorService exec) {
+        return configure(new FiberConnection(conn, exec));
+    }
+
+    /**
+     * Applies this data source's connection defaults to {@code fc}.
+     */
+    <C extends FiberConnection> C configure(final C fc) {
+        fc.setPrefetchSize(prefetchSize);
+        fc.setDriverProfile(profile);
+        fc.setListener(listener);
+        return fc;
+    }
+
+    /**
+     * The executor the next connection will run on: a pinned worker if this data source wraps an
+     * {@link AffineJDBCWorkerPool}, the shared executor otherwise.
+     */
+    ExecutorService connectionExecutor() {
+        return executor instanceof AffineJDBCWorkerPool ? ((AffineJDBCWorkerPool) executor).pin() : executor;
+    }
+
     @Override
     @Suspendable
     public FiberConnection getConnection() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<FiberConnection, SQLException>() {
-            @Override
-            public FiberConnection call() throws SQLException {
-                return new FiberConnection(ds.getConnection(), executor);
-            }
-        });
+        final ExecutorService exec = connectionExecutor();
+        try {
+            return JDBCFiberAsync.exec(exec, new CheckedCallable<FiberConnection, SQLException>() {
+                @Override
+                public FiberConnection call() throws SQLException {
+                    return newConnection(ds.getConnection(), exec);
+                }
+            });
+        } catch (SQLException | RuntimeException e) {
+            AffineJDBCWorkerPool.unpin(exec);
+            throw e;
+        }
     }
 
     @Override
     @Suspendable
     public FiberConnection getConnection(final String username, final String password) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<FiberConnection, SQLException>() {
-            @Override
-            public FiberConnection call() throws SQLException {
-                return new FiberConnection(ds.getConnection(username, password), executor);
-            }
-        });
+        final ExecutorService exec = connectionExecutor();
+        try {
+            return JDBCFiberAsync.exec(exec, new CheckedCallable<FiberConnection, SQLException>() {
+                @Override
+                public FiberConnection call() throws SQLException {
+                    return newConnection(ds.getConnection(username, password), exec);
+                }
+            });
+        } catch (SQLException | RuntimeException e) {
+            AffineJDBCWorkerPool.unpin(exec);
+            throw e;
+        }
     }
 
     @Override
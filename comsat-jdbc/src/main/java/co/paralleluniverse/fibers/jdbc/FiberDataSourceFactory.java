@@ -14,6 +14,9 @@
 package co.paralleluniverse.fibers.jdbc;
 
 import java.util.Hashtable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.naming.Context;
 import javax.naming.InitialContext;
 import javax.naming.Name;
@@ -43,12 +46,49 @@ public class FiberDataSourceFactory implements ObjectFactory {
         if (ra == null)
             throw new RuntimeException("mising rawDataSource name");
         final int tc = Integer.parseInt(ra.getContent().toString());
-        return create(rawDS, tc);
+        ra = ref.get("prefetchSize");
+        final int ps = ra != null ? Integer.parseInt(ra.getContent().toString()) : 0;
+        ra = ref.get("driverProfile");
+        final DriverProfile dp = ra != null ? DriverProfile.forName(ra.getContent().toString()) : DriverProfile.NONE;
+        ra = ref.get("connectionAffinity");
+        if (ra != null && Boolean.parseBoolean(ra.getContent().toString()))
+            return configure(create(rawDS, new AffineJDBCWorkerPool("jdbc-worker-" + rawDS, tc), ps), dp);
+        ra = ref.get("queueCapacity");
+        if (ra != null) {
+            final int qc = Integer.parseInt(ra.getContent().toString());
+            ra = ref.get("acquireTimeout");
+            final long at = ra != null ? Long.parseLong(ra.getContent().toString()) : DEFAULT_ACQUIRE_TIMEOUT_MILLIS;
+            return configure(create(rawDS, new JDBCWorkerPool("jdbc-worker-" + rawDS + "-" + poolCount.incrementAndGet(), tc, qc, at, TimeUnit.MILLISECONDS), ps), dp);
+        }
+        return configure(create(rawDS, tc, ps), dp);
     }
 
+    private static DataSource configure(final DataSource ds, final DriverProfile profile) {
+        ((FiberDataSource) ds).setDriverProfile(profile);
+        return ds;
+    }
+
+    private static final long DEFAULT_ACQUIRE_TIMEOUT_MILLIS = 30_000;
+    private static final AtomicInteger poolCount = new AtomicInteger(); // Pool names must be unique
+
     public static DataSource create(final String rawDS, final int tc) throws NamingException {
+        return create(rawDS, tc, 0);
+    }
+
+    public static DataSource create(final String rawDS, final int tc, final int prefetchSize) throws NamingException {
+        final FiberDataSource fds = (FiberDataSource) FiberDataSource.wrap(lookup(rawDS), tc);
+        fds.setPrefetchSize(prefetchSize);
+        return fds;
+    }
+
+    public static DataSource create(final String rawDS, final ExecutorService executor, final int prefetchSize) throws NamingException {
+        final FiberDataSource fds = (FiberDataSource) FiberDataSource.wrap(lookup(rawDS), executor);
+        fds.setPrefetchSize(prefetchSize);
+        return fds;
+    }
+
+    private static DataSource lookup(final String rawDS) throws NamingException {
         final Context envCtx = (Context) new InitialContext().lookup("java:comp/env");
-        final DataSource ds = (DataSource) envCtx.lookup(rawDS);
-        return FiberDataSource.wrap(ds, tc);
+        return (DataSource) envCtx.lookup(rawDS);
     }
 }
@@ -28,16 +28,22 @@ import java.util.concurrent.ExecutorService;
 public class FiberDatabaseMetaData implements DatabaseMetaData {
     private final DatabaseMetaData dbMeta;
     private final ExecutorService executor;
+    private final DriverProfile profile;
 
     public FiberDatabaseMetaData(final DatabaseMetaData dbMeta, final ExecutorService executor) {
+        this(dbMeta, executor, DriverProfile.NONE);
+    }
+
+    public FiberDatabaseMetaData(final DatabaseMetaData dbMeta, final ExecutorService executor, final DriverProfile profile) {
         this.dbMeta = dbMeta;
         this.executor = executor;
+        this.profile = profile;
     }
 
     @Override
     @Suspendable
     public boolean allProceduresAreCallable() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.allProceduresAreCallable", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.allProceduresAreCallable();
@@ -48,7 +54,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean allTablesAreSelectable() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.allTablesAreSelectable", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.allTablesAreSelectable();
@@ -59,7 +65,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public String getURL() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getURL", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return dbMeta.getURL();
@@ -70,7 +76,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public String getUserName() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getUserName", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return dbMeta.getUserName();
@@ -81,7 +87,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean isReadOnly() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.isReadOnly", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.isReadOnly();
@@ -92,7 +98,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean nullsAreSortedHigh() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.nullsAreSortedHigh", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.nullsAreSortedHigh();
@@ -103,7 +109,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean nullsAreSortedLow() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.nullsAreSortedLow", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.nullsAreSortedLow();
@@ -114,7 +120,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean nullsAreSortedAtStart() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.nullsAreSortedAtStart", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.nullsAreSortedAtStart();
@@ -125,7 +131,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean nullsAreSortedAtEnd() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.nullsAreSortedAtEnd", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.nullsAreSortedAtEnd();
@@ -136,7 +142,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public String getDatabaseProductName() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getDatabaseProductName", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return dbMeta.getDatabaseProductName();
@@ -147,7 +153,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public String getDatabaseProductVersion() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getDatabaseProductVersion", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return dbMeta.getDatabaseProductVersion();
@@ -158,7 +164,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public String getDriverName() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getDriverName", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return dbMeta.getDriverName();
@@ -169,7 +175,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public String getDriverVersion() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getDriverVersion", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return dbMeta.getDriverVersion();
@@ -190,7 +196,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean usesLocalFiles() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.usesLocalFiles", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.usesLocalFiles();
@@ -201,7 +207,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean usesLocalFilePerTable() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.usesLocalFilePerTable", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.usesLocalFilePerTable();
@@ -212,7 +218,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsMixedCaseIdentifiers() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsMixedCaseIdentifiers", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsMixedCaseIdentifiers();
@@ -223,7 +229,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean storesUpperCaseIdentifiers() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.storesUpperCaseIdentifiers", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.storesUpperCaseIdentifiers();
@@ -234,7 +240,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean storesLowerCaseIdentifiers() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.storesLowerCaseIdentifiers", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.storesLowerCaseIdentifiers();
@@ -245,7 +251,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean storesMixedCaseIdentifiers() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.storesMixedCaseIdentifiers", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.storesMixedCaseIdentifiers();
@@ -256,7 +262,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsMixedCaseQuotedIdentifiers() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsMixedCaseQuotedIdentifiers", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsMixedCaseQuotedIdentifiers();
@@ -267,7 +273,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean storesUpperCaseQuotedIdentifiers() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.storesUpperCaseQuotedIdentifiers", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.storesUpperCaseQuotedIdentifiers();
@@ -278,7 +284,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean storesLowerCaseQuotedIdentifiers() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.storesLowerCaseQuotedIdentifiers", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.storesLowerCaseQuotedIdentifiers();
@@ -289,7 +295,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean storesMixedCaseQuotedIdentifiers() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.storesMixedCaseQuotedIdentifiers", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.storesMixedCaseQuotedIdentifiers();
@@ -300,7 +306,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public String getIdentifierQuoteString() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getIdentifierQuoteString", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return dbMeta.getIdentifierQuoteString();
@@ -311,7 +317,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public String getSQLKeywords() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getSQLKeywords", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return dbMeta.getSQLKeywords();
@@ -322,7 +328,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public String getNumericFunctions() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getNumericFunctions", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return dbMeta.getNumericFunctions();
@@ -333,7 +339,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public String getStringFunctions() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getStringFunctions", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return dbMeta.getStringFunctions();
@@ -344,7 +350,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public String getSystemFunctions() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getSystemFunctions", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return dbMeta.getSystemFunctions();
@@ -355,7 +361,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public String getTimeDateFunctions() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getTimeDateFunctions", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return dbMeta.getTimeDateFunctions();
@@ -366,7 +372,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public String getSearchStringEscape() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getSearchStringEscape", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return dbMeta.getSearchStringEscape();
@@ -377,7 +383,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public String getExtraNameCharacters() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getExtraNameCharacters", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return dbMeta.getExtraNameCharacters();
@@ -388,7 +394,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsAlterTableWithAddColumn() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsAlterTableWithAddColumn", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsAlterTableWithAddColumn();
@@ -399,7 +405,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsAlterTableWithDropColumn() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsAlterTableWithDropColumn", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsAlterTableWithDropColumn();
@@ -410,7 +416,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsColumnAliasing() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsColumnAliasing", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsColumnAliasing();
@@ -421,7 +427,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean nullPlusNonNullIsNull() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.nullPlusNonNullIsNull", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.nullPlusNonNullIsNull();
@@ -432,7 +438,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsConvert() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsConvert", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsConvert();
@@ -443,7 +449,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsConvert(final int fromType, final int toType) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsConvert", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsConvert(fromType, toType);
@@ -454,7 +460,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsTableCorrelationNames() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsTableCorrelationNames", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsTableCorrelationNames();
@@ -465,7 +471,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsDifferentTableCorrelationNames() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsDifferentTableCorrelationNames", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsDifferentTableCorrelationNames();
@@ -476,7 +482,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsExpressionsInOrderBy() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsExpressionsInOrderBy", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsExpressionsInOrderBy();
@@ -487,7 +493,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsOrderByUnrelated() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsOrderByUnrelated", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsOrderByUnrelated();
@@ -498,7 +504,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsGroupBy() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsGroupBy", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsGroupBy();
@@ -509,7 +515,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsGroupByUnrelated() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsGroupByUnrelated", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsGroupByUnrelated();
@@ -520,7 +526,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsGroupByBeyondSelect() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsGroupByBeyondSelect", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsGroupByBeyondSelect();
@@ -531,7 +537,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsLikeEscapeClause() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsLikeEscapeClause", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsLikeEscapeClause();
@@ -542,7 +548,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsMultipleResultSets() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsMultipleResultSets", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsMultipleResultSets();
@@ -553,7 +559,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsMultipleTransactions() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsMultipleTransactions", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsMultipleTransactions();
@@ -564,7 +570,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsNonNullableColumns() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsNonNullableColumns", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsNonNullableColumns();
@@ -575,7 +581,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsMinimumSQLGrammar() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsMinimumSQLGrammar", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsMinimumSQLGrammar();
@@ -586,7 +592,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsCoreSQLGrammar() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsCoreSQLGrammar", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsCoreSQLGrammar();
@@ -597,7 +603,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsExtendedSQLGrammar() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsExtendedSQLGrammar", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsExtendedSQLGrammar();
@@ -608,7 +614,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsANSI92EntryLevelSQL() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsANSI92EntryLevelSQL", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsANSI92EntryLevelSQL();
@@ -619,7 +625,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsANSI92IntermediateSQL() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsANSI92IntermediateSQL", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsANSI92IntermediateSQL();
@@ -630,7 +636,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsANSI92FullSQL() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsANSI92FullSQL", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsANSI92FullSQL();
@@ -641,7 +647,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsIntegrityEnhancementFacility() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsIntegrityEnhancementFacility", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsIntegrityEnhancementFacility();
@@ -652,7 +658,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsOuterJoins() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsOuterJoins", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsOuterJoins();
@@ -663,7 +669,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsFullOuterJoins() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsFullOuterJoins", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsFullOuterJoins();
@@ -674,7 +680,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsLimitedOuterJoins() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsLimitedOuterJoins", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsFullOuterJoins();
@@ -685,7 +691,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public String getSchemaTerm() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getSchemaTerm", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return dbMeta.getSchemaTerm();
@@ -696,7 +702,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public String getProcedureTerm() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getProcedureTerm", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return dbMeta.getProcedureTerm();
@@ -707,7 +713,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public String getCatalogTerm() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getCatalogTerm", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return dbMeta.getCatalogTerm();
@@ -718,7 +724,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean isCatalogAtStart() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.isCatalogAtStart", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.isCatalogAtStart();
@@ -729,7 +735,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public String getCatalogSeparator() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getCatalogSeparator", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return dbMeta.getCatalogSeparator();
@@ -740,7 +746,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsSchemasInDataManipulation() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsSchemasInDataManipulation", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsSchemasInDataManipulation();
@@ -751,7 +757,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsSchemasInProcedureCalls() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsSchemasInProcedureCalls", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsSchemasInProcedureCalls();
@@ -762,7 +768,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsSchemasInTableDefinitions() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsSchemasInTableDefinitions", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsSchemasInTableDefinitions();
@@ -773,7 +779,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsSchemasInIndexDefinitions() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsSchemasInIndexDefinitions", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsSchemasInIndexDefinitions();
@@ -784,7 +790,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsSchemasInPrivilegeDefinitions() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsSchemasInPrivilegeDefinitions", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsSchemasInPrivilegeDefinitions();
@@ -795,7 +801,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsCatalogsInDataManipulation() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsCatalogsInDataManipulation", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsCatalogsInDataManipulation();
@@ -806,7 +812,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsCatalogsInProcedureCalls() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsCatalogsInProcedureCalls", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsCatalogsInProcedureCalls();
@@ -817,7 +823,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsCatalogsInTableDefinitions() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsCatalogsInTableDefinitions", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsCatalogsInTableDefinitions();
@@ -828,7 +834,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsCatalogsInIndexDefinitions() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsCatalogsInIndexDefinitions", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsCatalogsInIndexDefinitions();
@@ -839,7 +845,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsCatalogsInPrivilegeDefinitions() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsCatalogsInPrivilegeDefinitions", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsCatalogsInPrivilegeDefinitions();
@@ -850,7 +856,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsPositionedDelete() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsPositionedDelete", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsPositionedDelete();
@@ -861,7 +867,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsPositionedUpdate() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsPositionedUpdate", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsPositionedUpdate();
@@ -872,7 +878,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsSelectForUpdate() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsSelectForUpdate", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsSelectForUpdate();
@@ -883,7 +889,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsStoredProcedures() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsStoredProcedures", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsStoredProcedures();
@@ -894,7 +900,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsSubqueriesInComparisons() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsSubqueriesInComparisons", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsSubqueriesInComparisons();
@@ -905,7 +911,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsSubqueriesInExists() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsSubqueriesInExists", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsSubqueriesInExists();
@@ -916,7 +922,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsSubqueriesInIns() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsSubqueriesInIns", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsSubqueriesInIns();
@@ -927,7 +933,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsSubqueriesInQuantifieds() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsSubqueriesInQuantifieds", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsSubqueriesInQuantifieds();
@@ -938,7 +944,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsCorrelatedSubqueries() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsCorrelatedSubqueries", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsCorrelatedSubqueries();
@@ -949,7 +955,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsUnion() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsUnion", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsUnion();
@@ -960,7 +966,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsUnionAll() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsUnionAll", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsUnionAll();
@@ -971,7 +977,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsOpenCursorsAcrossCommit() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsOpenCursorsAcrossCommit", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsOpenCursorsAcrossCommit();
@@ -982,7 +988,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsOpenCursorsAcrossRollback() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsOpenCursorsAcrossRollback", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsOpenCursorsAcrossRollback();
@@ -993,7 +999,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsOpenStatementsAcrossCommit() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsOpenStatementsAcrossCommit", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsOpenStatementsAcrossCommit();
@@ -1004,7 +1010,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsOpenStatementsAcrossRollback() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsOpenStatementsAcrossRollback", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsOpenStatementsAcrossRollback();
@@ -1015,7 +1021,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public int getMaxBinaryLiteralLength() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getMaxBinaryLiteralLength", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return dbMeta.getMaxBinaryLiteralLength();
@@ -1026,7 +1032,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public int getMaxCharLiteralLength() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getMaxCharLiteralLength", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return dbMeta.getMaxCharLiteralLength();
@@ -1037,7 +1043,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public int getMaxColumnNameLength() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getMaxColumnNameLength", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return dbMeta.getMaxColumnNameLength();
@@ -1048,7 +1054,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public int getMaxColumnsInGroupBy() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getMaxColumnsInGroupBy", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return dbMeta.getMaxColumnsInGroupBy();
@@ -1059,7 +1065,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public int getMaxColumnsInIndex() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getMaxColumnsInIndex", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return dbMeta.getMaxColumnsInIndex();
@@ -1070,7 +1076,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public int getMaxColumnsInOrderBy() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getMaxColumnsInOrderBy", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return dbMeta.getMaxColumnsInOrderBy();
@@ -1081,7 +1087,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public int getMaxColumnsInSelect() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getMaxColumnsInSelect", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return dbMeta.getMaxColumnsInSelect();
@@ -1092,7 +1098,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public int getMaxColumnsInTable() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getMaxColumnsInTable", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return dbMeta.getMaxColumnsInTable();
@@ -1103,7 +1109,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public int getMaxConnections() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getMaxConnections", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return dbMeta.getMaxConnections();
@@ -1114,7 +1120,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public int getMaxCursorNameLength() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getMaxCursorNameLength", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return dbMeta.getMaxCursorNameLength();
@@ -1125,7 +1131,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public int getMaxIndexLength() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getMaxIndexLength", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return dbMeta.getMaxIndexLength();
@@ -1136,7 +1142,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public int getMaxSchemaNameLength() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getMaxSchemaNameLength", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return dbMeta.getMaxSchemaNameLength();
@@ -1147,7 +1153,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public int getMaxProcedureNameLength() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getMaxProcedureNameLength", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return dbMeta.getMaxProcedureNameLength();
@@ -1158,7 +1164,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public int getMaxCatalogNameLength() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getMaxCatalogNameLength", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return dbMeta.getMaxCatalogNameLength();
@@ -1169,7 +1175,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public int getMaxRowSize() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getMaxRowSize", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return dbMeta.getMaxRowSize();
@@ -1180,7 +1186,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean doesMaxRowSizeIncludeBlobs() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.doesMaxRowSizeIncludeBlobs", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.doesMaxRowSizeIncludeBlobs();
@@ -1191,7 +1197,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public int getMaxStatementLength() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getMaxStatementLength", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return dbMeta.getMaxStatementLength();
@@ -1202,7 +1208,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public int getMaxStatements() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getMaxStatements", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return dbMeta.getMaxStatements();
@@ -1213,7 +1219,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public int getMaxTableNameLength() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getMaxTableNameLength", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return dbMeta.getMaxTableNameLength();
@@ -1224,7 +1230,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public int getMaxTablesInSelect() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getMaxTablesInSelect", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return dbMeta.getMaxTablesInSelect();
@@ -1235,7 +1241,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public int getMaxUserNameLength() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getMaxUserNameLength", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return dbMeta.getMaxUserNameLength();
@@ -1246,7 +1252,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public int getDefaultTransactionIsolation() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getDefaultTransactionIsolation", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return dbMeta.getDefaultTransactionIsolation();
@@ -1257,7 +1263,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsTransactions() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsTransactions", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsTransactions();
@@ -1268,7 +1274,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsTransactionIsolationLevel(final int level) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsTransactionIsolationLevel", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsTransactionIsolationLevel(level);
@@ -1279,7 +1285,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsDataDefinitionAndDataManipulationTransactions() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsDataDefinitionAndDataManipulationTransactions", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsDataDefinitionAndDataManipulationTransactions();
@@ -1290,7 +1296,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsDataManipulationTransactionsOnly() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsDataManipulationTransactionsOnly", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsDataManipulationTransactionsOnly();
@@ -1301,7 +1307,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean dataDefinitionCausesTransactionCommit() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.dataDefinitionCausesTransactionCommit", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.dataDefinitionCausesTransactionCommit();
@@ -1312,7 +1318,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean dataDefinitionIgnoredInTransactions() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.dataDefinitionIgnoredInTransactions", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.dataDefinitionIgnoredInTransactions();
@@ -1323,7 +1329,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public FiberResultSet getProcedures(final String catalog, final String schemaPattern, final String procedureNamePattern) throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        final ResultSet result = JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getProcedures", new CheckedCallable<ResultSet, SQLException>() {
             @Override
             public ResultSet call() throws SQLException {
                 return dbMeta.getProcedures(catalog, schemaPattern, procedureNamePattern);
@@ -1335,7 +1341,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public FiberResultSet getProcedureColumns(final String catalog, final String schemaPattern, final String procedureNamePattern, final String columnNamePattern) throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        final ResultSet result = JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getProcedureColumns", new CheckedCallable<ResultSet, SQLException>() {
             @Override
             public ResultSet call() throws SQLException {
                 return dbMeta.getProcedureColumns(catalog, schemaPattern, procedureNamePattern, columnNamePattern);
@@ -1347,7 +1353,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public FiberResultSet getTables(final String catalog, final String schemaPattern, final String tableNamePattern, final String[] types) throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        final ResultSet result = JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getTables", new CheckedCallable<ResultSet, SQLException>() {
             @Override
             public ResultSet call() throws SQLException {
                 return dbMeta.getTables(catalog, schemaPattern, tableNamePattern, types);
@@ -1359,7 +1365,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public FiberResultSet getSchemas() throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        final ResultSet result = JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getSchemas", new CheckedCallable<ResultSet, SQLException>() {
             @Override
             public ResultSet call() throws SQLException {
                 return dbMeta.getSchemas();
@@ -1371,7 +1377,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public FiberResultSet getCatalogs() throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        final ResultSet result = JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getCatalogs", new CheckedCallable<ResultSet, SQLException>() {
             @Override
             public ResultSet call() throws SQLException {
                 return dbMeta.getCatalogs();
@@ -1383,7 +1389,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public FiberResultSet getTableTypes() throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        final ResultSet result = JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getTableTypes", new CheckedCallable<ResultSet, SQLException>() {
             @Override
             public ResultSet call() throws SQLException {
                 return dbMeta.getTableTypes();
@@ -1395,7 +1401,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public FiberResultSet getColumns(final String catalog, final String schemaPattern, final String tableNamePattern, final String columnNamePattern) throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        final ResultSet result = JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getColumns", new CheckedCallable<ResultSet, SQLException>() {
             @Override
             public ResultSet call() throws SQLException {
                 return dbMeta.getColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern);
@@ -1407,7 +1413,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public FiberResultSet getColumnPrivileges(final String catalog, final String schema, final String table, final String columnNamePattern) throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        final ResultSet result = JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getColumnPrivileges", new CheckedCallable<ResultSet, SQLException>() {
             @Override
             public ResultSet call() throws SQLException {
                 return dbMeta.getColumnPrivileges(catalog, schema, table, columnNamePattern);
@@ -1419,7 +1425,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public FiberResultSet getTablePrivileges(final String catalog, final String schemaPattern, final String tableNamePattern) throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        final ResultSet result = JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getTablePrivileges", new CheckedCallable<ResultSet, SQLException>() {
             @Override
             public ResultSet call() throws SQLException {
                 return dbMeta.getTablePrivileges(catalog, schemaPattern, tableNamePattern);
@@ -1431,7 +1437,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public FiberResultSet getBestRowIdentifier(final String catalog, final String schema, final String table, final int scope, final boolean nullable) throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        final ResultSet result = JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getBestRowIdentifier", new CheckedCallable<ResultSet, SQLException>() {
             @Override
             public ResultSet call() throws SQLException {
                 return dbMeta.getBestRowIdentifier(catalog, schema, table, scope, nullable);
@@ -1443,7 +1449,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public FiberResultSet getVersionColumns(final String catalog, final String schema, final String table) throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        final ResultSet result = JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getVersionColumns", new CheckedCallable<ResultSet, SQLException>() {
             @Override
             public ResultSet call() throws SQLException {
                 return dbMeta.getVersionColumns(catalog, schema, table);
@@ -1455,7 +1461,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public FiberResultSet getPrimaryKeys(final String catalog, final String schema, final String table) throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        final ResultSet result = JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getPrimaryKeys", new CheckedCallable<ResultSet, SQLException>() {
             @Override
             public ResultSet call() throws SQLException {
                 return dbMeta.getPrimaryKeys(catalog, schema, table);
@@ -1467,7 +1473,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public FiberResultSet getImportedKeys(final String catalog, final String schema, final String table) throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        final ResultSet result = JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getImportedKeys", new CheckedCallable<ResultSet, SQLException>() {
             @Override
             public ResultSet call() throws SQLException {
                 return dbMeta.getImportedKeys(catalog, schema, table);
@@ -1479,7 +1485,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public FiberResultSet getExportedKeys(final String catalog, final String schema, final String table) throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        final ResultSet result = JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getExportedKeys", new CheckedCallable<ResultSet, SQLException>() {
             @Override
             public ResultSet call() throws SQLException {
                 return dbMeta.getExportedKeys(catalog, schema, table);
@@ -1491,7 +1497,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public FiberResultSet getCrossReference(final String parentCatalog, final String parentSchema, final String parentTable, final String foreignCatalog, final String foreignSchema, final String foreignTable) throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        final ResultSet result = JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getCrossReference", new CheckedCallable<ResultSet, SQLException>() {
             @Override
             public ResultSet call() throws SQLException {
                 return dbMeta.getCrossReference(parentCatalog, parentSchema, parentTable, foreignCatalog, foreignSchema, foreignTable);
@@ -1503,7 +1509,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public FiberResultSet getTypeInfo() throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        final ResultSet result = JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getTypeInfo", new CheckedCallable<ResultSet, SQLException>() {
             @Override
             public ResultSet call() throws SQLException {
                 return dbMeta.getTypeInfo();
@@ -1515,7 +1521,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public FiberResultSet getIndexInfo(final String catalog, final String schema, final String table, final boolean unique, final boolean approximate) throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        final ResultSet result = JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getIndexInfo", new CheckedCallable<ResultSet, SQLException>() {
             @Override
             public ResultSet call() throws SQLException {
                 return dbMeta.getIndexInfo(catalog, schema, table, unique, approximate);
@@ -1527,7 +1533,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsResultSetType(final int type) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsResultSetType", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsResultSetType(type);
@@ -1538,7 +1544,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsResultSetConcurrency(final int type, final int concurrency) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsResultSetConcurrency", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsResultSetConcurrency(type, concurrency);
@@ -1549,7 +1555,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean ownUpdatesAreVisible(final int type) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.ownUpdatesAreVisible", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.ownUpdatesAreVisible(type);
@@ -1560,7 +1566,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean ownDeletesAreVisible(final int type) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.ownDeletesAreVisible", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.ownDeletesAreVisible(type);
@@ -1571,7 +1577,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean ownInsertsAreVisible(final int type) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.ownInsertsAreVisible", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.ownInsertsAreVisible(type);
@@ -1582,7 +1588,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean othersUpdatesAreVisible(final int type) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.othersUpdatesAreVisible", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.othersUpdatesAreVisible(type);
@@ -1593,7 +1599,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean othersDeletesAreVisible(final int type) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.othersDeletesAreVisible", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.othersDeletesAreVisible(type);
@@ -1604,7 +1610,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean othersInsertsAreVisible(final int type) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.othersInsertsAreVisible", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.othersInsertsAreVisible(type);
@@ -1615,7 +1621,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean updatesAreDetected(final int type) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.updatesAreDetected", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.updatesAreDetected(type);
@@ -1626,7 +1632,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean deletesAreDetected(final int type) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.deletesAreDetected", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.deletesAreDetected(type);
@@ -1637,7 +1643,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean insertsAreDetected(final int type) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.insertsAreDetected", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.insertsAreDetected(type);
@@ -1648,7 +1654,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsBatchUpdates() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsBatchUpdates", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsBatchUpdates();
@@ -1659,7 +1665,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public FiberResultSet getUDTs(final String catalog, final String schemaPattern, final String typeNamePattern, final int[] types) throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        final ResultSet result = JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getUDTs", new CheckedCallable<ResultSet, SQLException>() {
             @Override
             public ResultSet call() throws SQLException {
                 return dbMeta.getUDTs(catalog, schemaPattern, typeNamePattern, types);
@@ -1671,7 +1677,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public FiberConnection getConnection() throws SQLException {
-        final Connection conn = JDBCFiberAsync.exec(executor, new CheckedCallable<Connection, SQLException>() {
+        final Connection conn = JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getConnection", new CheckedCallable<Connection, SQLException>() {
             @Override
             public Connection call() throws SQLException {
                 return dbMeta.getConnection();
@@ -1683,7 +1689,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsSavepoints() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsSavepoints", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsSavepoints();
@@ -1694,7 +1700,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsNamedParameters() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsNamedParameters", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsNamedParameters();
@@ -1705,7 +1711,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsMultipleOpenResults() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsMultipleOpenResults", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsMultipleOpenResults();
@@ -1716,7 +1722,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsGetGeneratedKeys() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsGetGeneratedKeys", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsGetGeneratedKeys();
@@ -1727,7 +1733,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public FiberResultSet getSuperTypes(final String catalog, final String schemaPattern, final String typeNamePattern) throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        final ResultSet result = JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getSuperTypes", new CheckedCallable<ResultSet, SQLException>() {
             @Override
             public ResultSet call() throws SQLException {
                 return dbMeta.getSuperTypes(catalog, schemaPattern, typeNamePattern);
@@ -1739,7 +1745,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public FiberResultSet getSuperTables(final String catalog, final String schemaPattern, final String tableNamePattern) throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        final ResultSet result = JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getSuperTables", new CheckedCallable<ResultSet, SQLException>() {
             @Override
             public ResultSet call() throws SQLException {
                 return dbMeta.getSuperTables(catalog, schemaPattern, tableNamePattern);
@@ -1751,7 +1757,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public FiberResultSet getAttributes(final String catalog, final String schemaPattern, final String typeNamePattern, final String attributeNamePattern) throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        final ResultSet result = JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getAttributes", new CheckedCallable<ResultSet, SQLException>() {
             @Override
             public ResultSet call() throws SQLException {
                 return dbMeta.getAttributes(catalog, schemaPattern, typeNamePattern, attributeNamePattern);
@@ -1763,7 +1769,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsResultSetHoldability(final int holdability) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsResultSetHoldability", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsResultSetHoldability(holdability);
@@ -1774,7 +1780,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public int getResultSetHoldability() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getResultSetHoldability", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return dbMeta.getResultSetHoldability();
@@ -1785,7 +1791,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public int getDatabaseMajorVersion() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getDatabaseMajorVersion", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return dbMeta.getDatabaseMajorVersion();
@@ -1796,7 +1802,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public int getDatabaseMinorVersion() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getDatabaseMinorVersion", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return dbMeta.getDatabaseMinorVersion();
@@ -1807,7 +1813,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public int getJDBCMajorVersion() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getJDBCMajorVersion", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return dbMeta.getJDBCMajorVersion();
@@ -1818,7 +1824,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public int getJDBCMinorVersion() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getJDBCMinorVersion", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return dbMeta.getJDBCMinorVersion();
@@ -1829,7 +1835,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public int getSQLStateType() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getSQLStateType", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return dbMeta.getSQLStateType();
@@ -1840,7 +1846,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean locatorsUpdateCopy() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.locatorsUpdateCopy", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.locatorsUpdateCopy();
@@ -1851,7 +1857,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsStatementPooling() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsStatementPooling", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsStatementPooling();
@@ -1862,7 +1868,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public RowIdLifetime getRowIdLifetime() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<RowIdLifetime, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getRowIdLifetime", new CheckedCallable<RowIdLifetime, SQLException>() {
             @Override
             public RowIdLifetime call() throws SQLException {
                 return dbMeta.getRowIdLifetime();
@@ -1873,7 +1879,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public FiberResultSet getSchemas(final String catalog, final String schemaPattern) throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        final ResultSet result = JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getSchemas", new CheckedCallable<ResultSet, SQLException>() {
             @Override
             public ResultSet call() throws SQLException {
                 return dbMeta.getSchemas(catalog, schemaPattern);
@@ -1885,7 +1891,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean supportsStoredFunctionsUsingCallSyntax() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.supportsStoredFunctionsUsingCallSyntax", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.supportsStoredFunctionsUsingCallSyntax();
@@ -1896,7 +1902,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean autoCommitFailureClosesAllResultSets() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.autoCommitFailureClosesAllResultSets", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.autoCommitFailureClosesAllResultSets();
@@ -1907,7 +1913,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public FiberResultSet getClientInfoProperties() throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        final ResultSet result = JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getClientInfoProperties", new CheckedCallable<ResultSet, SQLException>() {
             @Override
             public ResultSet call() throws SQLException {
                 return dbMeta.getClientInfoProperties();
@@ -1919,7 +1925,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public FiberResultSet getFunctions(final String catalog, final String schemaPattern, final String functionNamePattern) throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        final ResultSet result = JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getFunctions", new CheckedCallable<ResultSet, SQLException>() {
             @Override
             public ResultSet call() throws SQLException {
                 return dbMeta.getFunctions(catalog, schemaPattern, functionNamePattern);
@@ -1931,7 +1937,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public FiberResultSet getFunctionColumns(final String catalog, final String schemaPattern, final String functionNamePattern, final String columnNamePattern) throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        final ResultSet result = JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getFunctionColumns", new CheckedCallable<ResultSet, SQLException>() {
             @Override
             public ResultSet call() throws SQLException {
                 return dbMeta.getFunctionColumns(catalog, schemaPattern, functionNamePattern, columnNamePattern);
@@ -1943,7 +1949,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public FiberResultSet getPseudoColumns(final String catalog, final String schemaPattern, final String tableNamePattern, final String columnNamePattern) throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        final ResultSet result = JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.getPseudoColumns", new CheckedCallable<ResultSet, SQLException>() {
             @Override
             public ResultSet call() throws SQLException {
                 return dbMeta.getPseudoColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern);
@@ -1955,7 +1961,7 @@ public class FiberDatabaseMetaData implements DatabaseMetaData {
     @Override
     @Suspendable
     public boolean generatedKeyAlwaysReturned() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "DatabaseMetaData.generatedKeyAlwaysReturned", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return dbMeta.generatedKeyAlwaysReturned();
@@ -38,6 +38,11 @@ public class FiberDriver implements Driver {
         final String dbURL = url.replaceFirst("fiber:", "");
         final int threadCount = Integer.parseInt(info.getProperty(THREADS_COUNT, "10"));
         info.remove(THREADS_COUNT);
+        final int prefetchSize = Integer.parseInt(info.getProperty(PREFETCH_SIZE, "0"));
+        info.remove(PREFETCH_SIZE);
+        final String profileName = info.getProperty(DRIVER_PROFILE, "none");
+        info.remove(DRIVER_PROFILE);
+        final DriverProfile profile = "auto".equalsIgnoreCase(profileName) ? DriverProfile.forURL(dbURL) : DriverProfile.forName(profileName);
         final ExecutorService es = Executors.newFixedThreadPool(threadCount, new ThreadFactoryBuilder().setNameFormat("jdbc-worker-%d").setDaemon(true).build());
         final Connection con = JDBCFiberAsync.exec(es, new CheckedCallable<Connection, SQLException>() {
             @Override
@@ -45,9 +50,14 @@ public class FiberDriver implements Driver {
                 return DriverManager.getConnection(dbURL, info);
             }
         });
-        return new FiberConnection(con, MoreExecutors.listeningDecorator(es));
+        final FiberConnection fc = new FiberConnection(con, MoreExecutors.listeningDecorator(es));
+        fc.setPrefetchSize(prefetchSize);
+        fc.setDriverProfile(profile);
+        return fc;
     }
     private static final String THREADS_COUNT = "threadsCount";
+    private static final String PREFETCH_SIZE = "prefetchSize";
+    private static final String DRIVER_PROFILE = "driverProfile";
     private static final String RAW_DATA_SOURCE_URL = "rawDataSourceURL";
 
     @Override
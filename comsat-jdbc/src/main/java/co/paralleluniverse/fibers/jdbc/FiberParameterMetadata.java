@@ -25,16 +25,22 @@ import java.util.concurrent.ExecutorService;
 public class FiberParameterMetadata implements ParameterMetaData {
     protected final ParameterMetaData pmeta;
     protected final ExecutorService executor;
+    protected final DriverProfile profile;
 
     public FiberParameterMetadata(ParameterMetaData pmeta, ExecutorService executor) {
+        this(pmeta, executor, DriverProfile.NONE);
+    }
+
+    public FiberParameterMetadata(ParameterMetaData pmeta, ExecutorService executor, DriverProfile profile) {
         this.pmeta = pmeta;
         this.executor = executor;
+        this.profile = profile;
     }
 
     @Override
     @Suspendable
     public int getParameterCount() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ParameterMetaData.getParameterCount", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return pmeta.getParameterCount();
@@ -45,7 +51,7 @@ public class FiberParameterMetadata implements ParameterMetaData {
     @Override
     @Suspendable
     public int isNullable(final int param) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ParameterMetaData.isNullable", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return pmeta.isNullable(param);
@@ -56,7 +62,7 @@ public class FiberParameterMetadata implements ParameterMetaData {
     @Override
     @Suspendable
     public boolean isSigned(final int param) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ParameterMetaData.isSigned", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return pmeta.isSigned(param);
@@ -67,7 +73,7 @@ public class FiberParameterMetadata implements ParameterMetaData {
     @Override
     @Suspendable
     public int getPrecision(final int param) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ParameterMetaData.getPrecision", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return pmeta.getPrecision(param);
@@ -78,7 +84,7 @@ public class FiberParameterMetadata implements ParameterMetaData {
     @Override
     @Suspendable
     public int getScale(final int param) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ParameterMetaData.getScale", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return pmeta.getScale(param);
@@ -89,7 +95,7 @@ public class FiberParameterMetadata implements ParameterMetaData {
     @Override
     @Suspendable
     public int getParameterType(final int param) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ParameterMetaData.getParameterType", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return pmeta.getParameterType(param);
@@ -100,7 +106,7 @@ public class FiberParameterMetadata implements ParameterMetaData {
     @Override
     @Suspendable
     public String getParameterTypeName(final int param) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ParameterMetaData.getParameterTypeName", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return pmeta.getParameterTypeName(param);
@@ -111,7 +117,7 @@ public class FiberParameterMetadata implements ParameterMetaData {
     @Override
     @Suspendable
     public String getParameterClassName(final int param) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ParameterMetaData.getParameterClassName", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return pmeta.getParameterClassName(param);
@@ -122,7 +128,7 @@ public class FiberParameterMetadata implements ParameterMetaData {
     @Override
     @Suspendable
     public int getParameterMode(final int param) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ParameterMetaData.getParameterMode", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return pmeta.getParameterMode(param);
@@ -0,0 +1,783 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.fibers.jdbc;
+
+import co.paralleluniverse.common.util.CheckedCallable;
+import co.paralleluniverse.fibers.Suspendable;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLDataException;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.sql.Struct;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * A {@link FiberResultSet} that moves rows from the driver to the fiber in blocks.
+ * <p>
+ * Every call to {@link #next()} that runs past the rows already buffered reads up to {@code prefetchSize} rows
+ * on the JDBC worker thread, with {@link ResultSet#getObject(int)}, in a single operation.
+ * Column getters then read and convert the buffered values in the calling fiber, without suspending.
+ * If reading a block fails, {@code next()} throws, the current row can still be read, and any further
+ * {@code next()} throws too, as the rest of the failed block is lost.
+ * <p>
+ * Only {@link ResultSet#TYPE_FORWARD_ONLY forward-only}, {@link ResultSet#CONCUR_READ_ONLY read-only} result
+ * sets are prefetched. The typed getters convert the Java types returned by the driver's {@code getObject}; rather
+ * than guess at the driver's own conversion, they throw a {@link SQLDataException} for values they can't convert
+ * losslessly, such as numbers out of the target type's range or binary values read as strings.
+ *
+ * @see FiberStatement#setPrefetchSize(int)
+ */
+public class FiberPrefetchingResultSet extends FiberResultSet {
+    private static final Charset ASCII = Charset.forName("US-ASCII");
+    private static final Charset UTF_16 = Charset.forName("UTF-16BE");
+
+    private final int prefetchSize;
+    private int columns;
+    private Map<String, Integer> labels;
+    private Object[][] rows;
+    private Object[][] spare; // the block being fetched, swapped with rows only once it's complete
+    private int count; // buffered rows
+    private int pos = -1; // current row in buffer
+    private int rowNumber;
+    private boolean done;
+    private boolean failed; // a fetch failed, leaving the driver's cursor somewhere in the next block
+    private boolean wasNull;
+
+    FiberPrefetchingResultSet(final ResultSet result, final ExecutorService executor, final int prefetchSize) {
+        super(result, executor);
+        if (prefetchSize <= 0)
+            throw new IllegalArgumentException("prefetchSize must be positive: " + prefetchSize);
+        this.prefetchSize = prefetchSize;
+    }
+
+    /**
+     * Wraps a result set and buffers its first block of rows; must be called in the JDBC worker thread.
+     */
+    static FiberPrefetchingResultSet prefetch(final ResultSet result, final ExecutorService executor, final int prefetchSize) throws SQLException {
+        final FiberPrefetchingResultSet rs = new FiberPrefetchingResultSet(result, executor, prefetchSize);
+        rs.fetch();
+        return rs;
+    }
+
+    public int getPrefetchSize() {
+        return prefetchSize;
+    }
+
+    // Runs in the JDBC worker thread
+    private void fetch() throws SQLException {
+        if (labels == null) {
+            final ResultSetMetaData md = result.getMetaData();
+            columns = md.getColumnCount();
+            labels = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (int i = columns; i >= 1; i--) // first occurrence wins
+                labels.put(md.getColumnLabel(i), i);
+        }
+        // the fiber may be reading the current row, so the block is filled aside and swapped in once complete
+        final Object[][] block = spare != null ? spare : new Object[prefetchSize][columns];
+        int n = 0;
+        while (n < prefetchSize && result.next()) {
+            final Object[] row = block[n++];
+            for (int i = 0; i < columns; i++)
+                row[i] = result.getObject(i + 1);
+        }
+        spare = rows;
+        rows = block;
+        count = n;
+        pos = -1;
+        done = n < prefetchSize;
+    }
+
+    @Override
+    @Suspendable
+    public boolean next() throws SQLException {
+        if (pos + 1 < count) {
+            pos++;
+            rowNumber++;
+            return true;
+        }
+        if (failed)
+            throw new SQLException("A previous fetch of rows failed");
+        if (!done && rows != null) {
+            boolean fetched = false;
+            try {
+                JDBCFiberAsync.exec(executor, listener, "ResultSet.next", sql, new CheckedCallable<Void, SQLException>() {
+                    @Override
+                    public Void call() throws SQLException {
+                        fetch();
+                        return null;
+                    }
+                });
+                fetched = true;
+            } finally {
+                failed = !fetched; // the current row is still readable, but the next ones are lost
+            }
+            if (count > 0) {
+                pos = 0;
+                rowNumber++;
+                return true;
+            }
+        }
+        pos = count;
+        return false;
+    }
+
+    @Override
+    @Suspendable
+    public void close() throws SQLException {
+        super.close();
+        rows = null;
+        spare = null;
+        count = 0;
+        pos = -1;
+        done = true;
+    }
+
+    @Override
+    public boolean wasNull() throws SQLException {
+        return wasNull;
+    }
+
+    @Override
+    public int findColumn(final String columnLabel) throws SQLException {
+        final Integer i = labels != null ? labels.get(columnLabel) : null;
+        if (i == null)
+            throw new SQLException("Column not found: " + columnLabel, "42S22");
+        return i;
+    }
+
+    @Override
+    public int getRow() throws SQLException {
+        return onRow() ? rowNumber : 0;
+    }
+
+    @Override
+    public boolean isBeforeFirst() throws SQLException {
+        return rowNumber == 0 && count > 0;
+    }
+
+    @Override
+    public boolean isAfterLast() throws SQLException {
+        return done && rowNumber > 0 && pos >= count;
+    }
+
+    @Override
+    public boolean isFirst() throws SQLException {
+        return onRow() && rowNumber == 1;
+    }
+
+    @Override
+    @Suspendable
+    public boolean isLast() throws SQLException {
+        if (!onRow() || pos < count - 1)
+            return false;
+        // a full block leaves the driver's cursor on our current row
+        return done || super.isLast();
+    }
+
+    private boolean onRow() {
+        return pos >= 0 && pos < count;
+    }
+
+    private Object value(final int columnIndex) throws SQLException {
+        if (!onRow())
+            throw new SQLException("No current row", "24000");
+        if (columnIndex < 1 || columnIndex > columns)
+            throw new SQLException("Invalid column index: " + columnIndex, "07009");
+        final Object v = rows[pos][columnIndex - 1];
+        wasNull = (v == null);
+        return v;
+    }
+
+    private static SQLDataException conversionError(final Object v, final Class<?> type) {
+        return new SQLDataException("Cannot convert " + v.getClass().getName() + " to " + type.getName(), "22018");
+    }
+
+    private static SQLDataException rangeError(final Object v, final Class<?> type) {
+        return new SQLDataException("Value " + v + " is out of range for " + type.getName(), "22003");
+    }
+
+    @Override
+    @Suspendable
+    public String getString(final int columnIndex) throws SQLException {
+        final Object v = value(columnIndex);
+        if (v == null)
+            return null;
+        if (v instanceof Clob) {
+            final FiberClob clob = new FiberClob((Clob) v, executor);
+            return clob.getSubString(1, (int) clob.length());
+        }
+        if (v.getClass().isArray() || v instanceof Blob || v instanceof Array || v instanceof Struct || v instanceof Ref || v instanceof SQLXML)
+            throw conversionError(v, String.class);
+        return v.toString();
+    }
+
+    @Override
+    public boolean getBoolean(final int columnIndex) throws SQLException {
+        final Object v = value(columnIndex);
+        if (v == null)
+            return false;
+        if (v instanceof Boolean)
+            return (Boolean) v;
+        if (v instanceof Number)
+            return ((Number) v).intValue() != 0;
+        final String s = v.toString().trim();
+        if ("1".equals(s) || "true".equalsIgnoreCase(s))
+            return true;
+        if ("0".equals(s) || "false".equalsIgnoreCase(s))
+            return false;
+        throw conversionError(v, boolean.class);
+    }
+
+    @Override
+    public byte getByte(final int columnIndex) throws SQLException {
+        final Number n = number(columnIndex);
+        return n != null ? (byte) integral(n, Byte.MIN_VALUE, Byte.MAX_VALUE, byte.class) : 0;
+    }
+
+    @Override
+    public short getShort(final int columnIndex) throws SQLException {
+        final Number n = number(columnIndex);
+        return n != null ? (short) integral(n, Short.MIN_VALUE, Short.MAX_VALUE, short.class) : 0;
+    }
+
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        final Number n = number(columnIndex);
+        return n != null ? (int) integral(n, Integer.MIN_VALUE, Integer.MAX_VALUE, int.class) : 0;
+    }
+
+    @Override
+    public long getLong(final int columnIndex) throws SQLException {
+        final Number n = number(columnIndex);
+        return n != null ? integral(n, Long.MIN_VALUE, Long.MAX_VALUE, long.class) : 0L;
+    }
+
+    @Override
+    public float getFloat(final int columnIndex) throws SQLException {
+        final Number n = number(columnIndex);
+        if (n == null)
+            return 0f;
+        final float f = n.floatValue();
+        if (Float.isInfinite(f) && !Double.isInfinite(n.doubleValue()))
+            throw rangeError(n, float.class);
+        return f;
+    }
+
+    @Override
+    public double getDouble(final int columnIndex) throws SQLException {
+        final Number n = number(columnIndex);
+        return n != null ? n.doubleValue() : 0d;
+    }
+
+    /**
+     * Truncates a number to an integral value, as drivers do, checking that it is within {@code [min, max]}.
+     */
+    private static long integral(final Number n, final long min, final long max, final Class<?> type) throws SQLException {
+        if (n instanceof Long || n instanceof Integer || n instanceof Short || n instanceof Byte) {
+            final long l = n.longValue();
+            if (l < min || l > max)
+                throw rangeError(n, type);
+            return l;
+        }
+        if (n instanceof Double || n instanceof Float) {
+            final double d = n.doubleValue();
+            if (Double.isNaN(d) || d <= (double) min - 1 || d >= (double) max + 1)
+                throw rangeError(n, type);
+            return (long) d;
+        }
+        final BigDecimal d = (n instanceof BigDecimal ? (BigDecimal) n : new BigDecimal(n.toString())).setScale(0, RoundingMode.DOWN);
+        if (d.compareTo(BigDecimal.valueOf(min)) < 0 || d.compareTo(BigDecimal.valueOf(max)) > 0)
+            throw rangeError(n, type);
+        return d.longValue();
+    }
+
+    private Number number(final int columnIndex) throws SQLException {
+        final Object v = value(columnIndex);
+        if (v == null || v instanceof Number)
+            return (Number) v;
+        if (v instanceof Boolean)
+            return ((Boolean) v) ? 1 : 0;
+        try {
+            return new BigDecimal(v.toString().trim());
+        } catch (final NumberFormatException e) {
+            throw conversionError(v, Number.class);
+        }
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(final int columnIndex) throws SQLException {
+        final Number n = number(columnIndex);
+        if (n == null || n instanceof BigDecimal)
+            return (BigDecimal) n;
+        if (n instanceof BigInteger)
+            return new BigDecimal((BigInteger) n);
+        if (n instanceof Double || n instanceof Float)
+            return BigDecimal.valueOf(n.doubleValue());
+        return BigDecimal.valueOf(n.longValue());
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public BigDecimal getBigDecimal(final int columnIndex, final int scale) throws SQLException {
+        final BigDecimal d = getBigDecimal(columnIndex);
+        return d != null ? d.setScale(scale, RoundingMode.HALF_UP) : null;
+    }
+
+    @Override
+    @Suspendable
+    public byte[] getBytes(final int columnIndex) throws SQLException {
+        final Object v = value(columnIndex);
+        if (v == null || v instanceof byte[])
+            return (byte[]) v;
+        if (v instanceof Blob) {
+            final FiberBlob blob = new FiberBlob((Blob) v, executor);
+            return blob.getBytes(1, (int) blob.length());
+        }
+        throw conversionError(v, byte[].class);
+    }
+
+    @Override
+    public Date getDate(final int columnIndex) throws SQLException {
+        final Object v = value(columnIndex);
+        if (v == null || v instanceof Date)
+            return (Date) v;
+        if (v instanceof java.util.Date)
+            return new Date(((java.util.Date) v).getTime());
+        try {
+            return Date.valueOf(v.toString().trim());
+        } catch (final IllegalArgumentException e) {
+            throw conversionError(v, Date.class);
+        }
+    }
+
+    @Override
+    public Time getTime(final int columnIndex) throws SQLException {
+        final Object v = value(columnIndex);
+        if (v == null || v instanceof Time)
+            return (Time) v;
+        if (v instanceof java.util.Date)
+            return new Time(((java.util.Date) v).getTime());
+        try {
+            return Time.valueOf(v.toString().trim());
+        } catch (final IllegalArgumentException e) {
+            throw conversionError(v, Time.class);
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(final int columnIndex) throws SQLException {
+        final Object v = value(columnIndex);
+        if (v == null || v instanceof Timestamp)
+            return (Timestamp) v;
+        if (v instanceof java.util.Date)
+            return new Timestamp(((java.util.Date) v).getTime());
+        try {
+            return Timestamp.valueOf(v.toString().trim());
+        } catch (final IllegalArgumentException e) {
+            throw conversionError(v, Timestamp.class);
+        }
+    }
+
+    @Override
+    public Date getDate(final int columnIndex, final Calendar cal) throws SQLException {
+        final Date d = getDate(columnIndex);
+        return d != null && cal != null ? new Date(inCalendar(d, cal)) : d;
+    }
+
+    @Override
+    public Time getTime(final int columnIndex, final Calendar cal) throws SQLException {
+        final Time t = getTime(columnIndex);
+        return t != null && cal != null ? new Time(inCalendar(t, cal)) : t;
+    }
+
+    @Override
+    public Timestamp getTimestamp(final int columnIndex, final Calendar cal) throws SQLException {
+        final Timestamp ts = getTimestamp(columnIndex);
+        if (ts == null || cal == null)
+            return ts;
+        final Timestamp res = new Timestamp(inCalendar(ts, cal));
+        res.setNanos(ts.getNanos());
+        return res;
+    }
+
+    /**
+     * Re-reads the wall-clock fields of a value built in the default time zone in the calendar's time zone.
+     */
+    private static long inCalendar(final java.util.Date d, final Calendar cal) {
+        final Calendar local = Calendar.getInstance();
+        local.setTime(d);
+        final Calendar target = (Calendar) cal.clone();
+        target.clear();
+        target.set(local.get(Calendar.YEAR), local.get(Calendar.MONTH), local.get(Calendar.DAY_OF_MONTH),
+                local.get(Calendar.HOUR_OF_DAY), local.get(Calendar.MINUTE), local.get(Calendar.SECOND));
+        target.set(Calendar.MILLISECOND, local.get(Calendar.MILLISECOND));
+        return target.getTimeInMillis();
+    }
+
+    @Override
+    @Suspendable
+    public InputStream getAsciiStream(final int columnIndex) throws SQLException {
+        final String s = getString(columnIndex);
+        return s != null ? new ByteArrayInputStream(s.getBytes(ASCII)) : null;
+    }
+
+    @Override
+    @Suspendable
+    @SuppressWarnings("deprecation")
+    public InputStream getUnicodeStream(final int columnIndex) throws SQLException {
+        final String s = getString(columnIndex);
+        return s != null ? new ByteArrayInputStream(s.getBytes(UTF_16)) : null;
+    }
+
+    @Override
+    @Suspendable
+    public InputStream getBinaryStream(final int columnIndex) throws SQLException {
+        final byte[] b = getBytes(columnIndex);
+        return b != null ? new ByteArrayInputStream(b) : null;
+    }
+
+    @Override
+    @Suspendable
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        final String s = getString(columnIndex);
+        return s != null ? new StringReader(s) : null;
+    }
+
+    @Override
+    public Object getObject(final int columnIndex) throws SQLException {
+        return value(columnIndex);
+    }
+
+    @Override
+    public Object getObject(final int columnIndex, final Map<String, Class<?>> map) throws SQLException {
+        if (map != null && !map.isEmpty())
+            throw new SQLFeatureNotSupportedException("Custom type maps are not supported by prefetching result sets");
+        return value(columnIndex);
+    }
+
+    @Override
+    @Suspendable
+    public <T> T getObject(final int columnIndex, final Class<T> type) throws SQLException {
+        final Object v = value(columnIndex);
+        if (v == null || type.isInstance(v))
+            return type.cast(v);
+        final Object res;
+        if (type == String.class)
+            res = getString(columnIndex);
+        else if (type == Boolean.class)
+            res = getBoolean(columnIndex);
+        else if (type == Byte.class)
+            res = getByte(columnIndex);
+        else if (type == Short.class)
+            res = getShort(columnIndex);
+        else if (type == Integer.class)
+            res = getInt(columnIndex);
+        else if (type == Long.class)
+            res = getLong(columnIndex);
+        else if (type == Float.class)
+            res = getFloat(columnIndex);
+        else if (type == Double.class)
+            res = getDouble(columnIndex);
+        else if (type == BigDecimal.class)
+            res = getBigDecimal(columnIndex);
+        else if (type == byte[].class)
+            res = getBytes(columnIndex);
+        else if (type == Date.class)
+            res = getDate(columnIndex);
+        else if (type == Time.class)
+            res = getTime(columnIndex);
+        else if (type == Timestamp.class)
+            res = getTimestamp(columnIndex);
+        else
+            throw conversionError(v, type);
+        return type.cast(res);
+    }
+
+    @Override
+    public FiberRef getRef(final int columnIndex) throws SQLException {
+        final Object v = value(columnIndex);
+        return v != null ? new FiberRef(cast(v, Ref.class), executor) : null;
+    }
+
+    @Override
+    public FiberBlob getBlob(final int columnIndex) throws SQLException {
+        final Object v = value(columnIndex);
+        return v != null ? new FiberBlob(cast(v, Blob.class), executor) : null;
+    }
+
+    @Override
+    public FiberClob getClob(final int columnIndex) throws SQLException {
+        final Object v = value(columnIndex);
+        return v != null ? new FiberClob(cast(v, Clob.class), executor) : null;
+    }
+
+    @Override
+    public FiberNClob getNClob(final int columnIndex) throws SQLException {
+        final Object v = value(columnIndex);
+        return v != null ? new FiberNClob(cast(v, NClob.class), executor) : null;
+    }
+
+    @Override
+    public FiberArray getArray(final int columnIndex) throws SQLException {
+        final Object v = value(columnIndex);
+        return v != null ? new FiberArray(cast(v, Array.class), executor) : null;
+    }
+
+    @Override
+    public FiberSQLXML getSQLXML(final int columnIndex) throws SQLException {
+        final Object v = value(columnIndex);
+        return v != null ? new FiberSQLXML(cast(v, SQLXML.class), executor) : null;
+    }
+
+    @Override
+    public RowId getRowId(final int columnIndex) throws SQLException {
+        return cast(value(columnIndex), RowId.class);
+    }
+
+    @Override
+    public URL getURL(final int columnIndex) throws SQLException {
+        final Object v = value(columnIndex);
+        if (v == null || v instanceof URL)
+            return (URL) v;
+        try {
+            return new URL(v.toString());
+        } catch (final MalformedURLException e) {
+            throw new SQLException(e.getMessage(), "22000", e);
+        }
+    }
+
+    @Override
+    @Suspendable
+    public String getNString(final int columnIndex) throws SQLException {
+        return getString(columnIndex);
+    }
+
+    @Override
+    @Suspendable
+    public Reader getNCharacterStream(final int columnIndex) throws SQLException {
+        return getCharacterStream(columnIndex);
+    }
+
+    private static <T> T cast(final Object v, final Class<T> type) throws SQLException {
+        if (v == null || type.isInstance(v))
+            return type.cast(v);
+        throw conversionError(v, type);
+    }
+
+    ////////////// Label-based getters
+    @Override
+    @Suspendable
+    public String getString(final String columnLabel) throws SQLException {
+        return getString(findColumn(columnLabel));
+    }
+
+    @Override
+    public boolean getBoolean(final String columnLabel) throws SQLException {
+        return getBoolean(findColumn(columnLabel));
+    }
+
+    @Override
+    public byte getByte(final String columnLabel) throws SQLException {
+        return getByte(findColumn(columnLabel));
+    }
+
+    @Override
+    public short getShort(final String columnLabel) throws SQLException {
+        return getShort(findColumn(columnLabel));
+    }
+
+    @Override
+    public int getInt(final String columnLabel) throws SQLException {
+        return getInt(findColumn(columnLabel));
+    }
+
+    @Override
+    public long getLong(final String columnLabel) throws SQLException {
+        return getLong(findColumn(columnLabel));
+    }
+
+    @Override
+    public float getFloat(final String columnLabel) throws SQLException {
+        return getFloat(findColumn(columnLabel));
+    }
+
+    @Override
+    public double getDouble(final String columnLabel) throws SQLException {
+        return getDouble(findColumn(columnLabel));
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(final String columnLabel) throws SQLException {
+        return getBigDecimal(findColumn(columnLabel));
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public BigDecimal getBigDecimal(final String columnLabel, final int scale) throws SQLException {
+        return getBigDecimal(findColumn(columnLabel), scale);
+    }
+
+    @Override
+    @Suspendable
+    public byte[] getBytes(final String columnLabel) throws SQLException {
+        return getBytes(findColumn(columnLabel));
+    }
+
+    @Override
+    public Date getDate(final String columnLabel) throws SQLException {
+        return getDate(findColumn(columnLabel));
+    }
+
+    @Override
+    public Time getTime(final String columnLabel) throws SQLException {
+        return getTime(findColumn(columnLabel));
+    }
+
+    @Override
+    public Timestamp getTimestamp(final String columnLabel) throws SQLException {
+        return getTimestamp(findColumn(columnLabel));
+    }
+
+    @Override
+    public Date getDate(final String columnLabel, final Calendar cal) throws SQLException {
+        return getDate(findColumn(columnLabel), cal);
+    }
+
+    @Override
+    public Time getTime(final String columnLabel, final Calendar cal) throws SQLException {
+        return getTime(findColumn(columnLabel), cal);
+    }
+
+    @Override
+    public Timestamp getTimestamp(final String columnLabel, final Calendar cal) throws SQLException {
+        return getTimestamp(findColumn(columnLabel), cal);
+    }
+
+    @Override
+    @Suspendable
+    public InputStream getAsciiStream(final String columnLabel) throws SQLException {
+        return getAsciiStream(findColumn(columnLabel));
+    }
+
+    @Override
+    @Suspendable
+    @SuppressWarnings("deprecation")
+    public InputStream getUnicodeStream(final String columnLabel) throws SQLException {
+        return getUnicodeStream(findColumn(columnLabel));
+    }
+
+    @Override
+    @Suspendable
+    public InputStream getBinaryStream(final String columnLabel) throws SQLException {
+        return getBinaryStream(findColumn(columnLabel));
+    }
+
+    @Override
+    @Suspendable
+    public Reader getCharacterStream(final String columnLabel) throws SQLException {
+        return getCharacterStream(findColumn(columnLabel));
+    }
+
+    @Override
+    public Object getObject(final String columnLabel) throws SQLException {
+        return getObject(findColumn(columnLabel));
+    }
+
+    @Override
+    public Object getObject(final String columnLabel, final Map<String, Class<?>> map) throws SQLException {
+        return getObject(findColumn(columnLabel), map);
+    }
+
+    @Override
+    @Suspendable
+    public <T> T getObject(final String columnLabel, final Class<T> type) throws SQLException {
+        return getObject(findColumn(columnLabel), type);
+    }
+
+    @Override
+    public FiberRef getRef(final String columnLabel) throws SQLException {
+        return getRef(findColumn(columnLabel));
+    }
+
+    @Override
+    public FiberBlob getBlob(final String columnLabel) throws SQLException {
+        return getBlob(findColumn(columnLabel));
+    }
+
+    @Override
+    public FiberClob getClob(final String columnLabel) throws SQLException {
+        return getClob(findColumn(columnLabel));
+    }
+
+    @Override
+    public FiberNClob getNClob(final String columnLabel) throws SQLException {
+        return getNClob(findColumn(columnLabel));
+    }
+
+    @Override
+    public FiberArray getArray(final String columnLabel) throws SQLException {
+        return getArray(findColumn(columnLabel));
+    }
+
+    @Override
+    public FiberSQLXML getSQLXML(final String columnLabel) throws SQLException {
+        return getSQLXML(findColumn(columnLabel));
+    }
+
+    @Override
+    public RowId getRowId(final String columnLabel) throws SQLException {
+        return getRowId(findColumn(columnLabel));
+    }
+
+    @Override
+    public URL getURL(final String columnLabel) throws SQLException {
+        return getURL(findColumn(columnLabel));
+    }
+
+    @Override
+    @Suspendable
+    public String getNString(final String columnLabel) throws SQLException {
+        return getNString(findColumn(columnLabel));
+    }
+
+    @Override
+    @Suspendable
+    public Reader getNCharacterStream(final String columnLabel) throws SQLException {
+        return getNCharacterStream(findColumn(columnLabel));
+    }
+}
@@ -34,7 +34,10 @@ import java.sql.SQLException;
 import java.sql.SQLXML;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 
 /**
@@ -45,6 +48,10 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
         super(ps, exec);
     }
 
+    FiberPreparedStatement(final java.sql.PreparedStatement ps, final ExecutorService exec, final String sql) {
+        super(ps, exec, sql);
+    }
+
     protected PreparedStatement stmt() {
         return (PreparedStatement) stmt;
     }
@@ -52,19 +59,90 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public FiberResultSet executeQuery() throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "PreparedStatement.executeQuery", sql, new CheckedCallable<FiberResultSet, SQLException>() {
+            @Override
+            public FiberResultSet call() throws SQLException {
+                return newResultSet(stmt().executeQuery(), sql);
+            }
+        });
+    }
+
+    /**
+     * Executes the query and maps all resulting rows in a single JDBC operation, closing the result set.
+     *
+     * @param mapper The row mapper, which will run in the JDBC worker thread.
+     * @return The mapped rows.
+     */
+    @Suspendable
+    public <T> List<T> executeQuery(final RowMapper<T> mapper) throws SQLException {
+        return JDBCFiberAsync.exec(executor, listener, "PreparedStatement.executeQuery", sql, new CheckedCallable<List<T>, SQLException>() {
+            @Override
+            public List<T> call() throws SQLException {
+                return map(stmt().executeQuery(), mapper);
+            }
+        });
+    }
+
+    /**
+     * Binds the given parameters, executes the query and maps all resulting rows in a single JDBC operation,
+     * closing the result set.
+     *
+     * @param mapper The row mapper, which will run in the JDBC worker thread.
+     * @param params The values of the statement's parameters, in order.
+     * @return The mapped rows.
+     */
+    @Suspendable
+    public <T> List<T> executeQuery(final RowMapper<T> mapper, final Object... params) throws SQLException {
+        return JDBCFiberAsync.exec(executor, listener, "PreparedStatement.executeQuery", sql, new CheckedCallable<List<T>, SQLException>() {
             @Override
-            public ResultSet call() throws SQLException {
-                return stmt().executeQuery();
+            public List<T> call() throws SQLException {
+                bind(stmt(), params);
+                return map(stmt().executeQuery(), mapper);
             }
         });
-        return new FiberResultSet(result, executor);
+    }
+
+    /**
+     * Sets the values of the statement's parameters in a single JDBC operation.
+     *
+     * @param params The values of the statement's parameters, in order; {@code null} values are set with
+     *               {@link PreparedStatement#setNull(int, int) setNull}.
+     */
+    @Suspendable
+    public void setParameters(final Object... params) throws SQLException {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setParameters", sql, new CheckedCallable<Void, SQLException>() {
+            @Override
+            public Void call() throws SQLException {
+                bind(stmt(), params);
+                return null;
+            }
+        });
+    }
+
+    static void bind(final PreparedStatement ps, final Object[] params) throws SQLException {
+        for (int i = 0; i < params.length; i++) {
+            if (params[i] != null)
+                ps.setObject(i + 1, params[i]);
+            else
+                ps.setNull(i + 1, Types.NULL);
+        }
+    }
+
+    static <T> List<T> map(final ResultSet rs, final RowMapper<T> mapper) throws SQLException {
+        try {
+            final List<T> rows = new ArrayList<>();
+            while (rs.next())
+                rows.add(mapper.map(rs));
+            return rows;
+        } finally {
+            rs.close();
+        }
     }
 
     @Override
     @Suspendable
     public int executeUpdate() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "PreparedStatement.executeUpdate", sql, new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return stmt().executeUpdate();
@@ -75,7 +153,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public boolean execute() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "PreparedStatement.execute", sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return stmt().execute();
@@ -86,7 +164,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setNull(final int parameterIndex, final int sqlType) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setNull", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setNull(parameterIndex, sqlType);
@@ -98,7 +176,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setBoolean(final int parameterIndex, final boolean x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setBoolean", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setBoolean(parameterIndex, x);
@@ -110,7 +188,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setByte(final int parameterIndex, final byte x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setByte", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setByte(parameterIndex, x);
@@ -122,7 +200,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setShort(final int parameterIndex, final short x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setShort", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setShort(parameterIndex, x);
@@ -134,7 +212,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setInt(final int parameterIndex, final int x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setInt", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setInt(parameterIndex, x);
@@ -146,7 +224,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setLong(final int parameterIndex, final long x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setLong", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setLong(parameterIndex, x);
@@ -158,7 +236,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setFloat(final int parameterIndex, final float x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setFloat", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setFloat(parameterIndex, x);
@@ -170,7 +248,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setDouble(final int parameterIndex, final double x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setDouble", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setDouble(parameterIndex, x);
@@ -182,7 +260,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setBigDecimal(final int parameterIndex, final BigDecimal x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setBigDecimal", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setBigDecimal(parameterIndex, x);
@@ -194,7 +272,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setString(final int parameterIndex, final String x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setString", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setString(parameterIndex, x);
@@ -206,7 +284,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setBytes(final int parameterIndex, final byte[] x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setBytes", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setBytes(parameterIndex, x);
@@ -218,7 +296,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setDate(final int parameterIndex, final Date x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setDate", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setDate(parameterIndex, x);
@@ -230,7 +308,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setTime(final int parameterIndex, final Time x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setTime", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setTime(parameterIndex, x);
@@ -242,7 +320,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setTimestamp(final int parameterIndex, final Timestamp x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setTimestamp", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setTimestamp(parameterIndex, x);
@@ -254,7 +332,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setAsciiStream(final int parameterIndex, final InputStream x, final int length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setAsciiStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setAsciiStream(parameterIndex, x, length);
@@ -266,7 +344,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setUnicodeStream(final int parameterIndex, final InputStream x, final int length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setUnicodeStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setUnicodeStream(parameterIndex, x, length);
@@ -278,7 +356,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setBinaryStream(final int parameterIndex, final InputStream x, final int length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setBinaryStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setBinaryStream(parameterIndex, x, length);
@@ -290,7 +368,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void clearParameters() throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.clearParameters", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().clearParameters();
@@ -302,7 +380,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setObject(final int parameterIndex, final Object x, final int targetSqlType) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setObject", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setObject(parameterIndex, x, targetSqlType);
@@ -314,7 +392,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setObject(final int parameterIndex, final Object x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setObject", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setObject(parameterIndex, x);
@@ -326,7 +404,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void addBatch() throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.addBatch", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().addBatch();
@@ -338,7 +416,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setCharacterStream(final int parameterIndex, final Reader reader, final int length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setCharacterStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setCharacterStream(parameterIndex, reader, length);
@@ -350,7 +428,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setRef(final int parameterIndex, final Ref x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setRef", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setRef(parameterIndex, x);
@@ -362,7 +440,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setBlob(final int parameterIndex, final Blob x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setBlob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setBlob(parameterIndex, x);
@@ -374,7 +452,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setClob(final int parameterIndex, final Clob x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setClob(parameterIndex, x);
@@ -386,7 +464,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setArray(final int parameterIndex, final Array x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setArray", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setArray(parameterIndex, x);
@@ -398,19 +476,19 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public FiberResultSetMetaData getMetaData() throws SQLException {
-        final ResultSetMetaData meta = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSetMetaData, SQLException>() {
+        final ResultSetMetaData meta = JDBCFiberAsync.exec(executor, listener, "PreparedStatement.getMetaData", sql, new CheckedCallable<ResultSetMetaData, SQLException>() {
             @Override
             public ResultSetMetaData call() throws SQLException {
                 return stmt().getMetaData();
             }
         });
-        return new FiberResultSetMetaData(meta, executor);
+        return new FiberResultSetMetaData(meta, executor, getDriverProfile());
     }
 
     @Override
     @Suspendable
     public void setDate(final int parameterIndex, final Date x, final Calendar cal) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setDate", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setDate(parameterIndex, x, cal);
@@ -422,7 +500,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setTime(final int parameterIndex, final Time x, final Calendar cal) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setTime", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setTime(parameterIndex, x, cal);
@@ -434,7 +512,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setTimestamp(final int parameterIndex, final Timestamp x, final Calendar cal) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setTimestamp", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setTimestamp(parameterIndex, x, cal);
@@ -446,7 +524,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setNull(final int parameterIndex, final int sqlType, final String typeName) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setNull", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setNull(parameterIndex, sqlType, typeName);
@@ -458,7 +536,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setURL(final int parameterIndex, final URL x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setURL", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setURL(parameterIndex, x);
@@ -470,19 +548,19 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public FiberParameterMetadata getParameterMetaData() throws SQLException {
-        final ParameterMetaData pmeta = JDBCFiberAsync.exec(executor, new CheckedCallable<ParameterMetaData, SQLException>() {
+        final ParameterMetaData pmeta = JDBCFiberAsync.exec(executor, listener, "PreparedStatement.getParameterMetaData", sql, new CheckedCallable<ParameterMetaData, SQLException>() {
             @Override
             public ParameterMetaData call() throws SQLException {
                 return stmt().getParameterMetaData();
             }
         });
-        return new FiberParameterMetadata(pmeta, executor);
+        return new FiberParameterMetadata(pmeta, executor, getDriverProfile());
     }
 
     @Override
     @Suspendable
     public void setRowId(final int parameterIndex, final RowId x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setRowId", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setRowId(parameterIndex, x);
@@ -494,7 +572,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setNString(final int parameterIndex, final String value) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setNString", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setNString(parameterIndex, value);
@@ -506,7 +584,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setNCharacterStream(final int parameterIndex, final Reader value, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setNCharacterStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setNCharacterStream(parameterIndex, value, length);
@@ -518,7 +596,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setNClob(final int parameterIndex, final NClob value) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setNClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setNClob(parameterIndex, value);
@@ -530,7 +608,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setClob(final int parameterIndex, final Reader reader, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setClob(parameterIndex, reader, length);
@@ -542,7 +620,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setBlob(final int parameterIndex, final InputStream inputStream, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setBlob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setBlob(parameterIndex, inputStream, length);
@@ -554,7 +632,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setNClob(final int parameterIndex, final Reader reader, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setNClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setNClob(parameterIndex, reader, length);
@@ -566,7 +644,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setSQLXML(final int parameterIndex, final SQLXML xmlObject) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setSQLXML", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setSQLXML(parameterIndex, xmlObject);
@@ -578,7 +656,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setObject(final int parameterIndex, final Object x, final int targetSqlType, final int scaleOrLength) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setObject", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setObject(parameterIndex, x, targetSqlType, scaleOrLength);
@@ -590,7 +668,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setAsciiStream(final int parameterIndex, final InputStream x, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setAsciiStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setAsciiStream(parameterIndex, x, length);
@@ -602,7 +680,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setBinaryStream(final int parameterIndex, final InputStream x, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setBinaryStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setBinaryStream(parameterIndex, x, length);
@@ -614,7 +692,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setCharacterStream(final int parameterIndex, final Reader reader, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setCharacterStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setCharacterStream(parameterIndex, reader, length);
@@ -626,7 +704,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setAsciiStream(final int parameterIndex, final InputStream x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setAsciiStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setAsciiStream(parameterIndex, x);
@@ -638,7 +716,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setBinaryStream(final int parameterIndex, final InputStream x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setBinaryStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setBinaryStream(parameterIndex, x);
@@ -650,7 +728,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setCharacterStream(final int parameterIndex, final Reader reader) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setCharacterStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setCharacterStream(parameterIndex, reader);
@@ -662,7 +740,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setNCharacterStream(final int parameterIndex, final Reader value) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setNCharacterStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setNCharacterStream(parameterIndex, value);
@@ -674,7 +752,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setClob(final int parameterIndex, final Reader reader) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setClob(parameterIndex, reader);
@@ -686,7 +764,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setBlob(final int parameterIndex, final InputStream inputStream) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setBlob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setBlob(parameterIndex, inputStream);
@@ -698,7 +776,7 @@ public class FiberPreparedStatement extends FiberStatement implements PreparedSt
     @Override
     @Suspendable
     public void setNClob(final int parameterIndex, final Reader reader) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "PreparedStatement.setNClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt().setNClob(parameterIndex, reader);
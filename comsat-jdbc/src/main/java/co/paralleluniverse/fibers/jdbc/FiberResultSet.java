@@ -45,18 +45,30 @@ import java.util.concurrent.ExecutorService;
  * @author crclespainter
  */
 public class FiberResultSet implements ResultSet {
-    private final ResultSet result;
-    private final ExecutorService executor;
+    protected final ResultSet result;
+    protected final ExecutorService executor;
+    protected JDBCListener listener;
+    protected String sql;
+    private DriverProfile profile = DriverProfile.NONE;
 
     public FiberResultSet(final ResultSet result, final ExecutorService executor) {
         this.result = result;
         this.executor = executor;
     }
 
+    void setDriverProfile(final DriverProfile profile) {
+        this.profile = profile;
+    }
+
+    void setListener(final JDBCListener listener, final String sql) {
+        this.listener = listener;
+        this.sql = sql;
+    }
+
     @Override
     @Suspendable
     public boolean next() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.next", sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return result.next();
@@ -67,7 +79,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void close() throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.close", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.close();
@@ -79,7 +91,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public boolean wasNull() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.wasNull", sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return result.wasNull();
@@ -90,7 +102,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public String getString(final int columnIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getString", sql, new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return result.getString(columnIndex);
@@ -101,7 +113,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public boolean getBoolean(final int columnIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getBoolean", sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return result.getBoolean(columnIndex);
@@ -112,7 +124,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public byte getByte(final int columnIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Byte, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getByte", sql, new CheckedCallable<Byte, SQLException>() {
             @Override
             public Byte call() throws SQLException {
                 return result.getByte(columnIndex);
@@ -123,7 +135,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public short getShort(final int columnIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Short, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getShort", sql, new CheckedCallable<Short, SQLException>() {
             @Override
             public Short call() throws SQLException {
                 return result.getShort(columnIndex);
@@ -134,7 +146,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public int getInt(final int columnIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getInt", sql, new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return result.getInt(columnIndex);
@@ -145,7 +157,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public long getLong(final int columnIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Long, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getLong", sql, new CheckedCallable<Long, SQLException>() {
             @Override
             public Long call() throws SQLException {
                 return result.getLong(columnIndex);
@@ -156,7 +168,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public float getFloat(final int columnIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Float, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getFloat", sql, new CheckedCallable<Float, SQLException>() {
             @Override
             public Float call() throws SQLException {
                 return result.getFloat(columnIndex);
@@ -167,7 +179,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public double getDouble(final int columnIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Double, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getDouble", sql, new CheckedCallable<Double, SQLException>() {
             @Override
             public Double call() throws SQLException {
                 return result.getDouble(columnIndex);
@@ -179,7 +191,7 @@ public class FiberResultSet implements ResultSet {
     @Deprecated
     @Suspendable
     public BigDecimal getBigDecimal(final int columnIndex, final int scale) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<BigDecimal, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getBigDecimal", sql, new CheckedCallable<BigDecimal, SQLException>() {
             @Override
             public BigDecimal call() throws SQLException {
                 return result.getBigDecimal(columnIndex, scale);
@@ -190,7 +202,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public byte[] getBytes(final int columnIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<byte[], SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getBytes", sql, new CheckedCallable<byte[], SQLException>() {
             @Override
             public byte[] call() throws SQLException {
                 return result.getBytes(columnIndex);
@@ -201,7 +213,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public Date getDate(final int columnIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Date, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getDate", sql, new CheckedCallable<Date, SQLException>() {
             @Override
             public Date call() throws SQLException {
                 return result.getDate(columnIndex);
@@ -212,7 +224,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public Time getTime(final int columnIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Time, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getTime", sql, new CheckedCallable<Time, SQLException>() {
             @Override
             public Time call() throws SQLException {
                 return result.getTime(columnIndex);
@@ -223,7 +235,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public Timestamp getTimestamp(final int columnIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Timestamp, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getTimestamp", sql, new CheckedCallable<Timestamp, SQLException>() {
             @Override
             public Timestamp call() throws SQLException {
                 return result.getTimestamp(columnIndex);
@@ -234,7 +246,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public InputStream getAsciiStream(final int columnIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<InputStream, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getAsciiStream", sql, new CheckedCallable<InputStream, SQLException>() {
             @Override
             public InputStream call() throws SQLException {
                 return result.getAsciiStream(columnIndex);
@@ -246,7 +258,7 @@ public class FiberResultSet implements ResultSet {
     @Deprecated
     @Suspendable
     public InputStream getUnicodeStream(final int columnIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<InputStream, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getUnicodeStream", sql, new CheckedCallable<InputStream, SQLException>() {
             @Override
             public InputStream call() throws SQLException {
                 return result.getUnicodeStream(columnIndex);
@@ -257,7 +269,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public InputStream getBinaryStream(final int columnIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<InputStream, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getBinaryStream", sql, new CheckedCallable<InputStream, SQLException>() {
             @Override
             public InputStream call() throws SQLException {
                 return result.getBinaryStream(columnIndex);
@@ -268,7 +280,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public String getString(final String columnLabel) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getString", sql, new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return result.getString(columnLabel);
@@ -279,7 +291,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public boolean getBoolean(final String columnLabel) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getBoolean", sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return result.getBoolean(columnLabel);
@@ -290,7 +302,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public byte getByte(final String columnLabel) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Byte, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getByte", sql, new CheckedCallable<Byte, SQLException>() {
             @Override
             public Byte call() throws SQLException {
                 return result.getByte(columnLabel);
@@ -301,7 +313,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public short getShort(final String columnLabel) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Short, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getShort", sql, new CheckedCallable<Short, SQLException>() {
             @Override
             public Short call() throws SQLException {
                 return result.getShort(columnLabel);
@@ -312,7 +324,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public int getInt(final String columnLabel) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getInt", sql, new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return result.getInt(columnLabel);
@@ -323,7 +335,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public long getLong(final String columnLabel) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Long, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getLong", sql, new CheckedCallable<Long, SQLException>() {
             @Override
             public Long call() throws SQLException {
                 return result.getLong(columnLabel);
@@ -334,7 +346,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public float getFloat(final String columnLabel) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Float, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getFloat", sql, new CheckedCallable<Float, SQLException>() {
             @Override
             public Float call() throws SQLException {
                 return result.getFloat(columnLabel);
@@ -345,7 +357,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public double getDouble(final String columnLabel) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Double, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getDouble", sql, new CheckedCallable<Double, SQLException>() {
             @Override
             public Double call() throws SQLException {
                 return result.getDouble(columnLabel);
@@ -357,7 +369,7 @@ public class FiberResultSet implements ResultSet {
     @Deprecated
     @Suspendable
     public BigDecimal getBigDecimal(final String columnLabel, final int scale) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<BigDecimal, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getBigDecimal", sql, new CheckedCallable<BigDecimal, SQLException>() {
             @Override
             public BigDecimal call() throws SQLException {
                 return result.getBigDecimal(columnLabel, scale);
@@ -368,7 +380,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public byte[] getBytes(final String columnLabel) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<byte[], SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getBytes", sql, new CheckedCallable<byte[], SQLException>() {
             @Override
             public byte[] call() throws SQLException {
                 return result.getBytes(columnLabel);
@@ -379,7 +391,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public Date getDate(final String columnLabel) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Date, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getDate", sql, new CheckedCallable<Date, SQLException>() {
             @Override
             public Date call() throws SQLException {
                 return result.getDate(columnLabel);
@@ -390,7 +402,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public Time getTime(final String columnLabel) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Time, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getTime", sql, new CheckedCallable<Time, SQLException>() {
             @Override
             public Time call() throws SQLException {
                 return result.getTime(columnLabel);
@@ -401,7 +413,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public Timestamp getTimestamp(final String columnLabel) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Timestamp, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getTimestamp", sql, new CheckedCallable<Timestamp, SQLException>() {
             @Override
             public Timestamp call() throws SQLException {
                 return result.getTimestamp(columnLabel);
@@ -412,7 +424,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public InputStream getAsciiStream(final String columnLabel) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<InputStream, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getAsciiStream", sql, new CheckedCallable<InputStream, SQLException>() {
             @Override
             public InputStream call() throws SQLException {
                 return result.getAsciiStream(columnLabel);
@@ -424,7 +436,7 @@ public class FiberResultSet implements ResultSet {
     @Deprecated
     @Suspendable
     public InputStream getUnicodeStream(final String columnLabel) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<InputStream, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getUnicodeStream", sql, new CheckedCallable<InputStream, SQLException>() {
             @Override
             public InputStream call() throws SQLException {
                 return result.getUnicodeStream(columnLabel);
@@ -435,7 +447,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public InputStream getBinaryStream(final String columnLabel) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<InputStream, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getBinaryStream", sql, new CheckedCallable<InputStream, SQLException>() {
             @Override
             public InputStream call() throws SQLException {
                 return result.getBinaryStream(columnLabel);
@@ -446,7 +458,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public SQLWarning getWarnings() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<SQLWarning, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getWarnings", sql, new CheckedCallable<SQLWarning, SQLException>() {
             @Override
             public SQLWarning call() throws SQLException {
                 return result.getWarnings();
@@ -457,7 +469,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void clearWarnings() throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.clearWarnings", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.clearWarnings();
@@ -469,7 +481,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public String getCursorName() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getCursorName", sql, new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return result.getCursorName();
@@ -480,19 +492,19 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public FiberResultSetMetaData getMetaData() throws SQLException {
-        final ResultSetMetaData meta = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSetMetaData, SQLException>() {
+        final ResultSetMetaData meta = JDBCFiberAsync.exec(executor, profile, "ResultSet.getMetaData", new CheckedCallable<ResultSetMetaData, SQLException>() {
             @Override
             public ResultSetMetaData call() throws SQLException {
                 return result.getMetaData();
             }
         });
-        return new FiberResultSetMetaData(meta, executor);
+        return new FiberResultSetMetaData(meta, executor, profile);
     }
 
     @Override
     @Suspendable
     public Object getObject(final int columnIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Object, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getObject", sql, new CheckedCallable<Object, SQLException>() {
             @Override
             public Object call() throws SQLException {
                 return result.getObject(columnIndex);
@@ -503,7 +515,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public Object getObject(final String columnLabel) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Object, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getObject", sql, new CheckedCallable<Object, SQLException>() {
             @Override
             public Object call() throws SQLException {
                 return result.getObject(columnLabel);
@@ -514,7 +526,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public int findColumn(final String columnLabel) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.findColumn", sql, new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return result.findColumn(columnLabel);
@@ -525,7 +537,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public Reader getCharacterStream(final int columnIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Reader, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getCharacterStream", sql, new CheckedCallable<Reader, SQLException>() {
             @Override
             public Reader call() throws SQLException {
                 return result.getCharacterStream(columnIndex);
@@ -536,7 +548,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public Reader getCharacterStream(final String columnLabel) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Reader, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getCharacterStream", sql, new CheckedCallable<Reader, SQLException>() {
             @Override
             public Reader call() throws SQLException {
                 return result.getCharacterStream(columnLabel);
@@ -547,7 +559,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public BigDecimal getBigDecimal(final int columnIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<BigDecimal, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getBigDecimal", sql, new CheckedCallable<BigDecimal, SQLException>() {
             @Override
             public BigDecimal call() throws SQLException {
                 return result.getBigDecimal(columnIndex);
@@ -558,7 +570,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public BigDecimal getBigDecimal(final String columnLabel) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<BigDecimal, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getBigDecimal", sql, new CheckedCallable<BigDecimal, SQLException>() {
             @Override
             public BigDecimal call() throws SQLException {
                 return result.getBigDecimal(columnLabel);
@@ -569,7 +581,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public boolean isBeforeFirst() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.isBeforeFirst", sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return result.isBeforeFirst();
@@ -580,7 +592,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public boolean isAfterLast() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.isAfterLast", sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return result.isAfterLast();
@@ -591,7 +603,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public boolean isFirst() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.isFirst", sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return result.isFirst();
@@ -602,7 +614,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public boolean isLast() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.isLast", sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return result.isLast();
@@ -613,7 +625,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void beforeFirst() throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.beforeFirst", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.beforeFirst();
@@ -625,7 +637,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void afterLast() throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.afterLast", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.afterLast();
@@ -637,7 +649,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public boolean first() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.first", sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return result.first();
@@ -648,7 +660,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public boolean last() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.last", sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return result.last();
@@ -659,7 +671,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public int getRow() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getRow", sql, new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return result.getRow();
@@ -670,7 +682,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public boolean absolute(final int row) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.absolute", sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return result.absolute(row);
@@ -681,7 +693,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public boolean relative(final int rows) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.relative", sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return result.absolute(rows);
@@ -692,7 +704,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public boolean previous() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.previous", sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return result.previous();
@@ -703,7 +715,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void setFetchDirection(final int direction) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.setFetchDirection", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.setFetchDirection(direction);
@@ -715,7 +727,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public int getFetchDirection() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getFetchDirection", sql, new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return result.getFetchDirection();
@@ -726,7 +738,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void setFetchSize(final int rows) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.setFetchSize", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.setFetchSize(rows);
@@ -738,7 +750,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public int getFetchSize() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getFetchSize", sql, new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return result.getFetchSize();
@@ -749,7 +761,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public int getType() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getType", sql, new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return result.getType();
@@ -760,7 +772,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public int getConcurrency() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getConcurrency", sql, new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return result.getConcurrency();
@@ -771,7 +783,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public boolean rowUpdated() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.rowUpdated", sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return result.rowUpdated();
@@ -782,7 +794,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public boolean rowInserted() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.rowInserted", sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return result.rowInserted();
@@ -793,7 +805,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public boolean rowDeleted() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.rowDeleted", sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return result.rowDeleted();
@@ -804,7 +816,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateNull(final int columnIndex) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateNull", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateNull(columnIndex);
@@ -816,7 +828,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateBoolean(final int columnIndex, final boolean x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateBoolean", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateBoolean(columnIndex, x);
@@ -828,7 +840,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateByte(final int columnIndex, final byte x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateByte", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateByte(columnIndex, x);
@@ -840,7 +852,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateShort(final int columnIndex, final short x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateShort", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateShort(columnIndex, x);
@@ -852,7 +864,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateInt(final int columnIndex, final int x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateInt", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateInt(columnIndex, x);
@@ -864,7 +876,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateLong(final int columnIndex, final long x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateLong", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateLong(columnIndex, x);
@@ -876,7 +888,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateFloat(final int columnIndex, final float x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateFloat", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateFloat(columnIndex, x);
@@ -888,7 +900,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateDouble(final int columnIndex, final double x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateDouble", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateDouble(columnIndex, x);
@@ -900,7 +912,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateBigDecimal(final int columnIndex, final BigDecimal x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateBigDecimal", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateBigDecimal(columnIndex, x);
@@ -912,7 +924,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateString(final int columnIndex, final String x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateString", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateString(columnIndex, x);
@@ -924,7 +936,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateBytes(final int columnIndex, final byte[] x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateBytes", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateBytes(columnIndex, x);
@@ -936,7 +948,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateDate(final int columnIndex, final Date x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateDate", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateDate(columnIndex, x);
@@ -948,7 +960,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateTime(final int columnIndex, final Time x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateTime", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateTime(columnIndex, x);
@@ -960,7 +972,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateTimestamp(final int columnIndex, final Timestamp x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateTimestamp", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateTimestamp(columnIndex, x);
@@ -972,7 +984,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateAsciiStream(final int columnIndex, final InputStream x, final int length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateAsciiStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateAsciiStream(columnIndex, x, length);
@@ -984,7 +996,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateBinaryStream(final int columnIndex, final InputStream x, final int length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateBinaryStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateBinaryStream(columnIndex, x, length);
@@ -996,7 +1008,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateCharacterStream(final int columnIndex, final Reader x, final int length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateCharacterStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateCharacterStream(columnIndex, x, length);
@@ -1008,7 +1020,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateObject(final int columnIndex, final Object x, final int scaleOrLength) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateObject", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateObject(columnIndex, x, scaleOrLength);
@@ -1020,7 +1032,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateObject(final int columnIndex, final Object x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateObject", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateObject(columnIndex, x);
@@ -1032,7 +1044,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateNull(final String columnLabel) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateNull", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateNull(columnLabel);
@@ -1044,7 +1056,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateBoolean(final String columnLabel, final boolean x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateBoolean", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateBoolean(columnLabel, x);
@@ -1056,7 +1068,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateByte(final String columnLabel, final byte x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateByte", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateByte(columnLabel, x);
@@ -1068,7 +1080,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateShort(final String columnLabel, final short x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateShort", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateShort(columnLabel, x);
@@ -1080,7 +1092,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateInt(final String columnLabel, final int x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateInt", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateInt(columnLabel, x);
@@ -1092,7 +1104,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateLong(final String columnLabel, final long x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateLong", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateLong(columnLabel, x);
@@ -1104,7 +1116,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateFloat(final String columnLabel, final float x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateFloat", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateFloat(columnLabel, x);
@@ -1116,7 +1128,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateDouble(final String columnLabel, final double x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateDouble", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateDouble(columnLabel, x);
@@ -1128,7 +1140,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateBigDecimal(final String columnLabel, final BigDecimal x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateBigDecimal", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateBigDecimal(columnLabel, x);
@@ -1140,7 +1152,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateString(final String columnLabel, final String x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateString", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateString(columnLabel, x);
@@ -1152,7 +1164,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateBytes(final String columnLabel, final byte[] x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateBytes", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateBytes(columnLabel, x);
@@ -1164,7 +1176,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateDate(final String columnLabel, final Date x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateDate", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateDate(columnLabel, x);
@@ -1176,7 +1188,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateTime(final String columnLabel, final Time x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateTime", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateTime(columnLabel, x);
@@ -1188,7 +1200,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateTimestamp(final String columnLabel, final Timestamp x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateTimestamp", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateTimestamp(columnLabel, x);
@@ -1200,7 +1212,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateAsciiStream(final String columnLabel, final InputStream x, final int length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateAsciiStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateAsciiStream(columnLabel, x, length);
@@ -1212,7 +1224,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateBinaryStream(final String columnLabel, final InputStream x, final int length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateBinaryStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateBinaryStream(columnLabel, x, length);
@@ -1224,7 +1236,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateCharacterStream(final String columnLabel, final Reader reader, final int length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateCharacterStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateCharacterStream(columnLabel, reader, length);
@@ -1236,7 +1248,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateObject(final String columnLabel, final Object x, final int scaleOrLength) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateObject", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateObject(columnLabel, x, scaleOrLength);
@@ -1248,7 +1260,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateObject(final String columnLabel, final Object x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateObject", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateObject(columnLabel, x);
@@ -1260,7 +1272,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void insertRow() throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.insertRow", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.insertRow();
@@ -1272,7 +1284,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateRow() throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateRow", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateRow();
@@ -1284,7 +1296,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void deleteRow() throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.deleteRow", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.deleteRow();
@@ -1296,7 +1308,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void refreshRow() throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.refreshRow", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.refreshRow();
@@ -1308,7 +1320,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void cancelRowUpdates() throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.cancelRowUpdates", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.cancelRowUpdates();
@@ -1320,7 +1332,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void moveToInsertRow() throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.moveToInsertRow", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.moveToInsertRow();
@@ -1332,7 +1344,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void moveToCurrentRow() throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.moveToCurrentRow", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.moveToCurrentRow();
@@ -1344,7 +1356,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public FiberStatement getStatement() throws SQLException {
-        final Statement s = JDBCFiberAsync.exec(executor, new CheckedCallable<Statement, SQLException>() {
+        final Statement s = JDBCFiberAsync.exec(executor, listener, "ResultSet.getStatement", sql, new CheckedCallable<Statement, SQLException>() {
             @Override
             public Statement call() throws SQLException {
                 return result.getStatement();
@@ -1356,7 +1368,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public Object getObject(final int columnIndex, final Map<String, Class<?>> map) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Object, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getObject", sql, new CheckedCallable<Object, SQLException>() {
             @Override
             public Object call() throws SQLException {
                 return result.getObject(columnIndex, map);
@@ -1367,7 +1379,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public FiberRef getRef(final int columnIndex) throws SQLException {
-        final Ref ref = JDBCFiberAsync.exec(executor, new CheckedCallable<Ref, SQLException>() {
+        final Ref ref = JDBCFiberAsync.exec(executor, listener, "ResultSet.getRef", sql, new CheckedCallable<Ref, SQLException>() {
             @Override
             public Ref call() throws SQLException {
                 return result.getRef(columnIndex);
@@ -1379,7 +1391,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public FiberBlob getBlob(final int columnIndex) throws SQLException {
-        final Blob blob = JDBCFiberAsync.exec(executor, new CheckedCallable<Blob, SQLException>() {
+        final Blob blob = JDBCFiberAsync.exec(executor, listener, "ResultSet.getBlob", sql, new CheckedCallable<Blob, SQLException>() {
             @Override
             public Blob call() throws SQLException {
                 return result.getBlob(columnIndex);
@@ -1391,7 +1403,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public FiberClob getClob(final int columnIndex) throws SQLException {
-        final Clob clob = JDBCFiberAsync.exec(executor, new CheckedCallable<Clob, SQLException>() {
+        final Clob clob = JDBCFiberAsync.exec(executor, listener, "ResultSet.getClob", sql, new CheckedCallable<Clob, SQLException>() {
             @Override
             public Clob call() throws SQLException {
                 return result.getClob(columnIndex);
@@ -1403,7 +1415,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public FiberArray getArray(final int columnIndex) throws SQLException {
-        final Array array =  JDBCFiberAsync.exec(executor, new CheckedCallable<Array, SQLException>() {
+        final Array array =  JDBCFiberAsync.exec(executor, listener, "ResultSet.getArray", sql, new CheckedCallable<Array, SQLException>() {
             @Override
             public Array call() throws SQLException {
                 return result.getArray(columnIndex);
@@ -1415,7 +1427,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public Object getObject(final String columnLabel, final Map<String, Class<?>> map) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Object, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getObject", sql, new CheckedCallable<Object, SQLException>() {
             @Override
             public Object call() throws SQLException {
                 return result.getObject(columnLabel, map);
@@ -1426,7 +1438,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public FiberRef getRef(final String columnLabel) throws SQLException {
-        final Ref ref = JDBCFiberAsync.exec(executor, new CheckedCallable<Ref, SQLException>() {
+        final Ref ref = JDBCFiberAsync.exec(executor, listener, "ResultSet.getRef", sql, new CheckedCallable<Ref, SQLException>() {
             @Override
             public Ref call() throws SQLException {
                 return result.getRef(columnLabel);
@@ -1438,7 +1450,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public FiberBlob getBlob(final String columnLabel) throws SQLException {
-        final Blob blob = JDBCFiberAsync.exec(executor, new CheckedCallable<Blob, SQLException>() {
+        final Blob blob = JDBCFiberAsync.exec(executor, listener, "ResultSet.getBlob", sql, new CheckedCallable<Blob, SQLException>() {
             @Override
             public Blob call() throws SQLException {
                 return result.getBlob(columnLabel);
@@ -1450,7 +1462,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public FiberClob getClob(final String columnLabel) throws SQLException {
-        final Clob clob = JDBCFiberAsync.exec(executor, new CheckedCallable<Clob, SQLException>() {
+        final Clob clob = JDBCFiberAsync.exec(executor, listener, "ResultSet.getClob", sql, new CheckedCallable<Clob, SQLException>() {
             @Override
             public Clob call() throws SQLException {
                 return result.getClob(columnLabel);
@@ -1462,7 +1474,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public FiberArray getArray(final String columnLabel) throws SQLException {
-        final Array array = JDBCFiberAsync.exec(executor, new CheckedCallable<Array, SQLException>() {
+        final Array array = JDBCFiberAsync.exec(executor, listener, "ResultSet.getArray", sql, new CheckedCallable<Array, SQLException>() {
             @Override
             public Array call() throws SQLException {
                 return result.getArray(columnLabel);
@@ -1474,7 +1486,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public Date getDate(final int columnIndex, final Calendar cal) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Date, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getDate", sql, new CheckedCallable<Date, SQLException>() {
             @Override
             public Date call() throws SQLException {
                 return result.getDate(columnIndex, cal);
@@ -1485,7 +1497,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public Date getDate(final String columnLabel, final Calendar cal) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Date, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getDate", sql, new CheckedCallable<Date, SQLException>() {
             @Override
             public Date call() throws SQLException {
                 return result.getDate(columnLabel, cal);
@@ -1496,7 +1508,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public Time getTime(final int columnIndex, final Calendar cal) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Time, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getTime", sql, new CheckedCallable<Time, SQLException>() {
             @Override
             public Time call() throws SQLException {
                 return result.getTime(columnIndex, cal);
@@ -1507,7 +1519,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public Time getTime(final String columnLabel, final Calendar cal) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Time, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getTime", sql, new CheckedCallable<Time, SQLException>() {
             @Override
             public Time call() throws SQLException {
                 return result.getTime(columnLabel, cal);
@@ -1518,7 +1530,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public Timestamp getTimestamp(final int columnIndex, final Calendar cal) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Timestamp, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getTimestamp", sql, new CheckedCallable<Timestamp, SQLException>() {
             @Override
             public Timestamp call() throws SQLException {
                 return result.getTimestamp(columnIndex, cal);
@@ -1529,7 +1541,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public Timestamp getTimestamp(final String columnLabel, final Calendar cal) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Timestamp, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getTimestamp", sql, new CheckedCallable<Timestamp, SQLException>() {
             @Override
             public Timestamp call() throws SQLException {
                 return result.getTimestamp(columnLabel, cal);
@@ -1540,7 +1552,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public URL getURL(final int columnIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<URL, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getURL", sql, new CheckedCallable<URL, SQLException>() {
             @Override
             public URL call() throws SQLException {
                 return result.getURL(columnIndex);
@@ -1551,7 +1563,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public URL getURL(final String columnLabel) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<URL, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getURL", sql, new CheckedCallable<URL, SQLException>() {
             @Override
             public URL call() throws SQLException {
                 return result.getURL(columnLabel);
@@ -1562,7 +1574,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateRef(final int columnIndex, final Ref x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateRef", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateRef(columnIndex, x);
@@ -1574,7 +1586,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateRef(final String columnLabel, final Ref x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateRef", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateRef(columnLabel, x);
@@ -1586,7 +1598,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateBlob(final int columnIndex, final Blob x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateBlob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateBlob(columnIndex, x);
@@ -1598,7 +1610,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateBlob(final String columnLabel, final Blob x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateBlob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateBlob(columnLabel, x);
@@ -1610,7 +1622,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateClob(final int columnIndex, final Clob x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateClob(columnIndex, x);
@@ -1622,7 +1634,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateClob(final String columnLabel, final Clob x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateClob(columnLabel, x);
@@ -1634,7 +1646,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateArray(final int columnIndex, final Array x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateArray", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateArray(columnIndex, x);
@@ -1646,7 +1658,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateArray(final String columnLabel, final Array x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateArray", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateArray(columnLabel, x);
@@ -1658,7 +1670,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public RowId getRowId(final int columnIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<RowId, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getRowId", sql, new CheckedCallable<RowId, SQLException>() {
             @Override
             public RowId call() throws SQLException {
                 return result.getRowId(columnIndex);
@@ -1669,7 +1681,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public RowId getRowId(final String columnLabel) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<RowId, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getRowId", sql, new CheckedCallable<RowId, SQLException>() {
             @Override
             public RowId call() throws SQLException {
                 return result.getRowId(columnLabel);
@@ -1680,7 +1692,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateRowId(final int columnIndex, final RowId x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateRowId", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateRowId(columnIndex, x);
@@ -1692,7 +1704,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateRowId(final String columnLabel, final RowId x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateRowId", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateRowId(columnLabel, x);
@@ -1704,7 +1716,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public int getHoldability() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getHoldability", sql, new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return result.getHoldability();
@@ -1715,7 +1727,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public boolean isClosed() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.isClosed", sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return result.isClosed();
@@ -1726,7 +1738,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateNString(final int columnIndex, final String nString) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateNString", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateNString(columnIndex, nString);
@@ -1738,7 +1750,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateNString(final String columnLabel, final String nString) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateNString", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateNString(columnLabel, nString);
@@ -1750,7 +1762,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateNClob(final int columnIndex, final NClob nClob) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateNClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateNClob(columnIndex, nClob);
@@ -1762,7 +1774,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateNClob(final String columnLabel, final NClob nClob) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateNClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateNClob(columnLabel, nClob);
@@ -1774,7 +1786,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public FiberNClob getNClob(final int columnIndex) throws SQLException {
-        final NClob nclob = JDBCFiberAsync.exec(executor, new CheckedCallable<NClob, SQLException>() {
+        final NClob nclob = JDBCFiberAsync.exec(executor, listener, "ResultSet.getNClob", sql, new CheckedCallable<NClob, SQLException>() {
             @Override
             public NClob call() throws SQLException {
                 return result.getNClob(columnIndex);
@@ -1786,7 +1798,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public FiberNClob getNClob(final String columnLabel) throws SQLException {
-        final NClob nclob = JDBCFiberAsync.exec(executor, new CheckedCallable<NClob, SQLException>() {
+        final NClob nclob = JDBCFiberAsync.exec(executor, listener, "ResultSet.getNClob", sql, new CheckedCallable<NClob, SQLException>() {
             @Override
             public NClob call() throws SQLException {
                 return result.getNClob(columnLabel);
@@ -1798,7 +1810,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public FiberSQLXML getSQLXML(final int columnIndex) throws SQLException {
-        final SQLXML sqlxml = JDBCFiberAsync.exec(executor, new CheckedCallable<SQLXML, SQLException>() {
+        final SQLXML sqlxml = JDBCFiberAsync.exec(executor, listener, "ResultSet.getSQLXML", sql, new CheckedCallable<SQLXML, SQLException>() {
             @Override
             public SQLXML call() throws SQLException {
                 return result.getSQLXML(columnIndex);
@@ -1810,7 +1822,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public FiberSQLXML getSQLXML(final String columnLabel) throws SQLException {
-        final SQLXML sqlxml = JDBCFiberAsync.exec(executor, new CheckedCallable<SQLXML, SQLException>() {
+        final SQLXML sqlxml = JDBCFiberAsync.exec(executor, listener, "ResultSet.getSQLXML", sql, new CheckedCallable<SQLXML, SQLException>() {
             @Override
             public SQLXML call() throws SQLException {
                 return result.getSQLXML(columnLabel);
@@ -1822,7 +1834,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateSQLXML(final int columnIndex, final SQLXML xmlObject) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateSQLXML", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateSQLXML(columnIndex, xmlObject);
@@ -1834,7 +1846,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateSQLXML(final String columnLabel, final SQLXML xmlObject) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateSQLXML", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateSQLXML(columnLabel, xmlObject);
@@ -1846,7 +1858,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public String getNString(final int columnIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getNString", sql, new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return result.getNString(columnIndex);
@@ -1857,7 +1869,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public String getNString(final String columnLabel) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getNString", sql, new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return result.getNString(columnLabel);
@@ -1868,7 +1880,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public Reader getNCharacterStream(final int columnIndex) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Reader, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getNCharacterStream", sql, new CheckedCallable<Reader, SQLException>() {
             @Override
             public Reader call() throws SQLException {
                 return result.getNCharacterStream(columnIndex);
@@ -1879,7 +1891,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public Reader getNCharacterStream(final String columnLabel) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Reader, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getNCharacterStream", sql, new CheckedCallable<Reader, SQLException>() {
             @Override
             public Reader call() throws SQLException {
                 return result.getNCharacterStream(columnLabel);
@@ -1890,7 +1902,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateNCharacterStream(final int columnIndex, final Reader x, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateNCharacterStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateNCharacterStream(columnIndex, x, length);
@@ -1902,7 +1914,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateNCharacterStream(final String columnLabel, final Reader reader, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateNCharacterStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateNCharacterStream(columnLabel, reader, length);
@@ -1914,7 +1926,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateAsciiStream(final int columnIndex, final InputStream x, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateAsciiStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateAsciiStream(columnIndex, x, length);
@@ -1926,7 +1938,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateBinaryStream(final int columnIndex, final InputStream x, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateBinaryStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateBinaryStream(columnIndex, x, length);
@@ -1938,7 +1950,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateCharacterStream(final int columnIndex, final Reader x, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateCharacterStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateCharacterStream(columnIndex, x, length);
@@ -1950,7 +1962,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateAsciiStream(final String columnLabel, final InputStream x, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateAsciiStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateAsciiStream(columnLabel, x, length);
@@ -1962,7 +1974,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateBinaryStream(final String columnLabel, final InputStream x, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateBinaryStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateBinaryStream(columnLabel, x, length);
@@ -1974,7 +1986,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateCharacterStream(final String columnLabel, final Reader reader, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateCharacterStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateCharacterStream(columnLabel, reader, length);
@@ -1986,7 +1998,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateBlob(final int columnIndex, final InputStream inputStream, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateBlob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateBlob(columnIndex, inputStream, length);
@@ -1998,7 +2010,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateBlob(final String columnLabel, final InputStream inputStream, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateBlob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateBlob(columnLabel, inputStream, length);
@@ -2010,7 +2022,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateClob(final int columnIndex, final Reader reader, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateClob(columnIndex, reader, length);
@@ -2022,7 +2034,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateClob(final String columnLabel, final Reader reader, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateClob(columnLabel, reader, length);
@@ -2034,7 +2046,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateNClob(final int columnIndex, final Reader reader, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateNClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateNClob(columnIndex, reader, length);
@@ -2046,7 +2058,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateNClob(final String columnLabel, final Reader reader, final long length) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateNClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateNClob(columnLabel, reader, length);
@@ -2058,7 +2070,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateNCharacterStream(final int columnIndex, final Reader x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateNCharacterStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateNCharacterStream(columnIndex, x);
@@ -2070,7 +2082,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateNCharacterStream(final String columnLabel, final Reader reader) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateNCharacterStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateNCharacterStream(columnLabel, reader);
@@ -2082,7 +2094,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateAsciiStream(final int columnIndex, final InputStream x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateAsciiStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateAsciiStream(columnIndex, x);
@@ -2094,7 +2106,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateBinaryStream(final int columnIndex, final InputStream x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateBinaryStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateBinaryStream(columnIndex, x);
@@ -2106,7 +2118,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateCharacterStream(final int columnIndex, final Reader x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateCharacterStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateCharacterStream(columnIndex, x);
@@ -2118,7 +2130,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateAsciiStream(final String columnLabel, final InputStream x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateAsciiStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateAsciiStream(columnLabel, x);
@@ -2130,7 +2142,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateBinaryStream(final String columnLabel, final InputStream x) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateBinaryStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateBinaryStream(columnLabel, x);
@@ -2142,7 +2154,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateCharacterStream(final String columnLabel, final Reader reader) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateCharacterStream", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateCharacterStream(columnLabel, reader);
@@ -2154,7 +2166,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateBlob(final int columnIndex, final InputStream inputStream) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateBlob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateBlob(columnIndex, inputStream);
@@ -2166,7 +2178,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateBlob(final String columnLabel, final InputStream inputStream) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateBlob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateBlob(columnLabel, inputStream);
@@ -2178,7 +2190,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateClob(final int columnIndex, final Reader reader) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateClob(columnIndex, reader);
@@ -2190,7 +2202,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateClob(final String columnLabel, final Reader reader) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateClob(columnLabel, reader);
@@ -2202,7 +2214,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateNClob(final int columnIndex, final Reader reader) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateNClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateNClob(columnIndex, reader);
@@ -2214,7 +2226,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public void updateNClob(final String columnLabel, final Reader reader) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "ResultSet.updateNClob", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 result.updateNClob(columnLabel, reader);
@@ -2226,7 +2238,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public <T> T getObject(final int columnIndex, final Class<T> type) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<T, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getObject", sql, new CheckedCallable<T, SQLException>() {
             @Override
             public T call() throws SQLException {
                 return result.getObject(columnIndex, type);
@@ -2237,7 +2249,7 @@ public class FiberResultSet implements ResultSet {
     @Override
     @Suspendable
     public <T> T getObject(final String columnLabel, final Class<T> type) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<T, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "ResultSet.getObject", sql, new CheckedCallable<T, SQLException>() {
             @Override
             public T call() throws SQLException {
                 return result.getObject(columnLabel, type);
@@ -2250,7 +2262,7 @@ public class FiberResultSet implements ResultSet {
 //    @Override
 //    @Suspendable
 //    public void updateObject(final int columnIndex, final Object x, final SQLType targetSqlType, final int scaleOrLength) throws SQLException {
-//        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+//        JDBCFiberAsync.exec(executor, listener, "ResultSet.call", sql, new CheckedCallable<Void, SQLException>() {
 //            @Override
 //            public Void call() throws SQLException {
 //                result.updateObject(columnIndex, x, targetSqlType, scaleOrLength);
@@ -2262,7 +2274,7 @@ public class FiberResultSet implements ResultSet {
 //    @Override
 //    @Suspendable
 //    public void updateObject(final String columnLabel, final Object x, final SQLType targetSqlType, final int scaleOrLength) throws SQLException {
-//        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+//        JDBCFiberAsync.exec(executor, listener, "ResultSet.call", sql, new CheckedCallable<Void, SQLException>() {
 //            @Override
 //            public Void call() throws SQLException {
 //                result.updateObject(columnLabel, x, targetSqlType, scaleOrLength);
@@ -2274,7 +2286,7 @@ public class FiberResultSet implements ResultSet {
 //    @Override
 //    @Suspendable
 //    public void updateObject(final int columnIndex, final Object x, final SQLType targetSqlType) throws SQLException {
-//        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+//        JDBCFiberAsync.exec(executor, listener, "ResultSet.call", sql, new CheckedCallable<Void, SQLException>() {
 //            @Override
 //            public Void call() throws SQLException {
 //                result.updateObject(columnIndex, x, targetSqlType);
@@ -2286,7 +2298,7 @@ public class FiberResultSet implements ResultSet {
 //    @Override
 //    @Suspendable
 //    public void updateObject(final String columnLabel, final Object x, final SQLType targetSqlType) throws SQLException {
-//        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+//        JDBCFiberAsync.exec(executor, listener, "ResultSet.call", sql, new CheckedCallable<Void, SQLException>() {
 //            @Override
 //            public Void call() throws SQLException {
 //                result.updateObject(columnLabel, x, targetSqlType);
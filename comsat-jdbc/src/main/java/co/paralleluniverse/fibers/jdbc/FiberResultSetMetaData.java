@@ -25,16 +25,22 @@ import java.util.concurrent.ExecutorService;
 public class FiberResultSetMetaData implements ResultSetMetaData {
     private final ResultSetMetaData resultMeta;
     private final ExecutorService executor;
+    private final DriverProfile profile;
 
     public FiberResultSetMetaData(final ResultSetMetaData resultMeta, final ExecutorService executor) {
+        this(resultMeta, executor, DriverProfile.NONE);
+    }
+
+    public FiberResultSetMetaData(final ResultSetMetaData resultMeta, final ExecutorService executor, final DriverProfile profile) {
         this.resultMeta = resultMeta;
         this.executor = executor;
+        this.profile = profile;
     }
 
     @Override
     @Suspendable
     public int getColumnCount() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ResultSetMetaData.getColumnCount", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return resultMeta.getColumnCount();
@@ -45,7 +51,7 @@ public class FiberResultSetMetaData implements ResultSetMetaData {
     @Override
     @Suspendable
     public boolean isAutoIncrement(final int column) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ResultSetMetaData.isAutoIncrement", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return resultMeta.isAutoIncrement(column);
@@ -56,7 +62,7 @@ public class FiberResultSetMetaData implements ResultSetMetaData {
     @Override
     @Suspendable
     public boolean isCaseSensitive(final int column) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ResultSetMetaData.isCaseSensitive", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return resultMeta.isCaseSensitive(column);
@@ -67,7 +73,7 @@ public class FiberResultSetMetaData implements ResultSetMetaData {
     @Override
     @Suspendable
     public boolean isSearchable(final int column) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ResultSetMetaData.isSearchable", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return resultMeta.isSearchable(column);
@@ -78,7 +84,7 @@ public class FiberResultSetMetaData implements ResultSetMetaData {
     @Override
     @Suspendable
     public boolean isCurrency(final int column) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ResultSetMetaData.isCurrency", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return resultMeta.isCurrency(column);
@@ -89,7 +95,7 @@ public class FiberResultSetMetaData implements ResultSetMetaData {
     @Override
     @Suspendable
     public int isNullable(final int column) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ResultSetMetaData.isNullable", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return resultMeta.isNullable(column);
@@ -100,7 +106,7 @@ public class FiberResultSetMetaData implements ResultSetMetaData {
     @Override
     @Suspendable
     public boolean isSigned(final int column) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ResultSetMetaData.isSigned", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return resultMeta.isSigned(column);
@@ -111,7 +117,7 @@ public class FiberResultSetMetaData implements ResultSetMetaData {
     @Override
     @Suspendable
     public int getColumnDisplaySize(final int column) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ResultSetMetaData.getColumnDisplaySize", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return resultMeta.getColumnDisplaySize(column);
@@ -122,7 +128,7 @@ public class FiberResultSetMetaData implements ResultSetMetaData {
     @Override
     @Suspendable
     public String getColumnLabel(final int column) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ResultSetMetaData.getColumnLabel", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return resultMeta.getColumnLabel(column);
@@ -133,7 +139,7 @@ public class FiberResultSetMetaData implements ResultSetMetaData {
     @Override
     @Suspendable
     public String getColumnName(final int column) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ResultSetMetaData.getColumnName", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return resultMeta.getColumnName(column);
@@ -144,7 +150,7 @@ public class FiberResultSetMetaData implements ResultSetMetaData {
     @Override
     @Suspendable
     public String getSchemaName(final int column) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ResultSetMetaData.getSchemaName", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return resultMeta.getSchemaName(column);
@@ -155,7 +161,7 @@ public class FiberResultSetMetaData implements ResultSetMetaData {
     @Override
     @Suspendable
     public int getPrecision(final int column) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ResultSetMetaData.getPrecision", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return resultMeta.getPrecision(column);
@@ -166,7 +172,7 @@ public class FiberResultSetMetaData implements ResultSetMetaData {
     @Override
     @Suspendable
     public int getScale(final int column) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ResultSetMetaData.getScale", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return resultMeta.getScale(column);
@@ -177,7 +183,7 @@ public class FiberResultSetMetaData implements ResultSetMetaData {
     @Override
     @Suspendable
     public String getTableName(final int column) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ResultSetMetaData.getTableName", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return resultMeta.getTableName(column);
@@ -188,7 +194,7 @@ public class FiberResultSetMetaData implements ResultSetMetaData {
     @Override
     @Suspendable
     public String getCatalogName(final int column) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ResultSetMetaData.getCatalogName", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return resultMeta.getCatalogName(column);
@@ -199,7 +205,7 @@ public class FiberResultSetMetaData implements ResultSetMetaData {
     @Override
     @Suspendable
     public int getColumnType(final int column) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ResultSetMetaData.getColumnType", new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return resultMeta.getColumnType(column);
@@ -210,7 +216,7 @@ public class FiberResultSetMetaData implements ResultSetMetaData {
     @Override
     @Suspendable
     public String getColumnTypeName(final int column) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ResultSetMetaData.getColumnTypeName", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return resultMeta.getColumnTypeName(column);
@@ -221,7 +227,7 @@ public class FiberResultSetMetaData implements ResultSetMetaData {
     @Override
     @Suspendable
     public boolean isReadOnly(final int column) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ResultSetMetaData.isReadOnly", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return resultMeta.isReadOnly(column);
@@ -232,7 +238,7 @@ public class FiberResultSetMetaData implements ResultSetMetaData {
     @Override
     @Suspendable
     public boolean isWritable(final int column) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ResultSetMetaData.isWritable", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return resultMeta.isWritable(column);
@@ -243,7 +249,7 @@ public class FiberResultSetMetaData implements ResultSetMetaData {
     @Override
     @Suspendable
     public boolean isDefinitelyWritable(final int column) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ResultSetMetaData.isDefinitelyWritable", new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return resultMeta.isDefinitelyWritable(column);
@@ -254,7 +260,7 @@ public class FiberResultSetMetaData implements ResultSetMetaData {
     @Override
     @Suspendable
     public String getColumnClassName(final int column) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<String, SQLException>() {
+        return JDBCFiberAsync.exec(executor, profile, "ResultSetMetaData.getColumnClassName", new CheckedCallable<String, SQLException>() {
             @Override
             public String call() throws SQLException {
                 return resultMeta.getColumnClassName(column);
@@ -0,0 +1,194 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.fibers.jdbc;
+
+import co.paralleluniverse.fibers.SuspendExecution;
+import co.paralleluniverse.fibers.Suspendable;
+import co.paralleluniverse.strands.Timeout;
+import co.paralleluniverse.strands.channels.Channel;
+import co.paralleluniverse.strands.channels.Channels;
+import co.paralleluniverse.strands.channels.ProducerException;
+import co.paralleluniverse.strands.channels.ReceivePort;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The rows of a query, delivered through a bounded channel.
+ * <p>
+ * A JDBC worker thread executes the query, maps each row with a {@link RowMapper}, and sends the mapped rows to the
+ * channel in batches; the consuming strand receives them one by one, suspending only when it has consumed all rows
+ * received so far. When the consumer falls behind, the worker blocks until there's room in the channel, so at most
+ * a few batches are held in memory regardless of the size of the result.
+ * <p>
+ * {@link #receive()} returns {@code null} once all rows have been received. If the query fails, {@code receive}
+ * throws a {@link ProducerException} wrapping the {@link SQLException}.
+ * Closing the stream before all rows have been received stops the worker and releases the statement.
+ * <p>
+ * The worker thread is occupied, and the connection busy, until the stream is exhausted or closed: the connection
+ * must not be used for anything else in the meantime. For the same reason, streams can't be opened on connections
+ * pinned to an {@link AffineJDBCWorkerPool} worker, as the worker couldn't serve the connection's other operations.
+ * With a {@link JDBCWorkerPool}, the worker is admitted to the pool like any other JDBC operation. A
+ * {@link JDBCListener} is told about the whole stream as a single {@code Connection.stream} operation, from the
+ * worker thread, once the worker has finished with it.
+ *
+ * @see FiberConnection#stream(String, RowMapper, int, Object...)
+ */
+public class FiberRowStream<T> implements ReceivePort<T> {
+    private static final int BUFFERED_BATCHES = 2;
+
+    private final Channel<List<T>> batches;
+    private final int batchSize;
+    private Iterator<T> current;
+    private volatile boolean closed;
+
+    private FiberRowStream(final int batchSize) {
+        this.batchSize = batchSize;
+        this.batches = Channels.newChannel(BUFFERED_BATCHES, Channels.OverflowPolicy.BLOCK, true, true);
+    }
+
+    @Suspendable
+    static <T> FiberRowStream<T> open(final Connection conn, final ExecutorService executor, final JDBCListener listener, final String sql, final RowMapper<T> mapper, final int batchSize, final Object... params) throws SQLException {
+        if (batchSize <= 0)
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        if (AffineJDBCWorkerPool.isPinned(executor))
+            throw new SQLFeatureNotSupportedException("Connections pinned to an AffineJDBCWorkerPool worker can't stream rows");
+        final FiberRowStream<T> stream = new FiberRowStream<>(batchSize);
+        final long submitted = System.nanoTime();
+        final Runnable producer = new Runnable() {
+            @Override
+            public void run() {
+                final long start = System.nanoTime();
+                boolean failed = true;
+                try {
+                    failed = !stream.produce(conn, sql, mapper, params);
+                } finally {
+                    if (listener != null)
+                        listener.operationCompleted("Connection.stream", sql, start - submitted, System.nanoTime() - start, failed);
+                }
+            }
+        };
+        try {
+            if (executor instanceof JDBCWorkerPool)
+                ((JDBCWorkerPool) executor).executeAdmitted(producer);
+            else
+                executor.execute(producer);
+        } catch (final RejectedExecutionException e) {
+            throw new SQLTransientConnectionException("JDBC executor rejected the query", e);
+        }
+        return stream;
+    }
+
+    /**
+     * Runs in the JDBC worker thread.
+     *
+     * @return {@code false} if the query failed.
+     */
+    private boolean produce(final Connection conn, final String sql, final RowMapper<T> mapper, final Object[] params) {
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setFetchSize(batchSize);
+            FiberPreparedStatement.bind(ps, params);
+            try (ResultSet rs = ps.executeQuery()) {
+                List<T> batch = new ArrayList<>(batchSize);
+                while (!closed && rs.next()) {
+                    batch.add(mapper.map(rs));
+                    if (batch.size() == batchSize) {
+                        batches.send(batch);
+                        batch = new ArrayList<>(batchSize);
+                    }
+                }
+                if (!batch.isEmpty() && !closed)
+                    batches.send(batch);
+            }
+            batches.close();
+            return true;
+        } catch (SQLException | RuntimeException e) {
+            batches.close(e);
+            return false;
+        } catch (InterruptedException e) {
+            batches.close(e);
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (SuspendExecution e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    @Override
+    public T receive() throws SuspendExecution, InterruptedException {
+        while (current == null || !current.hasNext()) {
+            final List<T> batch = batches.receive();
+            if (batch == null)
+                return null;
+            current = batch.iterator();
+        }
+        return current.next();
+    }
+
+    @Override
+    public T receive(final long timeout, final TimeUnit unit) throws SuspendExecution, InterruptedException {
+        return receive(new Timeout(timeout, unit));
+    }
+
+    @Override
+    public T receive(final Timeout timeout) throws SuspendExecution, InterruptedException {
+        while (current == null || !current.hasNext()) {
+            final List<T> batch = batches.receive(timeout);
+            if (batch == null)
+                return null;
+            current = batch.iterator();
+        }
+        return current.next();
+    }
+
+    @Override
+    public T tryReceive() {
+        while (current == null || !current.hasNext()) {
+            final List<T> batch = batches.tryReceive();
+            if (batch == null)
+                return null;
+            current = batch.iterator();
+        }
+        return current.next();
+    }
+
+    /**
+     * Stops the worker and discards any rows not yet received.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        current = null;
+        batches.close();
+        // make room for a worker blocked on a full channel, so that it notices it should stop
+        try {
+            while (batches.tryReceive() != null);
+        } catch (ProducerException e) {
+        }
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed || (batches.isClosed() && (current == null || !current.hasNext()));
+    }
+}
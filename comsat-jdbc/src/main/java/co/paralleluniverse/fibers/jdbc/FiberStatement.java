@@ -28,32 +28,103 @@ import java.util.concurrent.ExecutorService;
 public class FiberStatement implements Statement {
     protected final Statement stmt;
     protected final ExecutorService executor;
+    protected final String sql;
+    protected volatile JDBCListener listener;
+    private volatile int prefetchSize;
+    private volatile DriverProfile profile = DriverProfile.NONE;
 
     public FiberStatement(final Statement stmt, final ExecutorService exec) {
+        this(stmt, exec, null);
+    }
+
+    /**
+     * @param sql The SQL the statement was prepared with, if any, reported to the {@link JDBCListener}.
+     */
+    public FiberStatement(final Statement stmt, final ExecutorService exec, final String sql) {
         this.stmt = stmt;
         this.executor = exec;
+        this.sql = sql;
+    }
+
+    /**
+     * Sets the number of rows that result sets produced by this statement will move from the driver to the fiber in
+     * a single JDBC operation, so that column getters won't need to suspend (see {@link FiberPrefetchingResultSet}).
+     * Only {@link ResultSet#TYPE_FORWARD_ONLY forward-only}, {@link ResultSet#CONCUR_READ_ONLY read-only} result sets
+     * are prefetched; other result sets of this statement are returned as plain {@link FiberResultSet}s.
+     *
+     * @param rows The number of rows to prefetch, or {@code 0} (the default) to disable prefetching.
+     */
+    public void setPrefetchSize(final int rows) {
+        if (rows < 0)
+            throw new IllegalArgumentException("rows must be non-negative: " + rows);
+        this.prefetchSize = rows;
+    }
+
+    public int getPrefetchSize() {
+        return prefetchSize;
+    }
+
+    /**
+     * Sets the {@link DriverProfile} that decides which metadata accessors of this statement's result sets
+     * are called directly on the calling fiber.
+     */
+    public void setDriverProfile(final DriverProfile profile) {
+        if (profile == null)
+            throw new IllegalArgumentException("profile must not be null");
+        this.profile = profile;
+    }
+
+    public DriverProfile getDriverProfile() {
+        return profile;
+    }
+
+    /**
+     * Sets the {@link JDBCListener} notified of the JDBC operations of this statement and its result sets.
+     *
+     * @param listener The listener, or {@code null} (the default) for none.
+     */
+    public void setListener(final JDBCListener listener) {
+        this.listener = listener;
+    }
+
+    public JDBCListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Wraps a result set produced by this statement; must be called in the JDBC worker thread.
+     * Only forward-only, read-only result sets are prefetched.
+     */
+    FiberResultSet newResultSet(final ResultSet result, final String sql) throws SQLException {
+        final int prefetch = prefetchSize;
+        final FiberResultSet rs = prefetch > 0 && result != null
+                && result.getType() == ResultSet.TYPE_FORWARD_ONLY && result.getConcurrency() == ResultSet.CONCUR_READ_ONLY
+                ? FiberPrefetchingResultSet.prefetch(result, executor, prefetch)
+                : new FiberResultSet(result, executor);
+        rs.setDriverProfile(profile);
+        rs.setListener(listener, sql);
+        return rs;
     }
 
     @Override
     @Suspendable
     public FiberResultSet executeQuery(final String sql) throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "Statement.executeQuery", this.sql, new CheckedCallable<FiberResultSet, SQLException>() {
             @Override
-            public ResultSet call() throws SQLException {
+            public FiberResultSet call() throws SQLException {
 //                    int fetchSize = stmt.getFetchSize();
 //                    stmt.setFetchSize(99999);
                 final ResultSet executeQuery = stmt.executeQuery(sql);
 //                    stmt.setFetchSize(fetchSize);
-                return executeQuery;
+                return newResultSet(executeQuery, FiberStatement.this.sql);
             }
         });
-        return new FiberResultSet(result, executor);
     }
 
     @Override
     @Suspendable
     public int executeUpdate(final String sql) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "Statement.executeUpdate", this.sql, new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return stmt.executeUpdate(sql);
@@ -64,7 +135,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public void close() throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "Statement.close", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt.close();
@@ -76,7 +147,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public int getMaxFieldSize() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "Statement.getMaxFieldSize", sql, new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return stmt.getMaxFieldSize();
@@ -87,7 +158,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public void setMaxFieldSize(final int max) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "Statement.setMaxFieldSize", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt.setMaxFieldSize(max);
@@ -99,7 +170,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public int getMaxRows() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "Statement.getMaxRows", sql, new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return stmt.getMaxRows();
@@ -110,7 +181,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public void setMaxRows(final int max) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "Statement.setMaxRows", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt.setMaxRows(max);
@@ -122,7 +193,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public void setEscapeProcessing(final boolean enable) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "Statement.setEscapeProcessing", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt.setEscapeProcessing(enable);
@@ -134,7 +205,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public int getQueryTimeout() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "Statement.getQueryTimeout", sql, new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return stmt.getQueryTimeout();
@@ -145,7 +216,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public void setQueryTimeout(final int seconds) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "Statement.setQueryTimeout", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt.setQueryTimeout(seconds);
@@ -157,7 +228,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public void cancel() throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "Statement.cancel", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt.cancel();
@@ -169,7 +240,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public SQLWarning getWarnings() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<SQLWarning, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "Statement.getWarnings", sql, new CheckedCallable<SQLWarning, SQLException>() {
             @Override
             public SQLWarning call() throws SQLException {
                 return stmt.getWarnings();
@@ -180,7 +251,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public void clearWarnings() throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "Statement.clearWarnings", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt.clearWarnings();
@@ -192,7 +263,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public void setCursorName(final String name) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "Statement.setCursorName", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt.setCursorName(name);
@@ -204,19 +275,18 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public FiberResultSet getResultSet() throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "Statement.getResultSet", sql, new CheckedCallable<FiberResultSet, SQLException>() {
             @Override
-            public ResultSet call() throws SQLException {
-                return stmt.getResultSet();
+            public FiberResultSet call() throws SQLException {
+                return newResultSet(stmt.getResultSet(), sql);
             }
         });
-        return new FiberResultSet(result, executor);
     }
 
     @Override
     @Suspendable
     public int getUpdateCount() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "Statement.getUpdateCount", sql, new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return stmt.getUpdateCount();
@@ -227,7 +297,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public boolean getMoreResults() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "Statement.getMoreResults", sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return stmt.getMoreResults();
@@ -238,7 +308,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public void setFetchDirection(final int direction) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "Statement.setFetchDirection", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt.setFetchDirection(direction);
@@ -250,7 +320,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public int getFetchDirection() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "Statement.getFetchDirection", sql, new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return stmt.getFetchDirection();
@@ -261,7 +331,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public void setFetchSize(final int rows) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "Statement.setFetchSize", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt.setFetchSize(rows);
@@ -273,7 +343,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public int getFetchSize() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "Statement.getFetchSize", sql, new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return stmt.getFetchSize();
@@ -284,7 +354,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public int getResultSetConcurrency() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "Statement.getResultSetConcurrency", sql, new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return stmt.getResultSetConcurrency();
@@ -295,7 +365,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public int getResultSetType() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "Statement.getResultSetType", sql, new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return stmt.getResultSetType();
@@ -306,7 +376,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public void addBatch(final String sql) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "Statement.addBatch", this.sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt.addBatch(sql);
@@ -318,7 +388,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public void clearBatch() throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "Statement.clearBatch", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt.clearBatch();
@@ -330,7 +400,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public int[] executeBatch() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<int[], SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "Statement.executeBatch", sql, new CheckedCallable<int[], SQLException>() {
             @Override
             public int[] call() throws SQLException {
                 return stmt.executeBatch();
@@ -341,7 +411,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public FiberConnection getConnection() throws SQLException {
-        final Connection conn = JDBCFiberAsync.exec(executor, new CheckedCallable<Connection, SQLException>() {
+        final Connection conn = JDBCFiberAsync.exec(executor, listener, "Statement.getConnection", sql, new CheckedCallable<Connection, SQLException>() {
             @Override
             public Connection call() throws SQLException {
                 return stmt.getConnection();
@@ -353,7 +423,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public boolean getMoreResults(final int current) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "Statement.getMoreResults", sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return stmt.getMoreResults();
@@ -364,19 +434,19 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public ResultSet getGeneratedKeys() throws SQLException {
-        final ResultSet result = JDBCFiberAsync.exec(executor, new CheckedCallable<ResultSet, SQLException>() {
+        final FiberResultSet result = JDBCFiberAsync.exec(executor, listener, "Statement.getGeneratedKeys", sql, new CheckedCallable<FiberResultSet, SQLException>() {
             @Override
-            public ResultSet call() throws SQLException {
-                return stmt.getGeneratedKeys();
+            public FiberResultSet call() throws SQLException {
+                return newResultSet(stmt.getGeneratedKeys(), sql);
             }
         });
-        return new FiberResultSet(result, executor);
+        return result;
     }
 
     @Override
     @Suspendable
     public int executeUpdate(final String sql, final int autoGeneratedKeys) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "Statement.executeUpdate", this.sql, new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return stmt.executeUpdate(sql, autoGeneratedKeys);
@@ -387,7 +457,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public int executeUpdate(final String sql, final int[] columnIndexes) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "Statement.executeUpdate", this.sql, new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return stmt.executeUpdate(sql, columnIndexes);
@@ -398,7 +468,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public int executeUpdate(final String sql, final String[] columnNames) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "Statement.executeUpdate", this.sql, new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return stmt.executeUpdate(sql, columnNames);
@@ -409,7 +479,7 @@ public class FiberStatement implements Statement {
     @Suspendable
     @Override
     public boolean execute(final String sql) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "Statement.execute", this.sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return stmt.execute(sql);
@@ -420,7 +490,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public boolean execute(final String sql, final int autoGeneratedKeys) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "Statement.execute", this.sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return stmt.execute(sql, autoGeneratedKeys);
@@ -431,7 +501,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public boolean execute(final String sql, final int[] columnIndexes) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "Statement.execute", this.sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return stmt.execute(sql, columnIndexes);
@@ -442,7 +512,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public boolean execute(final String sql, final String[] columnNames) throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "Statement.execute", this.sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return stmt.execute(sql, columnNames);
@@ -453,7 +523,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public int getResultSetHoldability() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Integer, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "Statement.getResultSetHoldability", sql, new CheckedCallable<Integer, SQLException>() {
             @Override
             public Integer call() throws SQLException {
                 return stmt.getResultSetHoldability();
@@ -464,7 +534,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public boolean isClosed() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "Statement.isClosed", sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return stmt.isClosed();
@@ -475,7 +545,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public void setPoolable(final boolean poolable) throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "Statement.setPoolable", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt.setPoolable(poolable);
@@ -487,7 +557,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public boolean isPoolable() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "Statement.isPoolable", sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return stmt.isPoolable();
@@ -498,7 +568,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public void closeOnCompletion() throws SQLException {
-        JDBCFiberAsync.exec(executor, new CheckedCallable<Void, SQLException>() {
+        JDBCFiberAsync.exec(executor, listener, "Statement.closeOnCompletion", sql, new CheckedCallable<Void, SQLException>() {
             @Override
             public Void call() throws SQLException {
                 stmt.closeOnCompletion();
@@ -510,7 +580,7 @@ public class FiberStatement implements Statement {
     @Override
     @Suspendable
     public boolean isCloseOnCompletion() throws SQLException {
-        return JDBCFiberAsync.exec(executor, new CheckedCallable<Boolean, SQLException>() {
+        return JDBCFiberAsync.exec(executor, listener, "Statement.isCloseOnCompletion", sql, new CheckedCallable<Boolean, SQLException>() {
             @Override
             public Boolean call() throws SQLException {
                 return stmt.isCloseOnCompletion();
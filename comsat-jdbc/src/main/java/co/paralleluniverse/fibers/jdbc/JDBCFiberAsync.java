@@ -25,6 +25,55 @@ import java.util.concurrent.ExecutorService;
 public abstract class JDBCFiberAsync<V, E extends Throwable> extends FiberAsync<V, E> {
     @Suspendable
     public static <V extends Object, E extends Exception> V exec(ExecutorService es, CheckedCallable<V, E> cc) throws E {
+        if (es instanceof JDBCWorkerPool)
+            return ((JDBCWorkerPool) es).exec(cc);
+        return run(es, cc);
+    }
+
+    /**
+     * Calls {@code cc} on the calling strand if {@code profile} lists {@code method} as a pure accessor, or
+     * {@link #exec(ExecutorService, CheckedCallable) executes} it on {@code es} otherwise.
+     */
+    @Suspendable
+    public static <V extends Object, E extends Exception> V exec(ExecutorService es, DriverProfile profile, String method, CheckedCallable<V, E> cc) throws E {
+        if (profile.isInline(method))
+            return cc.call();
+        return exec(es, cc);
+    }
+
+    /**
+     * Like {@link #exec(ExecutorService, CheckedCallable)}, but reports the operation to {@code listener}, if it isn't
+     * {@code null}.
+     */
+    @Suspendable
+    public static <V extends Object, E extends Exception> V exec(ExecutorService es, JDBCListener listener, String method, String sql, final CheckedCallable<V, E> cc) throws E {
+        if (listener == null)
+            return exec(es, cc);
+        final long submitted = System.nanoTime();
+        final long[] times = new long[2]; // start, end; written by the worker
+        boolean failed = true;
+        try {
+            final V res = exec(es, new CheckedCallable<V, E>() {
+                @Override
+                public V call() throws E {
+                    times[0] = System.nanoTime();
+                    try {
+                        return cc.call();
+                    } finally {
+                        times[1] = System.nanoTime();
+                    }
+                }
+            });
+            failed = false;
+            return res;
+        } finally {
+            final long start = times[0] != 0 ? times[0] : System.nanoTime();
+            listener.operationCompleted(method, sql, start - submitted, times[0] != 0 ? times[1] - times[0] : 0, failed);
+        }
+    }
+
+    @Suspendable
+    static <V extends Object, E extends Exception> V run(ExecutorService es, CheckedCallable<V, E> cc) throws E {
         try {
             return runBlocking(es, cc);
         } catch (final SuspendExecution se) {
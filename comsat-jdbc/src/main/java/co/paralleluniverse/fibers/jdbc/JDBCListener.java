@@ -0,0 +1,37 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.fibers.jdbc;
+
+/**
+ * Receives timing information about the JDBC operations that statements and result sets dispatch to a worker thread.
+ * <p>
+ * Every reported operation corresponds to one suspension of the calling fiber; operations a {@link DriverProfile}
+ * executes inline are not reported. The listener is called on the calling strand after the operation completes
+ * (except for {@link FiberRowStream}s, which report from the worker thread), and must not block.
+ *
+ * @see FiberDataSource#setListener(JDBCListener)
+ * @see MetricsJDBCListener
+ */
+public interface JDBCListener {
+    /**
+     * Called when a JDBC operation completes.
+     *
+     * @param method     The JDBC method, as {@code Interface.method}, e.g. {@code "ResultSet.next"}.
+     * @param sql        The SQL of the statement the operation belongs to, or {@code null} if it's unknown.
+     * @param waitNanos  The time the operation waited for a worker thread, in nanoseconds.
+     * @param execNanos  The time the operation ran in the driver, in nanoseconds.
+     * @param failed     Whether the operation threw an exception.
+     */
+    void operationCompleted(String method, String sql, long waitNanos, long execNanos, boolean failed);
+}
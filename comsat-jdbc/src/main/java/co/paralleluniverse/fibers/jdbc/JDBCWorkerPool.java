@@ -0,0 +1,319 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.fibers.jdbc;
+
+import co.paralleluniverse.common.util.CheckedCallable;
+import co.paralleluniverse.common.util.Exceptions;
+import co.paralleluniverse.fibers.Suspendable;
+import co.paralleluniverse.strands.concurrent.Semaphore;
+import com.google.common.util.concurrent.AbstractListeningExecutorService;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.lang.management.ManagementFactory;
+import java.sql.SQLTransientConnectionException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.MBeanRegistrationException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.NotCompliantMBeanException;
+import javax.management.ObjectName;
+
+/**
+ * A fixed-size pool of JDBC worker threads with bounded admission.
+ * <p>
+ * At most {@code numThreads + queueCapacity} JDBC operations submitted through the {@code comsat-jdbc} wrappers can be
+ * in the pool at any time; further callers are parked (fiber-blocked, if they are fibers) in FIFO order if the pool
+ * is fair, and fail with a {@link SQLTransientConnectionException} if they can't be admitted within the
+ * acquisition timeout. Size the pool after the underlying connection pool and the timeout after the latency
+ * you're willing to tolerate: when the database slows down, callers will fail fast rather than pile up.
+ * <p>
+ * Note that any JDBC operation may fail this way, including {@code close()}: callers should release resources
+ * in {@code finally} blocks and be prepared to retry. Tasks submitted directly through the {@code ExecutorService}
+ * methods count against the same bound, but as those can't wait, they are rejected with a
+ * {@link RejectedExecutionException} right away if the pool is full.
+ * <p>
+ * The pool registers a {@link JDBCWorkerPoolMXBean} under the name
+ * {@code co.paralleluniverse:type=JDBCWorkerPool,name=<name>}, which is unregistered on {@link #shutdown()}; pool
+ * names must therefore be unique among the pools that haven't been shut down.
+ * <p>
+ * To use it, pass it to {@link FiberDataSource#wrap(javax.sql.DataSource, java.util.concurrent.ExecutorService)}.
+ */
+public final class JDBCWorkerPool extends AbstractListeningExecutorService implements JDBCWorkerPoolMXBean {
+    private final String name;
+    private final int numThreads;
+    private final int queueCapacity;
+    private final long acquireTimeoutNanos;
+    private final ThreadPoolExecutor workers;
+    private final Semaphore admission;
+    private final ObjectName mbeanName;
+
+    private final AtomicLong waits = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * Creates a new pool.
+     *
+     * @param name           The pool's name, used to name its threads and its MXBean.
+     * @param numThreads     The number of worker threads.
+     * @param queueCapacity  The number of operations that can wait for a free worker.
+     * @param acquireTimeout The maximum time a caller will wait to be admitted to the pool.
+     * @param unit           The unit of {@code acquireTimeout}.
+     * @param fair           Whether waiting callers are admitted in FIFO order.
+     * @throws IllegalArgumentException if another pool with the same name hasn't been shut down.
+     */
+    public JDBCWorkerPool(final String name, final int numThreads, final int queueCapacity, final long acquireTimeout, final TimeUnit unit, final boolean fair) {
+        if (numThreads <= 0)
+            throw new IllegalArgumentException("numThreads must be positive: " + numThreads);
+        if (queueCapacity < 0)
+            throw new IllegalArgumentException("queueCapacity must be non-negative: " + queueCapacity);
+        this.name = name;
+        this.numThreads = numThreads;
+        this.queueCapacity = queueCapacity;
+        this.acquireTimeoutNanos = unit.toNanos(acquireTimeout);
+        // Admission bounds the number of queued operations; the extra capacity covers workers that have completed
+        // an operation whose caller hasn't yet released its permit.
+        this.workers = new ThreadPoolExecutor(numThreads, numThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<Runnable>(queueCapacity + numThreads),
+                new ThreadFactoryBuilder().setNameFormat(name + "-%d").setDaemon(true).build());
+        this.admission = new Semaphore(numThreads + queueCapacity, fair);
+        // Last, as it publishes this pool to JMX; the class is final, so it's fully constructed by now
+        this.mbeanName = registerMBean();
+    }
+
+    /**
+     * Creates a new fair pool.
+     *
+     * @param name           The pool's name, used to name its threads and its MXBean.
+     * @param numThreads     The number of worker threads.
+     * @param queueCapacity  The number of operations that can wait for a free worker.
+     * @param acquireTimeout The maximum time a caller will wait to be admitted to the pool.
+     * @param unit           The unit of {@code acquireTimeout}.
+     * @throws IllegalArgumentException if another pool with the same name hasn't been shut down.
+     */
+    public JDBCWorkerPool(final String name, final int numThreads, final int queueCapacity, final long acquireTimeout, final TimeUnit unit) {
+        this(name, numThreads, queueCapacity, acquireTimeout, unit, true);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Suspendable
+    <V, E extends Exception> V exec(final CheckedCallable<V, E> cc) throws E {
+        final long submitted = System.nanoTime();
+        acquire();
+        try {
+            return JDBCFiberAsync.run(workers, new CheckedCallable<V, E>() {
+                @Override
+                public V call() throws E {
+                    recordWait(System.nanoTime() - submitted);
+                    return cc.call();
+                }
+            });
+        } finally {
+            admission.release();
+        }
+    }
+
+    @Suspendable
+    private void acquire() {
+        final boolean acquired;
+        try {
+            acquired = admission.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException ie) {
+            throw new RuntimeException(ie);
+        }
+        if (!acquired) {
+            rejected.incrementAndGet();
+            throw Exceptions.sneakyThrow(new SQLTransientConnectionException("Timed out after "
+                    + TimeUnit.NANOSECONDS.toMillis(acquireTimeoutNanos) + "ms waiting for a JDBC worker in pool " + name));
+        }
+    }
+
+    private void recordWait(final long nanos) {
+        waits.incrementAndGet();
+        totalWaitNanos.addAndGet(nanos);
+        long max;
+        while (nanos > (max = maxWaitNanos.get()) && !maxWaitNanos.compareAndSet(max, nanos));
+    }
+
+    /**
+     * Admits a task that may hold its worker for a long time, waiting up to the acquisition timeout.
+     *
+     * @throws SQLTransientConnectionException if the task couldn't be admitted within the acquisition timeout.
+     */
+    @Suspendable
+    void executeAdmitted(final Runnable command) throws SQLTransientConnectionException {
+        final long submitted = System.nanoTime();
+        acquire();
+        dispatch(command, submitted);
+    }
+
+    private void dispatch(final Runnable command, final long submitted) {
+        try {
+            workers.execute(new Runnable() {
+                @Override
+                public void run() {
+                    recordWait(System.nanoTime() - submitted);
+                    try {
+                        command.run();
+                    } finally {
+                        admission.release();
+                    }
+                }
+            });
+        } catch (final RejectedExecutionException e) { // shut down
+            admission.release();
+            throw e;
+        }
+    }
+
+    private ObjectName registerMBean() {
+        try {
+            final ObjectName on = new ObjectName("co.paralleluniverse:type=JDBCWorkerPool,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, on);
+            return on;
+        } catch (final InstanceAlreadyExistsException e) {
+            throw new IllegalArgumentException("A JDBCWorkerPool named " + name + " already exists", e);
+        } catch (MalformedObjectNameException | MBeanRegistrationException | NotCompliantMBeanException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private void unregisterMBean() {
+        if (mbeanName == null)
+            return;
+        final MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+        try {
+            if (mbs.isRegistered(mbeanName))
+                mbs.unregisterMBean(mbeanName);
+        } catch (InstanceNotFoundException | MBeanRegistrationException e) {
+        }
+    }
+
+    ////////////// Statistics
+    @Override
+    public int getPoolSize() {
+        return numThreads;
+    }
+
+    @Override
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    @Override
+    public long getAcquireTimeoutMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(acquireTimeoutNanos);
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return workers.getQueue().size();
+    }
+
+    @Override
+    public int getActiveWorkers() {
+        return workers.getActiveCount();
+    }
+
+    @Override
+    public int getWaitingStrands() {
+        return admission.getQueueLength();
+    }
+
+    @Override
+    public long getCompletedOperations() {
+        return workers.getCompletedTaskCount();
+    }
+
+    @Override
+    public long getRejectedOperations() {
+        return rejected.get();
+    }
+
+    @Override
+    public double getMeanWaitMicros() {
+        final long n = waits.get();
+        return n > 0 ? totalWaitNanos.get() / (n * 1000.0) : 0.0;
+    }
+
+    @Override
+    public long getMaxWaitMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxWaitNanos.get());
+    }
+
+    @Override
+    public void resetStatistics() {
+        waits.set(0);
+        totalWaitNanos.set(0);
+        maxWaitNanos.set(0);
+        rejected.set(0);
+    }
+
+    ////////////// ExecutorService
+    /**
+     * Executes a task if the pool can admit it right away.
+     *
+     * @throws RejectedExecutionException if the pool is full or shut down.
+     */
+    @Override
+    public void execute(final Runnable command) {
+        if (!admission.tryAcquire()) {
+            rejected.incrementAndGet();
+            throw new RejectedExecutionException("JDBC worker pool " + name + " is full");
+        }
+        dispatch(command, System.nanoTime());
+    }
+
+    @Override
+    public void shutdown() {
+        workers.shutdown();
+        unregisterMBean();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        unregisterMBean();
+        return workers.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return workers.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return workers.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return workers.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public String toString() {
+        return "JDBCWorkerPool{" + "name=" + name + ", numThreads=" + numThreads + ", queueCapacity=" + queueCapacity + '}';
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.fibers.jdbc;
+
+/**
+ * JMX view of a {@link JDBCWorkerPool}.
+ */
+public interface JDBCWorkerPoolMXBean {
+    int getPoolSize();
+
+    int getQueueCapacity();
+
+    long getAcquireTimeoutMillis();
+
+    /**
+     * The number of JDBC operations admitted to the pool but not yet picked up by a worker.
+     */
+    int getQueueDepth();
+
+    /**
+     * The number of workers currently executing a JDBC operation.
+     */
+    int getActiveWorkers();
+
+    /**
+     * The number of strands waiting to be admitted to the pool.
+     */
+    int getWaitingStrands();
+
+    long getCompletedOperations();
+
+    /**
+     * The number of JDBC operations that failed because they couldn't be admitted within the acquisition timeout.
+     */
+    long getRejectedOperations();
+
+    /**
+     * The average time, in microseconds, JDBC operations waited to start executing.
+     */
+    double getMeanWaitMicros();
+
+    /**
+     * The longest time, in microseconds, a JDBC operation waited to start executing since the last reset.
+     */
+    long getMaxWaitMicros();
+
+    void resetStatistics();
+}
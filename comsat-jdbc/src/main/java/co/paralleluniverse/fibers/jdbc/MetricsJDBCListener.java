@@ -0,0 +1,91 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.fibers.jdbc;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link JDBCListener} that records Dropwizard Metrics.
+ * <p>
+ * For every JDBC method, it records the timers {@code <prefix>.method.<method>.wait} and
+ * {@code <prefix>.method.<method>.exec}, and for every SQL string, {@code <prefix>.sql.<sql>.wait} and
+ * {@code <prefix>.sql.<sql>.exec}; a timer's count is the number of times callers suspended on the method or SQL.
+ * Failed operations are counted by the corresponding {@code .failures} meters. SQL metrics are only
+ * recorded for statements whose SQL is known, i.e. prepared statements and compound operations, and since each
+ * distinct SQL string gets its own metrics, statements should use parameters rather than inline values.
+ * <p>
+ * Requires {@code io.dropwizard.metrics:metrics-core} on the classpath.
+ */
+public class MetricsJDBCListener implements JDBCListener {
+    private final MetricRegistry registry;
+    private final String prefix;
+    private final ConcurrentMap<String, Timers> methods = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Timers> sqls = new ConcurrentHashMap<>();
+
+    /**
+     * @param registry The registry to record the metrics in.
+     * @param prefix   The prefix of the metrics' names.
+     */
+    public MetricsJDBCListener(final MetricRegistry registry, final String prefix) {
+        this.registry = registry;
+        this.prefix = prefix;
+    }
+
+    public MetricsJDBCListener(final MetricRegistry registry) {
+        this(registry, "comsat.jdbc");
+    }
+
+    @Override
+    public void operationCompleted(final String method, final String sql, final long waitNanos, final long execNanos, final boolean failed) {
+        timers(methods, "method", method).record(waitNanos, execNanos, failed);
+        if (sql != null)
+            timers(sqls, "sql", sql).record(waitNanos, execNanos, failed);
+    }
+
+    private Timers timers(final ConcurrentMap<String, Timers> map, final String kind, final String key) {
+        Timers t = map.get(key);
+        if (t == null) {
+            final String base = MetricRegistry.name(prefix, kind, key);
+            t = new Timers(registry.timer(base + ".wait"), registry.timer(base + ".exec"), registry.meter(base + ".failures"));
+            final Timers prev = map.putIfAbsent(key, t);
+            if (prev != null)
+                t = prev;
+        }
+        return t;
+    }
+
+    private static final class Timers {
+        final Timer wait;
+        final Timer exec;
+        final Meter failures;
+
+        Timers(final Timer wait, final Timer exec, final Meter failures) {
+            this.wait = wait;
+            this.exec = exec;
+            this.failures = failures;
+        }
+
+        void record(final long waitNanos, final long execNanos, final boolean failed) {
+            wait.update(waitNanos, TimeUnit.NANOSECONDS);
+            exec.update(execNanos, TimeUnit.NANOSECONDS);
+            if (failed)
+                failures.mark();
+        }
+    }
+}
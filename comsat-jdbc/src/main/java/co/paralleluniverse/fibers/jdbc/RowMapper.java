@@ -0,0 +1,33 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.fibers.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps the current row of a result set to an object.
+ * <p>
+ * Row mappers passed to the compound operations of {@link FiberConnection} and {@link FiberPreparedStatement}
+ * run in the JDBC worker thread, together with the query that produces the rows, so they receive the driver's own
+ * {@link ResultSet} and must not suspend or retain it.
+ *
+ * @param <T> The type of the mapped rows.
+ */
+public interface RowMapper<T> {
+    /**
+     * Maps the current row of {@code rs}; implementations should not move the cursor.
+     */
+    T map(ResultSet rs) throws SQLException;
+}
@@ -17,14 +17,27 @@ import co.paralleluniverse.embedded.db.H2JdbcDatasource;
 import co.paralleluniverse.fibers.Fiber;
 import co.paralleluniverse.fibers.SuspendExecution;
 import co.paralleluniverse.strands.SuspendableRunnable;
+import co.paralleluniverse.strands.channels.ProducerException;
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLDataException;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import javax.sql.DataSource;
 import org.junit.After;
 import static org.junit.Assert.*;
@@ -144,4 +157,338 @@ public class FiberConnectionTest {
             }
         }).start().join();
     }
+
+    @Test
+    public void testPrefetchingResultSet() throws IOException, InterruptedException, Exception {
+        new Fiber<Void>(new SuspendableRunnable() {
+            @Override
+            public void run() throws SuspendExecution, InterruptedException {
+                try {
+                    conn.createStatement().execute("drop table if exists testPrefetch");
+                    conn.createStatement().execute("create table testPrefetch (id int primary key, name varchar(100))");
+                    for (int i = 1; i <= 25; i++)
+                        conn.createStatement().execute("insert into testPrefetch (id, name) values (" + i + ", " + (i % 5 == 0 ? "null" : "'name" + i + "'") + ")");
+                    // snippet prefetching
+                    ((FiberConnection) conn).setPrefetchSize(10);
+                    final ResultSet rs = conn.createStatement().executeQuery("select id, name from testPrefetch order by id");
+                    // end of snippet
+                    assertTrue(rs instanceof FiberPrefetchingResultSet);
+                    assertTrue(rs.isBeforeFirst());
+                    int n = 0;
+                    while (rs.next()) {
+                        n++;
+                        assertEquals(n, rs.getRow());
+                        assertEquals(n, rs.getInt(1));
+                        assertEquals((long) n, rs.getLong("ID"));
+                        final String name = rs.getString("name");
+                        if (n % 5 == 0) {
+                            assertNull(name);
+                            assertTrue(rs.wasNull());
+                        } else {
+                            assertEquals("name" + n, name);
+                            assertFalse(rs.wasNull());
+                        }
+                        assertEquals(n == 25, rs.isLast());
+                    }
+                    assertEquals(25, n);
+                    assertTrue(rs.isAfterLast());
+                    rs.close();
+                    conn.createStatement().execute("drop table testPrefetch");
+                } catch (SQLException ex) {
+                    fail(ex.getMessage());
+                }
+            }
+        }).start().join();
+    }
+
+    @Test
+    public void testPrefetchingConversions() throws IOException, InterruptedException, Exception {
+        new Fiber<Void>(new SuspendableRunnable() {
+            @Override
+            public void run() throws SuspendExecution, InterruptedException {
+                try {
+                    conn.createStatement().execute("drop table if exists testPrefetchConv");
+                    conn.createStatement().execute("create table testPrefetchConv (id int primary key, big bigint, bin binary(2), flag varchar(10))");
+                    conn.createStatement().execute("insert into testPrefetchConv values (1, 5000000000, X'CAFE', 'maybe')");
+                    ((FiberConnection) conn).setPrefetchSize(10);
+
+                    final Statement scrollable = conn.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+                    assertFalse(scrollable.executeQuery("select id from testPrefetchConv") instanceof FiberPrefetchingResultSet);
+                    final Statement updatable = conn.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_UPDATABLE);
+                    assertFalse(updatable.executeQuery("select id from testPrefetchConv") instanceof FiberPrefetchingResultSet);
+
+                    final ResultSet rs = conn.createStatement().executeQuery("select id, big, bin, flag from testPrefetchConv");
+                    assertTrue(rs instanceof FiberPrefetchingResultSet);
+                    assertTrue(rs.next());
+                    assertEquals(5000000000L, rs.getLong("big"));
+                    try {
+                        rs.getInt("big");
+                        fail("Expected out of range");
+                    } catch (SQLDataException ex) {
+                    }
+                    try {
+                        rs.getString("bin");
+                        fail("Expected conversion error");
+                    } catch (SQLDataException ex) {
+                    }
+                    try {
+                        rs.getBoolean("flag");
+                        fail("Expected conversion error");
+                    } catch (SQLDataException ex) {
+                    }
+                    rs.close();
+                    conn.createStatement().execute("drop table testPrefetchConv");
+                } catch (SQLException ex) {
+                    fail(ex.getMessage());
+                }
+            }
+        }).start().join();
+    }
+
+    @Test
+    public void testPrefetchingFailure() throws IOException, InterruptedException, Exception {
+        final Connection raw = cls.newInstance().getConnection();
+        final ExecutorService es = MoreExecutors.listeningDecorator(Executors.newSingleThreadExecutor());
+        try {
+            final ResultSet real = raw.createStatement().executeQuery("select x, 2 * x from system_range(1, 25)");
+            // fails reading the second column of the 20th row, the last of the second block, which goes in the same
+            // slot as the current row when the block is fetched
+            final ResultSet failing = (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class}, new InvocationHandler() {
+                private int row;
+
+                @Override
+                public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                    if (method.getName().equals("next"))
+                        row++;
+                    else if (method.getName().equals("getObject") && row == 20 && args[0].equals(2))
+                        throw new SQLException("Connection lost");
+                    try {
+                        return method.invoke(real, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }
+            });
+            final ResultSet rs = FiberPrefetchingResultSet.prefetch(failing, es, 10);
+            new Fiber<Void>(new SuspendableRunnable() {
+                @Override
+                public void run() throws SuspendExecution, InterruptedException {
+                    try {
+                        for (int n = 1; n <= 10; n++) {
+                            assertTrue(rs.next());
+                            assertEquals(n, rs.getInt(1));
+                            assertEquals(2 * n, rs.getInt(2));
+                        }
+                        try {
+                            rs.next();
+                            fail("Expected the fetch to fail");
+                        } catch (SQLException ex) {
+                            assertEquals("Connection lost", ex.getMessage());
+                        }
+                        assertEquals(10, rs.getInt(1));
+                        assertEquals(20, rs.getInt(2));
+                        try {
+                            rs.next();
+                            fail("Expected the failed fetch to be reported again");
+                        } catch (SQLException ex) {
+                        }
+                        assertEquals(10, rs.getInt(1));
+                        assertEquals(20, rs.getInt(2));
+                    } catch (SQLException ex) {
+                        fail(ex.getMessage());
+                    }
+                }
+            }).start().join();
+        } finally {
+            es.shutdown();
+            raw.close();
+        }
+    }
+
+    @Test
+    public void testCompoundOperations() throws IOException, InterruptedException, Exception {
+        new Fiber<Void>(new SuspendableRunnable() {
+            @Override
+            public void run() throws SuspendExecution, InterruptedException {
+                try {
+                    final FiberConnection fconn = (FiberConnection) conn;
+                    fconn.update("drop table if exists testCompound");
+                    fconn.update("create table testCompound (id int primary key, name varchar(100))");
+                    assertEquals(1, fconn.update("insert into testCompound (id, name) values (?, ?)", 1, "one"));
+                    assertEquals(1, fconn.update("insert into testCompound (id, name) values (?, ?)", 2, null));
+                    // snippet compound query
+                    final List<String> names = fconn.query("select name from testCompound where id >= ? order by id", new RowMapper<String>() {
+                        @Override
+                        public String map(ResultSet rs) throws SQLException {
+                            return rs.getString(1);
+                        }
+                    }, 1);
+                    // end of snippet
+                    assertEquals(Arrays.asList("one", null), names);
+                    final Integer id = fconn.queryFirst("select id from testCompound where name = ?", new RowMapper<Integer>() {
+                        @Override
+                        public Integer map(ResultSet rs) throws SQLException {
+                            return rs.getInt(1);
+                        }
+                    }, "one");
+                    assertEquals(Integer.valueOf(1), id);
+                    final FiberPreparedStatement ps = fconn.prepareStatement("select count(*) from testCompound where id > ?");
+                    final List<Long> counts = ps.executeQuery(new RowMapper<Long>() {
+                        @Override
+                        public Long map(ResultSet rs) throws SQLException {
+                            return rs.getLong(1);
+                        }
+                    }, 1);
+                    assertEquals(Arrays.asList(1L), counts);
+                    ps.close();
+                    fconn.update("drop table testCompound");
+                } catch (SQLException ex) {
+                    fail(ex.getMessage());
+                }
+            }
+        }).start().join();
+    }
+
+    @Test
+    public void testDriverProfile() throws IOException, InterruptedException, Exception {
+        final Connection raw = cls.newInstance().getConnection();
+        final ExecutorService es = MoreExecutors.listeningDecorator(Executors.newSingleThreadExecutor());
+        try {
+            new Fiber<Void>(new SuspendableRunnable() {
+                @Override
+                public void run() throws SuspendExecution, InterruptedException {
+                    try {
+                        // snippet driver profile
+                        final FiberConnection fconn = new FiberConnection(raw, es);
+                        fconn.setDriverProfile(DriverProfile.H2);
+                        // end of snippet
+                        final ResultSet rs = fconn.createStatement().executeQuery("select 1 as a, 2 as b");
+                        // with no workers left, only the calls the profile inlines can succeed
+                        es.shutdown();
+                        final ResultSetMetaData meta = rs.getMetaData();
+                        assertEquals(2, meta.getColumnCount());
+                        assertEquals("B", meta.getColumnLabel(2));
+                        assertTrue(fconn.getAutoCommit());
+                        assertEquals("H2", fconn.getMetaData().getDatabaseProductName());
+                        assertTrue(fconn.getMetaData().supportsBatchUpdates());
+                        try {
+                            rs.next();
+                            fail("next() should have been dispatched to the worker pool");
+                        } catch (RejectedExecutionException e) {
+                        }
+                        // H2 runs a query to answer these
+                        try {
+                            fconn.getMetaData().supportsTransactionIsolationLevel(Connection.TRANSACTION_SERIALIZABLE);
+                            fail("supportsTransactionIsolationLevel() should have been dispatched to the worker pool");
+                        } catch (RejectedExecutionException e) {
+                        }
+                        try {
+                            fconn.getMetaData().storesUpperCaseIdentifiers();
+                            fail("storesUpperCaseIdentifiers() should have been dispatched to the worker pool");
+                        } catch (RejectedExecutionException e) {
+                        }
+                    } catch (SQLException ex) {
+                        fail(ex.getMessage());
+                    }
+                }
+            }).start().join();
+        } finally {
+            raw.close();
+        }
+    }
+
+    @Test
+    public void testRowStream() throws IOException, InterruptedException, Exception {
+        new Fiber<Void>(new SuspendableRunnable() {
+            @Override
+            public void run() throws SuspendExecution, InterruptedException {
+                try {
+                    final FiberConnection fconn = (FiberConnection) conn;
+                    fconn.update("drop table if exists testStream");
+                    fconn.update("create table testStream (id int primary key)");
+                    fconn.update("insert into testStream select x from system_range(1, 1000)");
+                    // snippet row stream
+                    long sum = 0;
+                    try (FiberRowStream<Integer> ids = fconn.stream("select id from testStream where id > ? order by id", new RowMapper<Integer>() {
+                        @Override
+                        public Integer map(ResultSet rs) throws SQLException {
+                            return rs.getInt(1);
+                        }
+                    }, 100, 0)) {
+                        Integer id;
+                        while ((id = ids.receive()) != null)
+                            sum += id;
+                    }
+                    // end of snippet
+                    assertEquals(500500, sum);
+
+                    final FiberRowStream<Integer> partial = fconn.stream("select id from testStream order by id", new RowMapper<Integer>() {
+                        @Override
+                        public Integer map(ResultSet rs) throws SQLException {
+                            return rs.getInt(1);
+                        }
+                    }, 10);
+                    assertEquals(Integer.valueOf(1), partial.receive());
+                    partial.close();
+                    assertTrue(partial.isClosed());
+                    assertNull(partial.tryReceive());
+
+                    final FiberRowStream<Integer> failing = fconn.stream("select nosuchcolumn from testStream", new RowMapper<Integer>() {
+                        @Override
+                        public Integer map(ResultSet rs) throws SQLException {
+                            return rs.getInt(1);
+                        }
+                    }, 10);
+                    try {
+                        failing.receive();
+                        fail("Expected failure");
+                    } catch (ProducerException e) {
+                        assertTrue(e.getCause() instanceof SQLException);
+                    }
+                    fconn.update("drop table testStream");
+                } catch (SQLException ex) {
+                    fail(ex.getMessage());
+                }
+            }
+        }).start().join();
+    }
+
+    @Test
+    public void testListener() throws IOException, InterruptedException, Exception {
+        new Fiber<Void>(new SuspendableRunnable() {
+            @Override
+            public void run() throws SuspendExecution, InterruptedException {
+                try {
+                    final FiberConnection fconn = (FiberConnection) conn;
+                    // snippet metrics listener
+                    final MetricRegistry metrics = new MetricRegistry();
+                    fconn.setListener(new MetricsJDBCListener(metrics));
+                    // end of snippet
+                    final String sql = "select x from system_range(1, ?)";
+                    final FiberPreparedStatement ps = fconn.prepareStatement(sql);
+                    ps.setInt(1, 3);
+                    final ResultSet rs = ps.executeQuery();
+                    while (rs.next())
+                        rs.getInt(1);
+                    rs.close();
+                    ps.close();
+                    final String adhoc = "select 1";
+                    final Statement stmt = fconn.createStatement();
+                    stmt.executeQuery(adhoc).close();
+                    stmt.close();
+                    fconn.setListener(null);
+                    assertEquals(4, metrics.timer("comsat.jdbc.method.ResultSet.next.exec").getCount());
+                    assertEquals(3, metrics.timer("comsat.jdbc.method.ResultSet.getInt.wait").getCount());
+                    assertEquals(1, metrics.timer("comsat.jdbc.method.PreparedStatement.executeQuery.exec").getCount());
+                    // setInt, executeQuery, 4 x next, 3 x getInt, 2 x close
+                    assertEquals(11, metrics.timer("comsat.jdbc.sql." + sql + ".exec").getCount());
+                    // the SQL of plain statements isn't recorded
+                    assertEquals(1, metrics.timer("comsat.jdbc.method.Statement.executeQuery.exec").getCount());
+                    assertFalse(metrics.getTimers().containsKey("comsat.jdbc.sql." + adhoc + ".exec"));
+                } catch (SQLException ex) {
+                    fail(ex.getMessage());
+                }
+            }
+        }).start().join();
+    }
 }
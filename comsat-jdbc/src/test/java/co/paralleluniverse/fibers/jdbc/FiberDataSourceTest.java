@@ -16,12 +16,32 @@ package co.paralleluniverse.fibers.jdbc;
 import co.paralleluniverse.embedded.db.H2JdbcDatasource;
 import co.paralleluniverse.fibers.Fiber;
 import co.paralleluniverse.fibers.SuspendExecution;
+import co.paralleluniverse.fibers.Suspendable;
 import co.paralleluniverse.strands.SuspendableRunnable;
 import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.sql.DataSource;
 import static org.junit.Assert.*;
 import org.junit.Before;
@@ -83,4 +103,488 @@ public class FiberDataSourceTest {
             }
         }).start().join();
     }
+
+    @Test
+    public void testBoundedWorkerPool() throws IOException, InterruptedException, Exception {
+        // snippet bounded worker pool
+        final JDBCWorkerPool pool = new JDBCWorkerPool("testBoundedWorkerPool", 1, 0, 50, TimeUnit.MILLISECONDS);
+        final DataSource fiberDs = FiberDataSource.wrap(ds, pool);
+        // end of snippet
+        try {
+            final Fiber<Void> busy = new Fiber<Void>(new SuspendableRunnable() {
+                @Override
+                public void run() throws SuspendExecution, InterruptedException {
+                    try (Connection conn = fiberDs.getConnection()) {
+                        conn.createStatement().execute("create alias if not exists SLEEP for \"java.lang.Thread.sleep\"");
+                        conn.createStatement().execute("call SLEEP(500)");
+                    } catch (SQLException ex) {
+                        fail(ex.getMessage());
+                    }
+                }
+            }).start();
+            Thread.sleep(200);
+            new Fiber<Void>(new SuspendableRunnable() {
+                @Override
+                public void run() throws SuspendExecution, InterruptedException {
+                    try {
+                        fiberDs.getConnection().close();
+                        fail("Expected timeout");
+                    } catch (SQLTransientConnectionException ex) {
+                    } catch (SQLException ex) {
+                        fail(ex.getMessage());
+                    }
+                }
+            }).start().join();
+            assertEquals(1, pool.getRejectedOperations());
+            busy.join();
+            new Fiber<Void>(new SuspendableRunnable() {
+                @Override
+                public void run() throws SuspendExecution, InterruptedException {
+                    try {
+                        fiberDs.getConnection().close();
+                    } catch (SQLException ex) {
+                        fail(ex.getMessage());
+                    }
+                }
+            }).start().join();
+            assertEquals(0, pool.getQueueDepth());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testWorkerPoolDirectSubmission() throws IOException, InterruptedException, Exception {
+        final JDBCWorkerPool pool = new JDBCWorkerPool("testWorkerPoolDirectSubmission", 1, 1, 50, TimeUnit.MILLISECONDS);
+        try {
+            try {
+                new JDBCWorkerPool("testWorkerPoolDirectSubmission", 1, 1, 50, TimeUnit.MILLISECONDS);
+                fail("Expected duplicate name");
+            } catch (IllegalArgumentException ex) {
+            }
+            final CountDownLatch release = new CountDownLatch(1);
+            final Runnable blocked = new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        release.await();
+                    } catch (InterruptedException ex) {
+                    }
+                }
+            };
+            pool.execute(blocked);
+            pool.execute(blocked);
+            try {
+                pool.execute(blocked);
+                fail("Expected rejection");
+            } catch (RejectedExecutionException ex) {
+            }
+            assertEquals(1, pool.getRejectedOperations());
+            release.countDown();
+            final CountDownLatch done = new CountDownLatch(1);
+            while (true) {
+                try {
+                    pool.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            done.countDown();
+                        }
+                    });
+                    break;
+                } catch (RejectedExecutionException ex) {
+                    Thread.sleep(1); // permits are released as the blocked tasks complete
+                }
+            }
+            assertTrue(done.await(1, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testRowStreamAdmission() throws IOException, InterruptedException, Exception {
+        final JDBCWorkerPool pool = new JDBCWorkerPool("testRowStreamAdmission", 1, 0, 50, TimeUnit.MILLISECONDS);
+        final AffineJDBCWorkerPool affine = new AffineJDBCWorkerPool("testRowStreamAdmissionAffine", 1);
+        final FiberDataSource fiberDs = (FiberDataSource) FiberDataSource.wrap(ds, pool);
+        final FiberDataSource affineDs = (FiberDataSource) FiberDataSource.wrap(ds, affine);
+        final List<String> reported = new ArrayList<>();
+        fiberDs.setListener(new JDBCListener() {
+            @Override
+            public void operationCompleted(String method, String sql, long waitNanos, long execNanos, boolean failed) {
+                synchronized (reported) {
+                    reported.add(method);
+                }
+            }
+        });
+        try {
+            new Fiber<Void>(new SuspendableRunnable() {
+                @Override
+                public void run() throws SuspendExecution, InterruptedException {
+                    try (FiberConnection conn = (FiberConnection) affineDs.getConnection()) {
+                        conn.stream("select 1", ROW_NUMBER, 10);
+                        fail("Expected pinned connection to be rejected");
+                    } catch (SQLFeatureNotSupportedException ex) {
+                    } catch (SQLException ex) {
+                        fail(ex.getMessage());
+                    }
+                    try (FiberConnection conn = (FiberConnection) fiberDs.getConnection()) {
+                        // batches of one row fill the channel, so the producer keeps its worker until the stream is closed
+                        try (FiberRowStream<Integer> rows = conn.stream("select x from system_range(1, 100)", ROW_NUMBER, 1)) {
+                            assertEquals(Integer.valueOf(1), rows.receive());
+                            try {
+                                conn.stream("select 1", ROW_NUMBER, 10);
+                                fail("Expected timeout");
+                            } catch (SQLTransientConnectionException ex) {
+                            }
+                        }
+                    } catch (SQLException ex) {
+                        fail(ex.getMessage());
+                    }
+                }
+            }).start().join();
+            assertEquals(1, pool.getRejectedOperations());
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (System.nanoTime() < deadline) {
+                synchronized (reported) {
+                    if (reported.contains("Connection.stream"))
+                        break;
+                }
+                Thread.sleep(10);
+            }
+            synchronized (reported) {
+                assertTrue(reported.contains("Connection.stream"));
+            }
+        } finally {
+            pool.shutdown();
+            affine.shutdown();
+        }
+    }
+
+    private static final RowMapper<Integer> ROW_NUMBER = new RowMapper<Integer>() {
+        @Override
+        public Integer map(ResultSet rs) throws SQLException {
+            return rs.getInt(1);
+        }
+    };
+
+    @Test
+    public void testConnectionAffinity() throws IOException, InterruptedException, Exception {
+        // snippet connection affinity
+        final AffineJDBCWorkerPool pool = new AffineJDBCWorkerPool("testConnectionAffinity", 4);
+        final DataSource fiberDs = FiberDataSource.wrap(ds, pool);
+        // end of snippet
+        try {
+            new Fiber<Void>(new SuspendableRunnable() {
+                @Override
+                public void run() throws SuspendExecution, InterruptedException {
+                    try (Connection conn1 = fiberDs.getConnection(); Connection conn2 = fiberDs.getConnection()) {
+                        conn1.createStatement().execute("create alias if not exists THREAD_NAME for \"" + FiberDataSourceTest.class.getName() + ".threadName\"");
+                        final String t1 = workerThread(conn1), t2 = workerThread(conn2);
+                        assertNotEquals(t1, t2);
+                        for (int i = 0; i < 10; i++) {
+                            assertEquals(t1, workerThread(conn1));
+                            assertEquals(t2, workerThread(conn2));
+                        }
+                        int pinned = 0;
+                        for (int i = 0; i < pool.getPoolSize(); i++)
+                            pinned += pool.getPinnedConnections(i);
+                        assertEquals(2, pinned);
+                    } catch (SQLException ex) {
+                        fail(ex.getMessage());
+                    }
+                }
+            }).start().join();
+            for (int i = 0; i < pool.getPoolSize(); i++)
+                assertEquals(0, pool.getPinnedConnections(i));
+
+            // shutting down a connection's executor leaves the shared worker running
+            final ExecutorService pinned = pool.pin();
+            pinned.shutdown();
+            assertTrue(pinned.shutdownNow().isEmpty());
+            assertFalse(pinned.isShutdown());
+            assertEquals(Integer.valueOf(1), pinned.submit(new Callable<Integer>() {
+                @Override
+                public Integer call() {
+                    return 1;
+                }
+            }).get());
+            AffineJDBCWorkerPool.unpin(pinned);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testConnectionAffinityUnpinsOnFailedClose() throws IOException, InterruptedException, Exception {
+        final AffineJDBCWorkerPool pool = new AffineJDBCWorkerPool("testConnectionAffinityUnpinsOnFailedClose", 2);
+        final DataSource fiberDs = FiberDataSource.wrap(failingClose(ds), pool);
+        try {
+            new Fiber<Void>(new SuspendableRunnable() {
+                @Override
+                public void run() throws SuspendExecution, InterruptedException {
+                    try {
+                        fiberDs.getConnection().close();
+                        fail("Expected close to fail");
+                    } catch (SQLException ex) {
+                    }
+                }
+            }).start().join();
+            for (int i = 0; i < pool.getPoolSize(); i++)
+                assertEquals(0, pool.getPinnedConnections(i));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testConnectionPool() throws IOException, InterruptedException, Exception {
+        // snippet connection pool
+        final FiberConnectionPool pool = FiberConnectionPool.create(ds, Executors.newFixedThreadPool(2), 2, 50, TimeUnit.MILLISECONDS);
+        // end of snippet
+        try {
+            final AtomicInteger inUse = new AtomicInteger(), maxInUse = new AtomicInteger();
+            final List<Fiber<Void>> fibers = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                fibers.add(new Fiber<Void>(new SuspendableRunnable() {
+                    @Override
+                    public void run() throws SuspendExecution, InterruptedException {
+                        while (true) {
+                            try (Connection conn = pool.getConnection()) {
+                                final int n = inUse.incrementAndGet();
+                                maxInUse.set(Math.max(maxInUse.get(), n));
+                                conn.setAutoCommit(false);
+                                conn.createStatement().execute("select 1");
+                                Fiber.sleep(5);
+                                inUse.decrementAndGet();
+                                return;
+                            } catch (SQLTransientConnectionException ex) {
+                                // pool saturated: retry
+                            } catch (SQLException ex) {
+                                fail(ex.getMessage());
+                            }
+                        }
+                    }
+                }).start());
+            }
+            for (Fiber<Void> f : fibers)
+                f.join();
+            assertTrue(maxInUse.get() <= 2);
+            assertEquals(0, pool.getActiveConnections());
+            assertTrue(pool.getIdleConnections() <= 2);
+            new Fiber<Void>(new SuspendableRunnable() {
+                @Override
+                public void run() throws SuspendExecution, InterruptedException {
+                    try (Connection conn1 = pool.getConnection(); Connection conn2 = pool.getConnection()) {
+                        assertTrue(conn1.getAutoCommit());
+                        try {
+                            pool.getConnection();
+                            fail("Expected timeout");
+                        } catch (SQLTransientConnectionException ex) {
+                        }
+                    } catch (SQLException ex) {
+                        fail(ex.getMessage());
+                    }
+                }
+            }).start().join();
+        } finally {
+            new Fiber<Void>(new SuspendableRunnable() {
+                @Override
+                public void run() throws SuspendExecution, InterruptedException {
+                    try {
+                        pool.close();
+                    } catch (SQLException ex) {
+                        fail(ex.getMessage());
+                    }
+                }
+            }).start().join();
+        }
+        assertEquals(0, pool.getIdleConnections());
+    }
+
+    @Test
+    public void testConnectionPoolHandles() throws IOException, InterruptedException, Exception {
+        final FiberConnectionPool pool = FiberConnectionPool.create(ds, Executors.newFixedThreadPool(2), 1, 50, TimeUnit.MILLISECONDS);
+        try {
+            new Fiber<Void>(new SuspendableRunnable() {
+                @Override
+                public void run() throws SuspendExecution, InterruptedException {
+                    try {
+                        final Connection conn1 = pool.getConnection();
+                        final int isolation = conn1.getTransactionIsolation();
+                        final int changed = isolation == Connection.TRANSACTION_SERIALIZABLE ? Connection.TRANSACTION_READ_COMMITTED : Connection.TRANSACTION_SERIALIZABLE;
+                        conn1.setTransactionIsolation(changed);
+                        assertEquals(changed, conn1.getTransactionIsolation());
+                        final Statement stmt1 = conn1.createStatement();
+                        final ResultSet rs1 = stmt1.executeQuery("select 1");
+                        conn1.close();
+                        assertTrue(conn1.isClosed());
+                        assertTrue(stmt1.isClosed());
+                        assertTrue(rs1.isClosed());
+
+                        try (Connection conn2 = pool.getConnection()) { // the same physical connection
+                            assertEquals(isolation, conn2.getTransactionIsolation());
+                            conn2.setAutoCommit(false);
+                            try {
+                                conn1.createStatement();
+                                fail("Expected closed connection");
+                            } catch (SQLException ex) {
+                            }
+                            try {
+                                conn1.commit();
+                                fail("Expected closed connection");
+                            } catch (SQLException ex) {
+                            }
+                            try {
+                                stmt1.executeQuery("select 1");
+                                fail("Expected closed statement");
+                            } catch (SQLException ex) {
+                            }
+                            stmt1.close();
+                            assertFalse(conn2.getAutoCommit());
+                        }
+                    } catch (SQLException ex) {
+                        fail(ex.getMessage());
+                    }
+                }
+            }).start().join();
+        } finally {
+            new Fiber<Void>(new SuspendableRunnable() {
+                @Override
+                public void run() throws SuspendExecution, InterruptedException {
+                    try {
+                        pool.close();
+                    } catch (SQLException ex) {
+                        fail(ex.getMessage());
+                    }
+                }
+            }).start().join();
+        }
+    }
+
+    @Test
+    public void testBatchCoalescing() throws IOException, InterruptedException, Exception {
+        try (Connection conn = ds.getConnection()) {
+            conn.createStatement().execute("drop table if exists testCoalesce");
+            conn.createStatement().execute("create table testCoalesce (id int primary key)");
+        }
+        // snippet batch coalescing
+        final FiberBatchCoalescer coalescer = new FiberBatchCoalescer(ds, Executors.newFixedThreadPool(2), 50, 10, TimeUnit.MILLISECONDS);
+        // end of snippet
+        try {
+            final AtomicInteger updated = new AtomicInteger(), failed = new AtomicInteger();
+            final List<Fiber<Void>> fibers = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                final int id = i == 199 ? 0 : i; // a duplicate key
+                fibers.add(new Fiber<Void>(new SuspendableRunnable() {
+                    @Override
+                    public void run() throws SuspendExecution, InterruptedException {
+                        try {
+                            updated.addAndGet(coalescer.executeUpdate("insert into testCoalesce (id) values (?)", id));
+                        } catch (SQLException ex) {
+                            failed.incrementAndGet();
+                        }
+                    }
+                }).start());
+            }
+            for (Fiber<Void> f : fibers)
+                f.join();
+            assertEquals(199, updated.get());
+            assertEquals(1, failed.get());
+            assertEquals(199, coalescer.getExecutedStatements());
+            assertTrue(coalescer.getExecutedBatches() < 199);
+        } finally {
+            coalescer.close();
+        }
+        try (Connection conn = ds.getConnection()) {
+            final ResultSet rs = conn.createStatement().executeQuery("select count(*) from testCoalesce");
+            rs.next();
+            assertEquals(199, rs.getInt(1));
+            conn.createStatement().execute("drop table testCoalesce");
+        }
+    }
+
+    @Test
+    public void testBatchCoalescerConcurrentClose() throws IOException, InterruptedException, Exception {
+        try (Connection conn = ds.getConnection()) {
+            conn.createStatement().execute("drop table if exists testCoalesceClose");
+            conn.createStatement().execute("create table testCoalesceClose (id int primary key)");
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        final AtomicBoolean closing = new AtomicBoolean();
+        final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1) {
+            @Override
+            public boolean isShutdown() {
+                final boolean shutdown = super.isShutdown();
+                if (closing.compareAndSet(true, false))
+                    shutdownNow(); // the coalescer is closed right after add() has found it open
+                return shutdown;
+            }
+        };
+        final FiberBatchCoalescer coalescer = new FiberBatchCoalescer(ds, executor, 10, 10, TimeUnit.MILLISECONDS, timer);
+        try {
+            new Fiber<Void>(new SuspendableRunnable() {
+                @Override
+                public void run() throws SuspendExecution, InterruptedException {
+                    try {
+                        assertEquals(1, coalescer.executeUpdate("insert into testCoalesceClose (id) values (?)", 1));
+                        closing.set(true);
+                        coalescer.executeUpdate("insert into testCoalesceClose (id) values (?)", 2);
+                        fail("Expected closed coalescer");
+                    } catch (SQLException ex) {
+                    }
+                }
+            }).start().join(10, TimeUnit.SECONDS);
+            coalescer.close();
+        } finally {
+            executor.shutdown();
+        }
+        try (Connection conn = ds.getConnection()) {
+            final ResultSet rs = conn.createStatement().executeQuery("select count(*) from testCoalesceClose");
+            rs.next();
+            assertEquals(1, rs.getInt(1));
+            conn.createStatement().execute("drop table testCoalesceClose");
+        }
+    }
+
+    /**
+     * A data source whose connections close, but then throw from {@code close()}.
+     */
+    private static DataSource failingClose(final DataSource ds) {
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[]{DataSource.class}, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                final Object res = method.invoke(ds, args);
+                if (!(res instanceof Connection))
+                    return res;
+                final Connection conn = (Connection) res;
+                return Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        if (method.getName().equals("close")) {
+                            conn.close();
+                            throw new SQLException("close failed");
+                        }
+                        try {
+                            return method.invoke(conn, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    @Suspendable
+    private static String workerThread(Connection conn) throws SQLException {
+        final ResultSet rs = conn.createStatement().executeQuery("select THREAD_NAME()");
+        rs.next();
+        final String res = rs.getString(1);
+        rs.close();
+        return res;
+    }
+
+    public static String threadName() {
+        return Thread.currentThread().getName();
+    }
 }
@@ -15,6 +15,8 @@ package co.paralleluniverse.fibers.servlet;
 
 import co.paralleluniverse.common.util.SystemProperties;
 import co.paralleluniverse.fibers.Fiber;
+import co.paralleluniverse.fibers.FiberForkJoinScheduler;
+import co.paralleluniverse.fibers.FiberScheduler;
 import co.paralleluniverse.fibers.SuspendExecution;
 import co.paralleluniverse.fibers.Suspendable;
 import co.paralleluniverse.strands.SuspendableRunnable;
@@ -24,9 +26,17 @@ import java.io.PrintWriter;
 import java.io.UnsupportedEncodingException;
 import java.lang.reflect.Method;
 import java.text.MessageFormat;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.ResourceBundle;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.servlet.*;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
@@ -72,6 +82,22 @@ public class FiberHttpServlet extends HttpServlet {
     public static final String PROP_DISABLE_TOMCAT_ASYNC_FIXES = FiberHttpServlet.class.getName() + ".disableTomcatAsyncFixes";
     static final Boolean disableTomcatAsyncFixesGlobal;
 
+    public static final String PROP_SCHEDULER = FiberHttpServlet.class.getName() + ".scheduler";
+    public static final String PROP_SCHEDULER_PARALLELISM = FiberHttpServlet.class.getName() + ".schedulerParallelism";
+    public static final String PROP_MAX_IN_FLIGHT = FiberHttpServlet.class.getName() + ".maxInFlight";
+    public static final String PROP_ADMISSION_TIMEOUT = FiberHttpServlet.class.getName() + ".admissionTimeout";
+    public static final String PROP_NON_BLOCKING_IO = FiberHttpServlet.class.getName() + ".nonBlockingIO";
+    public static final String PROP_SNAPSHOT_REQUEST = FiberHttpServlet.class.getName() + ".snapshotRequest";
+    public static final String PROP_SNAPSHOT_ATTRIBUTES = FiberHttpServlet.class.getName() + ".snapshotAttributes";
+    public static final String PROP_AUTOTUNE_STACK_SIZE = FiberHttpServlet.class.getName() + ".autotuneStackSize";
+    public static final String PROP_STACK_SIZE_PERCENTILE = FiberHttpServlet.class.getName() + ".stackSizePercentile";
+    public static final String PROP_MONITOR = FiberHttpServlet.class.getName() + ".monitor";
+
+    // Named schedulers, shared by the servlets that name the same one and shut down when the last of them is destroyed
+    // and all of their requests have completed
+    private static final Map<String, FiberForkJoinScheduler> schedulers = new HashMap<>();
+    private static final Map<String, Integer> schedulerUsers = new HashMap<>();
+
     static {
         asyncTimeout = getLong(PROP_ASYNC_TIMEOUT);
         disableJettyAsyncFixesGlobal = getBoolean(PROP_DISABLE_JETTY_ASYNC_FIXES);
@@ -90,7 +116,18 @@ public class FiberHttpServlet extends HttpServlet {
 
     private ForkJoinPool fjp = new ForkJoinPool();
 
-    boolean debugBypassToRegularJFP, disableSyncExceptions, disableSyncForward, disableJettyAsyncFixes, disableTomcatAsyncFixes;
+    private transient FiberScheduler scheduler;
+    private transient SchedulerHold schedulerHold;
+    private transient Semaphore inFlight;
+    private long admissionTimeoutMS;
+    private transient StackSizeTuner stackSizeTuner;
+    private transient FiberHttpServletMonitor monitor;
+    private transient FiberHttpServletListener userListener;
+    private transient volatile FiberHttpServletListener listener; // monitor and/or userListener
+    private transient volatile AsyncListener timeoutListener;
+
+    boolean debugBypassToRegularJFP, disableSyncExceptions, disableSyncForward, disableJettyAsyncFixes, disableTomcatAsyncFixes, nonBlockingIO, snapshotRequest;
+    Set<String> snapshotAttributes = Collections.emptySet(); // null means all
 
     /**
      * @return Wrapped version of the ServletContext initiated by {@link #init(javax.servlet.ServletConfig) }
@@ -130,6 +167,81 @@ public class FiberHttpServlet extends HttpServlet {
         final String disableTF = config.getInitParameter(PROP_DISABLE_TOMCAT_ASYNC_FIXES);
         if (disableTF != null)
             disableTomcatAsyncFixes = disableTomcatAsyncFixesGlobal != null ? disableTomcatAsyncFixesGlobal : !isTomcat(config);
+
+        final String sn = getParameter(config, PROP_SCHEDULER);
+        if (sn != null && scheduler == null) {
+            final String sp = getParameter(config, PROP_SCHEDULER_PARALLELISM);
+            final int parallelism = sp != null ? Integer.parseInt(sp) : Runtime.getRuntime().availableProcessors();
+            final FiberForkJoinScheduler s = acquireScheduler(sn, parallelism);
+            final int actual = s.getForkJoinPool().getParallelism();
+            if (actual != parallelism)
+                log("Scheduler " + sn + " is already running with parallelism " + actual + ", ignoring " + PROP_SCHEDULER_PARALLELISM + " " + parallelism);
+            scheduler = s;
+            schedulerHold = new SchedulerHold(sn);
+        }
+
+        final String mif = getParameter(config, PROP_MAX_IN_FLIGHT);
+        if (mif != null && inFlight == null)
+            setMaxInFlight(Integer.parseInt(mif));
+
+        final String at = getParameter(config, PROP_ADMISSION_TIMEOUT);
+        if (at != null)
+            admissionTimeoutMS = Long.parseLong(at);
+
+        final String nbio = getParameter(config, PROP_NON_BLOCKING_IO);
+        if (nbio != null && (nbio.isEmpty() || Boolean.parseBoolean(nbio))) {
+            nonBlockingIO = NonBlockingIO.isSupported();
+            if (!nonBlockingIO)
+                log("Non-blocking I/O requires a Servlet 3.1 container, using blocking I/O");
+        }
+
+        final String snr = getParameter(config, PROP_SNAPSHOT_REQUEST);
+        if (snr != null && (snr.isEmpty() || Boolean.parseBoolean(snr))) {
+            snapshotRequest = true;
+            final String sna = getParameter(config, PROP_SNAPSHOT_ATTRIBUTES);
+            if (sna != null) {
+                if (sna.trim().equals("*"))
+                    snapshotAttributes = null;
+                else {
+                    final Set<String> names = new HashSet<>();
+                    for (final String n : sna.split(",")) {
+                        if (!n.trim().isEmpty())
+                            names.add(n.trim());
+                    }
+                    snapshotAttributes = Collections.unmodifiableSet(names);
+                }
+            }
+        }
+
+        final String ats = getParameter(config, PROP_AUTOTUNE_STACK_SIZE);
+        if (ats != null && (ats.isEmpty() || Boolean.parseBoolean(ats))) {
+            final String p = getParameter(config, PROP_STACK_SIZE_PERCENTILE);
+            stackSizeTuner = new StackSizeTuner(stackSize > 0 ? stackSize : Fiber.DEFAULT_STACK_SIZE, p != null ? Double.parseDouble(p) : 99);
+        }
+
+        final String mon = getParameter(config, PROP_MONITOR);
+        if (mon != null && (mon.isEmpty() || Boolean.parseBoolean(mon)) && monitor == null) {
+            try {
+                monitor = new FiberHttpServletMonitor(config.getServletName());
+                updateListener();
+            } catch (final IllegalArgumentException e) {
+                log("Not monitoring the servlet through JMX", e);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (schedulerHold != null) {
+            schedulerHold.release(); // The scheduler is released once the requests still running complete
+            schedulerHold = null;
+        }
+        if (monitor != null) {
+            monitor.unregister();
+            monitor = null;
+            updateListener();
+        }
+        super.destroy();
     }
 
     protected final void setStackSize(int stackSize) {
@@ -140,6 +252,90 @@ public class FiberHttpServlet extends HttpServlet {
         return stackSize;
     }
 
+    /**
+     * Sets the scheduler of the fibers serving the requests, instead of the default one; it is not shut down when the
+     * servlet is destroyed.
+     */
+    protected final void setScheduler(FiberScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    protected final FiberScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Limits the number of requests being served at once; further requests wait up to the
+     * {@link #setAdmissionTimeout(long) admission timeout} and are then rejected with {@code 503 Service Unavailable}.
+     * Must be called before the servlet starts serving requests.
+     *
+     * @param maxInFlight The maximum number of requests being served at once, or {@code 0} for no limit.
+     */
+    protected final void setMaxInFlight(int maxInFlight) {
+        if (maxInFlight < 0)
+            throw new IllegalArgumentException("maxInFlight must not be negative: " + maxInFlight);
+        this.inFlight = maxInFlight > 0 ? new Semaphore(maxInFlight) : null;
+    }
+
+    /**
+     * Sets how long a request waits, blocking the container's thread, when the maximum number of requests is already
+     * being served; {@code 0} (the default) rejects it immediately.
+     */
+    protected final void setAdmissionTimeout(long admissionTimeoutMS) {
+        this.admissionTimeoutMS = admissionTimeoutMS;
+    }
+
+    /**
+     * Sets a listener to be told about the dispatching of requests to fibers, e.g. a
+     * {@link MetricsFiberHttpServletListener}; the {@link #PROP_MONITOR JMX monitor}, if enabled, keeps working
+     * alongside it.
+     *
+     * @param listener The listener, or {@code null} to remove it.
+     */
+    protected final void setListener(FiberHttpServletListener listener) {
+        this.userListener = listener;
+        updateListener();
+    }
+
+    private synchronized void updateListener() {
+        final FiberHttpServletListener m = monitor, u = userListener;
+        if (m != null && u != null) {
+            listener = new FiberHttpServletListener() {
+                @Override
+                public void requestAccepted() {
+                    m.requestAccepted();
+                    u.requestAccepted();
+                }
+
+                @Override
+                public void requestRejected() {
+                    m.requestRejected();
+                    u.requestRejected();
+                }
+
+                @Override
+                public void requestCompleted(long dispatchNanos, long runNanos, int suspensions, boolean failed) {
+                    m.requestCompleted(dispatchNanos, runNanos, suspensions, failed);
+                    u.requestCompleted(dispatchNanos, runNanos, suspensions, failed);
+                }
+
+                @Override
+                public void requestFailedToStart() {
+                    m.requestFailedToStart();
+                    u.requestFailedToStart();
+                }
+
+                @Override
+                public void asyncTimeout() {
+                    m.asyncTimeout();
+                    u.asyncTimeout();
+                }
+            };
+        } else
+            listener = m != null ? m : u;
+        timeoutListener = listener != null ? new TimeoutListener(listener) : null;
+    }
+
     @Override
     @Suspendable
     final public void service(final ServletRequest req, ServletResponse res) throws ServletException, IOException {
@@ -158,22 +354,81 @@ public class FiberHttpServlet extends HttpServlet {
             throw new ServletException("Unsupported non-HTTP request or response detected");
         }
 
-        if (!disableTomcatAsyncFixes)
-            req.setAttribute("org.apache.catalina.ASYNC_SUPPORTED", true);
-
-        final AsyncContext ac = req.startAsync();
+        final FiberHttpServletListener l = listener;
+        final AsyncListener tl = timeoutListener;
+        final Semaphore permits = inFlight;
+        final SchedulerHold hold = schedulerHold;
+        if (permits != null && !admit(permits)) {
+            if (l != null)
+                l.requestRejected();
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
 
-        if (asyncTimeout != null)
-            ac.setTimeout(asyncTimeout);
+        boolean started = false, accepted = false;
+        SchedulerHold held = null;
+        try {
+            if (!disableTomcatAsyncFixes)
+                req.setAttribute("org.apache.catalina.ASYNC_SUPPORTED", true);
+
+            final AsyncContext ac = req.startAsync();
+
+            if (asyncTimeout != null)
+                ac.setTimeout(asyncTimeout);
+            if (tl != null)
+                ac.addListener(tl);
+
+            final HttpServletRequest r =
+                !disableJettyAsyncFixes || nonBlockingIO || snapshotRequest ?
+                    new FiberHttpServletRequest(this, request) :
+                    request;
+            final HttpServletResponse rs =
+                nonBlockingIO ?
+                    new NonBlockingIO.Response(response) :
+                    response;
+            final long acceptedNanos = l != null ? System.nanoTime() : 0;
+            if (l != null) {
+                l.requestAccepted();
+                accepted = true;
+            }
+            if (debugBypassToRegularJFP)
+                fjp.execute(new ServletRunnable(this, ac, r, rs, permits, l, acceptedNanos));
+            else {
+                final StackSizeTuner tuner = stackSizeTuner;
+                final int ss = tuner != null ? tuner.getStackSize() : stackSize;
+                final ServletSuspendableRunnable task = new ServletSuspendableRunnable(this, ac, r, rs, permits, l, acceptedNanos, hold, ss);
+                final Fiber<Void> f;
+                if (l != null)
+                    f = scheduler != null ? new RequestFiber(scheduler, ss, task) : new RequestFiber(ss, task);
+                else
+                    f = scheduler != null ? new Fiber<Void>(null, scheduler, ss, task) : new Fiber<Void>(null, ss, task);
+                if (hold != null)
+                    hold.acquire();
+                held = hold;
+                f.start();
+            }
+            started = true;
+        } finally {
+            if (!started) {
+                if (permits != null)
+                    permits.release();
+                if (held != null)
+                    held.release();
+                if (accepted)
+                    l.requestFailedToStart();
+            }
+        }
+    }
 
-        final HttpServletRequest r =
-            !disableJettyAsyncFixes ?
-                new FiberHttpServletRequest(this, request) :
-                request;
-        if (debugBypassToRegularJFP)
-            fjp.execute(new ServletRunnable(this, ac, r, response));
-        else
-            new Fiber(null, stackSize, new ServletSuspendableRunnable(this, ac, r, response)).start();
+    private boolean admit(Semaphore permits) {
+        if (admissionTimeoutMS <= 0)
+            return permits.tryAcquire();
+        try {
+            return permits.tryAcquire(admissionTimeoutMS, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
 
     private final static class ServletSuspendableRunnable implements SuspendableRunnable {
@@ -181,17 +436,53 @@ public class FiberHttpServlet extends HttpServlet {
         private final HttpServletRequest request;
         private final HttpServletResponse response;
         private final FiberHttpServlet servlet;
+        private final Semaphore permits;
+        private final FiberHttpServletListener listener;
+        private final long acceptedNanos;
+        private final SchedulerHold hold;
+        private final int stackSize;
 
-        ServletSuspendableRunnable(FiberHttpServlet servlet, AsyncContext ac, HttpServletRequest request, HttpServletResponse response) {
+        ServletSuspendableRunnable(FiberHttpServlet servlet, AsyncContext ac, HttpServletRequest request, HttpServletResponse response, Semaphore permits, FiberHttpServletListener listener, long acceptedNanos, SchedulerHold hold, int stackSize) {
             this.servlet = servlet;
             this.ac = ac;
             this.request = request;
             this.response = response;
+            this.permits = permits;
+            this.listener = listener;
+            this.acceptedNanos = acceptedNanos;
+            this.hold = hold;
+            this.stackSize = stackSize;
         }
 
         @Override
         public final void run() throws SuspendExecution, InterruptedException {
-            servlet.exec(servlet, ac, request, response);
+            final long startNanos = listener != null ? System.nanoTime() : 0;
+            boolean failed = true, released = false;
+            try {
+                final Throwable ex = servlet.exec(servlet, ac, request, response);
+                failed = ex != null;
+                release();
+                released = true; // Before completing, so that a request that follows this one is admitted
+                servlet.complete(ac, request, ex);
+            } finally {
+                if (!released)
+                    release();
+                final StackSizeTuner tuner = servlet.stackSizeTuner;
+                if (tuner != null)
+                    tuner.sample(stackSize);
+                if (listener != null) {
+                    final Fiber<?> f = Fiber.currentFiber();
+                    final int suspensions = f instanceof RequestFiber ? ((RequestFiber) f).suspensions : 0;
+                    listener.requestCompleted(startNanos - acceptedNanos, System.nanoTime() - startNanos, suspensions, failed);
+                }
+            }
+        }
+
+        private void release() {
+            if (permits != null)
+                permits.release();
+            if (hold != null)
+                hold.release(); // The fiber won't park again
         }
     }
 
@@ -200,56 +491,191 @@ public class FiberHttpServlet extends HttpServlet {
         private final AsyncContext ac;
         private final HttpServletRequest request;
         private final HttpServletResponse response;
+        private final Semaphore permits;
+        private final FiberHttpServletListener listener;
+        private final long acceptedNanos;
 
-        ServletRunnable(FiberHttpServlet servlet, AsyncContext ac, HttpServletRequest request, HttpServletResponse response) {
+        ServletRunnable(FiberHttpServlet servlet, AsyncContext ac, HttpServletRequest request, HttpServletResponse response, Semaphore permits, FiberHttpServletListener listener, long acceptedNanos) {
             this.servlet = servlet;
             this.ac = ac;
             this.request = request;
             this.response = response;
+            this.permits = permits;
+            this.listener = listener;
+            this.acceptedNanos = acceptedNanos;
         }
 
         @Override
         public final void run() {
-            servlet.exec(servlet, ac, request, response);
+            final long startNanos = listener != null ? System.nanoTime() : 0;
+            boolean failed = true, released = false;
+            try {
+                final Throwable ex = servlet.exec(servlet, ac, request, response);
+                failed = ex != null;
+                if (permits != null)
+                    permits.release();
+                released = true; // Before completing, so that a request that follows this one is admitted
+                servlet.complete(ac, request, ex);
+            } finally {
+                if (permits != null && !released)
+                    permits.release();
+                if (listener != null)
+                    listener.requestCompleted(startNanos - acceptedNanos, System.nanoTime() - startNanos, 0, failed);
+            }
         }
     }
 
+    /**
+     * A request fiber that counts how many times it parks.
+     */
+    private static final class RequestFiber extends Fiber<Void> {
+        private static final long serialVersionUID = 1L;
+
+        int suspensions; // Only accessed by the fiber itself
+
+        RequestFiber(FiberScheduler scheduler, int stackSize, SuspendableRunnable target) {
+            super(null, scheduler, stackSize, target);
+        }
+
+        RequestFiber(int stackSize, SuspendableRunnable target) {
+            super(null, stackSize, target);
+        }
+
+        @Override
+        protected void onParked() {
+            suspensions++;
+        }
+    }
+
+    /**
+     * Reports the timeouts of requests' asynchronous contexts.
+     */
+    private static final class TimeoutListener implements AsyncListener {
+        private final FiberHttpServletListener listener;
+
+        TimeoutListener(FiberHttpServletListener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            listener.asyncTimeout();
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+
+    /**
+     * Services the request, but leaves completing it to {@link #complete(AsyncContext, HttpServletRequest, Throwable) complete}.
+     *
+     * @return The exception the servlet threw, or {@code null} if none.
+     */
     @Suspendable
-    final void exec(FiberHttpServlet servlet, AsyncContext ac, HttpServletRequest request, HttpServletResponse response) {
+    final Throwable exec(FiberHttpServlet servlet, AsyncContext ac, HttpServletRequest request, HttpServletResponse response) {
         if (!disableSyncExceptions) {
             try {
                 exec0(servlet, ac, request, response);
+                return null;
             } catch (final ServletException | IOException ex) {
                 // Multi-catch above seems to break ASM during instrumentation in some circumstances
                 // seemingly tied to structured class-loading, as in standalone servlet containers
                 servlet.log("Exception in servlet's fiber, dispatching to container", ex);
-                request.setAttribute(FIBER_ASYNC_REQUEST_EXCEPTION, ex);
-                if (!disableSyncForward)
-                    servlet.currentAsyncContext.set(null);
-                ac.dispatch();
+                return ex;
             }
         } else {
             try {
                 exec0(servlet, ac, request, response);
+                return null;
             } catch (final Throwable t) {
                 servlet.log("Error during pool-based execution", t);
-                ((HttpServletResponse) ac.getResponse()).setStatus(500);
-                try {
-                    ac.complete();
-                } catch (final IllegalStateException ignored) {}
+                return t;
             }
         }
     }
 
+    /**
+     * Completes the request serviced by {@link #exec(FiberHttpServlet, AsyncContext, HttpServletRequest, HttpServletResponse) exec},
+     * or dispatches the exception it returned to the container.
+     */
+    final void complete(AsyncContext ac, HttpServletRequest request, Throwable ex) {
+        if (ex != null && !disableSyncExceptions) {
+            request.setAttribute(FIBER_ASYNC_REQUEST_EXCEPTION, ex);
+            if (!disableSyncForward)
+                currentAsyncContext.set(null);
+            ac.dispatch();
+            return;
+        }
+        if (ex != null)
+            ((HttpServletResponse) ac.getResponse()).setStatus(500);
+        try {
+            ac.complete();
+        } catch (final IllegalStateException ignored) {}
+    }
+
     @Suspendable
     private void exec0(FiberHttpServlet servlet, AsyncContext ac, HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
         // TODO: check if ac has expired
         if (!disableSyncForward)
             servlet.currentAsyncContext.set(ac);
         servlet.service(request, response);
-        try {
-            ac.complete();
-        } catch (final IllegalStateException ignored) {}
+    }
+
+    /**
+     * Keeps a named scheduler from being shut down while the servlet is in service or any of its request fibers is
+     * still running on it.
+     */
+    private static final class SchedulerHold {
+        private final String name;
+        private final AtomicInteger holds = new AtomicInteger(1); // The servlet's own, until it's destroyed
+
+        SchedulerHold(String name) {
+            this.name = name;
+        }
+
+        void acquire() {
+            holds.incrementAndGet();
+        }
+
+        void release() {
+            if (holds.decrementAndGet() == 0)
+                releaseScheduler(name);
+        }
+    }
+
+    private static synchronized FiberForkJoinScheduler acquireScheduler(String name, int parallelism) {
+        FiberForkJoinScheduler s = schedulers.get(name);
+        if (s == null) {
+            s = new FiberForkJoinScheduler(name, parallelism);
+            schedulers.put(name, s);
+            schedulerUsers.put(name, 1);
+        } else
+            schedulerUsers.put(name, schedulerUsers.get(name) + 1);
+        return s;
+    }
+
+    private static synchronized void releaseScheduler(String name) {
+        final int users = schedulerUsers.get(name) - 1;
+        if (users > 0)
+            schedulerUsers.put(name, users);
+        else {
+            schedulerUsers.remove(name);
+            schedulers.remove(name).getForkJoinPool().shutdown();
+        }
+    }
+
+    private static String getParameter(ServletConfig config, String name) {
+        final String v = config.getInitParameter(name);
+        return v != null ? v : System.getProperty(name);
     }
 
     private static boolean isJetty(ServletConfig config) {
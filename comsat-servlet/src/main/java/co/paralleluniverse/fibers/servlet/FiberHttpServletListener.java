@@ -0,0 +1,58 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.fibers.servlet;
+
+/**
+ * Receives information about how a {@link FiberHttpServlet} dispatches requests to fibers.
+ * <p>
+ * The listener is called on container threads and on request fibers, concurrently, and must not block.
+ *
+ * @see FiberHttpServlet#setListener(FiberHttpServletListener)
+ * @see MetricsFiberHttpServletListener
+ */
+public interface FiberHttpServletListener {
+    /**
+     * Called on the container's thread when a request has been switched to asynchronous mode and is about to be
+     * dispatched to a fiber.
+     */
+    void requestAccepted();
+
+    /**
+     * Called on the container's thread when a request is rejected because the servlet is serving the maximum number of
+     * requests.
+     */
+    void requestRejected();
+
+    /**
+     * Called on the request's fiber when it is done serving the request.
+     *
+     * @param dispatchNanos The time, in nanoseconds, from the request's switch to asynchronous mode to its fiber
+     *                      starting to run.
+     * @param runNanos      The time, in nanoseconds, the fiber took to serve the request, suspensions included.
+     * @param suspensions   The number of times the fiber parked while serving the request.
+     * @param failed        Whether the servlet threw an exception.
+     */
+    void requestCompleted(long dispatchNanos, long runNanos, int suspensions, boolean failed);
+
+    /**
+     * Called on the container's thread, instead of {@link #requestCompleted(long, long, int, boolean) requestCompleted},
+     * when a request has been accepted but its fiber couldn't be started.
+     */
+    void requestFailedToStart();
+
+    /**
+     * Called by the container when a request's asynchronous context times out.
+     */
+    void asyncTimeout();
+}
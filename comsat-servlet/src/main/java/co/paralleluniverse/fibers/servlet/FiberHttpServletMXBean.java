@@ -0,0 +1,64 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.fibers.servlet;
+
+/**
+ * JMX view of a {@link FiberHttpServlet}'s request dispatching.
+ */
+public interface FiberHttpServletMXBean {
+    /**
+     * The number of requests dispatched to a fiber that hasn't finished serving them yet.
+     */
+    long getInFlightRequests();
+
+    long getCompletedRequests();
+
+    /**
+     * The number of requests the servlet threw an exception from, or whose fiber couldn't be started; the latter
+     * aren't counted as completed.
+     */
+    long getFailedRequests();
+
+    /**
+     * The number of requests rejected because the servlet was serving the maximum number of requests.
+     */
+    long getRejectedRequests();
+
+    long getAsyncTimeouts();
+
+    /**
+     * The average time, in microseconds, from a request's switch to asynchronous mode to its fiber starting to run.
+     */
+    double getMeanDispatchMicros();
+
+    /**
+     * The longest time, in microseconds, from a request's switch to asynchronous mode to its fiber starting to run.
+     */
+    long getMaxDispatchMicros();
+
+    /**
+     * The average time, in microseconds, a fiber took to serve a request.
+     */
+    double getMeanRunMicros();
+
+    /**
+     * The average number of times a fiber parked while serving a request.
+     */
+    double getMeanSuspensions();
+
+    /**
+     * Starts counting all the statistics, other than the number of in-flight requests, afresh.
+     */
+    void resetStatistics();
+}
@@ -0,0 +1,165 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.fibers.servlet;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.MBeanRegistrationException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.NotCompliantMBeanException;
+import javax.management.ObjectName;
+
+/**
+ * Keeps a {@link FiberHttpServlet}'s dispatch statistics, registered as a {@link FiberHttpServletMXBean} under the name
+ * {@code co.paralleluniverse:type=FiberHttpServlet,name=<servlet name>} until {@link #unregister()} is called.
+ */
+final class FiberHttpServletMonitor implements FiberHttpServletListener, FiberHttpServletMXBean {
+    private final AtomicLong inFlight = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong asyncTimeouts = new AtomicLong();
+    private final AtomicLong totalDispatchNanos = new AtomicLong();
+    private final AtomicLong maxDispatchNanos = new AtomicLong();
+    private final AtomicLong totalRunNanos = new AtomicLong();
+    private final AtomicLong totalSuspensions = new AtomicLong();
+    private final ObjectName mbeanName;
+
+    FiberHttpServletMonitor(String servletName) {
+        this.mbeanName = registerMBean(servletName);
+    }
+
+    private ObjectName registerMBean(String servletName) {
+        try {
+            final ObjectName on = new ObjectName("co.paralleluniverse:type=FiberHttpServlet,name=" + ObjectName.quote(servletName));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, on);
+            return on;
+        } catch (final InstanceAlreadyExistsException e) {
+            throw new IllegalArgumentException("A FiberHttpServlet named " + servletName + " is already monitored", e);
+        } catch (MalformedObjectNameException | MBeanRegistrationException | NotCompliantMBeanException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    void unregister() {
+        if (mbeanName == null)
+            return;
+        final MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+        try {
+            if (mbs.isRegistered(mbeanName))
+                mbs.unregisterMBean(mbeanName);
+        } catch (InstanceNotFoundException | MBeanRegistrationException e) {
+        }
+    }
+
+    @Override
+    public void requestAccepted() {
+        inFlight.incrementAndGet();
+    }
+
+    @Override
+    public void requestRejected() {
+        rejected.incrementAndGet();
+    }
+
+    @Override
+    public void requestCompleted(long dispatchNanos, long runNanos, int suspensions, boolean failed) {
+        inFlight.decrementAndGet();
+        completed.incrementAndGet();
+        if (failed)
+            this.failed.incrementAndGet();
+        totalDispatchNanos.addAndGet(dispatchNanos);
+        long max;
+        while (dispatchNanos > (max = maxDispatchNanos.get()) && !maxDispatchNanos.compareAndSet(max, dispatchNanos));
+        totalRunNanos.addAndGet(runNanos);
+        totalSuspensions.addAndGet(suspensions);
+    }
+
+    @Override
+    public void requestFailedToStart() {
+        inFlight.decrementAndGet();
+        failed.incrementAndGet();
+    }
+
+    @Override
+    public void asyncTimeout() {
+        asyncTimeouts.incrementAndGet();
+    }
+
+    ////////////// Statistics
+    @Override
+    public long getInFlightRequests() {
+        return Math.max(0, inFlight.get());
+    }
+
+    @Override
+    public long getCompletedRequests() {
+        return completed.get();
+    }
+
+    @Override
+    public long getFailedRequests() {
+        return failed.get();
+    }
+
+    @Override
+    public long getRejectedRequests() {
+        return rejected.get();
+    }
+
+    @Override
+    public long getAsyncTimeouts() {
+        return asyncTimeouts.get();
+    }
+
+    @Override
+    public double getMeanDispatchMicros() {
+        final long n = completed.get();
+        return n > 0 ? (double) TimeUnit.NANOSECONDS.toMicros(totalDispatchNanos.get()) / n : 0;
+    }
+
+    @Override
+    public long getMaxDispatchMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxDispatchNanos.get());
+    }
+
+    @Override
+    public double getMeanRunMicros() {
+        final long n = completed.get();
+        return n > 0 ? (double) TimeUnit.NANOSECONDS.toMicros(totalRunNanos.get()) / n : 0;
+    }
+
+    @Override
+    public double getMeanSuspensions() {
+        final long n = completed.get();
+        return n > 0 ? (double) totalSuspensions.get() / n : 0;
+    }
+
+    @Override
+    public void resetStatistics() {
+        // In-flight requests are counted apart, so they are left alone
+        completed.set(0);
+        failed.set(0);
+        rejected.set(0);
+        asyncTimeouts.set(0);
+        totalDispatchNanos.set(0);
+        maxDispatchNanos.set(0);
+        totalRunNanos.set(0);
+        totalSuspensions.set(0);
+    }
+}
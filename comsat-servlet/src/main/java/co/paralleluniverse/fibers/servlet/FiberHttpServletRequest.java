@@ -61,26 +61,36 @@ public class FiberHttpServletRequest extends FiberServletRequest implements Http
 
     @Override
     public long getDateHeader(String name) {
+        if (snapshot != null)
+            return snapshot.getDateHeader(name);
         return getReq().getDateHeader(name);
     }
 
     @Override
     public String getHeader(String name) {
+        if (snapshot != null)
+            return snapshot.getHeader(name);
         return getReq().getHeader(name);
     }
 
     @Override
     public Enumeration<String> getHeaders(String name) {
+        if (snapshot != null)
+            return snapshot.getHeaders(name);
         return getReq().getHeaders(name);
     }
 
     @Override
     public Enumeration<String> getHeaderNames() {
+        if (snapshot != null)
+            return snapshot.getHeaderNames();
         return getReq().getHeaderNames();
     }
 
     @Override
     public int getIntHeader(String name) {
+        if (snapshot != null)
+            return snapshot.getIntHeader(name);
         return getReq().getIntHeader(name);
     }
 
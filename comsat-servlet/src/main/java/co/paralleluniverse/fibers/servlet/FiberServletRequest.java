@@ -29,6 +29,9 @@ public class FiberServletRequest implements ServletRequest {
     private final ServletRequest req;
     private final ServletContext servletContext;
     private final FiberHttpServlet servlet;
+    private ServletInputStream in;
+    private BufferedReader reader;
+    final RequestSnapshot snapshot;
 
     public FiberServletRequest(FiberHttpServlet servlet, ServletRequest req) {
         this.servlet = servlet;
@@ -37,6 +40,7 @@ public class FiberServletRequest implements ServletRequest {
         // when the service method returns. If we want to access them in an async context (in
         // the fiber), we need to capture them.
         servletContext = req.getServletContext();
+        snapshot = servlet.snapshotRequest ? new RequestSnapshot(req, servlet.snapshotAttributes) : null;
     }
 
     @Override
@@ -54,6 +58,8 @@ public class FiberServletRequest implements ServletRequest {
     // Delegations
     @Override
     public Object getAttribute(String name) {
+        if (snapshot != null && snapshot.hasAttribute(name))
+            return snapshot.getAttribute(name);
         return req.getAttribute(name);
     }
 
@@ -84,26 +90,44 @@ public class FiberServletRequest implements ServletRequest {
 
     @Override
     public ServletInputStream getInputStream() throws IOException {
-        return req.getInputStream();
+        if (!servlet.nonBlockingIO)
+            return req.getInputStream();
+        if (reader != null)
+            throw new IllegalStateException("getReader() has already been called");
+        return input();
+    }
+
+    private ServletInputStream input() throws IOException {
+        if (in == null)
+            in = NonBlockingIO.newInput(req.getInputStream());
+        return in;
     }
 
     @Override
     public String getParameter(String name) {
+        if (snapshot != null && snapshot.hasParameters())
+            return snapshot.getParameter(name);
         return req.getParameter(name);
     }
 
     @Override
     public Enumeration<String> getParameterNames() {
+        if (snapshot != null && snapshot.hasParameters())
+            return snapshot.getParameterNames();
         return req.getParameterNames();
     }
 
     @Override
     public String[] getParameterValues(String name) {
+        if (snapshot != null && snapshot.hasParameters())
+            return snapshot.getParameterValues(name);
         return req.getParameterValues(name);
     }
 
     @Override
     public Map<String, String[]> getParameterMap() {
+        if (snapshot != null && snapshot.hasParameters())
+            return snapshot.getParameterMap();
         return req.getParameterMap();
     }
 
@@ -129,7 +153,14 @@ public class FiberServletRequest implements ServletRequest {
 
     @Override
     public BufferedReader getReader() throws IOException {
-        return req.getReader();
+        if (!servlet.nonBlockingIO)
+            return req.getReader();
+        if (reader == null) {
+            if (in != null)
+                throw new IllegalStateException("getInputStream() has already been called");
+            reader = new NonBlockingIO.Reader(input(), req.getCharacterEncoding());
+        }
+        return reader;
     }
 
     @Override
@@ -145,11 +176,15 @@ public class FiberServletRequest implements ServletRequest {
     @Override
     public void setAttribute(String name, Object o) {
         req.setAttribute(name, o);
+        if (snapshot != null)
+            snapshot.setAttribute(name, o);
     }
 
     @Override
     public void removeAttribute(String name) {
         req.removeAttribute(name);
+        if (snapshot != null)
+            snapshot.setAttribute(name, null);
     }
 
     @Override
@@ -0,0 +1,91 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.fibers.servlet;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link FiberHttpServletListener} that records Dropwizard Metrics.
+ * <p>
+ * It records the timers {@code <prefix>.dispatch}, the time from a request's switch to asynchronous mode to its fiber
+ * starting to run, and {@code <prefix>.run}, the time the fiber took to serve it; the histogram
+ * {@code <prefix>.suspensions}, the number of times the fiber parked while serving it; the counter
+ * {@code <prefix>.inFlight}; and the meters {@code <prefix>.failures}, {@code <prefix>.rejected} and
+ * {@code <prefix>.asyncTimeouts}. To tell several servlets apart, give each one its own prefix.
+ * <p>
+ * Requires {@code io.dropwizard.metrics:metrics-core} on the classpath.
+ */
+public class MetricsFiberHttpServletListener implements FiberHttpServletListener {
+    private final Timer dispatch;
+    private final Timer run;
+    private final Histogram suspensions;
+    private final Counter inFlight;
+    private final Meter failures;
+    private final Meter rejected;
+    private final Meter asyncTimeouts;
+
+    /**
+     * @param registry The registry to record the metrics in.
+     * @param prefix   The prefix of the metrics' names.
+     */
+    public MetricsFiberHttpServletListener(final MetricRegistry registry, final String prefix) {
+        this.dispatch = registry.timer(MetricRegistry.name(prefix, "dispatch"));
+        this.run = registry.timer(MetricRegistry.name(prefix, "run"));
+        this.suspensions = registry.histogram(MetricRegistry.name(prefix, "suspensions"));
+        this.inFlight = registry.counter(MetricRegistry.name(prefix, "inFlight"));
+        this.failures = registry.meter(MetricRegistry.name(prefix, "failures"));
+        this.rejected = registry.meter(MetricRegistry.name(prefix, "rejected"));
+        this.asyncTimeouts = registry.meter(MetricRegistry.name(prefix, "asyncTimeouts"));
+    }
+
+    public MetricsFiberHttpServletListener(final MetricRegistry registry) {
+        this(registry, "comsat.servlet");
+    }
+
+    @Override
+    public void requestAccepted() {
+        inFlight.inc();
+    }
+
+    @Override
+    public void requestRejected() {
+        rejected.mark();
+    }
+
+    @Override
+    public void requestCompleted(final long dispatchNanos, final long runNanos, final int suspensions, final boolean failed) {
+        inFlight.dec();
+        dispatch.update(dispatchNanos, TimeUnit.NANOSECONDS);
+        run.update(runNanos, TimeUnit.NANOSECONDS);
+        this.suspensions.update(suspensions);
+        if (failed)
+            failures.mark();
+    }
+
+    @Override
+    public void requestFailedToStart() {
+        inFlight.dec();
+        failures.mark();
+    }
+
+    @Override
+    public void asyncTimeout() {
+        asyncTimeouts.mark();
+    }
+}
@@ -0,0 +1,908 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.fibers.servlet;
+
+import co.paralleluniverse.fibers.SuspendExecution;
+import co.paralleluniverse.fibers.Suspendable;
+import co.paralleluniverse.strands.Strand;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.Locale;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Fiber-blocking request and response streams built on Servlet 3.1 non-blocking I/O: instead of blocking its thread,
+ * a fiber waiting for a slow client is parked until the container's {@code ReadListener} or {@code WriteListener}
+ * callback tells it that the stream is ready.
+ * <p>
+ * Comsat is built against the Servlet 3.0 API, so the 3.1 methods and listener interfaces are looked up reflectively,
+ * and the streams are instantiated as the subclasses in {@code NonBlockingIO31}, which override the 3.1 methods and are
+ * compiled apart against the 3.1 API; {@link #isSupported()} is {@code false} in 3.0 containers.
+ * <p>
+ * Readers and writers created by the JDK on top of the streams can't park a fiber, so {@link Reader} and
+ * {@link Writer} do their own decoding and encoding.
+ */
+final class NonBlockingIO {
+    private static final Class<?> readListener;
+    private static final Class<?> writeListener;
+    private static final Method setReadListener;
+    private static final Method inputIsReady;
+    private static final Method inputIsFinished;
+    private static final Method setWriteListener;
+    private static final Method outputIsReady;
+    private static final Constructor<? extends Input> newInput;
+    private static final Constructor<? extends Output> newOutput;
+
+    static {
+        Class<?> rl = null, wl = null;
+        Method srl = null, iir = null, iif = null, swl = null, oir = null;
+        Constructor<? extends Input> ni = null;
+        Constructor<? extends Output> no = null;
+        try {
+            final ClassLoader cl = ServletInputStream.class.getClassLoader();
+            rl = Class.forName("javax.servlet.ReadListener", false, cl);
+            wl = Class.forName("javax.servlet.WriteListener", false, cl);
+            srl = ServletInputStream.class.getMethod("setReadListener", rl);
+            iir = ServletInputStream.class.getMethod("isReady");
+            iif = ServletInputStream.class.getMethod("isFinished");
+            swl = ServletOutputStream.class.getMethod("setWriteListener", wl);
+            oir = ServletOutputStream.class.getMethod("isReady");
+            final String impl = NonBlockingIO.class.getName() + "31";
+            ni = Class.forName(impl + "$Input", false, NonBlockingIO.class.getClassLoader()).asSubclass(Input.class)
+                .getDeclaredConstructor(ServletInputStream.class);
+            no = Class.forName(impl + "$Output", false, NonBlockingIO.class.getClassLoader()).asSubclass(Output.class)
+                .getDeclaredConstructor(ServletOutputStream.class, String.class);
+        } catch (final ClassNotFoundException | NoSuchMethodException | LinkageError e) {
+            rl = null;
+        }
+        readListener = rl;
+        writeListener = wl;
+        setReadListener = srl;
+        inputIsReady = iir;
+        inputIsFinished = iif;
+        setWriteListener = swl;
+        outputIsReady = oir;
+        newInput = ni;
+        newOutput = no;
+    }
+
+    /**
+     * Whether the servlet container supports non-blocking I/O.
+     */
+    static boolean isSupported() {
+        return readListener != null;
+    }
+
+    private NonBlockingIO() {
+    }
+
+    static Input newInput(ServletInputStream in) throws IOException {
+        return newInstance(newInput, in);
+    }
+
+    static Output newOutput(ServletOutputStream out, String characterEncoding) throws IOException {
+        return newInstance(newOutput, out, characterEncoding);
+    }
+
+    private static <T> T newInstance(Constructor<T> c, Object... args) throws IOException {
+        try {
+            return c.newInstance(args);
+        } catch (final InvocationTargetException e) {
+            final Throwable t = e.getCause();
+            if (t instanceof IOException)
+                throw (IOException) t;
+            if (t instanceof RuntimeException)
+                throw (RuntimeException) t;
+            if (t instanceof Error)
+                throw (Error) t;
+            throw new IOException(t);
+        } catch (final InstantiationException | IllegalAccessException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static Charset charset(String characterEncoding) {
+        return Charset.forName(characterEncoding != null ? characterEncoding : "ISO-8859-1");
+    }
+
+    private static boolean invokeUnchecked(Method m, Object target) {
+        try {
+            return (Boolean) invoke(m, target);
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Object invoke(Method m, Object target, Object... args) throws IOException {
+        try {
+            return m.invoke(target, args);
+        } catch (final InvocationTargetException e) {
+            final Throwable t = e.getCause();
+            if (t instanceof IOException)
+                throw (IOException) t;
+            if (t instanceof RuntimeException)
+                throw (RuntimeException) t;
+            if (t instanceof Error)
+                throw (Error) t;
+            throw new IOException(t);
+        } catch (final IllegalAccessException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Receives the container's readiness callbacks and wakes up the strand waiting for them.
+     */
+    static final class Readiness implements InvocationHandler {
+        private volatile Strand waiter;
+        private volatile Throwable error;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Readiness@" + Integer.toHexString(System.identityHashCode(proxy));
+                case "onError":
+                    error = (Throwable) args[0];
+                    break;
+                default: // onDataAvailable, onAllDataRead, onWritePossible
+                    break;
+            }
+            final Strand s = waiter;
+            if (s != null)
+                Strand.unpark(s);
+            return null;
+        }
+
+        Object listener(Class<?> type) {
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, this);
+        }
+
+        void checkError() throws IOException {
+            final Throwable t = error;
+            if (t != null)
+                throw t instanceof IOException ? (IOException) t : new IOException(t);
+        }
+
+        /**
+         * Waits until the stream is ready.
+         *
+         * @param isReady    The stream's {@code isReady} method.
+         * @param isFinished The stream's {@code isFinished} method, or {@code null} if it has none.
+         * @return {@code false} if the stream is finished.
+         */
+        @Suspendable
+        boolean awaitReady(Object stream, Method isReady, Method isFinished) throws IOException {
+            // The waiter is published before the stream is checked, so that a callback arriving between a check that
+            // fails and parking unparks the strand, and park's permit semantics make it return immediately
+            waiter = Strand.currentStrand();
+            try {
+                for (;;) {
+                    checkError();
+                    if (isFinished != null && (Boolean) NonBlockingIO.invoke(isFinished, stream))
+                        return false;
+                    if ((Boolean) NonBlockingIO.invoke(isReady, stream))
+                        return true;
+                    try {
+                        Strand.park(this);
+                    } catch (final SuspendExecution e) {
+                        throw new AssertionError();
+                    }
+                    if (Strand.interrupted())
+                        throw new java.io.InterruptedIOException();
+                }
+            } finally {
+                waiter = null;
+            }
+        }
+    }
+
+    /**
+     * Extended by {@code NonBlockingIO31.Input}, which adds {@code setReadListener}.
+     */
+    abstract static class Input extends ServletInputStream {
+        final ServletInputStream in;
+        private final Readiness readiness = new Readiness();
+
+        Input(ServletInputStream in) throws IOException {
+            this.in = in;
+            invoke(setReadListener, in, readiness.listener(readListener));
+        }
+
+        public boolean isReady() {
+            return invokeUnchecked(inputIsReady, in);
+        }
+
+        public boolean isFinished() {
+            return invokeUnchecked(inputIsFinished, in);
+        }
+
+        /**
+         * @return {@code false} if the stream is finished.
+         */
+        @Suspendable
+        private boolean awaitReady() throws IOException {
+            return readiness.awaitReady(in, inputIsReady, inputIsFinished);
+        }
+
+        @Override
+        @Suspendable
+        public int read() throws IOException {
+            return awaitReady() ? in.read() : -1;
+        }
+
+        @Override
+        @Suspendable
+        public int read(byte[] b) throws IOException {
+            return read(b, 0, b.length);
+        }
+
+        @Override
+        @Suspendable
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0)
+                return 0;
+            return awaitReady() ? in.read(b, off, len) : -1;
+        }
+
+        @Override
+        @Suspendable
+        public int readLine(byte[] b, int off, int len) throws IOException {
+            if (len <= 0)
+                return 0;
+            int count = 0, c;
+            while ((c = read()) != -1) {
+                b[off++] = (byte) c;
+                count++;
+                if (c == '\n' || count == len)
+                    break;
+            }
+            return count > 0 ? count : -1;
+        }
+
+        @Override
+        @Suspendable
+        public long skip(long n) throws IOException {
+            final byte[] buf = new byte[(int) Math.min(n, 8192)];
+            long skipped = 0;
+            while (skipped < n) {
+                final int r = read(buf, 0, (int) Math.min(n - skipped, buf.length));
+                if (r < 0)
+                    break;
+                skipped += r;
+            }
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return in.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    /**
+     * Extended by {@code NonBlockingIO31.Output}, which adds {@code setWriteListener}.
+     */
+    abstract static class Output extends ServletOutputStream {
+        final ServletOutputStream out;
+        private final Charset charset;
+        private final Readiness readiness = new Readiness();
+
+        Output(ServletOutputStream out, String characterEncoding) throws IOException {
+            this.out = out;
+            this.charset = charset(characterEncoding);
+            invoke(setWriteListener, out, readiness.listener(writeListener));
+        }
+
+        public boolean isReady() {
+            return invokeUnchecked(outputIsReady, out);
+        }
+
+        @Suspendable
+        private void awaitReady() throws IOException {
+            readiness.awaitReady(out, outputIsReady, null);
+        }
+
+        @Override
+        @Suspendable
+        public void write(int b) throws IOException {
+            awaitReady();
+            out.write(b);
+        }
+
+        @Override
+        @Suspendable
+        public void write(byte[] b) throws IOException {
+            write(b, 0, b.length);
+        }
+
+        @Override
+        @Suspendable
+        public void write(byte[] b, int off, int len) throws IOException {
+            awaitReady();
+            out.write(b, off, len);
+        }
+
+        @Override
+        @Suspendable
+        public void flush() throws IOException {
+            awaitReady();
+            out.flush();
+        }
+
+        @Override
+        @Suspendable
+        public void close() throws IOException {
+            awaitReady();
+            out.close();
+        }
+
+        // ServletOutputStream's print methods aren't instrumented, so they must not reach write()
+
+        @Override
+        @Suspendable
+        public void print(String s) throws IOException {
+            write((s != null ? s : "null").getBytes(charset));
+        }
+
+        @Override
+        @Suspendable
+        public void print(boolean b) throws IOException {
+            print(String.valueOf(b));
+        }
+
+        @Override
+        @Suspendable
+        public void print(char c) throws IOException {
+            print(String.valueOf(c));
+        }
+
+        @Override
+        @Suspendable
+        public void print(int i) throws IOException {
+            print(String.valueOf(i));
+        }
+
+        @Override
+        @Suspendable
+        public void print(long l) throws IOException {
+            print(String.valueOf(l));
+        }
+
+        @Override
+        @Suspendable
+        public void print(float f) throws IOException {
+            print(String.valueOf(f));
+        }
+
+        @Override
+        @Suspendable
+        public void print(double d) throws IOException {
+            print(String.valueOf(d));
+        }
+
+        @Override
+        @Suspendable
+        public void println() throws IOException {
+            print("\r\n");
+        }
+
+        @Override
+        @Suspendable
+        public void println(String s) throws IOException {
+            print(s + "\r\n");
+        }
+
+        @Override
+        @Suspendable
+        public void println(boolean b) throws IOException {
+            println(String.valueOf(b));
+        }
+
+        @Override
+        @Suspendable
+        public void println(char c) throws IOException {
+            println(String.valueOf(c));
+        }
+
+        @Override
+        @Suspendable
+        public void println(int i) throws IOException {
+            println(String.valueOf(i));
+        }
+
+        @Override
+        @Suspendable
+        public void println(long l) throws IOException {
+            println(String.valueOf(l));
+        }
+
+        @Override
+        @Suspendable
+        public void println(float f) throws IOException {
+            println(String.valueOf(f));
+        }
+
+        @Override
+        @Suspendable
+        public void println(double d) throws IOException {
+            println(String.valueOf(d));
+        }
+    }
+
+    /**
+     * A writer over a non-blocking {@link Output}, which encodes the characters itself; like {@link PrintWriter}, it
+     * never throws {@link IOException}, but records the failure for {@link #checkError()}.
+     */
+    static final class Writer extends PrintWriter {
+        private final ServletOutputStream out;
+        private final Charset charset;
+        private final String lineSeparator = System.getProperty("line.separator");
+        private boolean error;
+
+        Writer(ServletOutputStream out, String characterEncoding) {
+            super(out); // Unused, as all methods are overridden
+            this.out = out;
+            this.charset = charset(characterEncoding);
+        }
+
+        @Override
+        @Suspendable
+        public void write(String s) {
+            try {
+                out.write(s.getBytes(charset));
+            } catch (final InterruptedIOException e) {
+                Strand.currentStrand().interrupt();
+            } catch (final IOException e) {
+                error = true;
+            }
+        }
+
+        @Override
+        @Suspendable
+        public void write(int c) {
+            write(String.valueOf((char) c));
+        }
+
+        @Override
+        @Suspendable
+        public void write(char[] buf, int off, int len) {
+            write(new String(buf, off, len));
+        }
+
+        @Override
+        @Suspendable
+        public void write(char[] buf) {
+            write(buf, 0, buf.length);
+        }
+
+        @Override
+        @Suspendable
+        public void write(String s, int off, int len) {
+            write(s.substring(off, off + len));
+        }
+
+        @Override
+        @Suspendable
+        public void flush() {
+            try {
+                out.flush();
+            } catch (final IOException e) {
+                error = true;
+            }
+        }
+
+        @Override
+        @Suspendable
+        public void close() {
+            try {
+                out.close();
+            } catch (final IOException e) {
+                error = true;
+            }
+        }
+
+        @Override
+        @Suspendable
+        public boolean checkError() {
+            flush();
+            return error;
+        }
+
+        @Override
+        protected void setError() {
+            error = true;
+        }
+
+        @Override
+        protected void clearError() {
+            error = false;
+        }
+
+        // PrintWriter's print methods aren't instrumented, so they must not reach write()
+
+        @Override
+        @Suspendable
+        public void print(String s) {
+            write(s != null ? s : "null");
+        }
+
+        @Override
+        @Suspendable
+        public void print(boolean b) {
+            write(String.valueOf(b));
+        }
+
+        @Override
+        @Suspendable
+        public void print(char c) {
+            write(String.valueOf(c));
+        }
+
+        @Override
+        @Suspendable
+        public void print(int i) {
+            write(String.valueOf(i));
+        }
+
+        @Override
+        @Suspendable
+        public void print(long l) {
+            write(String.valueOf(l));
+        }
+
+        @Override
+        @Suspendable
+        public void print(float f) {
+            write(String.valueOf(f));
+        }
+
+        @Override
+        @Suspendable
+        public void print(double d) {
+            write(String.valueOf(d));
+        }
+
+        @Override
+        @Suspendable
+        public void print(char[] s) {
+            write(s);
+        }
+
+        @Override
+        @Suspendable
+        public void print(Object obj) {
+            write(String.valueOf(obj));
+        }
+
+        @Override
+        @Suspendable
+        public void println() {
+            write(lineSeparator);
+        }
+
+        @Override
+        @Suspendable
+        public void println(String s) {
+            write((s != null ? s : "null") + lineSeparator);
+        }
+
+        @Override
+        @Suspendable
+        public void println(boolean b) {
+            println(String.valueOf(b));
+        }
+
+        @Override
+        @Suspendable
+        public void println(char c) {
+            println(String.valueOf(c));
+        }
+
+        @Override
+        @Suspendable
+        public void println(int i) {
+            println(String.valueOf(i));
+        }
+
+        @Override
+        @Suspendable
+        public void println(long l) {
+            println(String.valueOf(l));
+        }
+
+        @Override
+        @Suspendable
+        public void println(float f) {
+            println(String.valueOf(f));
+        }
+
+        @Override
+        @Suspendable
+        public void println(double d) {
+            println(String.valueOf(d));
+        }
+
+        @Override
+        @Suspendable
+        public void println(char[] s) {
+            println(new String(s));
+        }
+
+        @Override
+        @Suspendable
+        public void println(Object obj) {
+            println(String.valueOf(obj));
+        }
+
+        @Override
+        @Suspendable
+        public PrintWriter printf(String format, Object... args) {
+            return format(format, args);
+        }
+
+        @Override
+        @Suspendable
+        public PrintWriter printf(Locale l, String format, Object... args) {
+            return format(l, format, args);
+        }
+
+        @Override
+        @Suspendable
+        public PrintWriter format(String format, Object... args) {
+            write(String.format(format, args));
+            return this;
+        }
+
+        @Override
+        @Suspendable
+        public PrintWriter format(Locale l, String format, Object... args) {
+            write(String.format(l, format, args));
+            return this;
+        }
+
+        @Override
+        @Suspendable
+        public PrintWriter append(CharSequence csq) {
+            write(String.valueOf(csq));
+            return this;
+        }
+
+        @Override
+        @Suspendable
+        public PrintWriter append(CharSequence csq, int start, int end) {
+            write((csq != null ? csq : "null").subSequence(start, end).toString());
+            return this;
+        }
+
+        @Override
+        @Suspendable
+        public PrintWriter append(char c) {
+            write(String.valueOf(c));
+            return this;
+        }
+    }
+
+    /**
+     * A reader over a non-blocking {@link Input}, which decodes the bytes itself. It doesn't support marks.
+     */
+    static final class Reader extends BufferedReader {
+        private final ServletInputStream in;
+        private final CharsetDecoder decoder;
+        private final ByteBuffer bytes = ByteBuffer.allocate(8192);
+        private final CharBuffer chars = CharBuffer.allocate(8192);
+        private boolean eof, flushing, done;
+        private boolean skipLF; // The last line ended with a '\r'
+
+        Reader(ServletInputStream in, String characterEncoding) {
+            super(new StringReader("")); // Unused, as all methods are overridden
+            this.in = in;
+            this.decoder = charset(characterEncoding).newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            bytes.flip();
+            chars.flip();
+        }
+
+        /**
+         * @return {@code false} at the end of the stream.
+         */
+        @Suspendable
+        private boolean fill() throws IOException {
+            for (;;) {
+                while (!chars.hasRemaining()) {
+                    if (done)
+                        return false;
+                    if (!eof) {
+                        bytes.compact();
+                        final int n = in.read(bytes.array(), bytes.position(), bytes.remaining());
+                        if (n < 0)
+                            eof = true;
+                        else
+                            bytes.position(bytes.position() + n);
+                        bytes.flip();
+                    }
+                    chars.clear();
+                    if (!eof)
+                        decoder.decode(bytes, chars, false);
+                    else {
+                        if (!flushing && decoder.decode(bytes, chars, true).isUnderflow())
+                            flushing = true;
+                        if (flushing && decoder.flush(chars).isUnderflow())
+                            done = true;
+                    }
+                    chars.flip();
+                }
+                if (skipLF) {
+                    skipLF = false;
+                    if (chars.get(chars.position()) == '\n') {
+                        chars.get();
+                        continue;
+                    }
+                }
+                return true;
+            }
+        }
+
+        @Override
+        @Suspendable
+        public int read() throws IOException {
+            return fill() ? chars.get() : -1;
+        }
+
+        @Override
+        @Suspendable
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            if (len == 0)
+                return 0;
+            if (!fill())
+                return -1;
+            final int n = Math.min(len, chars.remaining());
+            chars.get(cbuf, off, n);
+            return n;
+        }
+
+        @Override
+        @Suspendable
+        public int read(char[] cbuf) throws IOException {
+            return read(cbuf, 0, cbuf.length);
+        }
+
+        @Override
+        @Suspendable
+        public int read(CharBuffer target) throws IOException {
+            final char[] cbuf = new char[target.remaining()];
+            final int n = read(cbuf, 0, cbuf.length);
+            if (n > 0)
+                target.put(cbuf, 0, n);
+            return n;
+        }
+
+        @Override
+        @Suspendable
+        public String readLine() throws IOException {
+            final StringBuilder line = new StringBuilder();
+            for (;;) {
+                if (!fill())
+                    return line.length() > 0 ? line.toString() : null;
+                final char c = chars.get();
+                if (c == '\n')
+                    return line.toString();
+                if (c == '\r') {
+                    skipLF = true;
+                    return line.toString();
+                }
+                line.append(c);
+            }
+        }
+
+        @Override
+        @Suspendable
+        public long skip(long n) throws IOException {
+            long skipped = 0;
+            while (skipped < n && fill()) {
+                final int k = (int) Math.min(n - skipped, chars.remaining());
+                chars.position(chars.position() + k);
+                skipped += k;
+            }
+            return skipped;
+        }
+
+        @Override
+        public boolean ready() {
+            return chars.hasRemaining();
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void mark(int readAheadLimit) throws IOException {
+            throw new IOException("mark() not supported");
+        }
+
+        @Override
+        public void reset() throws IOException {
+            throw new IOException("reset() not supported");
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    /**
+     * Hands out a non-blocking {@link Output}, or a {@link Writer} over it, instead of the container's output stream
+     * or writer.
+     */
+    static final class Response extends HttpServletResponseWrapper {
+        private ServletOutputStream out;
+        private PrintWriter writer;
+
+        Response(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (writer != null)
+                throw new IllegalStateException("getWriter() has already been called");
+            return output();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                if (out != null)
+                    throw new IllegalStateException("getOutputStream() has already been called");
+                writer = new Writer(output(), getCharacterEncoding());
+            }
+            return writer;
+        }
+
+        private ServletOutputStream output() throws IOException {
+            if (out == null)
+                out = newOutput(super.getOutputStream(), getCharacterEncoding());
+            return out;
+        }
+    }
+}
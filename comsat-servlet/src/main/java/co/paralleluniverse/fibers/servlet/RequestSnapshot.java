@@ -0,0 +1,206 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.fibers.servlet;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+import javax.servlet.ServletRequest;
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * A copy of a request's headers, parameters and selected attributes, taken on the container's thread before the
+ * request's fiber is started, so that the fiber can read them without going through the container's (possibly
+ * synchronized, possibly thread-confined) request object.
+ * <p>
+ * The parameters of form submissions are not copied: reading them would consume the request's body before the servlet
+ * gets to read it or to set its character encoding, so they are read from the request when the servlet asks for them.
+ */
+final class RequestSnapshot {
+    private static final String[] NO_VALUES = new String[0];
+    private static final String[] DATE_FORMATS = {
+        "EEE, dd MMM yyyy HH:mm:ss zzz", // RFC 1123
+        "EEEE, dd-MMM-yy HH:mm:ss zzz", // RFC 1036
+        "EEE MMM d HH:mm:ss yyyy" // ANSI C asctime()
+    };
+
+    private final Map<String, String[]> headers; // By lower-case name
+    private final List<String> headerNames;
+    private final Map<String, String[]> parameters; // null if read from the request
+    private final Set<String> attributeNames; // null means all
+    private final Map<String, Object> attributes;
+
+    /**
+     * @param attributeNames The attributes to capture, or {@code null} for all of them; attributes later set through
+     *                       the snapshot are captured as well.
+     */
+    RequestSnapshot(ServletRequest req, Set<String> attributeNames) {
+        if (req instanceof HttpServletRequest) {
+            final HttpServletRequest hreq = (HttpServletRequest) req;
+            final Map<String, String[]> hs = new HashMap<>();
+            final List<String> names = new ArrayList<>();
+            final Enumeration<String> ns = hreq.getHeaderNames();
+            while (ns != null && ns.hasMoreElements()) {
+                final String n = ns.nextElement();
+                final String k = n.toLowerCase(Locale.ENGLISH);
+                final String[] vs = toArray(hreq.getHeaders(n));
+                final String[] prev = hs.get(k);
+                if (prev == null) {
+                    hs.put(k, vs);
+                    names.add(n);
+                } else { // Same header, differently cased name
+                    final String[] all = Arrays.copyOf(prev, prev.length + vs.length);
+                    System.arraycopy(vs, 0, all, prev.length, vs.length);
+                    hs.put(k, all);
+                }
+            }
+            this.headers = hs;
+            this.headerNames = Collections.unmodifiableList(names);
+        } else {
+            this.headers = Collections.emptyMap();
+            this.headerNames = Collections.emptyList();
+        }
+
+        this.parameters = isForm(req.getContentType()) ? null
+            : Collections.unmodifiableMap(new LinkedHashMap<>(req.getParameterMap()));
+
+        this.attributeNames = attributeNames;
+        this.attributes = new HashMap<>();
+        if (attributeNames == null) {
+            final Enumeration<String> ns = req.getAttributeNames();
+            while (ns != null && ns.hasMoreElements()) {
+                final String n = ns.nextElement();
+                attributes.put(n, req.getAttribute(n));
+            }
+        } else {
+            for (final String n : attributeNames) {
+                final Object v = req.getAttribute(n);
+                if (v != null)
+                    attributes.put(n, v);
+            }
+        }
+    }
+
+    /**
+     * Whether the container takes parameters from the request's body, i.e. whether it has a form's content type.
+     */
+    private static boolean isForm(String contentType) {
+        if (contentType == null)
+            return false;
+        final String t = contentType.trim().toLowerCase(Locale.ENGLISH);
+        return t.startsWith("application/x-www-form-urlencoded") || t.startsWith("multipart/form-data");
+    }
+
+    private static String[] toArray(Enumeration<String> e) {
+        if (e == null || !e.hasMoreElements())
+            return NO_VALUES;
+        final String first = e.nextElement();
+        if (!e.hasMoreElements())
+            return new String[]{first};
+        final List<String> l = new ArrayList<>(4);
+        l.add(first);
+        while (e.hasMoreElements())
+            l.add(e.nextElement());
+        return l.toArray(new String[l.size()]);
+    }
+
+    String getHeader(String name) {
+        final String[] vs = headers.get(name.toLowerCase(Locale.ENGLISH));
+        return vs != null && vs.length > 0 ? vs[0] : null;
+    }
+
+    Enumeration<String> getHeaders(String name) {
+        final String[] vs = headers.get(name.toLowerCase(Locale.ENGLISH));
+        return Collections.enumeration(vs != null ? Arrays.asList(vs) : Collections.<String>emptyList());
+    }
+
+    Enumeration<String> getHeaderNames() {
+        return Collections.enumeration(headerNames);
+    }
+
+    int getIntHeader(String name) {
+        final String v = getHeader(name);
+        return v != null ? Integer.parseInt(v.trim()) : -1;
+    }
+
+    long getDateHeader(String name) {
+        final String v = getHeader(name);
+        if (v == null)
+            return -1L;
+        for (final String f : DATE_FORMATS) {
+            final SimpleDateFormat df = new SimpleDateFormat(f, Locale.US);
+            df.setTimeZone(TimeZone.getTimeZone("GMT"));
+            try {
+                return df.parse(v.trim()).getTime();
+            } catch (final ParseException ignored) {
+            }
+        }
+        throw new IllegalArgumentException(v);
+    }
+
+    /**
+     * Whether the request's parameters are read from the snapshot rather than from the request.
+     */
+    boolean hasParameters() {
+        return parameters != null;
+    }
+
+    String getParameter(String name) {
+        final String[] vs = parameters.get(name);
+        return vs != null && vs.length > 0 ? vs[0] : null;
+    }
+
+    String[] getParameterValues(String name) {
+        final String[] vs = parameters.get(name);
+        return vs != null ? vs.clone() : null; // The caller may modify it
+    }
+
+    Enumeration<String> getParameterNames() {
+        return Collections.enumeration(parameters.keySet());
+    }
+
+    Map<String, String[]> getParameterMap() {
+        return parameters;
+    }
+
+    /**
+     * Whether the given attribute is read from the snapshot rather than from the request.
+     */
+    boolean hasAttribute(String name) {
+        return attributeNames == null || attributeNames.contains(name);
+    }
+
+    Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    void setAttribute(String name, Object o) {
+        if (hasAttribute(name)) {
+            if (o != null)
+                attributes.put(name, o);
+            else
+                attributes.remove(name);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.fibers.servlet;
+
+import co.paralleluniverse.fibers.Stack;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Sizes the stacks of a servlet's request fibers after the stacks that its completed requests have grown to, so that
+ * new fibers seldom need to grow (i.e. reallocate and copy) theirs while serving a request.
+ * <p>
+ * A stack never shrinks below the size it was given, so its final size only tells how much was needed if it had to
+ * grow. When hardly any fiber has had to grow its stack, the tuner therefore tries a slightly smaller size, until
+ * enough fibers grow theirs again; the size hence settles between what the requests need and about twice that.
+ * <p>
+ * Quasar doesn't expose the size of a fiber's stack, so it is read reflectively; if that isn't possible with the
+ * Quasar version in use, the tuner keeps suggesting its initial size.
+ */
+final class StackSizeTuner {
+    private static final int SAMPLES = 1024; // Power of 2
+    private static final int RECOMPUTE_EVERY = 256;
+    private static final int MIN_STACK_SIZE = 16;
+    private static final int DECAY = 8; // Shrinks by 1/DECAY at a time
+
+    private static final Field dataObject;
+    private static final int stackOverhead; // Slots Quasar adds to the requested stack size
+
+    static {
+        Field f = null;
+        int overhead = 0;
+        try {
+            f = Stack.class.getDeclaredField("dataObject");
+            f.setAccessible(true);
+            final Field depth = Stack.class.getDeclaredField("INITIAL_METHOD_STACK_DEPTH");
+            final Field record = Stack.class.getDeclaredField("FRAME_RECORD_SIZE");
+            depth.setAccessible(true);
+            record.setAccessible(true);
+            overhead = depth.getInt(null) * record.getInt(null);
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            f = null;
+        }
+        dataObject = f;
+        stackOverhead = overhead;
+    }
+
+    private final double percentile;
+    private final AtomicIntegerArray samples = new AtomicIntegerArray(SAMPLES);
+    private final AtomicInteger count = new AtomicInteger();
+    private final AtomicInteger grown = new AtomicInteger(); // Since the last recomputation
+    private volatile int stackSize;
+
+    /**
+     * @param initialStackSize The stack size to use until enough requests have completed.
+     * @param percentile       The percentile, in {@code (0, 100]}, of the sampled stack sizes to use.
+     */
+    StackSizeTuner(int initialStackSize, double percentile) {
+        if (!(percentile > 0 && percentile <= 100))
+            throw new IllegalArgumentException("percentile must be in (0, 100]: " + percentile);
+        this.stackSize = initialStackSize;
+        this.percentile = percentile;
+    }
+
+    /**
+     * The stack size new request fibers should get.
+     */
+    int getStackSize() {
+        return stackSize;
+    }
+
+    /**
+     * Records the size of the current fiber's stack; to be called by request fibers just before they terminate.
+     *
+     * @param givenStackSize The stack size the fiber was created with.
+     */
+    void sample(int givenStackSize) {
+        if (dataObject == null)
+            return;
+        final Stack s = Stack.getStack();
+        if (s == null)
+            return;
+        final int size;
+        try {
+            size = ((Object[]) dataObject.get(s)).length - stackOverhead;
+        } catch (final IllegalAccessException e) {
+            return;
+        }
+        if (size > givenStackSize)
+            grown.incrementAndGet();
+        final int n = count.getAndIncrement() & Integer.MAX_VALUE;
+        samples.set(n & (SAMPLES - 1), size);
+        if ((n + 1) % RECOMPUTE_EVERY == 0)
+            recompute(Math.min(n + 1, SAMPLES), grown.getAndSet(0));
+    }
+
+    private void recompute(int n, int grown) {
+        if (grown <= RECOMPUTE_EVERY * (100 - percentile) / 100) {
+            final int current = stackSize;
+            stackSize = Math.max(MIN_STACK_SIZE, current - Math.max(1, current / DECAY));
+            return;
+        }
+        final int[] sorted = new int[n];
+        for (int i = 0; i < n; i++)
+            sorted[i] = samples.get(i);
+        Arrays.sort(sorted);
+        final int i = Math.min(n - 1, (int) Math.ceil(percentile / 100 * n) - 1);
+        stackSize = Math.max(MIN_STACK_SIZE, sorted[Math.max(0, i)]);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.fibers.servlet;
+
+import java.io.IOException;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+
+/**
+ * The {@link NonBlockingIO} streams with the Servlet 3.1 methods whose signatures name 3.1 types, compiled apart against
+ * the 3.1 API and only loaded in 3.1 containers.
+ */
+final class NonBlockingIO31 {
+    private NonBlockingIO31() {
+    }
+
+    static final class Input extends NonBlockingIO.Input {
+        Input(ServletInputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        public void setReadListener(ReadListener listener) {
+            in.setReadListener(listener); // The container's stream already has the fiber's listener, so it refuses
+        }
+    }
+
+    static final class Output extends NonBlockingIO.Output {
+        Output(ServletOutputStream out, String characterEncoding) throws IOException {
+            super(out, characterEncoding);
+        }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            out.setWriteListener(listener); // The container's stream already has the fiber's listener, so it refuses
+        }
+    }
+}
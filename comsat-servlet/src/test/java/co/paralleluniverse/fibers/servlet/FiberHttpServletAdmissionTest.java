@@ -0,0 +1,185 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.fibers.servlet;
+
+import co.paralleluniverse.fibers.FiberForkJoinScheduler;
+import co.paralleluniverse.fibers.Suspendable;
+import co.paralleluniverse.strands.concurrent.CountDownLatch;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Admission of requests and the lifecycle of named schedulers, without a container.
+ */
+public class FiberHttpServletAdmissionTest {
+    private static final long TIMEOUT_MS = 10_000;
+
+    /**
+     * Holds its requests until {@link #release} is counted down.
+     */
+    public static class HoldingServlet extends FiberHttpServlet {
+        private static final long serialVersionUID = 1L;
+
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        @Suspendable
+        protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            resp.getWriter().print("done");
+        }
+    }
+
+    private final List<HoldingServlet> servlets = new ArrayList<>();
+    private final List<String> log = new CopyOnWriteArrayList<>();
+
+    @After
+    public void tearDown() {
+        for (final HoldingServlet s : servlets) {
+            s.release.countDown();
+            s.destroy();
+        }
+    }
+
+    @Test
+    public void testRejectsWith503WhenFull() throws Exception {
+        final HoldingServlet s = servlet("full", FiberHttpServlet.PROP_MAX_IN_FLIGHT, "1");
+        final ServletFakes.Exchange first = get(s);
+        final ServletFakes.Exchange second = get(s);
+        assertEquals(HttpServletResponse.SC_SERVICE_UNAVAILABLE, second.status);
+        assertEquals(1, first.completed.getCount());
+
+        s.release.countDown();
+        awaitCompletion(first);
+        assertEquals(HttpServletResponse.SC_OK, first.status);
+        assertEquals("done", first.body.toString());
+        final ServletFakes.Exchange third = get(s); // The permit is back by the time the first request completes
+        awaitCompletion(third);
+        assertEquals(HttpServletResponse.SC_OK, third.status);
+    }
+
+    @Test
+    public void testRejectsAfterAdmissionTimeout() throws Exception {
+        final HoldingServlet s = servlet("timeout", FiberHttpServlet.PROP_MAX_IN_FLIGHT, "1", FiberHttpServlet.PROP_ADMISSION_TIMEOUT, "300");
+        get(s);
+        final long start = System.nanoTime();
+        final ServletFakes.Exchange second = get(s);
+        final long waitedMS = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertEquals(HttpServletResponse.SC_SERVICE_UNAVAILABLE, second.status);
+        assertTrue("Waited " + waitedMS + "ms", waitedMS >= 250);
+    }
+
+    @Test
+    public void testAdmitsWithinAdmissionTimeout() throws Exception {
+        final HoldingServlet s = servlet("admit", FiberHttpServlet.PROP_MAX_IN_FLIGHT, "1", FiberHttpServlet.PROP_ADMISSION_TIMEOUT, "5000");
+        final ServletFakes.Exchange first = get(s);
+        new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException ignored) {
+                }
+                s.release.countDown();
+            }
+        }).start();
+        final ServletFakes.Exchange second = get(s); // Waits for the first one to complete
+        awaitCompletion(first);
+        awaitCompletion(second);
+        assertEquals(HttpServletResponse.SC_OK, second.status);
+    }
+
+    @Test
+    public void testDestroyLeavesSchedulerRunningUntilRequestsComplete() throws Exception {
+        final String name = "destroy-" + System.nanoTime();
+        final HoldingServlet s = servlet("destroy", FiberHttpServlet.PROP_SCHEDULER, name);
+        final FiberForkJoinScheduler scheduler = (FiberForkJoinScheduler) s.getScheduler();
+        final ServletFakes.Exchange inFlight = get(s);
+
+        s.destroy();
+        Thread.sleep(100);
+        assertFalse("The scheduler has been shut down under a running request", scheduler.getForkJoinPool().isShutdown());
+
+        s.release.countDown(); // The request resumes on the scheduler
+        awaitCompletion(inFlight);
+        assertEquals("done", inFlight.body.toString());
+        awaitShutdown(scheduler);
+    }
+
+    @Test
+    public void testSharedSchedulerIgnoresDifferentParallelism() throws Exception {
+        final String name = "shared-" + System.nanoTime();
+        final HoldingServlet s1 = servlet("shared1", FiberHttpServlet.PROP_SCHEDULER, name, FiberHttpServlet.PROP_SCHEDULER_PARALLELISM, "2");
+        assertTrue(log.isEmpty());
+        final HoldingServlet s2 = servlet("shared2", FiberHttpServlet.PROP_SCHEDULER, name, FiberHttpServlet.PROP_SCHEDULER_PARALLELISM, "3");
+        final FiberForkJoinScheduler scheduler = (FiberForkJoinScheduler) s1.getScheduler();
+        assertSame(scheduler, s2.getScheduler());
+        assertEquals(2, scheduler.getForkJoinPool().getParallelism());
+        assertEquals(1, log.size());
+        assertTrue(log.get(0), log.get(0).contains("parallelism 2") && log.get(0).contains(FiberHttpServlet.PROP_SCHEDULER_PARALLELISM + " 3"));
+
+        s1.destroy();
+        assertFalse(scheduler.getForkJoinPool().isShutdown());
+        s2.destroy();
+        awaitShutdown(scheduler);
+    }
+
+    private HoldingServlet servlet(String name, String... params) throws ServletException {
+        final Map<String, String> ps = new HashMap<>();
+        for (int i = 0; i < params.length; i += 2)
+            ps.put(params[i], params[i + 1]);
+        final HoldingServlet s = new HoldingServlet();
+        s.init(ServletFakes.config(name, ps, log));
+        servlets.add(s);
+        return s;
+    }
+
+    private static ServletFakes.Exchange get(HoldingServlet s) throws ServletException, IOException {
+        final ServletFakes.Exchange x = new ServletFakes.Exchange("GET", null);
+        s.service((ServletRequest) x.request, (ServletResponse) x.response);
+        return x;
+    }
+
+    private static void awaitCompletion(ServletFakes.Exchange x) throws InterruptedException {
+        assertTrue("The request hasn't completed", x.completed.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+    }
+
+    private static void awaitShutdown(FiberForkJoinScheduler scheduler) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!scheduler.getForkJoinPool().isShutdown() && System.currentTimeMillis() < deadline)
+            Thread.sleep(10);
+        assertTrue("The scheduler hasn't been shut down", scheduler.getForkJoinPool().isShutdown());
+    }
+}
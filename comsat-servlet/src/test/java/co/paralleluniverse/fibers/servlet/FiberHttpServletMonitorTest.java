@@ -0,0 +1,210 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.fibers.servlet;
+
+import co.paralleluniverse.fibers.FiberForkJoinScheduler;
+import com.codahale.metrics.MetricRegistry;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.management.JMX;
+import javax.management.ObjectName;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * The dispatch statistics kept by the JMX monitor and by {@link MetricsFiberHttpServletListener}.
+ */
+public class FiberHttpServletMonitorTest {
+    private static final long TIMEOUT_MS = 10_000;
+
+    public static class MonitoredServlet extends FiberHttpServlet {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            if (req.getParameter("fail") != null)
+                throw new IOException("fail");
+            resp.getWriter().print("done");
+        }
+
+        void listener(FiberHttpServletListener listener) {
+            setListener(listener);
+        }
+
+        void scheduler(FiberForkJoinScheduler scheduler) {
+            setScheduler(scheduler);
+        }
+    }
+
+    private final List<String> log = new CopyOnWriteArrayList<>();
+    private final MetricRegistry metrics = new MetricRegistry();
+    private final Semaphore reported = new Semaphore(0); // Released once both listeners have been told of a completion
+    private String name;
+    private MonitoredServlet servlet;
+    private FiberHttpServletMXBean monitor;
+
+    @Before
+    public void setUp() throws Exception {
+        name = "monitored-" + System.nanoTime();
+        servlet = new MonitoredServlet();
+        servlet.init(ServletFakes.config(name, Collections.singletonMap(FiberHttpServlet.PROP_MONITOR, "true"), log));
+        servlet.listener(new MetricsFiberHttpServletListener(metrics, name) {
+            @Override
+            public void requestCompleted(long dispatchNanos, long runNanos, int suspensions, boolean failed) {
+                super.requestCompleted(dispatchNanos, runNanos, suspensions, failed); // Called after the monitor
+                reported.release();
+            }
+
+            @Override
+            public void requestFailedToStart() {
+                super.requestFailedToStart();
+                reported.release();
+            }
+        });
+        monitor = JMX.newMXBeanProxy(ManagementFactory.getPlatformMBeanServer(),
+            new ObjectName("co.paralleluniverse:type=FiberHttpServlet,name=" + ObjectName.quote(name)), FiberHttpServletMXBean.class);
+    }
+
+    @After
+    public void tearDown() {
+        servlet.destroy();
+    }
+
+    @Test
+    public void testCompletedAndFailedRequests() throws Exception {
+        serve(get(false));
+        serve(get(false));
+        serve(get(true));
+
+        assertEquals(0, monitor.getInFlightRequests());
+        assertEquals(3, monitor.getCompletedRequests());
+        assertEquals(1, monitor.getFailedRequests());
+        assertTrue(monitor.getMeanRunMicros() > 0);
+
+        assertEquals(0, metrics.counter(name + ".inFlight").getCount());
+        assertEquals(3, metrics.timer(name + ".dispatch").getCount());
+        assertEquals(3, metrics.timer(name + ".run").getCount());
+        assertEquals(1, metrics.meter(name + ".failures").getCount());
+    }
+
+    @Test
+    public void testRequestWhoseFiberFailsToStartIsFailed() throws Exception {
+        final FiberForkJoinScheduler scheduler = new FiberForkJoinScheduler("monitor-shutdown", 1);
+        scheduler.getForkJoinPool().shutdown();
+        servlet.scheduler(scheduler);
+        final ServletFakes.Exchange x = get(false);
+        try {
+            servlet.service((ServletRequest) x.request, (ServletResponse) x.response);
+            fail("The request's fiber has started on a scheduler that has been shut down");
+        } catch (RuntimeException expected) {
+        }
+        assertEquals(1, reported.availablePermits());
+
+        assertEquals(0, monitor.getInFlightRequests());
+        assertEquals(0, monitor.getCompletedRequests());
+        assertEquals(1, monitor.getFailedRequests());
+        assertEquals(0, monitor.getMaxDispatchMicros());
+        assertEquals(0, metrics.counter(name + ".inFlight").getCount());
+        assertEquals(1, metrics.meter(name + ".failures").getCount());
+        assertEquals(0, metrics.timer(name + ".dispatch").getCount()); // No times recorded for it
+        assertEquals(0, metrics.timer(name + ".run").getCount());
+    }
+
+    @Test
+    public void testSameNameIsMonitoredOnce() throws Exception {
+        final MonitoredServlet other = new MonitoredServlet();
+        other.init(ServletFakes.config(name, Collections.singletonMap(FiberHttpServlet.PROP_MONITOR, "true"), log));
+        try {
+            assertTrue(log.toString(), log.toString().contains("Not monitoring the servlet through JMX"));
+            serve(get(false)); // The first servlet is still monitored
+            assertEquals(1, monitor.getCompletedRequests());
+        } finally {
+            other.destroy(); // Leaves the first servlet's MXBean registered
+        }
+        assertEquals(1, monitor.getCompletedRequests());
+    }
+
+    @Test
+    public void testResetStatistics() throws Exception {
+        serve(get(false));
+        serve(get(true));
+        assertTrue(monitor.getMeanRunMicros() > 0);
+
+        monitor.resetStatistics();
+        assertEquals(0, monitor.getCompletedRequests());
+        assertEquals(0, monitor.getFailedRequests());
+        assertEquals(0, monitor.getRejectedRequests());
+        assertEquals(0, monitor.getAsyncTimeouts());
+        assertEquals(0, monitor.getMeanDispatchMicros(), 0);
+        assertEquals(0, monitor.getMaxDispatchMicros());
+        assertEquals(0, monitor.getMeanRunMicros(), 0);
+        assertEquals(0, monitor.getMeanSuspensions(), 0);
+
+        serve(get(false));
+        assertEquals(0, monitor.getInFlightRequests());
+        assertEquals(1, monitor.getCompletedRequests());
+        assertEquals(0, monitor.getFailedRequests());
+    }
+
+    @Test
+    public void testResetStatisticsKeepsInFlightRequests() {
+        final FiberHttpServletMonitor m = new FiberHttpServletMonitor(name + "-direct");
+        try {
+            m.requestAccepted();
+            m.requestAccepted();
+            m.requestCompleted(1000, 1000, 1, false);
+            m.resetStatistics();
+            assertEquals(1, m.getInFlightRequests());
+            assertEquals(0, m.getCompletedRequests());
+
+            m.requestCompleted(3000, 5000, 2, true);
+            assertEquals(0, m.getInFlightRequests());
+            assertEquals(1, m.getCompletedRequests());
+            assertEquals(1, m.getFailedRequests());
+            assertEquals(3, m.getMeanDispatchMicros(), 0);
+            assertEquals(5, m.getMeanRunMicros(), 0);
+            assertEquals(2, m.getMeanSuspensions(), 0);
+        } finally {
+            m.unregister();
+        }
+    }
+
+    private static ServletFakes.Exchange get(boolean fail) {
+        final ServletFakes.Exchange x = new ServletFakes.Exchange("GET", fail ? "fail" : null);
+        if (fail)
+            x.parameters.put("fail", new String[]{""});
+        return x;
+    }
+
+    private void serve(ServletFakes.Exchange x) throws ServletException, IOException, InterruptedException {
+        servlet.service((ServletRequest) x.request, (ServletResponse) x.response);
+        assertTrue("The request hasn't completed", x.completed.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        assertTrue("The request's completion hasn't been reported", reported.tryAcquire(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.fibers.servlet;
+
+import co.paralleluniverse.fibers.Fiber;
+import co.paralleluniverse.fibers.SuspendExecution;
+import co.paralleluniverse.strands.SuspendableCallable;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletOutputStream;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Fibers waiting for the readiness of a slow client's stream, driven the way a container's listener callbacks would.
+ */
+public class NonBlockingIOTest {
+    private static final long TIMEOUT_MS = 10_000;
+
+    /**
+     * The container's side of a listener.
+     */
+    public interface Callbacks {
+        void onDataAvailable();
+
+        void onError(Throwable t);
+    }
+
+    /**
+     * A stream whose readiness is set by the test, standing in for a Servlet 3.1 stream.
+     */
+    public static final class SlowStream {
+        volatile boolean ready;
+        volatile boolean finished;
+        volatile Runnable beforeNotReady; // Runs, once, just before isReady() returns false
+
+        public boolean isReady() {
+            if (ready)
+                return true;
+            final Runnable r = beforeNotReady;
+            beforeNotReady = null;
+            if (r != null)
+                r.run();
+            return false;
+        }
+
+        public boolean isFinished() {
+            return finished;
+        }
+    }
+
+    private static final Method isReady;
+    private static final Method isFinished;
+
+    static {
+        try {
+            isReady = SlowStream.class.getMethod("isReady");
+            isFinished = SlowStream.class.getMethod("isFinished");
+        } catch (NoSuchMethodException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    @Test
+    public void testCallbackBetweenCheckAndParkIsNotLost() throws Exception {
+        final NonBlockingIO.Readiness readiness = new NonBlockingIO.Readiness();
+        final Callbacks callbacks = (Callbacks) readiness.listener(Callbacks.class);
+        final SlowStream stream = new SlowStream();
+        // The data arrives, and the container calls back, after the fiber has found the stream not ready but before
+        // it parks
+        stream.beforeNotReady = new Runnable() {
+            @Override
+            public void run() {
+                final Thread container = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        stream.ready = true;
+                        callbacks.onDataAvailable();
+                    }
+                });
+                container.start();
+                try {
+                    container.join();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+            }
+        };
+        assertTrue(awaitReady(readiness, stream).get(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testSlowClient() throws Exception {
+        final NonBlockingIO.Readiness readiness = new NonBlockingIO.Readiness();
+        final Callbacks callbacks = (Callbacks) readiness.listener(Callbacks.class);
+        final SlowStream stream = new SlowStream();
+        final int chunks = 50;
+        final Fiber<Integer> reader = new Fiber<>(new SuspendableCallable<Integer>() {
+            @Override
+            public Integer run() throws SuspendExecution, InterruptedException {
+                int read = 0;
+                try {
+                    while (readiness.awaitReady(stream, isReady, isFinished)) {
+                        stream.ready = false; // Consumed what was available
+                        read++;
+                    }
+                } catch (IOException e) {
+                    throw new AssertionError(e);
+                }
+                return read;
+            }
+        }).start();
+
+        // A chunk trickles in every few milliseconds, then the stream ends
+        for (int i = 0; i < chunks; i++) {
+            Thread.sleep(2);
+            final long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+            while (stream.ready && System.currentTimeMillis() < deadline)
+                Thread.sleep(1);
+            assertFalse("The reader is stuck", stream.ready);
+            stream.ready = true;
+            callbacks.onDataAvailable();
+        }
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (stream.ready && System.currentTimeMillis() < deadline)
+            Thread.sleep(1);
+        stream.finished = true;
+        callbacks.onDataAvailable();
+        assertEquals(chunks, (int) reader.get(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testErrorWakesUpTheWaiter() throws Exception {
+        final NonBlockingIO.Readiness readiness = new NonBlockingIO.Readiness();
+        final Callbacks callbacks = (Callbacks) readiness.listener(Callbacks.class);
+        final Fiber<Boolean> f = awaitReady(readiness, new SlowStream());
+        Thread.sleep(50);
+        callbacks.onError(new IOException("Connection reset"));
+        try {
+            f.get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            final Throwable t = e.getCause().getCause(); // Wrapped by awaitReady()
+            assertTrue(t instanceof IOException);
+            assertEquals("Connection reset", t.getMessage());
+        }
+    }
+
+    @Test
+    public void testReaderDecodesAcrossReads() throws Exception {
+        final byte[] body = "h\u00e9llo\r\nw\u00f6rld\n\nlast".getBytes(StandardCharsets.UTF_8);
+        final ByteArrayInputStream bytes = new ByteArrayInputStream(body);
+        final ServletInputStream in = new ServletInputStream() { // Hands out 3 bytes at a time, splitting characters
+            @Override
+            public int read() {
+                return bytes.read();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                return bytes.read(b, off, Math.min(len, 3));
+            }
+        };
+        final BufferedReader reader = new NonBlockingIO.Reader(in, "UTF-8");
+        assertEquals("h\u00e9llo", reader.readLine());
+        assertEquals('w', reader.read());
+        assertEquals("\u00f6rld", reader.readLine());
+        assertEquals("", reader.readLine());
+        assertEquals("last", reader.readLine());
+        assertNull(reader.readLine());
+        assertEquals(-1, reader.read());
+    }
+
+    @Test
+    public void testWriterEncodesAndRecordsErrors() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final PrintWriter writer = new NonBlockingIO.Writer(new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                bytes.write(b);
+            }
+        }, "UTF-8");
+        writer.print("h\u00e9");
+        writer.printf("%d", 42);
+        writer.append('!').write("xyz", 0, 1);
+        assertFalse(writer.checkError());
+        assertEquals("h\u00e942!x", new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+
+        final PrintWriter failing = new NonBlockingIO.Writer(new ServletOutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Connection reset");
+            }
+        }, null);
+        failing.print("lost");
+        assertTrue(failing.checkError());
+    }
+
+    private static Fiber<Boolean> awaitReady(final NonBlockingIO.Readiness readiness, final SlowStream stream) {
+        return new Fiber<>(new SuspendableCallable<Boolean>() {
+            @Override
+            public Boolean run() throws SuspendExecution, InterruptedException {
+                try {
+                    return readiness.awaitReady(stream, isReady, isFinished);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        }).start();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.fibers.servlet;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Parameters read by a servlet whose requests are snapshot.
+ */
+public class RequestSnapshotTest {
+    private static final long TIMEOUT_MS = 10_000;
+
+    /**
+     * Sets the request's character encoding, as servlets reading forms do, then prints the values of parameter
+     * {@code a}, after trying to modify them.
+     */
+    public static class ParameterServlet extends FiberHttpServlet {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            req.setCharacterEncoding("UTF-8");
+            final String[] vs = req.getParameterValues("a");
+            vs[0] = "modified";
+            resp.getWriter().print(req.getParameter("a") + " " + Arrays.toString(req.getParameterValues("a")));
+        }
+
+        @Override
+        protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            doGet(req, resp);
+        }
+    }
+
+    private final List<String> log = new CopyOnWriteArrayList<>();
+    private ParameterServlet servlet;
+
+    @Before
+    public void setUp() throws ServletException {
+        servlet = new ParameterServlet();
+        servlet.init(ServletFakes.config("snapshot", Collections.singletonMap(FiberHttpServlet.PROP_SNAPSHOT_REQUEST, "true"), log));
+    }
+
+    @After
+    public void tearDown() {
+        servlet.destroy();
+    }
+
+    @Test
+    public void testQueryParametersAreSnapshot() throws Exception {
+        final ServletFakes.Exchange x = new ServletFakes.Exchange("GET", "a=1&a=2");
+        x.parameters.put("a", new String[]{"1", "2"});
+        serve(x);
+        assertEquals("1 [1, 2]", x.body.toString());
+        assertTrue(x.parametersParsed);
+        assertNull("The parameters weren't read on the container's thread", x.parametersParsedWith);
+    }
+
+    @Test
+    public void testFormParametersAreReadAfterSettingTheEncoding() throws Exception {
+        final ServletFakes.Exchange x = new ServletFakes.Exchange("POST", null);
+        x.contentType = "application/x-www-form-urlencoded; charset=UTF-8";
+        x.content = "a=1&a=2".getBytes("UTF-8");
+        x.parameters.put("a", new String[]{"1", "2"});
+        serve(x);
+        assertEquals("UTF-8", x.parametersParsedWith);
+        assertEquals("1 [1, 2]", x.body.toString());
+    }
+
+    @Test
+    public void testMultipartParametersAreReadAfterSettingTheEncoding() throws Exception {
+        final ServletFakes.Exchange x = new ServletFakes.Exchange("POST", null);
+        x.contentType = "multipart/form-data; boundary=xyz";
+        x.parameters.put("a", new String[]{"1"});
+        serve(x);
+        assertEquals("UTF-8", x.parametersParsedWith);
+        assertEquals("1 [1]", x.body.toString());
+    }
+
+    private void serve(ServletFakes.Exchange x) throws Exception {
+        servlet.service((ServletRequest) x.request, (ServletResponse) x.response);
+        assertTrue("The request hasn't completed", x.completed.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        assertEquals(HttpServletResponse.SC_OK, x.status);
+    }
+}
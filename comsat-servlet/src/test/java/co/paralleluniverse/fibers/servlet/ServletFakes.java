@@ -0,0 +1,250 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.fibers.servlet;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncListener;
+import javax.servlet.DispatcherType;
+import javax.servlet.ServletConfig;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Minimal stand-ins for the container's objects, to drive a {@link FiberHttpServlet} without a container.
+ */
+final class ServletFakes {
+    private ServletFakes() {
+    }
+
+    /**
+     * @param log Receives the messages logged through the servlet context.
+     */
+    static ServletConfig config(final String servletName, final Map<String, String> initParams, final List<String> log) {
+        final ServletContext context = proxy(ServletContext.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method m, Object[] args) {
+                if (m.getName().equals("log"))
+                    log.add(String.valueOf(args[0] instanceof String ? args[0] : args[1]));
+                return defaultValue(proxy, m, args);
+            }
+        });
+        return proxy(ServletConfig.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method m, Object[] args) {
+                switch (m.getName()) {
+                    case "getServletName":
+                        return servletName;
+                    case "getInitParameter":
+                        return initParams.get((String) args[0]);
+                    case "getInitParameterNames":
+                        return Collections.enumeration(initParams.keySet());
+                    case "getServletContext":
+                        return context;
+                    default:
+                        return defaultValue(proxy, m, args);
+                }
+            }
+        });
+    }
+
+    /**
+     * A request and its response, served asynchronously.
+     */
+    static final class Exchange {
+        final String method;
+        final String queryString;
+        final Map<String, Object> attributes = new ConcurrentHashMap<>();
+        final Map<String, String[]> parameters = new HashMap<>();
+        final List<AsyncListener> asyncListeners = new CopyOnWriteArrayList<>();
+        final StringWriter body = new StringWriter();
+        final CountDownLatch completed = new CountDownLatch(1);
+        String contentType;
+        byte[] content = new byte[0];
+        volatile String characterEncoding;
+        volatile String parametersParsedWith; // The character encoding when the parameters were first read
+        volatile boolean parametersParsed;
+        volatile int status = HttpServletResponse.SC_OK;
+        volatile boolean dispatched;
+        final HttpServletRequest request;
+        final HttpServletResponse response;
+        private final AsyncContext asyncContext;
+
+        Exchange(String method, String queryString) {
+            this.method = method;
+            this.queryString = queryString;
+            this.asyncContext = proxy(AsyncContext.class, new InvocationHandler() {
+                @Override
+                public Object invoke(Object proxy, Method m, Object[] args) {
+                    switch (m.getName()) {
+                        case "getRequest":
+                            return request;
+                        case "getResponse":
+                            return response;
+                        case "addListener":
+                            asyncListeners.add((AsyncListener) args[0]);
+                            return null;
+                        case "dispatch":
+                            dispatched = true;
+                            completed.countDown();
+                            return null;
+                        case "complete":
+                            completed.countDown();
+                            return null;
+                        default:
+                            return defaultValue(proxy, m, args);
+                    }
+                }
+            });
+            this.request = proxy(HttpServletRequest.class, new InvocationHandler() {
+                @Override
+                public Object invoke(Object proxy, Method m, Object[] args) throws IOException {
+                    switch (m.getName()) {
+                        case "getMethod":
+                            return Exchange.this.method;
+                        case "getProtocol":
+                            return "HTTP/1.1";
+                        case "getQueryString":
+                            return Exchange.this.queryString;
+                        case "getDispatcherType":
+                            return DispatcherType.REQUEST;
+                        case "startAsync":
+                        case "getAsyncContext":
+                            return asyncContext;
+                        case "getAttribute":
+                            return attributes.get((String) args[0]);
+                        case "setAttribute":
+                            attributes.put((String) args[0], args[1]);
+                            return null;
+                        case "removeAttribute":
+                            attributes.remove((String) args[0]);
+                            return null;
+                        case "getAttributeNames":
+                            return Collections.enumeration(attributes.keySet());
+                        case "getHeaderNames":
+                            return Collections.enumeration(Collections.<String>emptySet());
+                        case "getDateHeader":
+                            return -1L;
+                        case "getContentType":
+                            return contentType;
+                        case "getContentLength":
+                            return content.length;
+                        case "getCharacterEncoding":
+                            return characterEncoding;
+                        case "setCharacterEncoding":
+                            characterEncoding = (String) args[0];
+                            return null;
+                        case "getParameterMap":
+                            parseParameters();
+                            return Collections.unmodifiableMap(parameters);
+                        case "getParameter": {
+                            parseParameters();
+                            final String[] vs = parameters.get((String) args[0]);
+                            return vs != null ? vs[0] : null;
+                        }
+                        case "getParameterValues": {
+                            parseParameters();
+                            final String[] vs = parameters.get((String) args[0]);
+                            return vs != null ? vs.clone() : null;
+                        }
+                        case "getParameterNames":
+                            parseParameters();
+                            return Collections.enumeration(parameters.keySet());
+                        case "getInputStream":
+                            return inputStream(content);
+                        default:
+                            return defaultValue(proxy, m, args);
+                    }
+                }
+            });
+            this.response = proxy(HttpServletResponse.class, new InvocationHandler() {
+                private final PrintWriter writer = new PrintWriter(body, true);
+
+                @Override
+                public Object invoke(Object proxy, Method m, Object[] args) {
+                    switch (m.getName()) {
+                        case "sendError":
+                        case "setStatus":
+                            status = (Integer) args[0];
+                            return null;
+                        case "getStatus":
+                            return status;
+                        case "getWriter":
+                            return writer;
+                        default:
+                            return defaultValue(proxy, m, args);
+                    }
+                }
+            });
+        }
+
+        private void parseParameters() {
+            if (!parametersParsed) {
+                parametersParsedWith = characterEncoding;
+                parametersParsed = true;
+            }
+        }
+    }
+
+    static ServletInputStream inputStream(byte[] content) {
+        final ByteArrayInputStream in = new ByteArrayInputStream(content);
+        return new ServletInputStream() {
+            @Override
+            public int read() {
+                return in.read();
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler h) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, h);
+    }
+
+    private static Object defaultValue(Object proxy, Method m, Object[] args) {
+        switch (m.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return m.getDeclaringClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+            default:
+                break;
+        }
+        final Class<?> t = m.getReturnType();
+        if (t == boolean.class)
+            return false;
+        if (t == int.class)
+            return 0;
+        if (t == long.class)
+            return 0L;
+        return null;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * COMSAT
+ * Copyright (c) 2016, Parallel Universe Software Co. All rights reserved.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation
+ *
+ *   or (per the licensee's choosing)
+ *
+ * under the terms of the GNU Lesser General Public License version 3.0
+ * as published by the Free Software Foundation.
+ */
+package co.paralleluniverse.fibers.servlet;
+
+import co.paralleluniverse.fibers.Fiber;
+import co.paralleluniverse.fibers.SuspendExecution;
+import co.paralleluniverse.strands.SuspendableRunnable;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tuning of request fibers' stack sizes, with fibers whose stacks get as deep as a request's would.
+ */
+public class StackSizeTunerTest {
+    private static final int ROUND = 256; // Requests between recomputations
+
+    @Test
+    public void testGrowsForDeepRequests() throws Exception {
+        final StackSizeTuner tuner = new StackSizeTuner(32, 99);
+        serve(tuner, 300, ROUND - 1);
+        assertEquals(32, tuner.getStackSize());
+        serve(tuner, 300, 1);
+        final int size = tuner.getStackSize();
+        assertTrue("Stack size " + size, size > 300);
+    }
+
+    @Test
+    public void testShrinksWhenRequestsNoLongerNeedIt() throws Exception {
+        final StackSizeTuner tuner = new StackSizeTuner(32, 99);
+        serve(tuner, 300, ROUND);
+        final int deep = tuner.getStackSize();
+
+        serve(tuner, 300, 4 * ROUND);
+        assertTrue("Stack size " + tuner.getStackSize() + " drifted from " + deep,
+            tuner.getStackSize() >= deep / 2 && tuner.getStackSize() <= 2 * deep);
+
+        serve(tuner, 5, 30 * ROUND);
+        final int shallow = tuner.getStackSize();
+        assertTrue("Stack size " + shallow + " is still sized for deep requests, " + deep, shallow < deep / 4);
+    }
+
+    @Test
+    public void testShrinksAnOversizedInitialSize() throws Exception {
+        final StackSizeTuner tuner = new StackSizeTuner(4096, 99);
+        serve(tuner, 5, ROUND);
+        assertTrue(tuner.getStackSize() < 4096);
+        serve(tuner, 5, 20 * ROUND);
+        assertTrue("Stack size " + tuner.getStackSize(), tuner.getStackSize() < 512);
+    }
+
+    private static void serve(final StackSizeTuner tuner, final int depth, int requests) throws Exception {
+        for (int i = 0; i < requests; i++) {
+            final int stackSize = tuner.getStackSize();
+            new Fiber<Void>(null, stackSize, new SuspendableRunnable() {
+                @Override
+                public void run() throws SuspendExecution, InterruptedException {
+                    recurse(depth);
+                    tuner.sample(stackSize);
+                }
+            }).start().join();
+        }
+    }
+
+    private static void recurse(int depth) throws SuspendExecution {
+        if (depth == 0)
+            Fiber.yield(); // Saves every frame on the fiber's stack
+        else
+            recurse(depth - 1);
+    }
+}